@@ -0,0 +1,51 @@
+package io.xpring.loadgenerator;
+
+import io.xpring.common.XrplNetwork;
+import io.xpring.payid.PayIdException;
+import io.xpring.payid.PayIdExceptionType;
+import io.xpring.payid.XrpPayIdClientInterface;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves PayIDs to XRP addresses from an in-memory table, so payments can be sent through
+ * {@link io.xpring.xpring.XpringClient} without a PayID service.
+ */
+public class InMemoryPayIdClient implements XrpPayIdClientInterface {
+  private final XrplNetwork network;
+  private final Map<String, String> addresses = new ConcurrentHashMap<>();
+
+  /**
+   * Create a client with no PayIDs.
+   *
+   * @param network The {@link XrplNetwork} that addresses are resolved on.
+   */
+  public InMemoryPayIdClient(XrplNetwork network) {
+    this.network = network;
+  }
+
+  /**
+   * Resolve a PayID to the given address from now on.
+   *
+   * @param payId   The PayID to add.
+   * @param address The XRP address the PayID resolves to.
+   */
+  public void put(String payId, String address) {
+    addresses.put(payId, address);
+  }
+
+  @Override
+  public XrplNetwork getXrplNetwork() {
+    return network;
+  }
+
+  @Override
+  public String xrpAddressForPayId(String payId) throws PayIdException {
+    String address = addresses.get(payId);
+    if (address == null) {
+      throw new PayIdException(PayIdExceptionType.MAPPING_NOT_FOUND, "No address for " + payId);
+    }
+    return address;
+  }
+}
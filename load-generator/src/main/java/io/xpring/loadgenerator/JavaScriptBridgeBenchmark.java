@@ -0,0 +1,216 @@
+package io.xpring.loadgenerator;
+
+import com.google.protobuf.ByteString;
+import io.xpring.xrpl.ClassicAddress;
+import io.xpring.xrpl.ImmutableClassicAddress;
+import io.xpring.xrpl.Utils;
+import io.xpring.xrpl.Wallet;
+import io.xpring.xrpl.javascript.JavaScriptLoader;
+import io.xpring.xrpl.javascript.JavaScriptSigner;
+import io.xpring.xrpl.javascript.JavaScriptUtils;
+import io.xpring.xrpl.javascript.JavaScriptWallet;
+import io.xpring.xrpl.javascript.JavaScriptWalletFactory;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.xrpl.rpc.v1.AccountAddress;
+import org.xrpl.rpc.v1.Common;
+import org.xrpl.rpc.v1.CurrencyAmount;
+import org.xrpl.rpc.v1.Payment;
+import org.xrpl.rpc.v1.Transaction;
+import org.xrpl.rpc.v1.XRPDropsAmount;
+
+import java.io.PrintStream;
+import java.util.Locale;
+
+/**
+ * Measures the cost of each call into the JavaScript bridge in {@link JavaScriptUtils} and {@link JavaScriptSigner},
+ * next to the same call made the way those classes used to make it.
+ * <p>
+ * The baseline looks each function up by name on every call, evaluates {@code undefined} for untagged addresses, and
+ * moves transaction bytes across the boundary as hex strings. The difference between the two columns is the per-call
+ * overhead saved by resolving functions once and exchanging bytes directly. The {@code signTransaction (bytes)} row
+ * signs with an existing JavaScript wallet and pre-resolved functions in both columns, so it isolates the cost of
+ * moving the transaction bytes. Run it like {@link LoadGenerator}, adding
+ * {@code -Dexec.mainClass=io.xpring.loadgenerator.JavaScriptBridgeBenchmark}.
+ * </p>
+ */
+public class JavaScriptBridgeBenchmark {
+  private static final String CLASSIC_ADDRESS = "rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1";
+  private static final String X_ADDRESS = "X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4";
+
+  private final Context context = JavaScriptLoader.getContext();
+  private final JavaScriptUtils javaScriptUtils;
+  private final JavaScriptSigner javaScriptSigner;
+  private final Value xrpUtils;
+  private final Value utilsClass;
+  private final Value signerClass;
+  private final Value walletClass;
+  private final Value transactionClass;
+  private final Wallet wallet;
+  private final JavaScriptWallet javaScriptWallet;
+  private final Value javaScriptWalletValue;
+  private final Value signTransactionFunction;
+  private final Value deserializeTransactionFunction;
+  private final Value toBytesFunction;
+  private final Value toHexFunction;
+  private final Transaction transaction;
+  private final ClassicAddress untaggedAddress;
+  private final String signedTransactionHex;
+
+  /**
+   * Load the JavaScript bridge and build the inputs each call is measured with.
+   *
+   * @throws Exception If the bundled JavaScript could not be loaded.
+   */
+  public JavaScriptBridgeBenchmark() throws Exception {
+    this.javaScriptUtils = new JavaScriptUtils();
+    this.javaScriptSigner = new JavaScriptSigner();
+    this.xrpUtils = JavaScriptLoader.loadResource("XrpUtils", context);
+    this.utilsClass = JavaScriptLoader.loadResource("Utils", context);
+    this.signerClass = JavaScriptLoader.loadResource("Signer", context);
+    this.walletClass = JavaScriptLoader.loadResource("Wallet", context);
+    this.transactionClass = JavaScriptLoader.loadResource("Transaction", context);
+    this.wallet = new Wallet("snYP7oArxKepd3GPDcrjMsJYiJeJB");
+    this.javaScriptWallet = JavaScriptWalletFactory.get().walletFromSeed("snYP7oArxKepd3GPDcrjMsJYiJeJB", true);
+    synchronized (context) {
+      this.javaScriptWalletValue = walletClass.newInstance(wallet.getPublicKey(), wallet.getPrivateKey());
+      this.signTransactionFunction = JavaScriptLoader.loadFunction("signTransaction", signerClass);
+      this.deserializeTransactionFunction = JavaScriptLoader.loadFunction("deserializeBinary", transactionClass);
+      this.toBytesFunction = JavaScriptLoader.loadFunction("toBytes", utilsClass);
+      this.toHexFunction = JavaScriptLoader.loadFunction("toHex", utilsClass);
+    }
+    this.untaggedAddress = ImmutableClassicAddress.builder().address(CLASSIC_ADDRESS).isTest(true).build();
+    this.transaction = Transaction.newBuilder()
+        .setAccount(Common.Account.newBuilder()
+            .setValue(AccountAddress.newBuilder().setAddress(wallet.getAddress())))
+        .setFee(XRPDropsAmount.newBuilder().setDrops(12))
+        .setSequence(Common.Sequence.newBuilder().setValue(5))
+        .setSigningPublicKey(Common.SigningPublicKey.newBuilder()
+            .setValue(ByteString.copyFrom(Utils.hexStringToByteArray(wallet.getPublicKey()))))
+        .setPayment(Payment.newBuilder()
+            .setAmount(Common.Amount.newBuilder()
+                .setValue(CurrencyAmount.newBuilder().setXrpAmount(XRPDropsAmount.newBuilder().setDrops(10))))
+            .setDestination(Common.Destination.newBuilder()
+                .setValue(AccountAddress.newBuilder().setAddress(X_ADDRESS))))
+        .build();
+    this.signedTransactionHex = Utils.byteArrayToHex(javaScriptSigner.signTransaction(transaction, wallet));
+  }
+
+  /**
+   * A call whose cost is measured.
+   */
+  private interface Call {
+    Object run() throws Exception;
+  }
+
+  /**
+   * Measure each bridge call and print the average cost of the baseline and current versions.
+   *
+   * @param iterations The number of calls measured for each version, after the same number of warm up calls.
+   * @param out        Where to print the results.
+   * @throws Exception If a call fails.
+   */
+  public void run(int iterations, PrintStream out) throws Exception {
+    out.printf(Locale.ROOT, "%-28s %14s %14s%n", "call", "baseline ns", "current ns");
+
+    report("isValidAddress", iterations, out,
+        () -> invokeByName(xrpUtils, "isValidAddress", X_ADDRESS).asBoolean(),
+        () -> javaScriptUtils.isValidAddress(X_ADDRESS));
+    report("isValidXAddress", iterations, out,
+        () -> invokeByName(xrpUtils, "isValidXAddress", X_ADDRESS).asBoolean(),
+        () -> javaScriptUtils.isValidXAddress(X_ADDRESS));
+    report("isValidClassicAddress", iterations, out,
+        () -> invokeByName(xrpUtils, "isValidClassicAddress", CLASSIC_ADDRESS).asBoolean(),
+        () -> javaScriptUtils.isValidClassicAddress(CLASSIC_ADDRESS));
+    report("encodeXAddress (untagged)", iterations, out,
+        () -> {
+          synchronized (context) {
+            Value undefined = context.eval("js", "undefined");
+            return xrpUtils.getMember("encodeXAddress").execute(CLASSIC_ADDRESS, undefined, true).asString();
+          }
+        },
+        () -> javaScriptUtils.encodeXAddress(untaggedAddress));
+    report("decodeXAddress", iterations, out,
+        () -> invokeByName(xrpUtils, "decodeXAddress", X_ADDRESS).getMember("address").asString(),
+        () -> javaScriptUtils.decodeXAddress(X_ADDRESS));
+    report("toTransactionHash", iterations, out,
+        () -> invokeByName(xrpUtils, "transactionBlobToTransactionHash", signedTransactionHex).toString(),
+        () -> javaScriptUtils.toTransactionHash(signedTransactionHex));
+    report("signTransaction", iterations, out,
+        () -> {
+          synchronized (context) {
+            String transactionHex = Utils.byteArrayToHex(transaction.toByteArray());
+            Value javaScriptTransaction = transactionClass.invokeMember("deserializeBinary",
+                utilsClass.invokeMember("toBytes", transactionHex));
+            Value javaScriptWallet = walletClass.newInstance(wallet.getPublicKey(), wallet.getPrivateKey());
+            Value signed = signerClass.invokeMember("signTransaction", javaScriptTransaction, javaScriptWallet);
+            return Utils.hexStringToByteArray(utilsClass.invokeMember("toHex", signed).asString());
+          }
+        },
+        () -> javaScriptSigner.signTransaction(transaction, wallet));
+    report("signTransaction (bytes)", iterations, out,
+        () -> {
+          synchronized (context) {
+            String transactionHex = Utils.byteArrayToHex(transaction.toByteArray());
+            Value transactionBytes = toBytesFunction.execute(transactionHex);
+            Value javaScriptTransaction = deserializeTransactionFunction.execute(transactionBytes);
+            Value signed = signTransactionFunction.execute(javaScriptTransaction, javaScriptWalletValue);
+            return Utils.hexStringToByteArray(toHexFunction.execute(signed).asString());
+          }
+        },
+        () -> javaScriptSigner.signTransaction(transaction, javaScriptWallet));
+  }
+
+  /**
+   * Look up a function by name and call it, as every call used to.
+   */
+  private Value invokeByName(Value receiver, String functionName, Object... arguments) {
+    synchronized (context) {
+      return receiver.getMember(functionName).execute(arguments);
+    }
+  }
+
+  private void report(String name, int iterations, PrintStream out, Call baseline, Call current) throws Exception {
+    // Alternate warm up so that neither version benefits from running second.
+    measure(baseline, iterations);
+    measure(current, iterations);
+    double baselineNanos = measure(baseline, iterations);
+    double currentNanos = measure(current, iterations);
+    out.printf(Locale.ROOT, "%-28s %14.0f %14.0f%n", name, baselineNanos, currentNanos);
+  }
+
+  private static double measure(Call call, int iterations) throws Exception {
+    Object sink = null;
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      sink = call.run();
+    }
+    long elapsed = System.nanoTime() - start;
+    if (sink == null) {
+      throw new IllegalStateException("A call returned no result");
+    }
+    return (double) elapsed / iterations;
+  }
+
+  /**
+   * Run the benchmark.
+   *
+   * @param args Optionally, {@code --iterations <count>}; defaults to 2000.
+   * @throws Exception If a call fails.
+   */
+  public static void main(String[] args) throws Exception {
+    int iterations = 2000;
+    for (int i = 0; i < args.length; i++) {
+      String value = i + 1 < args.length ? args[i + 1] : null;
+      switch (args[i]) {
+        case "--iterations":
+          iterations = Integer.parseInt(value);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option " + args[i]);
+      }
+      i++;
+    }
+    new JavaScriptBridgeBenchmark().run(iterations, System.out);
+  }
+}
@@ -0,0 +1,112 @@
+package io.xpring.loadgenerator;
+
+import java.util.Arrays;
+
+/**
+ * Collects the latencies of operations in a phase of load, and the number which failed.
+ * <p>
+ * Every sample is kept, so percentiles are exact. This class is thread safe.
+ * </p>
+ */
+public class LatencyRecorder {
+  private long[] samples = new long[1024];
+  private int count = 0;
+  private long failures = 0;
+
+  /**
+   * Record the latency of a successful operation.
+   *
+   * @param latencyNanos The latency, in nanoseconds.
+   */
+  public synchronized void record(long latencyNanos) {
+    if (count == samples.length) {
+      samples = Arrays.copyOf(samples, samples.length * 2);
+    }
+    samples[count++] = latencyNanos;
+  }
+
+  /**
+   * Record the latency of a successful operation issued by a closed-loop sender which intended to start a new
+   * operation every {@code expectedIntervalNanos}.
+   * <p>
+   * A closed-loop sender stops issuing operations while it waits for a slow one, so the operations it would have
+   * issued in the meantime, and which would also have been slow, are never measured. This coordinated omission is
+   * corrected by also recording a sample for each of those missing operations, with the latency it would have seen.
+   * </p>
+   *
+   * @param latencyNanos          The latency, in nanoseconds.
+   * @param expectedIntervalNanos The intended time between operations, or 0 to record the latency alone.
+   */
+  public synchronized void recordWithExpectedInterval(long latencyNanos, long expectedIntervalNanos) {
+    record(latencyNanos);
+    if (expectedIntervalNanos <= 0) {
+      return;
+    }
+    for (long missing = latencyNanos - expectedIntervalNanos; missing >= expectedIntervalNanos;
+        missing -= expectedIntervalNanos) {
+      record(missing);
+    }
+  }
+
+  /**
+   * Record an operation which failed.
+   */
+  public synchronized void recordFailure() {
+    failures++;
+  }
+
+  /**
+   * Take a consistent snapshot of the samples recorded so far.
+   *
+   * @return A {@link Snapshot}.
+   */
+  public synchronized Snapshot snapshot() {
+    long[] sorted = Arrays.copyOf(samples, count);
+    Arrays.sort(sorted);
+    return new Snapshot(sorted, failures);
+  }
+
+  /**
+   * An immutable view of recorded latencies.
+   */
+  public static final class Snapshot {
+    private final long[] sortedSamples;
+    private final long failures;
+
+    private Snapshot(long[] sortedSamples, long failures) {
+      this.sortedSamples = sortedSamples;
+      this.failures = failures;
+    }
+
+    /**
+     * The number of latency samples, including any added to correct for coordinated omission.
+     *
+     * @return The sample count.
+     */
+    public int getCount() {
+      return sortedSamples.length;
+    }
+
+    public long getFailures() {
+      return failures;
+    }
+
+    /**
+     * The latency which the given percentage of samples did not exceed, using the nearest-rank method.
+     *
+     * @param percentile A percentile between 0 and 100.
+     * @return The latency in nanoseconds, or 0 if there are no samples.
+     */
+    public long getPercentile(double percentile) {
+      if (sortedSamples.length == 0) {
+        return 0;
+      }
+      int rank = (int) Math.ceil(percentile / 100 * sortedSamples.length);
+      return sortedSamples[Math.max(0, Math.min(sortedSamples.length - 1, rank - 1))];
+    }
+
+    public long getMax() {
+      return sortedSamples.length == 0 ? 0 : sortedSamples[sortedSamples.length - 1];
+    }
+  }
+}
@@ -0,0 +1,478 @@
+package io.xpring.loadgenerator;
+
+import io.xpring.common.XrplNetwork;
+import io.xpring.payid.PayIdException;
+import io.xpring.xrpl.BulkResultListener;
+import io.xpring.xrpl.TransactionStatus;
+import io.xpring.xrpl.Utils;
+import io.xpring.xrpl.Wallet;
+import io.xpring.xrpl.XrpClient;
+import io.xpring.xrpl.XrpException;
+import io.xpring.xpring.XpringClient;
+import io.xpring.xrpl.fakes.SimulatedRippled;
+
+import java.io.PrintStream;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends XRP payments through {@link XrpClient} or {@link XpringClient} from many concurrent senders, and reports the
+ * throughput and latency of each phase of load.
+ * <p>
+ * Each sender owns a wallet and has at most one payment in flight, which is measured from the moment it was meant to
+ * start until {@link XrpClient#send(BigInteger, String, Wallet)} returns with a final result. This covers preparing,
+ * signing and submitting the transaction, and waiting for it to be validated. Payments sent through
+ * {@link XpringClient} also cover resolving the destination PayID.
+ * </p><p>
+ * In open-loop mode, payments are started at a fixed rate by whichever sender is free. A payment which waits for a free
+ * sender is measured from when it should have started, so queueing delay is not hidden. In closed-loop mode, each
+ * sender starts its next payment as soon as the previous one completes, and samples are corrected for coordinated
+ * omission using the rate the senders intended to achieve.
+ * </p><p>
+ * The load generator is a separate module which uses {@code SimulatedRippled} from the xpring4j test-jar. Install
+ * xpring4j, then run it with {@code mvn -f load-generator/pom.xml compile exec:java}.
+ * </p>
+ */
+public class LoadGenerator {
+  /**
+   * The amount each payment sends.
+   */
+  private static final BigInteger PAYMENT_DROPS = BigInteger.ONE;
+
+  /**
+   * Tells a sender there are no more payments to start in a phase.
+   */
+  private static final long STOP = Long.MIN_VALUE;
+
+  /**
+   * The mode in which payments are started.
+   */
+  public enum Mode {
+    /**
+     * Start payments at a fixed arrival rate, regardless of how many are in flight.
+     */
+    OPEN,
+
+    /**
+     * Start each sender's next payment as soon as its previous one completes.
+     */
+    CLOSED
+  }
+
+  private final XrpClient xrpClient;
+  private final List<Wallet> wallets;
+  private final List<String> destinations;
+  private final Payer payer;
+  private final Mode mode;
+
+  /**
+   * Create a load generator which sends payments through {@link XrpClient}.
+   *
+   * @param xrpClient The {@link XrpClient} to send payments through.
+   * @param wallets   One funded {@link Wallet} per sender. Each sender pays the next sender's wallet.
+   * @param mode      The {@link Mode} in which payments are started.
+   */
+  public LoadGenerator(XrpClient xrpClient, List<Wallet> wallets, Mode mode) {
+    this(xrpClient, wallets, addressesOf(wallets), (wallet, destination) ->
+        xrpClient.send(PAYMENT_DROPS, destination, wallet), mode);
+  }
+
+  /**
+   * Create a load generator which sends payments to PayIDs through {@link XpringClient}.
+   *
+   * @param xpringClient The {@link XpringClient} to send payments through.
+   * @param xrpClient    An {@link XrpClient} on the same network, used to check the outcome of each payment.
+   * @param wallets      One funded {@link Wallet} per sender. Each sender pays the next sender's PayID.
+   * @param payIds       The PayID of each sender's wallet, in the same order as {@code wallets}.
+   * @param mode         The {@link Mode} in which payments are started.
+   */
+  public LoadGenerator(
+      XpringClient xpringClient,
+      XrpClient xrpClient,
+      List<Wallet> wallets,
+      List<String> payIds,
+      Mode mode
+  ) {
+    this(xrpClient, wallets, payIds, (wallet, destination) ->
+        xpringClient.send(PAYMENT_DROPS, destination, wallet), mode);
+  }
+
+  private LoadGenerator(XrpClient xrpClient, List<Wallet> wallets, List<String> destinations, Payer payer, Mode mode) {
+    if (wallets.size() < 2) {
+      throw new IllegalArgumentException("At least two senders are required");
+    }
+    if (destinations.size() != wallets.size()) {
+      throw new IllegalArgumentException("Each sender needs exactly one destination");
+    }
+    this.xrpClient = xrpClient;
+    this.wallets = new ArrayList<>(wallets);
+    this.destinations = new ArrayList<>(destinations);
+    this.payer = payer;
+    this.mode = mode;
+  }
+
+  private static List<String> addressesOf(List<Wallet> wallets) {
+    List<String> addresses = new ArrayList<>();
+    for (Wallet wallet : wallets) {
+      addresses.add(wallet.getAddress());
+    }
+    return Collections.unmodifiableList(addresses);
+  }
+
+  /**
+   * Run a phase of load, returning when every payment started in it has completed.
+   *
+   * @param phase The {@link Phase} to run.
+   * @return A {@link PhaseResult} describing the phase.
+   * @throws InterruptedException If the thread is interrupted while waiting for senders.
+   */
+  public PhaseResult run(Phase phase) throws InterruptedException {
+    LatencyRecorder recorder = new LatencyRecorder();
+    Collection<String> transactionHashes = new ConcurrentLinkedQueue<>();
+    long startNanos = System.nanoTime();
+    long endNanos = startNanos + phase.getDuration().toNanos();
+
+    List<Thread> senders = mode == Mode.OPEN
+        ? this.startOpenLoop(phase, startNanos, endNanos, recorder, transactionHashes)
+        : this.startClosedLoop(phase, endNanos, recorder, transactionHashes);
+    for (Thread sender : senders) {
+      sender.join();
+    }
+    long elapsedNanos = System.nanoTime() - startNanos;
+
+    return new PhaseResult(
+        phase,
+        recorder.snapshot(),
+        elapsedNanos,
+        transactionHashes.size(),
+        this.countUnsuccessful(transactionHashes)
+    );
+  }
+
+  /**
+   * Start payments at the phase's rate from the calling thread, and return the senders which are completing them.
+   */
+  private List<Thread> startOpenLoop(
+      Phase phase,
+      long startNanos,
+      long endNanos,
+      LatencyRecorder recorder,
+      Collection<String> transactionHashes
+  ) {
+    if (phase.getRate() <= 0) {
+      throw new IllegalArgumentException("Open-loop phases need a positive rate");
+    }
+    BlockingQueue<Long> arrivals = new LinkedBlockingQueue<>();
+    List<Thread> senders = new ArrayList<>();
+    for (int i = 0; i < wallets.size(); i++) {
+      Wallet wallet = wallets.get(i);
+      String destination = this.destinationFor(i);
+      senders.add(this.startSender(phase, i, () -> {
+        while (true) {
+          long intendedStartNanos = arrivals.take();
+          if (intendedStartNanos == STOP) {
+            return;
+          }
+          this.send(wallet, destination, intendedStartNanos, 0, recorder, transactionHashes);
+        }
+      }));
+    }
+
+    long intervalNanos = (long) (1_000_000_000L / phase.getRate());
+    for (long intendedStartNanos = startNanos; intendedStartNanos < endNanos; intendedStartNanos += intervalNanos) {
+      long waitNanos = intendedStartNanos - System.nanoTime();
+      while (waitNanos > 0) {
+        LockSupport.parkNanos(waitNanos);
+        waitNanos = intendedStartNanos - System.nanoTime();
+      }
+      arrivals.add(intendedStartNanos);
+    }
+    for (int i = 0; i < senders.size(); i++) {
+      arrivals.add(STOP);
+    }
+    return senders;
+  }
+
+  /**
+   * Start senders which send back to back until the end of the phase.
+   */
+  private List<Thread> startClosedLoop(
+      Phase phase,
+      long endNanos,
+      LatencyRecorder recorder,
+      Collection<String> transactionHashes
+  ) {
+    long expectedIntervalNanos = phase.getRate() > 0 ? (long) (1_000_000_000L * wallets.size() / phase.getRate()) : 0;
+    List<Thread> senders = new ArrayList<>();
+    for (int i = 0; i < wallets.size(); i++) {
+      Wallet wallet = wallets.get(i);
+      String destination = this.destinationFor(i);
+      senders.add(this.startSender(phase, i, () -> {
+        while (System.nanoTime() < endNanos) {
+          this.send(wallet, destination, System.nanoTime(), expectedIntervalNanos, recorder, transactionHashes);
+        }
+      }));
+    }
+    return senders;
+  }
+
+  private Thread startSender(Phase phase, int index, InterruptibleRunnable body) {
+    Thread thread = new Thread(() -> {
+      try {
+        body.run();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }, "sender-" + phase.getName() + "-" + index);
+    thread.start();
+    return thread;
+  }
+
+  private void send(
+      Wallet wallet,
+      String destination,
+      long intendedStartNanos,
+      long expectedIntervalNanos,
+      LatencyRecorder recorder,
+      Collection<String> transactionHashes
+  ) {
+    try {
+      String transactionHash = payer.send(wallet, destination);
+      recorder.recordWithExpectedInterval(System.nanoTime() - intendedStartNanos, expectedIntervalNanos);
+      transactionHashes.add(transactionHash);
+    } catch (XrpException | PayIdException | RuntimeException exception) {
+      recorder.recordFailure();
+    }
+  }
+
+  /**
+   * Count the payments which were submitted but did not succeed.
+   */
+  private int countUnsuccessful(Collection<String> transactionHashes) {
+    AtomicInteger unsuccessful = new AtomicInteger();
+    try {
+      xrpClient.getTransactionStatuses(transactionHashes, new BulkResultListener<TransactionStatus>() {
+        @Override
+        public void onSuccess(String transactionHash, TransactionStatus status) {
+          if (status != TransactionStatus.SUCCEEDED) {
+            unsuccessful.incrementAndGet();
+          }
+        }
+
+        @Override
+        public void onError(String transactionHash, Exception error) {
+          unsuccessful.incrementAndGet();
+        }
+      });
+    } catch (XrpException exception) {
+      return transactionHashes.size();
+    }
+    return unsuccessful.get();
+  }
+
+  private String destinationFor(int senderIndex) {
+    return destinations.get((senderIndex + 1) % wallets.size());
+  }
+
+  /**
+   * Sends one payment from a wallet to a destination, returning its transaction hash once it has a final result.
+   */
+  private interface Payer {
+    String send(Wallet wallet, String destination) throws XrpException, PayIdException;
+  }
+
+  /**
+   * The body of a sender thread.
+   */
+  private interface InterruptibleRunnable {
+    void run() throws InterruptedException;
+  }
+
+  /**
+   * The outcome of a {@link Phase}.
+   */
+  public static final class PhaseResult {
+    private final Phase phase;
+    private final LatencyRecorder.Snapshot latencies;
+    private final long elapsedNanos;
+    private final int submitted;
+    private final int unsuccessful;
+
+    PhaseResult(Phase phase, LatencyRecorder.Snapshot latencies, long elapsedNanos, int submitted, int unsuccessful) {
+      this.phase = phase;
+      this.latencies = latencies;
+      this.elapsedNanos = elapsedNanos;
+      this.submitted = submitted;
+      this.unsuccessful = unsuccessful;
+    }
+
+    public Phase getPhase() {
+      return phase;
+    }
+
+    public LatencyRecorder.Snapshot getLatencies() {
+      return latencies;
+    }
+
+    /**
+     * The number of payments which were submitted and succeeded.
+     *
+     * @return The count of successful payments.
+     */
+    public int getSucceeded() {
+      return submitted - unsuccessful;
+    }
+
+    /**
+     * The number of payments which threw or did not succeed.
+     *
+     * @return The count of failed payments.
+     */
+    public long getFailed() {
+      return latencies.getFailures() + unsuccessful;
+    }
+
+    /**
+     * The rate of successful payments over the phase, including the time taken to drain payments in flight at its end.
+     *
+     * @return Successful payments per second.
+     */
+    public double getThroughput() {
+      return getSucceeded() / (elapsedNanos / 1e9);
+    }
+  }
+
+  /**
+   * Run the load generator against a simulated rippled on a local port.
+   * <p>
+   * Options:
+   * </p>
+   * <pre>
+   *   --mode open|closed        How payments are started. Defaults to open.
+   *   --client xrp|xpring       Send to addresses through XrpClient, or to PayIDs through XpringClient, resolved from
+   *                             memory. Defaults to xrp.
+   *   --senders N               The number of senders, each with its own wallet. Defaults to 8.
+   *   --phase [name=]secs:rate  A phase to run; may be repeated. Defaults to warmup=10:4 then steady=30:8.
+   *   --ledger-close-ms MS      How often the simulated rippled closes a ledger. Defaults to 1000.
+   *   --latency-ms MS           Latency added to each simulated rippled response. Defaults to 0.
+   *   --jitter-ms MS            Random latency added on top of that. Defaults to 0.
+   *   --fault-rate P            The probability a request to simulated rippled fails. Defaults to 0.
+   * </pre>
+   *
+   * @param args The command line arguments.
+   * @throws Exception If the run could not complete.
+   */
+  public static void main(String[] args) throws Exception {
+    Mode mode = Mode.OPEN;
+    boolean throughXpringClient = false;
+    int senderCount = 8;
+    List<Phase> phases = new ArrayList<>();
+    long ledgerCloseMillis = 1000;
+    long latencyMillis = 0;
+    long jitterMillis = 0;
+    double faultRate = 0;
+
+    for (int i = 0; i < args.length; i++) {
+      String value = i + 1 < args.length ? args[i + 1] : null;
+      switch (args[i]) {
+        case "--mode":
+          mode = Mode.valueOf(value.toUpperCase(Locale.ROOT));
+          break;
+        case "--client":
+          throughXpringClient = parseClient(value);
+          break;
+        case "--senders":
+          senderCount = Integer.parseInt(value);
+          break;
+        case "--phase":
+          phases.add(Phase.parse(value, "phase-" + (phases.size() + 1)));
+          break;
+        case "--ledger-close-ms":
+          ledgerCloseMillis = Long.parseLong(value);
+          break;
+        case "--latency-ms":
+          latencyMillis = Long.parseLong(value);
+          break;
+        case "--jitter-ms":
+          jitterMillis = Long.parseLong(value);
+          break;
+        case "--fault-rate":
+          faultRate = Double.parseDouble(value);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option " + args[i]);
+      }
+      i++;
+    }
+    if (phases.isEmpty()) {
+      phases.add(Phase.parse("warmup=10:4", null));
+      phases.add(Phase.parse("steady=30:8", null));
+    }
+
+    try (SimulatedRippled rippled = SimulatedRippled.builder()
+        .ledgerCloseInterval(Duration.ofMillis(ledgerCloseMillis))
+        .latency(Duration.ofMillis(latencyMillis))
+        .jitter(Duration.ofMillis(jitterMillis))
+        .faultRate(faultRate)
+        .startOnPort(0)) {
+      XrpClient xrpClient = new XrpClient(rippled.getTarget(), XrplNetwork.TEST);
+      InMemoryPayIdClient payIdClient = new InMemoryPayIdClient(XrplNetwork.TEST);
+      List<Wallet> wallets = new ArrayList<>();
+      List<String> payIds = new ArrayList<>();
+      for (int i = 0; i < senderCount; i++) {
+        Wallet wallet = Wallet.generateRandomWallet(true).getWallet();
+        rippled.ledger().fund(Utils.decodeXAddress(wallet.getAddress()).address(), 1_000_000_000_000L);
+        wallets.add(wallet);
+        String payId = "sender" + i + "$loadgen.local";
+        payIdClient.put(payId, wallet.getAddress());
+        payIds.add(payId);
+      }
+
+      LoadGenerator loadGenerator = throughXpringClient
+          ? new LoadGenerator(new XpringClient(payIdClient, xrpClient), xrpClient, wallets, payIds, mode)
+          : new LoadGenerator(xrpClient, wallets, mode);
+      PrintStream out = System.out;
+      String modeName = mode.name().toLowerCase(Locale.ROOT);
+      String clientName = throughXpringClient ? "XpringClient" : "XrpClient";
+      out.printf("%d %s-loop senders through %s against %s%n", senderCount, modeName, clientName, rippled.getTarget());
+      out.printf("%-12s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+          "phase", "ok", "failed", "tx/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+      for (Phase phase : phases) {
+        PhaseResult result = loadGenerator.run(phase);
+        LatencyRecorder.Snapshot latencies = result.getLatencies();
+        out.printf("%-12s %8d %8d %8.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+            phase.getName(),
+            result.getSucceeded(),
+            result.getFailed(),
+            result.getThroughput(),
+            latencies.getPercentile(50) / 1e6,
+            latencies.getPercentile(90) / 1e6,
+            latencies.getPercentile(99) / 1e6,
+            latencies.getPercentile(99.9) / 1e6,
+            latencies.getMax() / 1e6
+        );
+      }
+    }
+  }
+
+  private static boolean parseClient(String value) {
+    switch (value) {
+      case "xrp":
+        return false;
+      case "xpring":
+        return true;
+      default:
+        throw new IllegalArgumentException("Unknown client " + value);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package io.xpring.loadgenerator;
+
+import java.time.Duration;
+
+/**
+ * A period of load at a fixed rate.
+ */
+public final class Phase {
+  private final String name;
+  private final Duration duration;
+  private final double rate;
+
+  /**
+   * Create a phase.
+   *
+   * @param name     A name to report the phase under.
+   * @param duration How long new payments are started for.
+   * @param rate     In open-loop mode, the number of payments to start per second. In closed-loop mode, the rate the
+   *                 senders together intend to achieve, which is used to correct for coordinated omission, or 0 for
+   *                 no correction.
+   */
+  public Phase(String name, Duration duration, double rate) {
+    if (duration.isNegative() || duration.isZero()) {
+      throw new IllegalArgumentException("A phase must have a positive duration");
+    }
+    if (rate < 0) {
+      throw new IllegalArgumentException("A phase must not have a negative rate");
+    }
+    this.name = name;
+    this.duration = duration;
+    this.rate = rate;
+  }
+
+  /**
+   * Parse a phase from the form {@code [name=]seconds:rate}, for instance {@code warmup=10:5}.
+   *
+   * @param specification The phase specification.
+   * @param defaultName   The name to use if the specification does not have one.
+   * @return The {@link Phase}.
+   * @throws IllegalArgumentException If the specification is malformed.
+   */
+  public static Phase parse(String specification, String defaultName) {
+    String name = defaultName;
+    String timing = specification;
+    int equals = specification.indexOf('=');
+    if (equals >= 0) {
+      name = specification.substring(0, equals);
+      timing = specification.substring(equals + 1);
+    }
+
+    int colon = timing.indexOf(':');
+    if (colon < 0) {
+      throw new IllegalArgumentException("Expected [name=]seconds:rate but got " + specification);
+    }
+    try {
+      Duration duration = Duration.ofMillis((long) (Double.parseDouble(timing.substring(0, colon)) * 1000));
+      double rate = Double.parseDouble(timing.substring(colon + 1));
+      return new Phase(name, duration, rate);
+    } catch (NumberFormatException exception) {
+      throw new IllegalArgumentException("Expected [name=]seconds:rate but got " + specification, exception);
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Duration getDuration() {
+    return duration;
+  }
+
+  public double getRate() {
+    return rate;
+  }
+}
@@ -0,0 +1,66 @@
+package io.xpring.loadgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class LatencyRecorderTest {
+  @Test
+  public void percentiles() {
+    // GIVEN a recorder with latencies of 1 through 100.
+    LatencyRecorder recorder = new LatencyRecorder();
+    for (long latency = 100; latency >= 1; latency--) {
+      recorder.record(latency);
+    }
+
+    // WHEN a snapshot is taken.
+    LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+
+    // THEN percentiles use the nearest rank.
+    assertThat(snapshot.getCount()).isEqualTo(100);
+    assertThat(snapshot.getPercentile(50)).isEqualTo(50);
+    assertThat(snapshot.getPercentile(99)).isEqualTo(99);
+    assertThat(snapshot.getPercentile(99.9)).isEqualTo(100);
+    assertThat(snapshot.getMax()).isEqualTo(100);
+  }
+
+  @Test
+  public void recordWithExpectedIntervalAddsMissingSamples() {
+    // GIVEN a recorder.
+    LatencyRecorder recorder = new LatencyRecorder();
+
+    // WHEN an operation takes four times as long as the intended interval between operations.
+    recorder.recordWithExpectedInterval(400, 100);
+
+    // THEN the operations which would have been started while it was in flight are also recorded.
+    LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+    assertThat(snapshot.getCount()).isEqualTo(4);
+    assertThat(snapshot.getPercentile(25)).isEqualTo(100);
+    assertThat(snapshot.getPercentile(50)).isEqualTo(200);
+    assertThat(snapshot.getPercentile(75)).isEqualTo(300);
+    assertThat(snapshot.getMax()).isEqualTo(400);
+  }
+
+  @Test
+  public void recordWithoutExpectedInterval() {
+    // GIVEN a recorder.
+    LatencyRecorder recorder = new LatencyRecorder();
+
+    // WHEN a latency is recorded without an intended interval, and an operation fails.
+    recorder.recordWithExpectedInterval(400, 0);
+    recorder.recordFailure();
+
+    // THEN only that latency is recorded, and the failure is counted separately.
+    LatencyRecorder.Snapshot snapshot = recorder.snapshot();
+    assertThat(snapshot.getCount()).isEqualTo(1);
+    assertThat(snapshot.getFailures()).isEqualTo(1);
+  }
+
+  @Test
+  public void emptySnapshot() {
+    // GIVEN a recorder with no samples WHEN a snapshot is taken THEN percentiles are zero.
+    LatencyRecorder.Snapshot snapshot = new LatencyRecorder().snapshot();
+    assertThat(snapshot.getPercentile(50)).isEqualTo(0);
+    assertThat(snapshot.getMax()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,98 @@
+package io.xpring.loadgenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.xpring.common.XrplNetwork;
+import io.xpring.xpring.XpringClient;
+import io.xpring.xrpl.Utils;
+import io.xpring.xrpl.Wallet;
+import io.xpring.xrpl.XrpClient;
+import io.xpring.xrpl.XrpException;
+import io.xpring.xrpl.fakes.SimulatedRippled;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoadGeneratorTest {
+  @Test
+  public void openLoopPhase() throws XrpException, InterruptedException {
+    // GIVEN a simulated rippled and two funded senders.
+    try (SimulatedRippled rippled = SimulatedRippled.builder()
+        .ledgerCloseInterval(Duration.ofSeconds(1))
+        .startOnPort(0)) {
+      List<Wallet> wallets = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        Wallet wallet = Wallet.generateRandomWallet(true).getWallet();
+        rippled.ledger().fund(Utils.decodeXAddress(wallet.getAddress()).address(), 1_000_000_000L);
+        wallets.add(wallet);
+      }
+      LoadGenerator loadGenerator = new LoadGenerator(
+          new XrpClient(rippled.getTarget(), XrplNetwork.TEST),
+          wallets,
+          LoadGenerator.Mode.OPEN
+      );
+
+      // WHEN an open-loop phase starts four payments.
+      LoadGenerator.PhaseResult result = loadGenerator.run(new Phase("test", Duration.ofSeconds(2), 2));
+
+      // THEN every payment succeeds and is measured.
+      assertThat(result.getSucceeded()).isEqualTo(4);
+      assertThat(result.getFailed()).isEqualTo(0);
+      assertThat(result.getLatencies().getCount()).isEqualTo(4);
+      assertThat(result.getThroughput()).isGreaterThan(0);
+    }
+  }
+
+  @Test
+  public void xpringClientPhase() throws XrpException, InterruptedException {
+    // GIVEN a simulated rippled and two funded senders, each with a PayID.
+    try (SimulatedRippled rippled = SimulatedRippled.builder()
+        .ledgerCloseInterval(Duration.ofSeconds(1))
+        .startOnPort(0)) {
+      XrpClient xrpClient = new XrpClient(rippled.getTarget(), XrplNetwork.TEST);
+      InMemoryPayIdClient payIdClient = new InMemoryPayIdClient(XrplNetwork.TEST);
+      List<Wallet> wallets = new ArrayList<>();
+      List<String> payIds = new ArrayList<>();
+      for (int i = 0; i < 2; i++) {
+        Wallet wallet = Wallet.generateRandomWallet(true).getWallet();
+        rippled.ledger().fund(Utils.decodeXAddress(wallet.getAddress()).address(), 1_000_000_000L);
+        wallets.add(wallet);
+        payIdClient.put("sender" + i + "$loadgen.local", wallet.getAddress());
+        payIds.add("sender" + i + "$loadgen.local");
+      }
+      LoadGenerator loadGenerator = new LoadGenerator(
+          new XpringClient(payIdClient, xrpClient),
+          xrpClient,
+          wallets,
+          payIds,
+          LoadGenerator.Mode.CLOSED
+      );
+
+      // WHEN a closed-loop phase sends to PayIDs through XpringClient.
+      LoadGenerator.PhaseResult result = loadGenerator.run(new Phase("test", Duration.ofSeconds(2), 0));
+
+      // THEN every payment resolves its PayID and succeeds.
+      assertThat(result.getSucceeded()).isGreaterThan(0);
+      assertThat(result.getFailed()).isEqualTo(0);
+      assertThat(result.getLatencies().getCount()).isEqualTo(result.getSucceeded());
+    }
+  }
+
+  @Test
+  public void parsePhase() {
+    // GIVEN phase specifications with and without a name WHEN they are parsed THEN their parts are read.
+    Phase named = Phase.parse("steady=30:8.5", "default");
+    assertThat(named.getName()).isEqualTo("steady");
+    assertThat(named.getDuration()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(named.getRate()).isEqualTo(8.5);
+
+    Phase unnamed = Phase.parse("0.5:0", "default");
+    assertThat(unnamed.getName()).isEqualTo("default");
+    assertThat(unnamed.getDuration()).isEqualTo(Duration.ofMillis(500));
+
+    assertThatThrownBy(() -> Phase.parse("30", "default")).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -7,23 +7,63 @@ import org.interledger.spsp.server.grpc.IlpOverHttpServiceGrpc;
 import org.interledger.spsp.server.grpc.SendPaymentRequest;
 import org.interledger.spsp.server.grpc.SendPaymentResponse;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.CallCredentials;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.xpring.ilp.grpc.IlpCredentials;
 import io.xpring.ilp.model.AccountBalance;
+import io.xpring.ilp.model.PaymentBatchOptions;
 import io.xpring.ilp.model.PaymentRequest;
 import io.xpring.ilp.model.PaymentResult;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * A client that can get balances and send ILP payments on a connector.
+ * <p>
+ * Clients of the same URL share one channel, whichever access tokens they use. Each client keeps the credentials and
+ * stubs for recently used access tokens, so repeated calls with the same token neither check it nor prepare its
+ * Authorization header again.
+ * </p>
  */
 public class DefaultIlpClient implements IlpClientDecorator {
 
+  /**
+   * Channels shared by every client of the same URL.
+   */
+  private static final ConcurrentMap<String, ManagedChannel> SHARED_CHANNELS = new ConcurrentHashMap<>();
+
   private final BalanceServiceGrpc.BalanceServiceBlockingStub balanceServiceStub;
   private final IlpOverHttpServiceGrpc.IlpOverHttpServiceBlockingStub ilpOverHttpServiceStub;
+  private final BalanceServiceGrpc.BalanceServiceFutureStub balanceServiceFutureStub;
+  private final IlpOverHttpServiceGrpc.IlpOverHttpServiceFutureStub ilpOverHttpServiceFutureStub;
+
+  /**
+   * Stubs carrying the credentials of each recently used access token.
+   */
+  private final Cache<String, TenantStubs> tenantStubs;
 
   /**
    * Initialize a new client with a configured URL.
@@ -31,10 +71,18 @@ public class DefaultIlpClient implements IlpClientDecorator {
    * @param grpcUrl The gRPC URL exposed by Hermes.
    */
   DefaultIlpClient(String grpcUrl) {
-    this(ManagedChannelBuilder
-        .forAddress(grpcUrl, 443)
-        .build()
-    );
+    this(grpcUrl, IlpCredentialsCacheSettings.defaults());
+  }
+
+  /**
+   * Initialize a new client with a configured URL.
+   *
+   * @param grpcUrl The gRPC URL exposed by Hermes.
+   * @param credentialsCacheSettings The {@link IlpCredentialsCacheSettings} which control how many access tokens
+   *                                 credentials are kept for.
+   */
+  DefaultIlpClient(String grpcUrl, IlpCredentialsCacheSettings credentialsCacheSettings) {
+    this(sharedChannel(grpcUrl), credentialsCacheSettings);
   }
 
   /**
@@ -43,21 +91,51 @@ public class DefaultIlpClient implements IlpClientDecorator {
    * @param channel A {@link ManagedChannel}.
    */
   DefaultIlpClient(final ManagedChannel channel) {
+    this(channel, IlpCredentialsCacheSettings.defaults());
+  }
+
+  /**
+   * Initialize a new client which uses the given channel, currently for testing.
+   *
+   * @param channel A {@link ManagedChannel}.
+   * @param credentialsCacheSettings The {@link IlpCredentialsCacheSettings} which control how many access tokens
+   *                                 credentials are kept for.
+   */
+  DefaultIlpClient(final ManagedChannel channel, IlpCredentialsCacheSettings credentialsCacheSettings) {
     this.balanceServiceStub = BalanceServiceGrpc.newBlockingStub(channel);
     this.ilpOverHttpServiceStub = IlpOverHttpServiceGrpc.newBlockingStub(channel);
+    this.balanceServiceFutureStub = BalanceServiceGrpc.newFutureStub(channel);
+    this.ilpOverHttpServiceFutureStub = IlpOverHttpServiceGrpc.newFutureStub(channel);
+    this.tenantStubs = CacheBuilder.newBuilder()
+        .maximumSize(credentialsCacheSettings.maximumSize())
+        .expireAfterAccess(credentialsCacheSettings.timeToIdle().toNanos(), TimeUnit.NANOSECONDS)
+        .build();
+  }
 
-    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-      channel.shutdown();
-      try {
-        channel.awaitTermination(5, TimeUnit.SECONDS);
-      } catch (Exception timedOutException) {
+  /**
+   * Get the channel shared by every client of the given URL, creating it if needed. The channel is shut down when the
+   * JVM exits.
+   */
+  private static ManagedChannel sharedChannel(String grpcUrl) {
+    return SHARED_CHANNELS.computeIfAbsent(grpcUrl, url -> {
+      ManagedChannel channel = ManagedChannelBuilder
+          .forAddress(url, 443)
+          .build();
+
+      Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+        channel.shutdown();
         try {
-          channel.shutdownNow();
-        } catch (Exception e) {
-          // nothing more can be done
+          channel.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (Exception timedOutException) {
+          try {
+            channel.shutdownNow();
+          } catch (Exception e) {
+            // nothing more can be done
+          }
         }
-      }
-    }));
+      }));
+      return channel;
+    });
   }
 
   @Override
@@ -67,8 +145,7 @@ public class DefaultIlpClient implements IlpClientDecorator {
         .build();
 
     try {
-      GetBalanceResponse response = this.balanceServiceStub
-          .withCallCredentials(IlpCredentials.build(accessToken))
+      GetBalanceResponse response = this.stubsFor(accessToken).balanceServiceStub
           .getBalance(request);
 
       // Convert protobuf response to AccountBalanceResponse
@@ -85,8 +162,7 @@ public class DefaultIlpClient implements IlpClientDecorator {
       // Convert paymentRequest to a protobuf object
       SendPaymentRequest request = paymentRequest.toProto();
 
-      SendPaymentResponse protoResponse = ilpOverHttpServiceStub
-          .withCallCredentials(IlpCredentials.build(accessToken))
+      SendPaymentResponse protoResponse = this.stubsFor(accessToken).ilpOverHttpServiceStub
           .sendMoney(request);
 
       return PaymentResult.from(protoResponse);
@@ -95,4 +171,189 @@ public class DefaultIlpClient implements IlpClientDecorator {
       throw IlpException.from(statusRuntimeException);
     }
   }
+
+  @Override
+  public CompletableFuture<AccountBalance> getBalanceAsync(final String accountId,
+                                                           final String accessToken,
+                                                           final Duration deadline) {
+    Objects.requireNonNull(deadline, "deadline must not be null");
+    GetBalanceRequest request = GetBalanceRequest.newBuilder()
+        .setAccountId(accountId)
+        .build();
+
+    try {
+      ListenableFuture<GetBalanceResponse> response = this.stubsFor(accessToken).balanceServiceFutureStub
+          .withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS)
+          .getBalance(request);
+      return toCompletableFuture(response, AccountBalance::from);
+    } catch (IlpException exception) {
+      return failedFuture(exception);
+    }
+  }
+
+  @Override
+  public CompletableFuture<PaymentResult> sendPaymentAsync(final PaymentRequest paymentRequest,
+                                                           final String accessToken,
+                                                           final Duration deadline) {
+    Objects.requireNonNull(deadline, "deadline must not be null");
+    try {
+      return sendMoneyAsync(paymentRequest, this.stubsFor(accessToken).ilpOverHttpServiceFutureStub, deadline);
+    } catch (IlpException exception) {
+      return failedFuture(exception);
+    }
+  }
+
+  /**
+   * Send the given payments with at most {@link PaymentBatchOptions#maximumConcurrentPayments()} in flight.
+   * <p>
+   * When {@link PaymentBatchOptions#preserveSenderOrder()} is set, each payment waits for the previous payment from
+   * the same sender to finish before it is sent.
+   * </p>
+   */
+  @Override
+  public void sendPayments(final List<PaymentRequest> paymentRequests,
+                           final String accessToken,
+                           final PaymentBatchOptions options,
+                           final PaymentResultListener listener) throws IlpException {
+    Objects.requireNonNull(paymentRequests, "paymentRequests must not be null");
+    Objects.requireNonNull(options, "options must not be null");
+    Objects.requireNonNull(listener, "listener must not be null");
+
+    // Every payment shares the same credentials, so only look them up once.
+    final IlpOverHttpServiceGrpc.IlpOverHttpServiceFutureStub stub =
+        this.stubsFor(accessToken).ilpOverHttpServiceFutureStub;
+
+    // The index of the next payment from the same sender, which becomes ready when the one before it finishes.
+    int[] nextFromSender = new int[paymentRequests.size()];
+    Arrays.fill(nextFromSender, -1);
+    BlockingQueue<Integer> ready = new LinkedBlockingQueue<>();
+    if (options.preserveSenderOrder()) {
+      Map<String, Integer> lastFromSender = new HashMap<>();
+      for (int index = 0; index < paymentRequests.size(); index++) {
+        Integer previous = lastFromSender.put(paymentRequests.get(index).senderAccountId(), index);
+        if (previous == null) {
+          ready.add(index);
+        } else {
+          nextFromSender[previous] = index;
+        }
+      }
+    } else {
+      for (int index = 0; index < paymentRequests.size(); index++) {
+        ready.add(index);
+      }
+    }
+
+    int maximumConcurrentPayments = options.maximumConcurrentPayments();
+    Semaphore permits = new Semaphore(maximumConcurrentPayments);
+    try {
+      for (int sent = 0; sent < paymentRequests.size(); sent++) {
+        int index = ready.take();
+        permits.acquire();
+        sendMoneyAsync(paymentRequests.get(index), stub, options.paymentDeadline())
+            .whenComplete((result, throwable) -> {
+              try {
+                if (throwable == null) {
+                  listener.onResult(index, result);
+                } else {
+                  listener.onError(index, (IlpException) throwable);
+                }
+              } finally {
+                if (nextFromSender[index] != -1) {
+                  ready.add(nextFromSender[index]);
+                }
+                permits.release();
+              }
+            });
+      }
+      // Wait for every outstanding payment to be reported.
+      permits.acquire(maximumConcurrentPayments);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IlpException(IlpExceptionType.UNKNOWN, "Interrupted while sending payments.");
+    }
+  }
+
+  @VisibleForTesting
+  long cachedAccessTokenCount() {
+    this.tenantStubs.cleanUp();
+    return this.tenantStubs.size();
+  }
+
+  /**
+   * Get the stubs which carry the credentials of the given access token, creating them on first use.
+   *
+   * @throws IlpException If the access token is invalid.
+   */
+  private TenantStubs stubsFor(final String accessToken) throws IlpException {
+    Objects.requireNonNull(accessToken, "accessToken must not be null");
+    TenantStubs stubs = this.tenantStubs.getIfPresent(accessToken);
+    if (stubs == null) {
+      // Concurrent first uses of a token may each create stubs, which are equivalent, so the last one is kept.
+      stubs = new TenantStubs(this, IlpCredentials.build(accessToken));
+      this.tenantStubs.put(accessToken, stubs);
+    }
+    return stubs;
+  }
+
+  private static CompletableFuture<PaymentResult> sendMoneyAsync(
+      final PaymentRequest paymentRequest,
+      final IlpOverHttpServiceGrpc.IlpOverHttpServiceFutureStub stub,
+      final Duration deadline
+  ) {
+    ListenableFuture<SendPaymentResponse> response = stub
+        .withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS)
+        .sendMoney(paymentRequest.toProto());
+    return toCompletableFuture(response, PaymentResult::from);
+  }
+
+  /**
+   * Adapt a gRPC response to a {@link CompletableFuture} which completes with the converted response, or
+   * exceptionally with an {@link IlpException}.
+   */
+  private static <T, R> CompletableFuture<R> toCompletableFuture(ListenableFuture<T> response,
+                                                                 Function<T, R> converter) {
+    CompletableFuture<R> result = new CompletableFuture<>();
+    Futures.addCallback(response, new FutureCallback<T>() {
+      @Override
+      public void onSuccess(T value) {
+        try {
+          result.complete(converter.apply(value));
+        } catch (RuntimeException exception) {
+          result.completeExceptionally(new IlpException(IlpExceptionType.UNKNOWN, exception.getMessage()));
+        }
+      }
+
+      @Override
+      public void onFailure(Throwable throwable) {
+        StatusRuntimeException statusRuntimeException = throwable instanceof StatusRuntimeException
+            ? (StatusRuntimeException) throwable
+            : Status.fromThrowable(throwable).asRuntimeException();
+        result.completeExceptionally(IlpException.from(statusRuntimeException));
+      }
+    }, MoreExecutors.directExecutor());
+    return result;
+  }
+
+  private static <T> CompletableFuture<T> failedFuture(IlpException exception) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    result.completeExceptionally(exception);
+    return result;
+  }
+
+  /**
+   * The stubs used for calls authenticated with one access token.
+   */
+  private static final class TenantStubs {
+    private final BalanceServiceGrpc.BalanceServiceBlockingStub balanceServiceStub;
+    private final IlpOverHttpServiceGrpc.IlpOverHttpServiceBlockingStub ilpOverHttpServiceStub;
+    private final BalanceServiceGrpc.BalanceServiceFutureStub balanceServiceFutureStub;
+    private final IlpOverHttpServiceGrpc.IlpOverHttpServiceFutureStub ilpOverHttpServiceFutureStub;
+
+    private TenantStubs(DefaultIlpClient client, CallCredentials credentials) {
+      this.balanceServiceStub = client.balanceServiceStub.withCallCredentials(credentials);
+      this.ilpOverHttpServiceStub = client.ilpOverHttpServiceStub.withCallCredentials(credentials);
+      this.balanceServiceFutureStub = client.balanceServiceFutureStub.withCallCredentials(credentials);
+      this.ilpOverHttpServiceFutureStub = client.ilpOverHttpServiceFutureStub.withCallCredentials(credentials);
+    }
+  }
 }
@@ -1,10 +1,14 @@
 package io.xpring.ilp;
 
 import io.xpring.ilp.model.AccountBalance;
+import io.xpring.ilp.model.PaymentBatchOptions;
 import io.xpring.ilp.model.PaymentRequest;
 import io.xpring.ilp.model.PaymentResult;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A client that can get balances and send ILP payments on a connector.
@@ -23,6 +27,24 @@ public class IlpClient {
     this.decoratedClient = new DefaultIlpClient(grpcUrl);
   }
 
+  /**
+   * Initialize a new client with a configured URL, keeping the credentials of recently used access tokens as the
+   * given settings allow.
+   * <p>
+   * Clients of the same URL share one channel, so a service acting for many accounts may create one client for all of
+   * them or one per account.
+   * </p>
+   *
+   * @param grpcUrl The gRPC URL exposed by Hermes.
+   * @param credentialsCacheSettings The {@link IlpCredentialsCacheSettings} which control how many access tokens
+   *                                 credentials are kept for.
+   */
+  public IlpClient(String grpcUrl, IlpCredentialsCacheSettings credentialsCacheSettings) {
+    Objects.requireNonNull(grpcUrl, "grpcUrl must not be null");
+    Objects.requireNonNull(credentialsCacheSettings, "credentialsCacheSettings must not be null");
+    this.decoratedClient = new DefaultIlpClient(grpcUrl, credentialsCacheSettings);
+  }
+
   /**
    * Get the balance of the specified account on the connector.
    *
@@ -49,4 +71,69 @@ public class IlpClient {
                                    final String accessToken) throws IlpException {
     return decoratedClient.sendPayment(paymentRequest, accessToken);
   }
+
+  /**
+   * Get the balance of the specified account on the connector without blocking.
+   *
+   * @param accountId   The accountId to get the balance for.
+   * @param accessToken Access token used for authentication.
+   * @param deadline    How long to wait for the connector before failing with
+   *                    {@link IlpException#DEADLINE_EXCEEDED}.
+   * @return A {@link CompletableFuture} which completes with an {@link AccountBalance}, or exceptionally with an
+   *     {@link IlpException} if the given inputs were invalid, the account doesn't exist, or authentication failed.
+   */
+  public CompletableFuture<AccountBalance> getBalanceAsync(final String accountId,
+                                                           final String accessToken,
+                                                           final Duration deadline) {
+    return decoratedClient.getBalanceAsync(accountId, accessToken, deadline);
+  }
+
+  /**
+   * Send a payment from the given accountId to the destinationPaymentPointer payment pointer without blocking.
+   *
+   * @param paymentRequest a {@link PaymentRequest} with parameters used to send a payment
+   * @param accessToken    Access token of the sender
+   * @param deadline       How long to wait for the connector before failing with
+   *                       {@link IlpException#DEADLINE_EXCEEDED}.
+   * @return A {@link CompletableFuture} which completes with a {@link PaymentResult}, or exceptionally with an
+   *     {@link IlpException} if the given inputs were invalid. Payment status can be checked in
+   *     {@link PaymentResult#successfulPayment()}
+   */
+  public CompletableFuture<PaymentResult> sendPaymentAsync(final PaymentRequest paymentRequest,
+                                                           final String accessToken,
+                                                           final Duration deadline) {
+    return decoratedClient.sendPaymentAsync(paymentRequest, accessToken, deadline);
+  }
+
+  /**
+   * Send many payments with the same access token using {@link PaymentBatchOptions#defaults()}, reporting the outcome
+   * of each one to a listener as soon as it finishes. This method returns once every outcome has been reported.
+   *
+   * @param paymentRequests The {@link PaymentRequest}s to send.
+   * @param accessToken     Access token of the senders
+   * @param listener        A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws IlpException If the access token was invalid, in which case no payments are sent.
+   */
+  public void sendPayments(final List<PaymentRequest> paymentRequests,
+                           final String accessToken,
+                           final PaymentResultListener listener) throws IlpException {
+    this.sendPayments(paymentRequests, accessToken, PaymentBatchOptions.defaults(), listener);
+  }
+
+  /**
+   * Send many payments with the same access token, reporting the outcome of each one to a listener as soon as it
+   * finishes. This method returns once every outcome has been reported.
+   *
+   * @param paymentRequests The {@link PaymentRequest}s to send.
+   * @param accessToken     Access token of the senders
+   * @param options         {@link PaymentBatchOptions} controlling concurrency, ordering and deadlines.
+   * @param listener        A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws IlpException If the access token was invalid, in which case no payments are sent.
+   */
+  public void sendPayments(final List<PaymentRequest> paymentRequests,
+                           final String accessToken,
+                           final PaymentBatchOptions options,
+                           final PaymentResultListener listener) throws IlpException {
+    decoratedClient.sendPayments(paymentRequests, accessToken, options, listener);
+  }
 }
@@ -1,9 +1,14 @@
 package io.xpring.ilp;
 
 import io.xpring.ilp.model.AccountBalance;
+import io.xpring.ilp.model.PaymentBatchOptions;
 import io.xpring.ilp.model.PaymentRequest;
 import io.xpring.ilp.model.PaymentResult;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * A common interface shared between IlpClient and the internal hierarchy of decorators.
  */
@@ -31,4 +36,48 @@ public interface IlpClientDecorator {
    */
   PaymentResult sendPayment(final PaymentRequest paymentRequest,
                             final String accessToken) throws IlpException;
+
+  /**
+   * Get the balance of the specified account on the connector without blocking.
+   *
+   * @param accountId   The accountId to get the balance for.
+   * @param accessToken Access token used for authentication.
+   * @param deadline    How long to wait for the connector before failing with
+   *                    {@link IlpException#DEADLINE_EXCEEDED}.
+   * @return A {@link CompletableFuture} which completes with an {@link AccountBalance}, or exceptionally with an
+   *     {@link IlpException} if the given inputs were invalid, the account doesn't exist, or authentication failed.
+   */
+  CompletableFuture<AccountBalance> getBalanceAsync(final String accountId,
+                                                    final String accessToken,
+                                                    final Duration deadline);
+
+  /**
+   * Send a payment from the given accountId to the destinationPaymentPointer payment pointer without blocking.
+   *
+   * @param paymentRequest a {@link PaymentRequest} with parameters used to send a payment
+   * @param accessToken    Access token of the sender
+   * @param deadline       How long to wait for the connector before failing with
+   *                       {@link IlpException#DEADLINE_EXCEEDED}.
+   * @return A {@link CompletableFuture} which completes with a {@link PaymentResult}, or exceptionally with an
+   *     {@link IlpException} if the given inputs were invalid. Payment status can be checked in
+   *     {@link PaymentResult#successfulPayment()}
+   */
+  CompletableFuture<PaymentResult> sendPaymentAsync(final PaymentRequest paymentRequest,
+                                                    final String accessToken,
+                                                    final Duration deadline);
+
+  /**
+   * Send many payments with the same access token, reporting the outcome of each one to a listener as soon as it
+   * finishes. This method returns once every outcome has been reported.
+   *
+   * @param paymentRequests The {@link PaymentRequest}s to send.
+   * @param accessToken     Access token of the senders
+   * @param options         {@link PaymentBatchOptions} controlling concurrency, ordering and deadlines.
+   * @param listener        A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws IlpException If the access token was invalid, in which case no payments are sent.
+   */
+  void sendPayments(final List<PaymentRequest> paymentRequests,
+                    final String accessToken,
+                    final PaymentBatchOptions options,
+                    final PaymentResultListener listener) throws IlpException;
 }
@@ -0,0 +1,59 @@
+package io.xpring.ilp;
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * Controls how many access tokens an {@link IlpClient} keeps credentials for, and for how long.
+ * <p>
+ * The credentials for an access token, including its prepared {@code Authorization} header, are created on first use
+ * and reused by later calls with the same token until it has been idle for {@link #timeToIdle()}. Once
+ * {@link #maximumSize()} tokens are cached, the least recently used is evicted.
+ * </p>
+ */
+@Value.Immutable
+public interface IlpCredentialsCacheSettings {
+  static ImmutableIlpCredentialsCacheSettings.Builder builder() {
+    return ImmutableIlpCredentialsCacheSettings.builder();
+  }
+
+  /**
+   * Settings with every default applied.
+   *
+   * @return The default {@link IlpCredentialsCacheSettings}.
+   */
+  static IlpCredentialsCacheSettings defaults() {
+    return builder().build();
+  }
+
+  /**
+   * The largest number of access tokens to keep credentials for.
+   *
+   * @return A number of tokens, ten thousand by default.
+   */
+  @Value.Default
+  default long maximumSize() {
+    return 10_000;
+  }
+
+  /**
+   * How long the credentials for an access token are kept after it was last used.
+   *
+   * @return A {@link Duration}, ten minutes by default.
+   */
+  @Value.Default
+  default Duration timeToIdle() {
+    return Duration.ofMinutes(10);
+  }
+
+  /**
+   * Validate these settings.
+   */
+  @Value.Check
+  default void validate() {
+    Preconditions.checkArgument(maximumSize() >= 0, "maximumSize must not be negative");
+    Preconditions.checkArgument(!timeToIdle().isNegative(), "timeToIdle must not be negative");
+  }
+}
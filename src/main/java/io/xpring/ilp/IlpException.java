@@ -1,6 +1,5 @@
 package io.xpring.ilp;
 
-import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 
 /**
@@ -25,6 +24,8 @@ public class IlpException extends Exception {
       new IlpException(IlpExceptionType.ACCOUNT_NOT_FOUND, "Account not found.");
   public static final IlpException UNAUTHENTICATED =
       new IlpException(IlpExceptionType.UNAUTHENTICATED, "Authentication failed.");
+  public static final IlpException DEADLINE_EXCEEDED =
+      new IlpException(IlpExceptionType.DEADLINE_EXCEEDED, "Request did not complete before its deadline.");
   public static final IlpException UNKNOWN =
       new IlpException(IlpExceptionType.UNKNOWN, "Unknown error occurred.");
 
@@ -63,15 +64,20 @@ public class IlpException extends Exception {
    * @return A {@link IlpException} that is analogous to the grpcException thrown.
    */
   public static IlpException from(StatusRuntimeException grpcException) {
-    if (Status.NOT_FOUND.equals(grpcException.getStatus())) {
-      return NOT_FOUND;
-    } else if (Status.UNAUTHENTICATED.equals(grpcException.getStatus())) {
-      return UNAUTHENTICATED;
-    } else if (Status.INVALID_ARGUMENT.equals(grpcException.getStatus())) {
-      return INVALID_ARGUMENT;
-    } else if (Status.INTERNAL.equals(grpcException.getStatus())) {
-      return INTERNAL;
+    // Statuses received over the wire carry descriptions, so compare codes rather than statuses.
+    switch (grpcException.getStatus().getCode()) {
+      case NOT_FOUND:
+        return NOT_FOUND;
+      case UNAUTHENTICATED:
+        return UNAUTHENTICATED;
+      case INVALID_ARGUMENT:
+        return INVALID_ARGUMENT;
+      case INTERNAL:
+        return INTERNAL;
+      case DEADLINE_EXCEEDED:
+        return DEADLINE_EXCEEDED;
+      default:
+        return UNKNOWN;
     }
-    return UNKNOWN;
   }
 }
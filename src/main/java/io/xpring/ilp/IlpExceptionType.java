@@ -6,5 +6,6 @@ public enum IlpExceptionType {
   UNAUTHENTICATED,
   INVALID_ARGUMENT,
   INTERNAL,
+  DEADLINE_EXCEEDED,
   UNKNOWN
 }
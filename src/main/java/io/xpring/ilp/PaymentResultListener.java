@@ -0,0 +1,29 @@
+package io.xpring.ilp;
+
+import io.xpring.ilp.model.PaymentResult;
+
+/**
+ * Receives the result of each payment in a batch as soon as it finishes.
+ * <p>
+ * Results arrive in completion order, not request order, and may be delivered from several threads at once, so
+ * implementations must be thread safe. Exactly one of the methods is called for each payment in the batch.
+ * </p>
+ */
+public interface PaymentResultListener {
+  /**
+   * Called when the connector has finished a payment. The payment may still have failed, which can be checked with
+   * {@link PaymentResult#successfulPayment()}.
+   *
+   * @param index  The position of the payment in the batch.
+   * @param result A {@link PaymentResult} with details about the payment.
+   */
+  void onResult(int index, PaymentResult result);
+
+  /**
+   * Called when a payment could not be sent, or did not finish before its deadline.
+   *
+   * @param index The position of the payment in the batch.
+   * @param error The error encountered.
+   */
+  void onError(int index, IlpException error);
+}
@@ -13,15 +13,26 @@ import java.util.concurrent.Executor;
 /**
  * An extension of {@link CallCredentials} which provides a convenient way to add an Authorization metadata header, and
  * ensures every bearer token going over the wire is prefixed with 'Bearer '.
+ * <p>
+ * The header is prepared once, when the credentials are built, and applied as is to every call. Credentials can be
+ * shared by any number of calls and threads.
+ * </p>
  */
 public class IlpCredentials extends CallCredentials {
   public static final String BEARER_PREFIX = "Bearer ";
   private static Logger LOGGER = LoggerFactory.getLogger(IlpCredentials.class);
 
-  private final String accessToken;
+  private static final Metadata.Key<String> AUTHORIZATION_KEY =
+      Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+
+  /**
+   * The Authorization header, which must not be modified once built.
+   */
+  private final Metadata metadata;
 
   private IlpCredentials(String accessToken) {
-    this.accessToken = accessToken;
+    this.metadata = new Metadata();
+    this.metadata.put(AUTHORIZATION_KEY, BEARER_PREFIX + accessToken);
   }
 
   /**
@@ -42,7 +53,7 @@ public class IlpCredentials extends CallCredentials {
   @Override
   public void applyRequestMetadata(RequestInfo requestInfo, Executor appExecutor, MetadataApplier applier) {
     try {
-      applyToken(applier, accessToken);
+      applier.apply(metadata);
     } catch (RuntimeException runtimeException) {
       applyFailure(applier, runtimeException);
     }
@@ -52,18 +63,6 @@ public class IlpCredentials extends CallCredentials {
   public void thisUsesUnstableApi() {
   }
 
-  /**
-   * Adds an Authorization header to the request Metadata, prepending 'Bearer ' to the access token.
-   *
-   * @param applier     A {@link io.grpc.CallCredentials.MetadataApplier}
-   * @param accessToken An access token that does not start with 'Bearer '
-   */
-  protected void applyToken(MetadataApplier applier, String accessToken) {
-    Metadata metadata = new Metadata();
-    metadata.put(Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER), BEARER_PREFIX + accessToken);
-    applier.apply(metadata);
-  }
-
   protected void applyFailure(MetadataApplier applier, Throwable throwable) {
     String msg = "An exception when obtaining access token";
     LOGGER.error(msg, throwable);
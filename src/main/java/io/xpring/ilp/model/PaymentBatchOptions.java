@@ -0,0 +1,68 @@
+package io.xpring.ilp.model;
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * Controls how a batch of payments is sent to a connector.
+ */
+@Value.Immutable
+public interface PaymentBatchOptions {
+  static ImmutablePaymentBatchOptions.Builder builder() {
+    return ImmutablePaymentBatchOptions.builder();
+  }
+
+  /**
+   * Options with every default applied.
+   *
+   * @return The default {@link PaymentBatchOptions}.
+   */
+  static PaymentBatchOptions defaults() {
+    return builder().build();
+  }
+
+  /**
+   * The maximum number of payments to have in flight at once.
+   *
+   * @return A positive number, sixteen by default.
+   */
+  @Value.Default
+  default int maximumConcurrentPayments() {
+    return 16;
+  }
+
+  /**
+   * Whether payments from the same sender are sent one after another, in the order they appear in the batch. Payments
+   * from different senders are still sent concurrently.
+   *
+   * @return true to keep the order of each sender's payments, false by default.
+   */
+  @Value.Default
+  default boolean preserveSenderOrder() {
+    return false;
+  }
+
+  /**
+   * How long each payment may take before it is abandoned and reported as failed.
+   *
+   * @return A {@link Duration}, one minute by default.
+   */
+  @Value.Default
+  default Duration paymentDeadline() {
+    return Duration.ofMinutes(1);
+  }
+
+  /**
+   * Validate these options.
+   */
+  @Value.Check
+  default void validate() {
+    Preconditions.checkArgument(maximumConcurrentPayments() > 0, "maximumConcurrentPayments must be positive");
+    Preconditions.checkArgument(
+        !paymentDeadline().isNegative() && !paymentDeadline().isZero(),
+        "paymentDeadline must be positive"
+    );
+  }
+}
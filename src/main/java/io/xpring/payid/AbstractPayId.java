@@ -6,8 +6,7 @@ import com.google.common.base.Preconditions;
 import org.immutables.value.Value;
 import org.immutables.value.Value.Check;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Locale;
 
 /**
  * An abstract implementation of {@link PayId} for use by Immutables.
@@ -15,40 +14,107 @@ import java.util.regex.Pattern;
 @Value.Immutable
 abstract class AbstractPayId implements PayId {
 
-  private static final String ALPHA = "a-zA-Z";
-  private static final String DIGIT = "0-9";
-  private static final String UNRESERVED = ALPHA + DIGIT + "\\-\\.\\_\\~";
-  private static final String SUB_DELIMS = "\\!\\$\\&\\'\\(\\)\\*\\+\\,\\;\\=";
-  private static final String PERCENT = "\\%";
-  private static final String DEC_OCTET = DIGIT + "\\%x";
+  private static final String ALPHA = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  private static final String DIGIT = "0123456789";
+  private static final String UNRESERVED = ALPHA + DIGIT + "-._~";
+  private static final String SUB_DELIMS = "!$&'()*+,;=";
+  private static final String PERCENT = "%";
 
-  // Note: These regex's don't enforce any ordering or format for things like IP address, etc. They merely define
-  // allowed characters in a PayID. A PayID must be dereferenced in order to determine if it's a valid host
+  // Note: These character classes don't enforce any ordering or format for things like IP address, etc. They merely
+  // define allowed characters in a PayID. A PayID must be dereferenced in order to determine if it's a valid host
   // per RFC-3986.
 
   // ACCOUNT (allowed-chars)
   private static final String ALLOWED_ACCOUNT_CHARS = UNRESERVED + SUB_DELIMS + PERCENT;
-  private static final String ALLOWED_ACCOUNT_CHARS_REGEX = "^([" + ALLOWED_ACCOUNT_CHARS + "]+)*$";
 
   // HOST (allowed-chars)
   // IP-literal / IPv4address / reg-name
-  private static final String HEX_DIGITS = "[[:xdigit:]]";
-  private static final String IPV4_ADDRESS = DIGIT + "."; // Hex is already allowed via IP_LITERAL
-  private static final String IPV6_ADDRESS = ":\\." + HEX_DIGITS;
+  // Hex digits are already allowed as unreserved characters, which also covers IPv6 addresses apart from ':'.
+  private static final String IPV6_ADDRESS = ":";
   // reg-name syntax allows percent-encoded octets in order to represent non-ASCII registered names in a uniform way
   // that is independent of the underlying name resolution technology
   private static final String REG_NAME = UNRESERVED + PERCENT + SUB_DELIMS;
 
   // IPVFUTURE and IP_LITERAL are not accounted for.
-  private static final String ALLOWED_HOST_CHARS = IPV4_ADDRESS + IPV6_ADDRESS + REG_NAME;
-  private static final String ALLOWED_HOST_CHARS_REGEX = "^([" + ALLOWED_HOST_CHARS + "]+)*$";
+  private static final String ALLOWED_HOST_CHARS = IPV6_ADDRESS + REG_NAME;
 
-  // Regex
-  private static final Pattern ACCOUNT_PATTERN = Pattern.compile(ALLOWED_ACCOUNT_CHARS_REGEX);
-  private static final Pattern HOST_PATTERN = Pattern.compile(ALLOWED_HOST_CHARS_REGEX);
+  // Lookup tables of the allowed ASCII characters. Anything outside ASCII is not allowed.
+  private static final boolean[] ACCOUNT_CHARS = asciiTable(ALLOWED_ACCOUNT_CHARS);
+  private static final boolean[] HOST_CHARS = asciiTable(ALLOWED_HOST_CHARS);
 
-  // For upper-casing HEX
-  private static final Pattern PERCENT_ENCODED_PATTERN = Pattern.compile("(%[0-9a-fA-F][0-9a-fA-F])");
+  /**
+   * Parse the text of a Pay ID after its scheme in a single pass, lower-casing it and upper-casing any percent-encoded
+   * triplets as it goes. Characters are validated when the {@link PayId} is built.
+   *
+   * @param value The text of a complete Pay ID, which starts with the 'payid:' scheme in any case.
+   *
+   * @return A normalized {@link PayId}.
+   *
+   * @throws IllegalArgumentException if {@code value} cannot be properly parsed or has invalid characters per the Pay
+   *                                  ID RFC.
+   * @see PayId#of(String)
+   */
+  static PayId parse(String value) {
+    final String schemeSpecificPart = value.substring(PAY_ID_SCHEME.length());
+    final int length = schemeSpecificPart.length();
+
+    final char[] normalized = new char[length];
+    int dollarIndex = -1;
+    int dollarCount = 0;
+    boolean ascii = true;
+    for (int i = 0; i < length; i++) {
+      char character = schemeSpecificPart.charAt(i);
+      if (character == '%' && i + 2 < length
+          && isHexDigit(schemeSpecificPart.charAt(i + 1)) && isHexDigit(schemeSpecificPart.charAt(i + 2))) {
+        normalized[i] = '%';
+        normalized[i + 1] = Character.toUpperCase(schemeSpecificPart.charAt(i + 1));
+        normalized[i + 2] = Character.toUpperCase(schemeSpecificPart.charAt(i + 2));
+        i += 2;
+        continue;
+      }
+      if (character == '$') {
+        if (dollarCount++ == 0) {
+          dollarIndex = i;
+        }
+      } else if (character >= 'A' && character <= 'Z') {
+        character = (char) (character + ('a' - 'A'));
+      } else if (character >= 0x80) {
+        ascii = false;
+      }
+      normalized[i] = character;
+    }
+
+    if (dollarCount == 0) {
+      throw new IllegalArgumentException(format("Pay ID `%s` must contain a $", schemeSpecificPart));
+    }
+    Preconditions.checkArgument(length > 6,
+        format("Pay ID `%s` must specify a valid account and host", schemeSpecificPart));
+    Preconditions.checkArgument(dollarCount == 1,
+        format("Pay ID `%s` may only contain a single dollar-sign. All other dollar-signs must be percent-encoded.",
+          schemeSpecificPart));
+    Preconditions.checkArgument(schemeSpecificPart.charAt(0) != '%',
+        format("Pay ID `%s` MUST start with either an 'unreserved' or 'sub-selims' character rules. "
+          + "A Pay ID may not start with a percent-encoded value.", schemeSpecificPart));
+
+    String account;
+    String host;
+    if (ascii) {
+      account = new String(normalized, 0, dollarIndex);
+      host = new String(normalized, dollarIndex + 1, length - dollarIndex - 1);
+    } else {
+      // Such a Pay ID is invalid, but is normalized exactly as before so that the error describes it the same way.
+      account = upperCasePercentEncoded(schemeSpecificPart.substring(0, dollarIndex).toLowerCase(Locale.ENGLISH));
+      host = upperCasePercentEncoded(schemeSpecificPart.substring(dollarIndex + 1).toLowerCase(Locale.ENGLISH));
+    }
+
+    final ImmutablePayId.Builder builder = PayId.builder();
+    if (account.length() > 0) {
+      builder.account(account);
+    }
+    builder.host(host);
+
+    return builder.build();
+  }
 
   /**
    * For a String {@code input}, find any lower-cased percent-encoded values (e.g., %3a) and upper-case them (e.g., %3A)
@@ -61,17 +127,21 @@ abstract class AbstractPayId implements PayId {
    * @see "https://tools.ietf.org/html/rfc3986#section-6.2.2.1"
    */
   static String upperCasePercentEncoded(String input) {
-    // Upper-case any percent-encoded triplets (e.g., `%3a` -> `%3A`).
-    final Matcher matcher = PERCENT_ENCODED_PATTERN.matcher(input);
-
-    final StringBuffer result = new StringBuffer();
-    while (matcher.find()) {
-      matcher.appendReplacement(result, matcher.group().toUpperCase());
+    final int length = input.length();
+    int index = input.indexOf('%');
+    if (index < 0) {
+      return input;
     }
-    matcher.appendTail(result);
 
-    String returnable = result.toString();
-    return returnable;
+    final char[] result = input.toCharArray();
+    for (; index + 2 < length; index++) {
+      if (result[index] == '%' && isHexDigit(result[index + 1]) && isHexDigit(result[index + 2])) {
+        result[index + 1] = Character.toUpperCase(result[index + 1]);
+        result[index + 2] = Character.toUpperCase(result[index + 2]);
+        index += 2;
+      }
+    }
+    return new String(result);
   }
 
   /**
@@ -84,12 +154,12 @@ abstract class AbstractPayId implements PayId {
 
     // Verify Account
     Preconditions.checkArgument(
-        ACCOUNT_PATTERN.matcher(this.account()).matches(),
+        allCharactersIn(this.account(), ACCOUNT_CHARS),
         format("PayID 'account' for `%s` has an invalid value.", this.toString())
     );
 
     // Verify Host
-    Preconditions.checkArgument(HOST_PATTERN.matcher(this.host()).matches(),
+    Preconditions.checkArgument(allCharactersIn(this.host(), HOST_CHARS),
         format("PayID 'host' for `%s` has an invalid value.", this.toString()));
 
     return this;
@@ -99,4 +169,28 @@ abstract class AbstractPayId implements PayId {
   public String toString() {
     return PAY_ID_SCHEME + account() + "$" + host();
   }
+
+  private static boolean allCharactersIn(String value, boolean[] allowedCharacters) {
+    for (int i = 0; i < value.length(); i++) {
+      char character = value.charAt(i);
+      if (character >= allowedCharacters.length || !allowedCharacters[character]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isHexDigit(char character) {
+    return (character >= '0' && character <= '9')
+        || (character >= 'a' && character <= 'f')
+        || (character >= 'A' && character <= 'F');
+  }
+
+  private static boolean[] asciiTable(String characters) {
+    final boolean[] table = new boolean[128];
+    for (int i = 0; i < characters.length(); i++) {
+      table[characters.charAt(i)] = true;
+    }
+    return table;
+  }
 }
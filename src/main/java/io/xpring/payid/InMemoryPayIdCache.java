@@ -0,0 +1,49 @@
+package io.xpring.payid;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * A bounded, least-recently-used {@link PayIdCache} held in memory.
+ */
+public class InMemoryPayIdCache implements PayIdCache {
+  /**
+   * The default number of resolutions to retain.
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+  private final Cache<String, PayIdCacheEntry> entries;
+
+  /**
+   * Create a new cache which retains up to {@link #DEFAULT_MAXIMUM_SIZE} resolutions.
+   */
+  public InMemoryPayIdCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Create a new cache.
+   *
+   * @param maximumSize The maximum number of resolutions to retain before evicting the least recently used.
+   */
+  public InMemoryPayIdCache(int maximumSize) {
+    this.entries = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .build();
+  }
+
+  @Override
+  public PayIdCacheEntry getIfPresent(String key) {
+    return this.entries.getIfPresent(key);
+  }
+
+  @Override
+  public void put(String key, PayIdCacheEntry entry) {
+    this.entries.put(key, entry);
+  }
+
+  @Override
+  public void invalidate(String key) {
+    this.entries.invalidate(key);
+  }
+}
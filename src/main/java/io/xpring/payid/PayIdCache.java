@@ -0,0 +1,34 @@
+package io.xpring.payid;
+
+/**
+ * Stores PayID resolutions for a {@link PayIdClient}.
+ * <p>
+ * Keys identify a normalized PayID on a network. The client decides when entries are fresh, stale or expired from
+ * their {@link PayIdCacheEntry#expiresAt()} and its {@link PayIdCacheSettings}, so implementations only need to store
+ * entries, and may evict them at any time. Implementations must be safe to use from multiple threads.
+ * </p>
+ */
+public interface PayIdCache {
+  /**
+   * Look up the entry for the given key.
+   *
+   * @param key The key of the resolution.
+   * @return The {@link PayIdCacheEntry} for the key, or null if there is none.
+   */
+  PayIdCacheEntry getIfPresent(String key);
+
+  /**
+   * Store an entry, replacing any entry for the same key.
+   *
+   * @param key   The key of the resolution.
+   * @param entry The {@link PayIdCacheEntry} to store.
+   */
+  void put(String key, PayIdCacheEntry entry);
+
+  /**
+   * Remove the entry for the given key, if there is one.
+   *
+   * @param key The key of the resolution.
+   */
+  void invalidate(String key);
+}
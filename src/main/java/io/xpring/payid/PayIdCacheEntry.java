@@ -0,0 +1,75 @@
+package io.xpring.payid;
+
+import io.xpring.payid.generated.model.Address;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A cached resolution of a PayID on a network: either the addresses it resolved to, or the fact that it was not
+ * found.
+ * <p>
+ * The cached {@link Address}es are shared by every lookup served from the entry, and must not be modified.
+ * </p>
+ */
+public final class PayIdCacheEntry {
+  private final List<Address> addresses;
+  private final Instant expiresAt;
+
+  private PayIdCacheEntry(List<Address> addresses, Instant expiresAt) {
+    this.addresses = addresses;
+    this.expiresAt = Objects.requireNonNull(expiresAt);
+  }
+
+  /**
+   * Create an entry for a PayID which resolved to the given addresses.
+   *
+   * @param addresses The {@link Address}es the PayID resolved to.
+   * @param expiresAt The time at which the entry stops being fresh.
+   * @return A new {@link PayIdCacheEntry}.
+   */
+  public static PayIdCacheEntry found(List<Address> addresses, Instant expiresAt) {
+    return new PayIdCacheEntry(Collections.unmodifiableList(addresses), expiresAt);
+  }
+
+  /**
+   * Create an entry for a PayID which was not found.
+   *
+   * @param expiresAt The time at which the entry stops being fresh.
+   * @return A new {@link PayIdCacheEntry}.
+   */
+  public static PayIdCacheEntry notFound(Instant expiresAt) {
+    return new PayIdCacheEntry(null, expiresAt);
+  }
+
+  /**
+   * The addresses the PayID resolved to.
+   *
+   * @return An {@link Optional} containing the {@link Address}es, or empty if the PayID was not found.
+   */
+  public Optional<List<Address>> addresses() {
+    return Optional.ofNullable(this.addresses);
+  }
+
+  /**
+   * The time at which this entry stops being fresh.
+   *
+   * @return An {@link Instant}.
+   */
+  public Instant expiresAt() {
+    return this.expiresAt;
+  }
+
+  /**
+   * Whether this entry is still fresh at the given time.
+   *
+   * @param now The current time.
+   * @return true if this entry can be served without being refreshed.
+   */
+  public boolean isFresh(Instant now) {
+    return now.isBefore(this.expiresAt);
+  }
+}
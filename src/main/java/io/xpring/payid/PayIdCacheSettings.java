@@ -0,0 +1,83 @@
+package io.xpring.payid;
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * Controls how long a {@link PayIdClient} keeps PayID resolutions in its {@link PayIdCache}.
+ * <p>
+ * A resolution is fresh for as long as the {@code Cache-Control} or {@code Expires} headers of its response allow, or
+ * for {@link #defaultTimeToLive()} if the response has neither, but never longer than {@link #maximumTimeToLive()}.
+ * Once it is no longer fresh, it is still served for {@link #staleWhileRevalidate()} while it is refreshed in the
+ * background.
+ * </p>
+ */
+@Value.Immutable
+public interface PayIdCacheSettings {
+  static ImmutablePayIdCacheSettings.Builder builder() {
+    return ImmutablePayIdCacheSettings.builder();
+  }
+
+  /**
+   * Settings with every default applied.
+   *
+   * @return The default {@link PayIdCacheSettings}.
+   */
+  static PayIdCacheSettings defaults() {
+    return builder().build();
+  }
+
+  /**
+   * How long a resolution is fresh when its response has neither a {@code Cache-Control} max age nor an
+   * {@code Expires} header.
+   *
+   * @return A {@link Duration}, five minutes by default.
+   */
+  @Value.Default
+  default Duration defaultTimeToLive() {
+    return Duration.ofMinutes(5);
+  }
+
+  /**
+   * The longest a resolution is fresh, whatever its response allows.
+   *
+   * @return A {@link Duration}, one hour by default.
+   */
+  @Value.Default
+  default Duration maximumTimeToLive() {
+    return Duration.ofHours(1);
+  }
+
+  /**
+   * How long a PayID which could not be found is remembered as not found.
+   *
+   * @return A {@link Duration}, thirty seconds by default.
+   */
+  @Value.Default
+  default Duration notFoundTimeToLive() {
+    return Duration.ofSeconds(30);
+  }
+
+  /**
+   * How long a resolution which is no longer fresh is still served while it is refreshed in the background.
+   *
+   * @return A {@link Duration}, one minute by default.
+   */
+  @Value.Default
+  default Duration staleWhileRevalidate() {
+    return Duration.ofMinutes(1);
+  }
+
+  /**
+   * Validate these settings.
+   */
+  @Value.Check
+  default void validate() {
+    Preconditions.checkArgument(!defaultTimeToLive().isNegative(), "defaultTimeToLive must not be negative");
+    Preconditions.checkArgument(!maximumTimeToLive().isNegative(), "maximumTimeToLive must not be negative");
+    Preconditions.checkArgument(!notFoundTimeToLive().isNegative(), "notFoundTimeToLive must not be negative");
+    Preconditions.checkArgument(!staleWhileRevalidate().isNegative(), "staleWhileRevalidate must not be negative");
+  }
+}
@@ -1,35 +1,107 @@
 package io.xpring.payid;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.gson.reflect.TypeToken;
-import io.xpring.payid.generated.ApiClient;
-import io.xpring.payid.generated.ApiException;
-import io.xpring.payid.generated.ApiResponse;
-import io.xpring.payid.generated.Pair;
+import com.google.common.base.Preconditions;
 import io.xpring.payid.generated.model.Address;
 import io.xpring.payid.generated.model.CryptoAddressDetails;
-import io.xpring.payid.generated.model.PaymentInformation;
+import io.xpring.xrpl.BulkResultListener;
+import okhttp3.CacheControl;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
 
 /**
  * Implements interaction with PayID.
+ * <p>
+ * Each client keeps one HTTP client for its whole life. Connections to a PayID host are kept alive and reused, HTTP/2
+ * is used where the host supports it, and TLS sessions are resumed, so repeated lookups against the same host cost one
+ * round trip each.
+ * </p><p>
+ * A client created with a {@link PayIdCache} keeps resolutions in it for as long as its {@link PayIdCacheSettings}
+ * allow, including PayIDs which were not found. A resolution which is no longer fresh is served while it is refreshed
+ * in the background, and concurrent lookups of a PayID which is not cached share a single request.
+ * </p><p>
+ * Each lookup also has a variant which returns a {@link CompletableFuture} instead of blocking, and a bulk variant
+ * which resolves many PayIDs with a bounded number of lookups in flight to each host. That per-host bound is the only
+ * limit a client applies: it does not limit the number of lookups in flight across all hosts, so asynchronous lookups
+ * started outside a bulk method are limited by their caller.
+ * </p>
  */
 @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
 public class PayIdClient {
+  /**
+   * The default time allowed to connect to a PayID host.
+   */
+  public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+  /**
+   * The default time allowed between bytes of a response from a PayID host.
+   */
+  public static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(10);
+
   /**
    * The version of PayID.
    */
   private static final String PAY_ID_VERSION = "1.0";
 
   /**
-   * Whether to enable SSL Verification.
+   * The HTTP client used when SSL verification is enabled.
+   */
+  private final OkHttpClient verifyingHttpClient;
+
+  /**
+   * The HTTP client lookups are sent with.
+   */
+  private volatile OkHttpClient httpClient;
+
+  /**
+   * Where resolutions are cached, or null if they are not.
+   */
+  private final PayIdCache cache;
+
+  private final PayIdCacheSettings cacheSettings;
+
+  private final Clock clock;
+
+  /**
+   * Resolutions which are currently in flight, keyed by cache key.
    */
-  private boolean enableSSLVerification;
+  private final ConcurrentMap<String, CompletableFuture<PayIdCacheEntry>> inFlightResolutions =
+      new ConcurrentHashMap<>();
 
   /**
    * Initialize a new PayID client.
@@ -42,7 +114,105 @@ public class PayIdClient {
    *  TODO: Link a canonical list at payid.org when available.
    */
   public PayIdClient() {
-    this.enableSSLVerification = true;
+    this(PayIdConnectionSettings.defaults());
+  }
+
+  /**
+   * Initialize a new PayID client with the given timeouts.
+   *
+   * @param connectTimeout The time allowed to connect to a PayID host.
+   * @param readTimeout The time allowed between bytes of a response from a PayID host.
+   */
+  public PayIdClient(Duration connectTimeout, Duration readTimeout) {
+    this(connectionSettings(connectTimeout, readTimeout));
+  }
+
+  /**
+   * Initialize a new PayID client with the given connection settings.
+   *
+   * @param connectionSettings The {@link PayIdConnectionSettings} which control how PayID hosts are connected to.
+   */
+  public PayIdClient(PayIdConnectionSettings connectionSettings) {
+    this(connectionSettings, null, PayIdCacheSettings.defaults(), Clock.systemUTC());
+  }
+
+  /**
+   * Initialize a new PayID client which caches resolutions.
+   *
+   * @param cache The {@link PayIdCache} to keep resolutions in.
+   * @param cacheSettings The {@link PayIdCacheSettings} which control how long resolutions are kept.
+   */
+  public PayIdClient(PayIdCache cache, PayIdCacheSettings cacheSettings) {
+    this(PayIdConnectionSettings.defaults(), cache, cacheSettings);
+  }
+
+  /**
+   * Initialize a new PayID client with the given timeouts which caches resolutions.
+   *
+   * @param connectTimeout The time allowed to connect to a PayID host.
+   * @param readTimeout The time allowed between bytes of a response from a PayID host.
+   * @param cache The {@link PayIdCache} to keep resolutions in.
+   * @param cacheSettings The {@link PayIdCacheSettings} which control how long resolutions are kept.
+   */
+  public PayIdClient(
+      Duration connectTimeout,
+      Duration readTimeout,
+      PayIdCache cache,
+      PayIdCacheSettings cacheSettings
+  ) {
+    this(connectionSettings(connectTimeout, readTimeout), cache, cacheSettings);
+  }
+
+  /**
+   * Initialize a new PayID client with the given connection settings which caches resolutions.
+   *
+   * @param connectionSettings The {@link PayIdConnectionSettings} which control how PayID hosts are connected to.
+   * @param cache The {@link PayIdCache} to keep resolutions in.
+   * @param cacheSettings The {@link PayIdCacheSettings} which control how long resolutions are kept.
+   */
+  public PayIdClient(
+      PayIdConnectionSettings connectionSettings,
+      PayIdCache cache,
+      PayIdCacheSettings cacheSettings
+  ) {
+    this(connectionSettings, Objects.requireNonNull(cache), cacheSettings, Clock.systemUTC());
+  }
+
+  @VisibleForTesting
+  PayIdClient(
+      PayIdConnectionSettings connectionSettings,
+      PayIdCache cache,
+      PayIdCacheSettings cacheSettings,
+      Clock clock
+  ) {
+    Objects.requireNonNull(connectionSettings);
+
+    this.cache = cache;
+    this.cacheSettings = Objects.requireNonNull(cacheSettings);
+    this.clock = Objects.requireNonNull(clock);
+    // Lookups in flight are limited per host by the bulk methods, and by the caller otherwise, so the dispatcher
+    // imposes no limit of its own.
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(Integer.MAX_VALUE);
+    dispatcher.setMaxRequestsPerHost(Integer.MAX_VALUE);
+    this.verifyingHttpClient = new OkHttpClient.Builder()
+        .dispatcher(dispatcher)
+        .connectionPool(new ConnectionPool(
+            connectionSettings.maximumIdleConnections(),
+            connectionSettings.keepAlive().toNanos(),
+            TimeUnit.NANOSECONDS
+        ))
+        .connectTimeout(connectionSettings.connectTimeout())
+        .readTimeout(connectionSettings.readTimeout())
+        .build();
+    this.httpClient = verifyingHttpClient;
+  }
+
+  private static PayIdConnectionSettings connectionSettings(Duration connectTimeout, Duration readTimeout) {
+    return PayIdConnectionSettings.builder()
+        .connectTimeout(connectTimeout)
+        .readTimeout(readTimeout)
+        .build();
   }
 
   /**
@@ -53,7 +223,17 @@ public class PayIdClient {
    */
   @VisibleForTesting
   public void setEnableSSLVerification(boolean enableSSLVerification) {
-    this.enableSSLVerification = enableSSLVerification;
+    this.httpClient = enableSSLVerification ? verifyingHttpClient : trustingAllCertificates(verifyingHttpClient);
+  }
+
+  /**
+   * The HTTP client lookups are sent with.
+   *
+   * @return The {@link OkHttpClient} this client uses.
+   */
+  @VisibleForTesting
+  OkHttpClient getHttpClient() {
+    return httpClient;
   }
 
   /**
@@ -65,17 +245,55 @@ public class PayIdClient {
    * @throws PayIdException if the PayID is invalid or more than one address is returned.
    */
   public CryptoAddressDetails cryptoAddressForPayId(String payId, String network) throws PayIdException {
-    List<Address> addresses = this.addressesForPayIdAndNetwork(payId, network);
+    return singleAddress(this.addressesForPayIdAndNetwork(payId, network), payId, network);
+  }
 
-    // With a specific network, exactly one address should be returned by a PayID lookup.
-    if (addresses.size() == 1) {
-      return addresses.get(0).getAddressDetails();
-    } else {
-      // With a specific network, exactly one address should be returned by a PayID lookup.
-      throw new PayIdException(PayIdExceptionType.UNEXPECTED_RESPONSE,
-              "Expected one address for " + payId + " on network " + network
-                      + " but got " + addresses.size());
-    }
+  /**
+   * Retrieve the crypto address associated with a PayID without blocking.
+   *
+   * @param payId The PayID to resolve.
+   * @param network The network to resolve on.
+   * @return A {@link CompletableFuture} which completes with a {@link CryptoAddressDetails} containing address
+   *         information for the given PayID, or exceptionally with a {@link PayIdException} if the PayID is invalid or
+   *         more than one address is returned.
+   */
+  public CompletableFuture<CryptoAddressDetails> cryptoAddressForPayIdAsync(String payId, String network) {
+    return this.addressesForPayIdAndNetworkAsync(payId, network)
+        .thenApply(addresses -> {
+          try {
+            return singleAddress(addresses, payId, network);
+          } catch (PayIdException exception) {
+            throw new CompletionException(exception);
+          }
+        });
+  }
+
+  /**
+   * Retrieve the crypto addresses associated with many PayIDs, reporting each one as soon as it is resolved.
+   * <p>
+   * Duplicate PayIDs are resolved once. PayIDs are grouped by host, and each host has at most
+   * {@code maximumConcurrentRequestsPerHost} lookups in flight, so the time taken is bounded by the slowest host
+   * rather than by the number of PayIDs. Returns once every PayID has been reported.
+   * </p>
+   *
+   * @param payIds The PayIDs to resolve.
+   * @param network The network to resolve on.
+   * @param maximumConcurrentRequestsPerHost The maximum number of lookups to have in flight to any one host.
+   * @param listener A {@link BulkResultListener} which receives the address of each PayID.
+   * @throws PayIdException If the thread was interrupted while waiting for responses.
+   */
+  public void cryptoAddressesForPayIds(
+      Collection<String> payIds,
+      String network,
+      int maximumConcurrentRequestsPerHost,
+      BulkResultListener<CryptoAddressDetails> listener
+  ) throws PayIdException {
+    this.resolveAll(
+        payIds,
+        maximumConcurrentRequestsPerHost,
+        payId -> this.cryptoAddressForPayIdAsync(payId, network),
+        listener
+    );
   }
 
   /**
@@ -86,7 +304,156 @@ public class PayIdClient {
    * @throws PayIdException if the given PayID is invalid.
    */
   public List<Address> allAddressesForPayId(String payId) throws PayIdException {
-    return this.addressesForPayIdAndNetwork(payId, "payid");
+    return this.addressesForPayIdAndNetwork(payId, PayIdResponseDecoder.ALL_NETWORKS);
+  }
+
+  /**
+   * Retrieve all addresses associated with a PayID without blocking.
+   *
+   * @param payId The PayID to resolve.
+   * @return A {@link CompletableFuture} which completes with a list of all {@link Address}es associated with the given
+   *         PayID, or exceptionally with a {@link PayIdException} if the given PayID is invalid.
+   */
+  public CompletableFuture<List<Address>> allAddressesForPayIdAsync(String payId) {
+    return this.addressesForPayIdAndNetworkAsync(payId, PayIdResponseDecoder.ALL_NETWORKS);
+  }
+
+  /**
+   * Retrieve all addresses associated with many PayIDs, reporting each one as soon as it is resolved.
+   * <p>
+   * Duplicate PayIDs are resolved once. PayIDs are grouped by host, and each host has at most
+   * {@code maximumConcurrentRequestsPerHost} lookups in flight. Returns once every PayID has been reported.
+   * </p>
+   *
+   * @param payIds The PayIDs to resolve.
+   * @param maximumConcurrentRequestsPerHost The maximum number of lookups to have in flight to any one host.
+   * @param listener A {@link BulkResultListener} which receives the addresses of each PayID.
+   * @throws PayIdException If the thread was interrupted while waiting for responses.
+   */
+  public void allAddressesForPayIds(
+      Collection<String> payIds,
+      int maximumConcurrentRequestsPerHost,
+      BulkResultListener<List<Address>> listener
+  ) throws PayIdException {
+    this.resolveAll(payIds, maximumConcurrentRequestsPerHost, this::allAddressesForPayIdAsync, listener);
+  }
+
+  /**
+   * Resolve many PayIDs concurrently and report each one to the listener as soon as it is resolved. Returns once every
+   * PayID has been reported.
+   *
+   * @param payIds The PayIDs to resolve.
+   * @param maximumConcurrentRequestsPerHost The maximum number of lookups to have in flight to any one host.
+   * @param resolver Starts the resolution of a single PayID.
+   * @param listener A {@link BulkResultListener} which receives each result.
+   * @param <T> The type of the reported result.
+   * @throws PayIdException If the thread was interrupted while waiting for responses.
+   */
+  protected <T> void resolveAll(
+      Collection<String> payIds,
+      int maximumConcurrentRequestsPerHost,
+      Function<String, CompletableFuture<T>> resolver,
+      BulkResultListener<T> listener
+  ) throws PayIdException {
+    Objects.requireNonNull(payIds);
+    Objects.requireNonNull(resolver);
+    Objects.requireNonNull(listener);
+    Preconditions.checkArgument(
+        maximumConcurrentRequestsPerHost > 0,
+        "maximumConcurrentRequestsPerHost must be positive"
+    );
+
+    Map<String, Queue<String>> payIdsByHost = new LinkedHashMap<>();
+    int payIdCount = 0;
+    for (String payId : new LinkedHashSet<>(payIds)) {
+      PayIdComponents paymentPointer = PayIdUtils.parsePayID(payId);
+      if (paymentPointer == null) {
+        listener.onError(payId, PayIdException.invalidPaymentPointerException);
+        continue;
+      }
+      payIdsByHost
+          .computeIfAbsent(paymentPointer.host().toLowerCase(Locale.ROOT), host -> new ConcurrentLinkedQueue<>())
+          .add(payId);
+      payIdCount++;
+    }
+
+    // Each host works through its own queue, so a slow host never holds up the others.
+    CountDownLatch remaining = new CountDownLatch(payIdCount);
+    for (Queue<String> hostPayIds : payIdsByHost.values()) {
+      for (int i = 0; i < maximumConcurrentRequestsPerHost; i++) {
+        resolveNext(hostPayIds, resolver, listener, remaining);
+      }
+    }
+
+    try {
+      remaining.await();
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new PayIdException(PayIdExceptionType.UNKNOWN, "Interrupted while resolving PayIDs.");
+    }
+  }
+
+  /**
+   * Resolve PayIDs from a host's queue one after another until the queue is empty.
+   *
+   * @param hostPayIds The PayIDs on the host which have not been started yet.
+   * @param resolver Starts the resolution of a single PayID.
+   * @param listener A {@link BulkResultListener} which receives each result.
+   * @param remaining Counts the PayIDs which have not been reported yet.
+   * @param <T> The type of the reported result.
+   */
+  private static <T> void resolveNext(
+      Queue<String> hostPayIds,
+      Function<String, CompletableFuture<T>> resolver,
+      BulkResultListener<T> listener,
+      CountDownLatch remaining
+  ) {
+    String payId;
+    while ((payId = hostPayIds.poll()) != null) {
+      final String resolvedPayId = payId;
+      final CompletableFuture<T> result = start(resolvedPayId, resolver);
+
+      // Results served from the cache are reported in this loop rather than by recursing, to bound the stack depth.
+      if (result.isDone()) {
+        report(resolvedPayId, result, listener, remaining);
+      } else {
+        result.whenComplete((value, throwable) -> {
+          report(resolvedPayId, result, listener, remaining);
+          resolveNext(hostPayIds, resolver, listener, remaining);
+        });
+        return;
+      }
+    }
+  }
+
+  /**
+   * Start the resolution of a PayID, capturing any exception thrown while starting it.
+   */
+  private static <T> CompletableFuture<T> start(String payId, Function<String, CompletableFuture<T>> resolver) {
+    try {
+      return resolver.apply(payId);
+    } catch (RuntimeException exception) {
+      return failedFuture(exception);
+    }
+  }
+
+  /**
+   * Report a completed resolution to the listener.
+   */
+  private static <T> void report(
+      String payId,
+      CompletableFuture<T> result,
+      BulkResultListener<T> listener,
+      CountDownLatch remaining
+  ) {
+    try {
+      listener.onSuccess(payId, result.join());
+    } catch (CompletionException exception) {
+      Throwable cause = exception.getCause();
+      listener.onError(payId, cause instanceof Exception ? (Exception) cause : new RuntimeException(cause));
+    } finally {
+      remaining.countDown();
+    }
   }
 
   /**
@@ -101,63 +468,408 @@ public class PayIdClient {
     if (paymentPointer == null) {
       throw PayIdException.invalidPaymentPointerException;
     }
+    Request request = lookupRequest(paymentPointer, network);
 
-    ApiClient apiClient = new ApiClient();
-    apiClient.setBasePath("https://" + paymentPointer.host());
-    apiClient.setVerifyingSsl(enableSSLVerification);
+    if (this.cache == null) {
+      return addressesOf(this.fetch(request), payId, network);
+    }
 
-    String path = paymentPointer.path().substring(1);
-    final String[] localVarAccepts = {
-        "application/" + network + "+json"
-    };
+    String key = cacheKey(paymentPointer, network);
+    PayIdCacheEntry entry = this.cachedEntry(key, request);
+    return addressesOf(entry != null ? entry : this.resolve(key, request), payId, network);
+  }
+
+  /**
+   * Return a list of {@link Address}es for the given payId on the given network without blocking.
+   *
+   * @param payId The PayID to resolve.
+   * @param network The network to resolve on.
+   * @return A {@link CompletableFuture} which completes with a list of {@link Address}es for the given payId on the
+   *         given network.
+   */
+  private CompletableFuture<List<Address>> addressesForPayIdAndNetworkAsync(String payId, String network) {
+    PayIdComponents paymentPointer = PayIdUtils.parsePayID(payId);
+    if (paymentPointer == null) {
+      return failedFuture(PayIdException.invalidPaymentPointerException);
+    }
+    Request request;
+    try {
+      request = lookupRequest(paymentPointer, network);
+    } catch (PayIdException exception) {
+      return failedFuture(exception);
+    }
+
+    CompletableFuture<PayIdCacheEntry> entry;
+    if (this.cache == null) {
+      entry = this.fetchAsync(request);
+    } else {
+      String key = cacheKey(paymentPointer, network);
+      PayIdCacheEntry cachedEntry = this.cachedEntry(key, request);
+      entry = cachedEntry != null ? CompletableFuture.completedFuture(cachedEntry) : this.resolveAsync(key, request);
+    }
+    return entry.thenApply(resolvedEntry -> {
+      try {
+        return addressesOf(resolvedEntry, payId, network);
+      } catch (PayIdException exception) {
+        throw new CompletionException(exception);
+      }
+    });
+  }
+
+  /**
+   * Build the lookup for a PayID on a network.
+   *
+   * @param paymentPointer The components of the PayID.
+   * @param network The network to resolve on.
+   * @return A {@link Request} for the PayID's addresses.
+   * @throws PayIdException If the host of the PayID is not a valid host.
+   */
+  private static Request lookupRequest(PayIdComponents paymentPointer, String network) throws PayIdException {
+    HttpUrl url = HttpUrl.parse("https://" + paymentPointer.host());
+    if (url == null) {
+      throw PayIdException.invalidPaymentPointerException;
+    }
+    return new Request.Builder()
+        .url(url.newBuilder().addPathSegment(paymentPointer.path().substring(1)).build())
+        .header("Accept", "application/" + network + "+json")
+        .header("Content-Type", "application/json")
+        .header("PayID-Version", PayIdClient.PAY_ID_VERSION)
+        .tag(String.class, network)
+        .get()
+        .build();
+  }
 
-    // NOTE: Swagger produces a higher level client that does not require this level of configuration,
-    // however access to Accept headers is not available unless we access the underlying class.
-    // TODO(keefertaylor): Factor this out to a helper function to make it clear which inputs matter.
+  /**
+   * Look up a resolution in the cache. A stale resolution is refreshed in the background, and an expired one is
+   * removed.
+   *
+   * @param key The cache key of the resolution.
+   * @param request The lookup to refresh a stale resolution with.
+   * @return The cached {@link PayIdCacheEntry}, or null if there is none which may be served.
+   */
+  private PayIdCacheEntry cachedEntry(String key, Request request) {
+    PayIdCacheEntry entry = this.cache.getIfPresent(key);
+    if (entry == null) {
+      return null;
+    }
 
-    String localVarPath = "/" + apiClient.escapeString(path.toString());
-    List<Pair> localVarQueryParams = new ArrayList<Pair>();
-    List<Pair> localVarCollectionQueryParams = new ArrayList<Pair>();
-    Map<String, String> localVarHeaderParams = new HashMap<String, String>();
-    Map<String, Object> localVarFormParams = new HashMap<String, Object>();
-    final String localVarAccept = apiClient.selectHeaderAccept(localVarAccepts);
-    if (localVarAccept != null) {
-      localVarHeaderParams.put("Accept", localVarAccept);
+    Instant now = this.clock.instant();
+    if (entry.isFresh(now)) {
+      return entry;
     }
-    final String[] localVarContentTypes = {};
-    final String localVarContentType = apiClient.selectHeaderContentType(localVarContentTypes);
-    localVarHeaderParams.put("Content-Type", localVarContentType);
-    localVarHeaderParams.put("PayID-Version", PayIdClient.PAY_ID_VERSION);
+    if (now.isBefore(entry.expiresAt().plus(this.cacheSettings.staleWhileRevalidate()))) {
+      // A failed refresh leaves the stale resolution in place.
+      this.resolveAsync(key, request);
+      return entry;
+    }
+    this.cache.invalidate(key);
+    return null;
+  }
+
+  /**
+   * Fetch and cache a resolution, or join an identical resolution which is already in flight.
+   *
+   * @param key The cache key of the resolution.
+   * @param request The lookup to send.
+   * @return The resolved {@link PayIdCacheEntry}.
+   */
+  private PayIdCacheEntry resolve(String key, Request request) throws PayIdException {
+    CompletableFuture<PayIdCacheEntry> pendingResolution = new CompletableFuture<>();
+    CompletableFuture<PayIdCacheEntry> inFlightResolution =
+        this.inFlightResolutions.putIfAbsent(key, pendingResolution);
 
-    String[] localVarAuthNames = new String[]{};
+    // Another thread is already resolving this PayID, wait for its result.
+    if (inFlightResolution != null) {
+      try {
+        return inFlightResolution.join();
+      } catch (CompletionException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof PayIdException) {
+          throw (PayIdException) cause;
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw exception;
+      }
+    }
 
+    // This thread leads the resolution. Waiting threads must always be released, whatever the outcome.
     try {
-      com.squareup.okhttp.Call call = apiClient.buildCall(
-              localVarPath,
-              "GET",
-              localVarQueryParams,
-              localVarCollectionQueryParams,
-              null,
-              localVarHeaderParams,
-              localVarFormParams,
-              localVarAuthNames,
-              null
-      );
-      Type localVarReturnType = new TypeToken<PaymentInformation>() {
-      }.getType();
-      ApiResponse<PaymentInformation> response = apiClient.execute(call, localVarReturnType);
-      PaymentInformation result = response.getData();
-      return result.getAddresses();
-    } catch (ApiException exception) {
-      int code = exception.getCode();
-      if (code == 404) {
-        throw new PayIdException(
-                PayIdExceptionType.MAPPING_NOT_FOUND,
-                "Could not resolve " + payId + " on network " + network
+      PayIdCacheEntry entry = this.fetch(request);
+      this.store(key, entry);
+      pendingResolution.complete(entry);
+      return entry;
+    } catch (Throwable throwable) {
+      pendingResolution.completeExceptionally(throwable);
+      throw throwable;
+    } finally {
+      this.inFlightResolutions.remove(key, pendingResolution);
+    }
+  }
+
+  /**
+   * Fetch and cache a resolution without blocking, or join an identical resolution which is already in flight.
+   *
+   * @param key The cache key of the resolution.
+   * @param request The lookup to send.
+   * @return A {@link CompletableFuture} which completes with the resolved {@link PayIdCacheEntry}.
+   */
+  private CompletableFuture<PayIdCacheEntry> resolveAsync(String key, Request request) {
+    CompletableFuture<PayIdCacheEntry> pendingResolution = new CompletableFuture<>();
+    CompletableFuture<PayIdCacheEntry> inFlightResolution =
+        this.inFlightResolutions.putIfAbsent(key, pendingResolution);
+    if (inFlightResolution != null) {
+      return inFlightResolution;
+    }
+
+    this.fetchAsync(request).whenComplete((entry, throwable) -> {
+      try {
+        if (throwable == null) {
+          this.store(key, entry);
+          pendingResolution.complete(entry);
+        } else {
+          pendingResolution.completeExceptionally(throwable);
+        }
+      } finally {
+        this.inFlightResolutions.remove(key, pendingResolution);
+      }
+    });
+    return pendingResolution;
+  }
+
+  /**
+   * Send a lookup and wait for its response.
+   *
+   * @param request The lookup to send.
+   * @return A {@link PayIdCacheEntry} for the response.
+   */
+  private PayIdCacheEntry fetch(Request request) throws PayIdException {
+    try (Response response = httpClient.newCall(request).execute()) {
+      return this.toEntry(response);
+    } catch (IOException exception) {
+      throw new PayIdException(PayIdExceptionType.UNEXPECTED_RESPONSE, exception.getMessage());
+    }
+  }
+
+  /**
+   * Send a lookup without waiting for its response.
+   *
+   * @param request The lookup to send.
+   * @return A {@link CompletableFuture} which completes with a {@link PayIdCacheEntry} for the response.
+   */
+  private CompletableFuture<PayIdCacheEntry> fetchAsync(Request request) {
+    CompletableFuture<PayIdCacheEntry> entry = new CompletableFuture<>();
+    this.httpClient.newCall(request).enqueue(new Callback() {
+      @Override
+      public void onFailure(Call call, IOException exception) {
+        entry.completeExceptionally(
+            new PayIdException(PayIdExceptionType.UNEXPECTED_RESPONSE, exception.getMessage())
         );
+      }
+
+      @Override
+      public void onResponse(Call call, Response response) {
+        try (Response closedResponse = response) {
+          entry.complete(toEntry(closedResponse));
+        } catch (PayIdException exception) {
+          entry.completeExceptionally(exception);
+        } catch (IOException exception) {
+          entry.completeExceptionally(
+              new PayIdException(PayIdExceptionType.UNEXPECTED_RESPONSE, exception.getMessage())
+          );
+        } catch (RuntimeException exception) {
+          entry.completeExceptionally(exception);
+        }
+      }
+    });
+    return entry;
+  }
+
+  /**
+   * Read the response to a lookup.
+   *
+   * @param response The response, which the caller closes. Its request is tagged with the network it resolves on.
+   * @return A {@link PayIdCacheEntry} which is fresh for as long as the response allows.
+   * @throws PayIdException If the response was neither a set of addresses nor a 404.
+   */
+  private PayIdCacheEntry toEntry(Response response) throws PayIdException, IOException {
+    Instant now = this.clock.instant();
+    int code = response.code();
+    if (code == 404) {
+      return PayIdCacheEntry.notFound(now.plus(this.cacheSettings.notFoundTimeToLive()));
+    } else if (!response.isSuccessful()) {
+      throw new PayIdException(PayIdExceptionType.UNEXPECTED_RESPONSE, code + ": " + response.message());
+    }
+
+    ResponseBody body = response.body();
+    String network = response.request().tag(String.class);
+    List<Address> addresses = body == null ? null : PayIdResponseDecoder.decodeAddresses(body.byteStream(), network);
+    if (addresses == null) {
+      throw new PayIdException(PayIdExceptionType.UNEXPECTED_RESPONSE, code + ": Response had no addresses");
+    }
+    return PayIdCacheEntry.found(addresses, now.plus(this.timeToLive(response, now)));
+  }
+
+  /**
+   * Determine how long a response stays fresh from its {@code Cache-Control}, {@code Age}, {@code Expires} and
+   * {@code Date} headers, bounded by the cache settings.
+   *
+   * @param response The response.
+   * @param now The time the response was received.
+   * @return A non-negative {@link Duration}, zero if the response must not be cached.
+   */
+  private Duration timeToLive(Response response, Instant now) {
+    CacheControl cacheControl = response.cacheControl();
+    Duration timeToLive;
+    if (cacheControl.noStore() || cacheControl.noCache()) {
+      timeToLive = Duration.ZERO;
+    } else if (cacheControl.maxAgeSeconds() >= 0) {
+      timeToLive = Duration.ofSeconds(cacheControl.maxAgeSeconds()).minus(age(response));
+    } else {
+      Date expires = response.headers().getDate("Expires");
+      if (expires == null) {
+        timeToLive = this.cacheSettings.defaultTimeToLive();
       } else {
-        throw new PayIdException(PayIdExceptionType.UNEXPECTED_RESPONSE, code + ": " + exception.getMessage());
+        Date date = response.headers().getDate("Date");
+        timeToLive = Duration.between(date == null ? now : date.toInstant(), expires.toInstant());
       }
     }
+
+    if (timeToLive.isNegative()) {
+      return Duration.ZERO;
+    }
+    Duration maximumTimeToLive = this.cacheSettings.maximumTimeToLive();
+    return timeToLive.compareTo(maximumTimeToLive) > 0 ? maximumTimeToLive : timeToLive;
+  }
+
+  /**
+   * Read the {@code Age} header of a response.
+   *
+   * @param response The response.
+   * @return The {@link Duration} the response had been cached for upstream, or zero if it is absent or malformed.
+   */
+  private static Duration age(Response response) {
+    String age = response.header("Age");
+    if (age == null) {
+      return Duration.ZERO;
+    }
+    try {
+      return Duration.ofSeconds(Long.parseLong(age.trim()));
+    } catch (NumberFormatException exception) {
+      return Duration.ZERO;
+    }
+  }
+
+  /**
+   * Cache a resolution, unless it is no longer fresh, as when its response did not allow caching.
+   *
+   * @param key The cache key of the resolution.
+   * @param entry The resolution.
+   */
+  private void store(String key, PayIdCacheEntry entry) {
+    if (entry.isFresh(this.clock.instant())) {
+      this.cache.put(key, entry);
+    } else {
+      this.cache.invalidate(key);
+    }
+  }
+
+  /**
+   * The addresses of a resolution.
+   *
+   * @param entry The resolution.
+   * @param payId The PayID which was resolved.
+   * @param network The network it was resolved on.
+   * @return The {@link Address}es the PayID resolved to.
+   * @throws PayIdException If the PayID was not found.
+   */
+  private static List<Address> addressesOf(PayIdCacheEntry entry, String payId, String network)
+      throws PayIdException {
+    return entry.addresses().orElseThrow(() -> new PayIdException(
+        PayIdExceptionType.MAPPING_NOT_FOUND,
+        "Could not resolve " + payId + " on network " + network
+    ));
+  }
+
+  /**
+   * The single address of a PayID on a specific network.
+   *
+   * @param addresses The addresses the PayID resolved to.
+   * @param payId The PayID which was resolved.
+   * @param network The network it was resolved on.
+   * @return The {@link CryptoAddressDetails} of the only address.
+   * @throws PayIdException If there is not exactly one address.
+   */
+  private static CryptoAddressDetails singleAddress(List<Address> addresses, String payId, String network)
+      throws PayIdException {
+    // With a specific network, exactly one address should be returned by a PayID lookup.
+    if (addresses.size() == 1) {
+      return addresses.get(0).getAddressDetails();
+    } else {
+      throw new PayIdException(PayIdExceptionType.UNEXPECTED_RESPONSE,
+              "Expected one address for " + payId + " on network " + network
+                      + " but got " + addresses.size());
+    }
+  }
+
+  /**
+   * Create a future which has already failed.
+   *
+   * @param exception The exception the future fails with.
+   * @param <T> The type of the future's result.
+   * @return A {@link CompletableFuture} which has completed exceptionally.
+   */
+  static <T> CompletableFuture<T> failedFuture(Throwable exception) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(exception);
+    return future;
+  }
+
+  /**
+   * Build the cache key of a PayID on a network. PayIDs are case insensitive, so equivalent PayIDs share a key.
+   *
+   * @param paymentPointer The components of the PayID.
+   * @param network The network the PayID is resolved on.
+   * @return A key which identifies the normalized PayID on the network.
+   */
+  private static String cacheKey(PayIdComponents paymentPointer, String network) {
+    return network.toLowerCase(Locale.ROOT)
+        + ' ' + AbstractPayId.upperCasePercentEncoded(paymentPointer.path().toLowerCase(Locale.ROOT))
+        + '$' + AbstractPayId.upperCasePercentEncoded(paymentPointer.host().toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Create a client which shares connections with the given client but trusts any certificate.
+   *
+   * @param httpClient The client to copy.
+   * @return A client which does not verify certificates or host names.
+   */
+  private static OkHttpClient trustingAllCertificates(OkHttpClient httpClient) {
+    X509TrustManager trustManager = new X509TrustManager() {
+      @Override
+      public void checkClientTrusted(X509Certificate[] chain, String authType) {
+      }
+
+      @Override
+      public void checkServerTrusted(X509Certificate[] chain, String authType) {
+      }
+
+      @Override
+      public X509Certificate[] getAcceptedIssuers() {
+        return new X509Certificate[0];
+      }
+    };
+    try {
+      SSLContext sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(null, new TrustManager[] {trustManager}, new SecureRandom());
+      return httpClient.newBuilder()
+          .sslSocketFactory(sslContext.getSocketFactory(), trustManager)
+          .hostnameVerifier((hostname, session) -> true)
+          .build();
+    } catch (GeneralSecurityException exception) {
+      throw new IllegalStateException(exception);
+    }
   }
 }
@@ -0,0 +1,80 @@
+package io.xpring.payid;
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * Controls how a {@link PayIdClient} connects to PayID hosts.
+ * <p>
+ * Idle connections are kept for reuse across all hosts, so a client which resolves PayIDs on many hosts, such as with
+ * {@link PayIdClient#allAddressesForPayIds}, should keep at least one idle connection per host it resolves on.
+ * </p>
+ */
+@Value.Immutable
+public interface PayIdConnectionSettings {
+  static ImmutablePayIdConnectionSettings.Builder builder() {
+    return ImmutablePayIdConnectionSettings.builder();
+  }
+
+  /**
+   * Settings with every default applied.
+   *
+   * @return The default {@link PayIdConnectionSettings}.
+   */
+  static PayIdConnectionSettings defaults() {
+    return builder().build();
+  }
+
+  /**
+   * The time allowed to connect to a PayID host.
+   *
+   * @return A {@link Duration}, {@link PayIdClient#DEFAULT_CONNECT_TIMEOUT} by default.
+   */
+  @Value.Default
+  default Duration connectTimeout() {
+    return PayIdClient.DEFAULT_CONNECT_TIMEOUT;
+  }
+
+  /**
+   * The time allowed between bytes of a response from a PayID host.
+   *
+   * @return A {@link Duration}, {@link PayIdClient#DEFAULT_READ_TIMEOUT} by default.
+   */
+  @Value.Default
+  default Duration readTimeout() {
+    return PayIdClient.DEFAULT_READ_TIMEOUT;
+  }
+
+  /**
+   * The number of idle connections kept alive for reuse, across all hosts.
+   *
+   * @return A number of connections, 256 by default.
+   */
+  @Value.Default
+  default int maximumIdleConnections() {
+    return 256;
+  }
+
+  /**
+   * How long an idle connection is kept alive.
+   *
+   * @return A {@link Duration}, five minutes by default.
+   */
+  @Value.Default
+  default Duration keepAlive() {
+    return Duration.ofMinutes(5);
+  }
+
+  /**
+   * Validate these settings.
+   */
+  @Value.Check
+  default void validate() {
+    Preconditions.checkArgument(!connectTimeout().isNegative(), "connectTimeout must not be negative");
+    Preconditions.checkArgument(!readTimeout().isNegative(), "readTimeout must not be negative");
+    Preconditions.checkArgument(maximumIdleConnections() >= 0, "maximumIdleConnections must not be negative");
+    Preconditions.checkArgument(!keepAlive().isNegative() && !keepAlive().isZero(), "keepAlive must be positive");
+  }
+}
@@ -0,0 +1,225 @@
+package io.xpring.payid;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import io.xpring.payid.generated.model.Address;
+import io.xpring.payid.generated.model.CryptoAddressDetails;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the addresses in a PayID response with a streaming JSON parser.
+ * <p>
+ * Only the {@code addresses} array is read. Everything after it, such as verified addresses and signatures, is never
+ * parsed, and any other field is skipped without being decoded. Field names may be unquoted and strings may be single
+ * quoted, as the generated Gson client accepted.
+ * </p>
+ */
+final class PayIdResponseDecoder {
+  /**
+   * The network which resolves to every address of a PayID.
+   */
+  static final String ALL_NETWORKS = "payid";
+
+  /**
+   * Creates parsers. A factory is thread safe, so one instance is shared.
+   */
+  private static final JsonFactory jsonFactory = JsonFactory.builder()
+      .enable(JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES)
+      .enable(JsonReadFeature.ALLOW_SINGLE_QUOTES)
+      .build();
+
+  /**
+   * Please do not initialize this static utility class.
+   */
+  private PayIdResponseDecoder() {
+  }
+
+  /**
+   * Decode the addresses for a network from a PayID response.
+   * <p>
+   * For {@link #ALL_NETWORKS}, every address is returned. For a specific network, such as {@code xrpl-testnet}, only
+   * addresses on that payment network and environment are returned, along with any address which does not name its
+   * network. Since exactly one address is expected, decoding stops as soon as a second one is found.
+   * </p>
+   *
+   * @param body The body of the response.
+   * @param network The network the PayID was resolved on.
+   * @return The matching {@link Address}es, or null if the response has no addresses.
+   * @throws IOException If the body could not be read or is not valid JSON.
+   */
+  static List<Address> decodeAddresses(InputStream body, String network) throws IOException {
+    NetworkFilter filter = new NetworkFilter(network);
+    try (JsonParser parser = jsonFactory.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected a PayID response object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if (!"addresses".equals(fieldName)) {
+          parser.skipChildren();
+          continue;
+        }
+        if (value == JsonToken.VALUE_NULL) {
+          return null;
+        } else if (value != JsonToken.START_ARRAY) {
+          throw new JsonParseException(parser, "Expected an array of addresses");
+        }
+        return decodeAddressArray(parser, filter);
+      }
+      return null;
+    }
+  }
+
+  private static List<Address> decodeAddressArray(JsonParser parser, NetworkFilter filter) throws IOException {
+    List<Address> addresses = new ArrayList<>(1);
+    JsonToken element;
+    while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+      if (element != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Expected an address object");
+      }
+      Address address = decodeAddress(parser, filter);
+      if (address != null) {
+        addresses.add(address);
+        if (addresses.size() > filter.maximumMatches) {
+          break;
+        }
+      }
+    }
+    return addresses;
+  }
+
+  /**
+   * Decode an address object, whose start has just been read.
+   *
+   * @return The {@link Address}, or null if it does not match the filter.
+   */
+  private static Address decodeAddress(JsonParser parser, NetworkFilter filter) throws IOException {
+    String paymentNetwork = null;
+    String environment = null;
+    String addressDetailsType = null;
+    CryptoAddressDetails addressDetails = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      switch (fieldName) {
+        case "paymentNetwork":
+          paymentNetwork = stringValue(parser);
+          break;
+        case "environment":
+          environment = stringValue(parser);
+          break;
+        case "addressDetailsType":
+          addressDetailsType = stringValue(parser);
+          break;
+        case "addressDetails":
+          // The network may be named after the details, so they are only skipped once it is known not to match.
+          if (!filter.excludes(paymentNetwork, environment) && parser.currentToken() == JsonToken.START_OBJECT) {
+            addressDetails = decodeAddressDetails(parser);
+          } else {
+            parser.skipChildren();
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+
+    if (!filter.matches(paymentNetwork, environment)) {
+      return null;
+    }
+    Address address = new Address();
+    address.setPaymentNetwork(paymentNetwork);
+    address.setEnvironment(environment);
+    address.setAddressDetailsType(addressDetailsType);
+    address.setAddressDetails(addressDetails);
+    return address;
+  }
+
+  /**
+   * Decode an address details object, whose start has just been read.
+   */
+  private static CryptoAddressDetails decodeAddressDetails(JsonParser parser) throws IOException {
+    CryptoAddressDetails addressDetails = new CryptoAddressDetails();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if ("address".equals(fieldName)) {
+        addressDetails.setAddress(stringValue(parser));
+      } else if ("tag".equals(fieldName)) {
+        addressDetails.setTag(stringValue(parser));
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return addressDetails;
+  }
+
+  /**
+   * Read the current value as a string. Numbers and booleans are read as their text, as Gson did.
+   */
+  private static String stringValue(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.VALUE_NULL) {
+      return null;
+    } else if (token.isScalarValue()) {
+      return parser.getText();
+    }
+    throw new JsonParseException(parser, "Expected a string");
+  }
+
+  /**
+   * Selects the addresses on a network, given as a payment network and an optional environment such as
+   * {@code xrpl-testnet}.
+   */
+  private static final class NetworkFilter {
+    private final String paymentNetwork;
+    private final String environment;
+    private final int maximumMatches;
+
+    NetworkFilter(String network) {
+      if (ALL_NETWORKS.equalsIgnoreCase(network)) {
+        this.paymentNetwork = null;
+        this.environment = null;
+        this.maximumMatches = Integer.MAX_VALUE;
+      } else {
+        int separator = network.indexOf('-');
+        this.paymentNetwork = separator < 0 ? network : network.substring(0, separator);
+        this.environment = separator < 0 ? null : network.substring(separator + 1);
+        this.maximumMatches = 1;
+      }
+    }
+
+    /**
+     * Whether an address is on this network. An address which does not name its network is assumed to be, since the
+     * host was asked for this network only.
+     */
+    boolean matches(String addressPaymentNetwork, String addressEnvironment) {
+      if (this.paymentNetwork == null || addressPaymentNetwork == null) {
+        return true;
+      }
+      return this.paymentNetwork.equalsIgnoreCase(addressPaymentNetwork)
+          && (this.environment == null || this.environment.equalsIgnoreCase(addressEnvironment));
+    }
+
+    /**
+     * Whether the fields of an address read so far already show it is not on this network. Fields which have not been
+     * read yet are null, and do not exclude the address.
+     */
+    boolean excludes(String addressPaymentNetwork, String addressEnvironment) {
+      if (this.paymentNetwork == null) {
+        return false;
+      }
+      return addressPaymentNetwork != null && !this.paymentNetwork.equalsIgnoreCase(addressPaymentNetwork)
+          || addressEnvironment != null && this.environment != null
+          && !this.environment.equalsIgnoreCase(addressEnvironment);
+    }
+  }
+}
@@ -1,23 +1,11 @@
 package io.xpring.payid;
 
-import io.xpring.payid.javascript.JavaScriptPayIdUtils;
-import io.xpring.xrpl.javascript.JavaScriptLoaderException;
+import java.util.Objects;
 
 /**
  * Provides utilities for PayID.
  */
 public class PayIdUtils {
-
-  private static final JavaScriptPayIdUtils javaScriptPayIdUtils;
-
-  static {
-    try {
-      javaScriptPayIdUtils = new JavaScriptPayIdUtils();
-    } catch (JavaScriptLoaderException e) {
-      throw new RuntimeException(e);
-    }
-  }
-
   /**
    * Please do not instantiate this static utility class.
    */
@@ -26,11 +14,33 @@ public class PayIdUtils {
 
   /**
    * Parse the given Pay ID to a set of components.
+   * <p>
+   * The PayID is split at its last '$' in a single pass, and must be ASCII with a non-empty path and host. The
+   * components are returned as written; use {@link PayId#of(String)} to validate and normalize a PayID strictly.
+   * </p>
    *
    * @param payId A PayID to parse.
-   * @return A set of components parsed from the PayID.
+   * @return A set of components parsed from the PayID, or null if it could not be parsed.
    */
   public static PayIdComponents parsePayID(String payId) {
-    return javaScriptPayIdUtils.parsePayId(payId);
+    Objects.requireNonNull(payId);
+
+    int dollarIndex = -1;
+    for (int i = 0; i < payId.length(); i++) {
+      char character = payId.charAt(i);
+      if (character >= 0x80) {
+        return null;
+      } else if (character == '$') {
+        dollarIndex = i;
+      }
+    }
+    if (dollarIndex <= 0 || dollarIndex == payId.length() - 1) {
+      return null;
+    }
+
+    return ImmutablePayIdComponents.builder()
+        .host(payId.substring(dollarIndex + 1))
+        .path("/" + payId.substring(0, dollarIndex))
+        .build();
   }
 }
@@ -0,0 +1,266 @@
+package io.xpring.payid;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.xpring.payid.generated.model.Address;
+import io.xpring.payid.generated.model.CryptoAddressDetails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded, least-recently-used {@link PayIdCache} held in memory and periodically saved to a local file, so that a
+ * restarted process starts with the resolutions of the previous one.
+ * <p>
+ * The file is read through a memory mapping when the cache is created. Loaded entries are treated like any other, so
+ * a {@link PayIdClient} serves those which are still fresh, serves and refreshes in the background those which are
+ * stale, and resolves again those which have expired, each on first use. A missing or unreadable file leaves the
+ * cache empty.
+ * </p><p>
+ * Snapshots are written to a temporary file which then replaces the previous snapshot, so a crash while writing never
+ * leaves a partial snapshot behind. Closing the cache writes a final snapshot.
+ * </p>
+ */
+public class PersistentPayIdCache implements PayIdCache, Closeable {
+  /**
+   * Identifies a snapshot file, and the version of its format.
+   */
+  private static final int MAGIC = 0x50494443;
+  private static final int VERSION = 1;
+
+  /**
+   * The address count written for a PayID which was not found.
+   */
+  private static final int NOT_FOUND = -1;
+
+  /**
+   * The length written for a null string.
+   */
+  private static final int NULL_STRING = -1;
+
+  /**
+   * The fewest bytes an address can take, which is the length of each of its five strings.
+   */
+  private static final int MINIMUM_ADDRESS_BYTES = 5 * Integer.BYTES;
+
+  private static final Logger logger = LoggerFactory.getLogger(PersistentPayIdCache.class);
+
+  private final Path file;
+  private final Cache<String, PayIdCacheEntry> entries;
+  private final ScheduledExecutorService snapshotExecutor;
+
+  /**
+   * Create a new cache which retains up to {@link InMemoryPayIdCache#DEFAULT_MAXIMUM_SIZE} resolutions, loading the
+   * given snapshot file if it exists.
+   *
+   * @param file The snapshot file.
+   * @param snapshotInterval How often to save the cache to the file.
+   */
+  public PersistentPayIdCache(Path file, Duration snapshotInterval) {
+    this(file, InMemoryPayIdCache.DEFAULT_MAXIMUM_SIZE, snapshotInterval);
+  }
+
+  /**
+   * Create a new cache, loading the given snapshot file if it exists.
+   *
+   * @param file The snapshot file.
+   * @param maximumSize The maximum number of resolutions to retain before evicting the least recently used.
+   * @param snapshotInterval How often to save the cache to the file.
+   */
+  public PersistentPayIdCache(Path file, int maximumSize, Duration snapshotInterval) {
+    this.file = Objects.requireNonNull(file);
+    Preconditions.checkArgument(!snapshotInterval.isNegative() && !snapshotInterval.isZero(),
+        "snapshotInterval must be positive");
+
+    this.entries = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .build();
+    this.load();
+
+    this.snapshotExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+        .setNameFormat("payid-cache-snapshot-%d")
+        .setDaemon(true)
+        .build());
+    long intervalMillis = snapshotInterval.toMillis();
+    this.snapshotExecutor.scheduleWithFixedDelay(this::writeSnapshotQuietly, intervalMillis, intervalMillis,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public PayIdCacheEntry getIfPresent(String key) {
+    return this.entries.getIfPresent(key);
+  }
+
+  @Override
+  public void put(String key, PayIdCacheEntry entry) {
+    this.entries.put(key, entry);
+  }
+
+  @Override
+  public void invalidate(String key) {
+    this.entries.invalidate(key);
+  }
+
+  /**
+   * Save the cache to its file now.
+   *
+   * @throws IOException If the snapshot could not be written.
+   */
+  public synchronized void writeSnapshot() throws IOException {
+    Path directory = this.file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temporaryFile = Files.createTempFile(directory, this.file.getFileName().toString(), ".tmp");
+    try {
+      Map<String, PayIdCacheEntry> snapshot = this.entries.asMap();
+      try (DataOutputStream output = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        for (Map.Entry<String, PayIdCacheEntry> entry : snapshot.entrySet()) {
+          writeEntry(output, entry.getKey(), entry.getValue());
+        }
+      }
+      Files.move(temporaryFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  /**
+   * Stop saving the cache periodically, and save it one last time.
+   *
+   * @throws IOException If the final snapshot could not be written.
+   */
+  @Override
+  public void close() throws IOException {
+    this.snapshotExecutor.shutdown();
+    this.writeSnapshot();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return this.entries.size();
+  }
+
+  private void writeSnapshotQuietly() {
+    try {
+      this.writeSnapshot();
+    } catch (IOException | RuntimeException exception) {
+      logger.warn("Could not write PayID cache snapshot to {}", this.file, exception);
+    }
+  }
+
+  /**
+   * Load the snapshot file into the cache, if there is one.
+   */
+  private void load() {
+    try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+        logger.warn("Ignoring PayID cache snapshot {} in an unknown format", this.file);
+        return;
+      }
+      while (buffer.hasRemaining()) {
+        String key = readString(buffer);
+        this.entries.put(key, readEntry(buffer));
+      }
+    } catch (NoSuchFileException exception) {
+      // Nothing has been saved yet.
+    } catch (IOException | BufferUnderflowException | IllegalArgumentException exception) {
+      // Keep whatever was read before the snapshot turned out to be truncated or corrupt.
+      logger.warn("Could not read PayID cache snapshot from {}", this.file, exception);
+    }
+  }
+
+  private static void writeEntry(DataOutputStream output, String key, PayIdCacheEntry entry) throws IOException {
+    writeString(output, key);
+    output.writeLong(entry.expiresAt().toEpochMilli());
+    if (!entry.addresses().isPresent()) {
+      output.writeInt(NOT_FOUND);
+      return;
+    }
+    List<Address> addresses = entry.addresses().get();
+    output.writeInt(addresses.size());
+    for (Address address : addresses) {
+      writeString(output, address.getPaymentNetwork());
+      writeString(output, address.getEnvironment());
+      writeString(output, address.getAddressDetailsType());
+      CryptoAddressDetails addressDetails = address.getAddressDetails();
+      writeString(output, addressDetails == null ? null : addressDetails.getAddress());
+      writeString(output, addressDetails == null ? null : addressDetails.getTag());
+    }
+  }
+
+  private static PayIdCacheEntry readEntry(ByteBuffer buffer) {
+    Instant expiresAt = Instant.ofEpochMilli(buffer.getLong());
+    int addressCount = buffer.getInt();
+    if (addressCount == NOT_FOUND) {
+      return PayIdCacheEntry.notFound(expiresAt);
+    }
+    Preconditions.checkArgument(
+        addressCount >= 0 && addressCount <= buffer.remaining() / MINIMUM_ADDRESS_BYTES,
+        "Invalid address count"
+    );
+
+    List<Address> addresses = new ArrayList<>(addressCount);
+    for (int i = 0; i < addressCount; i++) {
+      Address address = new Address();
+      address.setPaymentNetwork(readString(buffer));
+      address.setEnvironment(readString(buffer));
+      address.setAddressDetailsType(readString(buffer));
+      CryptoAddressDetails addressDetails = new CryptoAddressDetails();
+      addressDetails.setAddress(readString(buffer));
+      addressDetails.setTag(readString(buffer));
+      address.setAddressDetails(addressDetails);
+      addresses.add(address);
+    }
+    return PayIdCacheEntry.found(addresses, expiresAt);
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    if (value == null) {
+      output.writeInt(NULL_STRING);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    int length = buffer.getInt();
+    if (length == NULL_STRING) {
+      return null;
+    }
+    Preconditions.checkArgument(length >= 0 && length <= buffer.remaining(), "Invalid string length");
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -2,10 +2,16 @@ package io.xpring.payid;
 
 import io.xpring.common.XrplNetwork;
 import io.xpring.payid.generated.model.CryptoAddressDetails;
+import io.xpring.xrpl.BulkResultListener;
 import io.xpring.xrpl.ClassicAddress;
 import io.xpring.xrpl.ImmutableClassicAddress;
 import io.xpring.xrpl.Utils;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * Provides functionality for XRP in the PayID protocol.
  */
@@ -35,6 +41,44 @@ public class XrpPayIdClient extends PayIdClient implements XrpPayIdClientInterfa
     this.xrplNetwork = xrplNetwork;
   }
 
+  /**
+   * Construct a new XrpPayIdClient with the given timeouts.
+   *
+   * @param xrplNetwork The XRP Ledger network that this client attaches to.
+   * @param connectTimeout The time allowed to connect to a PayID host.
+   * @param readTimeout The time allowed between bytes of a response from a PayID host.
+   */
+  public XrpPayIdClient(XrplNetwork xrplNetwork, Duration connectTimeout, Duration readTimeout) {
+    super(connectTimeout, readTimeout);
+
+    this.xrplNetwork = xrplNetwork;
+  }
+
+  /**
+   * Construct a new XrpPayIdClient with the given connection settings.
+   *
+   * @param xrplNetwork The XRP Ledger network that this client attaches to.
+   * @param connectionSettings The {@link PayIdConnectionSettings} which control how PayID hosts are connected to.
+   */
+  public XrpPayIdClient(XrplNetwork xrplNetwork, PayIdConnectionSettings connectionSettings) {
+    super(connectionSettings);
+
+    this.xrplNetwork = xrplNetwork;
+  }
+
+  /**
+   * Construct a new XrpPayIdClient which caches resolutions.
+   *
+   * @param xrplNetwork The XRP Ledger network that this client attaches to.
+   * @param cache The {@link PayIdCache} to keep resolutions in.
+   * @param cacheSettings The {@link PayIdCacheSettings} which control how long resolutions are kept.
+   */
+  public XrpPayIdClient(XrplNetwork xrplNetwork, PayIdCache cache, PayIdCacheSettings cacheSettings) {
+    super(cache, cacheSettings);
+
+    this.xrplNetwork = xrplNetwork;
+  }
+
   /**
    * Resolve the given PayID to an XRP Address.
    *
@@ -48,11 +92,71 @@ public class XrpPayIdClient extends PayIdClient implements XrpPayIdClientInterfa
    * @throws PayIdException if the inputs were invalid.
    */
   public String xrpAddressForPayId(String payId) throws PayIdException {
-    CryptoAddressDetails addressDetails = super.cryptoAddressForPayId(
-        payId,
-        "xrpl-" + this.xrplNetwork.getNetworkName()
-    );
+    CryptoAddressDetails addressDetails = super.cryptoAddressForPayId(payId, this.networkName());
+    return this.toXAddress(addressDetails);
+  }
 
+  /**
+   * Resolve the given PayID to an XRP Address without blocking.
+   *
+   * <p>
+   * Note: The returned value will always be in an X-Address format.
+   * </p>
+   * @see "https://xrpaddress.info"
+   *
+   * @param payId The PayID to resolve for an address.
+   * @return A {@link CompletableFuture} which completes with an XRP address representing the given PayID, or
+   *         exceptionally with a {@link PayIdException} if the inputs were invalid.
+   */
+  @Override
+  public CompletableFuture<String> xrpAddressForPayIdAsync(String payId) {
+    return super.cryptoAddressForPayIdAsync(payId, this.networkName())
+        .thenApply(addressDetails -> {
+          try {
+            return this.toXAddress(addressDetails);
+          } catch (PayIdException exception) {
+            throw new CompletionException(exception);
+          }
+        });
+  }
+
+  /**
+   * Resolve many PayIDs to XRP Addresses, reporting each one as soon as it is resolved.
+   * <p>
+   * Duplicate PayIDs are resolved once. PayIDs are grouped by host, and each host has at most
+   * {@code maximumConcurrentRequestsPerHost} lookups in flight, so the time taken is bounded by the slowest host
+   * rather than by the number of PayIDs. Returns once every PayID has been reported.
+   * </p>
+   *
+   * @param payIds The PayIDs to resolve.
+   * @param maximumConcurrentRequestsPerHost The maximum number of lookups to have in flight to any one host.
+   * @param listener A {@link BulkResultListener} which receives the X-Address of each PayID.
+   * @throws PayIdException If the thread was interrupted while waiting for responses.
+   */
+  @Override
+  public void xrpAddressesForPayIds(
+      Collection<String> payIds,
+      int maximumConcurrentRequestsPerHost,
+      BulkResultListener<String> listener
+  ) throws PayIdException {
+    this.resolveAll(payIds, maximumConcurrentRequestsPerHost, this::xrpAddressForPayIdAsync, listener);
+  }
+
+  /**
+   * The PayID network name of this client's XRP Ledger network.
+   */
+  private String networkName() {
+    return "xrpl-" + this.xrplNetwork.getNetworkName();
+  }
+
+  /**
+   * Convert the address details returned for a PayID to an X-Address.
+   *
+   * @param addressDetails The {@link CryptoAddressDetails} of the PayID on this client's network.
+   * @return The X-Address of the PayID.
+   * @throws PayIdException If the address was in an unexpected format.
+   */
+  private String toXAddress(CryptoAddressDetails addressDetails) throws PayIdException {
     // Return address immediately if it is an X-Address.
     String address = addressDetails.getAddress();
     if (Utils.isValidXAddress(address)) {
@@ -80,4 +184,4 @@ public class XrpPayIdClient extends PayIdClient implements XrpPayIdClientInterfa
     }
     return encodedXAddress;
   }
-}
\ No newline at end of file
+}
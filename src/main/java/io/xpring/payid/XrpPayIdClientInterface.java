@@ -1,6 +1,11 @@
 package io.xpring.payid;
 
 import io.xpring.common.XrplNetwork;
+import io.xpring.xrpl.BulkResultListener;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * An interface for a PayID client.
@@ -21,4 +26,50 @@ public interface XrpPayIdClientInterface {
    * @throws PayIdException if the inputs were invalid.
    */
   String xrpAddressForPayId(String payId) throws PayIdException;
+
+  /**
+   * Resolve the given PayID to an XRP Address without blocking.
+   * <p>
+   * The default implementation resolves the PayID on the calling thread.
+   * </p>
+   *
+   * @param payId The payID to resolve for an address.
+   * @return A {@link CompletableFuture} which completes with an XRP address representing the given PayID, or
+   *         exceptionally with a {@link PayIdException} if the inputs were invalid.
+   */
+  default CompletableFuture<String> xrpAddressForPayIdAsync(String payId) {
+    CompletableFuture<String> address = new CompletableFuture<>();
+    try {
+      address.complete(this.xrpAddressForPayId(payId));
+    } catch (PayIdException | RuntimeException exception) {
+      address.completeExceptionally(exception);
+    }
+    return address;
+  }
+
+  /**
+   * Resolve many PayIDs to XRP Addresses, reporting each one as soon as it is resolved. Returns once every distinct
+   * PayID has been reported.
+   * <p>
+   * The default implementation resolves the PayIDs one at a time on the calling thread.
+   * </p>
+   *
+   * @param payIds The PayIDs to resolve.
+   * @param maximumConcurrentRequestsPerHost The maximum number of lookups to have in flight to any one host.
+   * @param listener A {@link BulkResultListener} which receives the X-Address of each PayID.
+   * @throws PayIdException If the thread was interrupted while waiting for responses.
+   */
+  default void xrpAddressesForPayIds(
+      Collection<String> payIds,
+      int maximumConcurrentRequestsPerHost,
+      BulkResultListener<String> listener
+  ) throws PayIdException {
+    for (String payId : new LinkedHashSet<>(payIds)) {
+      try {
+        listener.onSuccess(payId, this.xrpAddressForPayId(payId));
+      } catch (PayIdException | RuntimeException exception) {
+        listener.onError(payId, exception);
+      }
+    }
+  }
 }
@@ -37,17 +37,19 @@ public class JavaScriptPayIdUtils {
    * @return A set of components parsed from the PayID.
    */
   public PayIdComponents parsePayId(String payId) {
-    Objects.requireNonNull(payId);
+    synchronized (JavaScriptLoader.getContext()) {
+      Objects.requireNonNull(payId);
 
-    Value parsePayIdFunction = javaScriptPayIdUtils.getMember("parsePayId");
-    Value javaScriptComponents = parsePayIdFunction.execute(payId);
-    if (javaScriptComponents.isNull()) {
-      return null;
-    }
+      Value parsePayIdFunction = javaScriptPayIdUtils.getMember("parsePayId");
+      Value javaScriptComponents = parsePayIdFunction.execute(payId);
+      if (javaScriptComponents.isNull()) {
+        return null;
+      }
 
-    String host = javaScriptComponents.getMember("host").asString();
-    String path = javaScriptComponents.getMember("path").asString();
+      String host = javaScriptComponents.getMember("host").asString();
+      String path = javaScriptComponents.getMember("path").asString();
 
-    return ImmutablePayIdComponents.builder().host(host).path(path).build();
+      return ImmutablePayIdComponents.builder().host(host).path(path).build();
+    }
   }
 }
@@ -2,17 +2,34 @@ package io.xpring.xpring;
 
 import io.xpring.payid.PayIdException;
 import io.xpring.payid.XrpPayIdClientInterface;
+import io.xpring.xrpl.BulkResultListener;
+import io.xpring.xrpl.PaymentResultListener;
 import io.xpring.xrpl.Wallet;
 import io.xpring.xrpl.XrpClientInterface;
 import io.xpring.xrpl.XrpException;
 import io.xpring.xrpl.model.SendXrpDetails;
+import io.xpring.xrpl.model.XrpDrops;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Composes interactions of Xpring services.
  */
 public class XpringClient {
+  /**
+   * The default maximum number of PayID lookups to have in flight to any one host when sending many payments.
+   */
+  public static final int DEFAULT_MAXIMUM_CONCURRENT_REQUESTS_PER_HOST = 8;
+
   /**
    * A {@link XrpPayIdClientInterface} used to interact with the Pay ID protocol.
    */
@@ -52,11 +69,30 @@ public class XpringClient {
       final String destinationPayID,
       final Wallet sourceWallet
   ) throws PayIdException, XrpException {
-    // Resolve the destination address to an XRP address.
-    String destinationAddress = this.payIDClient.xrpAddressForPayId(destinationPayID);
+    return this.send(XrpDrops.of(amount), destinationPayID, sourceWallet);
+  }
 
-    // Transact XRP to the resolved address.
-    return this.xrpClient.send(amount, destinationAddress, sourceWallet);
+  /**
+   * Send the given amount of XRP from the source wallet to the destination PayID.
+   *
+   * @param amount           The {@link XrpDrops} to send.
+   * @param destinationPayID A destination Pay ID to send the drops to.
+   * @param sourceWallet     The {@link Wallet} which holds the XRP.
+   * @return A transaction hash for the payment.
+   * @throws PayIdException If there was a problem resolving the Pay ID.
+   * @throws XrpException   If there was a problem sending XRP.
+   */
+  public String send(
+      final XrpDrops amount,
+      final String destinationPayID,
+      final Wallet sourceWallet
+  ) throws PayIdException, XrpException {
+    SendXrpDetails sendXrpDetails = SendXrpDetails.builder()
+                                                  .drops(amount)
+                                                  .destination(destinationPayID)
+                                                  .sender(sourceWallet)
+                                                  .build();
+    return this.sendWithDetails(sendXrpDetails);
   }
 
   /**
@@ -69,16 +105,112 @@ public class XpringClient {
    * @throws PayIdException If there is a problem resolving the given PayID.
    */
   public String sendWithDetails(final SendXrpDetails sendXrpDetails) throws XrpException, PayIdException {
-    // Resolve the destination address to an XRP address.
-    String destinationAddress = this.payIDClient.xrpAddressForPayId(sendXrpDetails.destination());
-
-    // Construct a new SendXrpDetails that contains an XAddress destination instead of a PayID.
-    SendXrpDetails xaddressXrpDetails = SendXrpDetails.builder().amount(sendXrpDetails.amount())
-                                                                .destination(destinationAddress)
-                                                                .sender(sendXrpDetails.sender())
-                                                                .memosList(sendXrpDetails.memosList())
-                                                                .build();
-    // Transact XRP to the resolved address.
-    return this.xrpClient.sendWithDetails(xaddressXrpDetails);
+    // Resolve the destination PayID to an XRP address while the XRP client prepares the transaction, and transact XRP
+    // to the resolved address.
+    CompletableFuture<String> destinationAddress =
+        this.payIDClient.xrpAddressForPayIdAsync(sendXrpDetails.destination());
+    try {
+      return this.xrpClient.sendWithDetails(sendXrpDetails, destinationAddress);
+    } catch (CompletionException exception) {
+      Throwable cause = exception.getCause();
+      if (cause instanceof PayIdException) {
+        throw (PayIdException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw exception;
+    }
+  }
+
+  /**
+   * Send many payments to PayIDs, reporting the outcome of each one as soon as it is known. Returns once every payment
+   * has been reported.
+   * <p>
+   * At most {@link #DEFAULT_MAXIMUM_CONCURRENT_REQUESTS_PER_HOST} PayID lookups are in flight to any one host at once.
+   * </p>
+   *
+   * @param payments A list of {@link SendXrpDetails} whose destinations are PayIDs.
+   * @param listener A {@link PaymentResultListener} which receives the outcome of each payment, identified by its
+   *                 position in the given list.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   * @throws PayIdException If the thread was interrupted while resolving PayIDs.
+   */
+  public void sendPayments(
+      final List<SendXrpDetails> payments,
+      final PaymentResultListener listener
+  ) throws XrpException, PayIdException {
+    this.sendPayments(payments, DEFAULT_MAXIMUM_CONCURRENT_REQUESTS_PER_HOST, listener);
+  }
+
+  /**
+   * Send many payments to PayIDs, reporting the outcome of each one as soon as it is known. Returns once every payment
+   * has been reported.
+   * <p>
+   * Each distinct PayID is resolved once, with the lookups made concurrently, and the resolved payments are then sent
+   * together with {@link XrpClientInterface#sendPayments(List, PaymentResultListener)}. A payment whose PayID could
+   * not be resolved, or which could not be sent, is reported as an error without stopping the others.
+   * </p>
+   *
+   * @param payments                         A list of {@link SendXrpDetails} whose destinations are PayIDs.
+   * @param maximumConcurrentRequestsPerHost The maximum number of PayID lookups to have in flight to any one host.
+   * @param listener                         A {@link PaymentResultListener} which receives the outcome of each
+   *                                         payment, identified by its position in the given list.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   * @throws PayIdException If the thread was interrupted while resolving PayIDs.
+   */
+  public void sendPayments(
+      final List<SendXrpDetails> payments,
+      final int maximumConcurrentRequestsPerHost,
+      final PaymentResultListener listener
+  ) throws XrpException, PayIdException {
+    Objects.requireNonNull(payments);
+    Objects.requireNonNull(listener);
+
+    // Resolve each distinct PayID once.
+    Set<String> payIds = new LinkedHashSet<>();
+    payments.forEach(payment -> payIds.add(payment.destination()));
+    Map<String, String> destinationAddresses = new ConcurrentHashMap<>();
+    Map<String, Exception> resolutionErrors = new ConcurrentHashMap<>();
+    this.payIDClient.xrpAddressesForPayIds(payIds, maximumConcurrentRequestsPerHost, new BulkResultListener<String>() {
+      @Override
+      public void onSuccess(String payId, String destinationAddress) {
+        destinationAddresses.put(payId, destinationAddress);
+      }
+
+      @Override
+      public void onError(String payId, Exception error) {
+        resolutionErrors.put(payId, error);
+      }
+    });
+
+    // Send the payments whose PayID was resolved, remembering where each one came from.
+    List<SendXrpDetails> resolvedPayments = new ArrayList<>(payments.size());
+    List<Integer> resolvedIndices = new ArrayList<>(payments.size());
+    for (int index = 0; index < payments.size(); index++) {
+      SendXrpDetails payment = payments.get(index);
+      String destinationAddress = destinationAddresses.get(payment.destination());
+      if (destinationAddress == null) {
+        listener.onError(index, resolutionErrors.get(payment.destination()));
+        continue;
+      }
+      resolvedPayments.add(SendXrpDetails.builder().from(payment).destination(destinationAddress).build());
+      resolvedIndices.add(index);
+    }
+
+    if (resolvedPayments.isEmpty()) {
+      return;
+    }
+    this.xrpClient.sendPayments(resolvedPayments, new PaymentResultListener() {
+      @Override
+      public void onSubmitted(int index, String transactionHash) {
+        listener.onSubmitted(resolvedIndices.get(index), transactionHash);
+      }
+
+      @Override
+      public void onError(int index, Exception error) {
+        listener.onError(resolvedIndices.get(index), error);
+      }
+    });
   }
 }
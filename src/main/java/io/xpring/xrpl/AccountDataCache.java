@@ -0,0 +1,236 @@
+package io.xpring.xrpl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.grpc.Status;
+import org.xrpl.rpc.v1.AccountRoot;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, least-recently-used cache of {@link AccountRoot} objects read from the latest validated ledger.
+ * <p>
+ * Entries are keyed by classic address and remember the validated ledger index they were read at. An entry is only
+ * served while that ledger is still the newest validated ledger this cache has observed, so any response which reveals
+ * a newer validated ledger implicitly invalidates every older entry. Accounts which do not exist are cached as
+ * negative entries so that repeated existence checks do not go to the network.
+ * </p><p>
+ * rippled does not push ledger closes over gRPC, so the ledger advancing is only observed when another response
+ * carries a newer ledger index. Entries therefore also expire after a maximum age, which should be on the order of
+ * the ledger close interval.
+ * </p><p>
+ * A read which is in flight when its account is invalidated must not repopulate the cache with what it read. Readers
+ * take the {@link #generation(String)} of an account before they send a request, and pass it when they cache the
+ * response, which is dropped if the account has been invalidated since. Generations are kept in a fixed number of
+ * stripes, so invalidating one account also drops reads of the accounts which share its stripe.
+ * </p>
+ */
+class AccountDataCache {
+  /**
+   * The default number of accounts to retain.
+   */
+  static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+  /**
+   * The default maximum age of an entry. Ledgers close every 3-4 seconds on average.
+   */
+  static final Duration DEFAULT_MAXIMUM_AGE = Duration.ofSeconds(3);
+
+  /**
+   * The number of stripes generations are kept in. Must be a power of two.
+   */
+  private static final int GENERATION_STRIPES = 1024;
+
+  /**
+   * The latest validated ledger index observed by this cache.
+   */
+  private final AtomicInteger latestValidatedLedgerIndex = new AtomicInteger(0);
+
+  private final Cache<String, Entry> entries;
+
+  /**
+   * The number of times the accounts in each stripe have been invalidated.
+   */
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+  /**
+   * Create a new cache with the default size and maximum age.
+   */
+  AccountDataCache() {
+    this(AccountDataCacheSettings.defaults());
+  }
+
+  /**
+   * Create a new cache with the given settings.
+   *
+   * @param settings The {@link AccountDataCacheSettings} which bound the cache.
+   */
+  AccountDataCache(AccountDataCacheSettings settings) {
+    this(settings.maximumSize(), settings.maximumAge());
+  }
+
+  /**
+   * Create a new cache.
+   *
+   * @param maximumSize The maximum number of accounts to retain before evicting the least recently used.
+   * @param maximumAge  The maximum age of an entry, regardless of whether a newer ledger has been observed.
+   */
+  AccountDataCache(int maximumSize, Duration maximumAge) {
+    this(maximumSize, maximumAge, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  AccountDataCache(int maximumSize, Duration maximumAge, Ticker ticker) {
+    this.entries = CacheBuilder.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(maximumAge.toNanos(), TimeUnit.NANOSECONDS)
+        .ticker(ticker)
+        .build();
+  }
+
+  /**
+   * Look up the cached account data for the given address.
+   *
+   * @param classicAddress The classic address of the account.
+   * @return The cached {@link Entry}, or null if there is no entry for the latest validated ledger.
+   */
+  Entry getIfPresent(String classicAddress) {
+    Entry entry = this.entries.getIfPresent(classicAddress);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.ledgerIndex < this.latestValidatedLedgerIndex.get()) {
+      this.entries.invalidate(classicAddress);
+      return null;
+    }
+    return entry;
+  }
+
+  /**
+   * The generation of an account, which must be taken before its data is requested and passed when the response is
+   * cached.
+   *
+   * @param classicAddress The classic address of the account.
+   * @return The number of times the account, or another in its stripe, has been invalidated.
+   */
+  long generation(String classicAddress) {
+    return this.generations.get(stripe(classicAddress));
+  }
+
+  /**
+   * Cache account data read at the given validated ledger.
+   *
+   * @param classicAddress The classic address of the account.
+   * @param accountData    The {@link AccountRoot} of the account.
+   * @param ledgerIndex    The index of the validated ledger the data was read at.
+   * @param generation     The {@link #generation(String)} of the account before the data was requested.
+   * @return The {@link Entry} for the data, whether or not it was cached.
+   */
+  Entry put(String classicAddress, AccountRoot accountData, int ledgerIndex, long generation) {
+    this.observeValidatedLedger(ledgerIndex);
+    return this.store(classicAddress, new Entry(accountData, null, ledgerIndex), generation);
+  }
+
+  /**
+   * Cache the fact that an account was not found.
+   *
+   * @param classicAddress The classic address of the account.
+   * @param status         The NOT_FOUND {@link Status} the account was reported with.
+   * @param generation     The {@link #generation(String)} of the account before the data was requested.
+   * @return The {@link Entry} recording that the account was not found, whether or not it was cached.
+   */
+  Entry putNotFound(String classicAddress, Status status, long generation) {
+    // A NOT_FOUND error does not carry a ledger index, so attribute it to the newest ledger observed.
+    return this.store(classicAddress, new Entry(null, status, this.latestValidatedLedgerIndex.get()), generation);
+  }
+
+  /**
+   * Record that a validated ledger exists with the given index. Entries read at older ledgers will no longer be
+   * served.
+   *
+   * @param ledgerIndex The index of a validated ledger.
+   */
+  void observeValidatedLedger(int ledgerIndex) {
+    this.latestValidatedLedgerIndex.accumulateAndGet(ledgerIndex, Math::max);
+  }
+
+  /**
+   * Invalidate the entries for the given accounts, for instance because a transaction which touches them has been
+   * submitted.
+   *
+   * @param classicAddresses The classic addresses to invalidate.
+   */
+  void invalidate(Collection<String> classicAddresses) {
+    // Advance generations first, so that a read which stores after this point sees that it is stale.
+    for (String classicAddress : classicAddresses) {
+      this.generations.incrementAndGet(stripe(classicAddress));
+    }
+    this.entries.invalidateAll(classicAddresses);
+  }
+
+  private Entry store(String classicAddress, Entry entry, long generation) {
+    if (entry.ledgerIndex < this.latestValidatedLedgerIndex.get() || generation != generation(classicAddress)) {
+      return entry;
+    }
+    this.entries.put(classicAddress, entry);
+
+    // The account may have been invalidated between the check and the put, after its entries were invalidated.
+    if (generation != generation(classicAddress)) {
+      this.entries.invalidate(classicAddress);
+    }
+    return entry;
+  }
+
+  private static int stripe(String classicAddress) {
+    return classicAddress.hashCode() & (GENERATION_STRIPES - 1);
+  }
+
+  /**
+   * A cached read of an account.
+   */
+  static final class Entry {
+    private final AccountRoot accountData;
+    private final Status notFoundStatus;
+    private final int ledgerIndex;
+
+    private Entry(AccountRoot accountData, Status notFoundStatus, int ledgerIndex) {
+      this.accountData = accountData;
+      this.notFoundStatus = notFoundStatus;
+      this.ledgerIndex = ledgerIndex;
+    }
+
+    /**
+     * The data of the account.
+     *
+     * @return An {@link Optional} containing the {@link AccountRoot}, or empty if the account was not found.
+     */
+    Optional<AccountRoot> accountData() {
+      return Optional.ofNullable(this.accountData);
+    }
+
+    /**
+     * The status the account was reported with when it was not found, including its description.
+     *
+     * @return The NOT_FOUND {@link Status}, or null if the account was found.
+     */
+    Status notFoundStatus() {
+      return this.notFoundStatus;
+    }
+
+    /**
+     * The validated ledger this entry was read at.
+     *
+     * @return The index of the validated ledger.
+     */
+    int ledgerIndex() {
+      return this.ledgerIndex;
+    }
+  }
+}
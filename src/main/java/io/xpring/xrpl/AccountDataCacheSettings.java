@@ -0,0 +1,69 @@
+package io.xpring.xrpl;
+
+import com.google.common.base.Preconditions;
+import org.immutables.value.Value;
+
+import java.time.Duration;
+
+/**
+ * Controls how an {@link XrpClient} caches account data read from the latest validated ledger.
+ * <p>
+ * A cached account is served until a newer validated ledger is observed, the client submits a transaction which
+ * touches it, or it is older than {@link #maximumAge()}, whichever comes first. A {@link #maximumSize()} of zero
+ * turns the cache off, so every read goes to the network.
+ * </p>
+ */
+@Value.Immutable
+public interface AccountDataCacheSettings {
+  static ImmutableAccountDataCacheSettings.Builder builder() {
+    return ImmutableAccountDataCacheSettings.builder();
+  }
+
+  /**
+   * Settings with every default applied.
+   *
+   * @return The default {@link AccountDataCacheSettings}.
+   */
+  static AccountDataCacheSettings defaults() {
+    return builder().build();
+  }
+
+  /**
+   * Settings which turn the cache off.
+   *
+   * @return {@link AccountDataCacheSettings} which cache no accounts.
+   */
+  static AccountDataCacheSettings disabled() {
+    return builder().maximumSize(0).build();
+  }
+
+  /**
+   * The maximum number of accounts to keep before evicting the least recently used.
+   *
+   * @return A number of accounts, 10,000 by default.
+   */
+  @Value.Default
+  default int maximumSize() {
+    return AccountDataCache.DEFAULT_MAXIMUM_SIZE;
+  }
+
+  /**
+   * The longest an account is kept, regardless of whether a newer validated ledger has been observed. This should be
+   * on the order of the ledger close interval.
+   *
+   * @return A {@link Duration}, three seconds by default.
+   */
+  @Value.Default
+  default Duration maximumAge() {
+    return AccountDataCache.DEFAULT_MAXIMUM_AGE;
+  }
+
+  /**
+   * Validate these settings.
+   */
+  @Value.Check
+  default void validate() {
+    Preconditions.checkArgument(maximumSize() >= 0, "maximumSize must not be negative");
+    Preconditions.checkArgument(!maximumAge().isNegative(), "maximumAge must not be negative");
+  }
+}
@@ -0,0 +1,28 @@
+package io.xpring.xrpl;
+
+/**
+ * Receives the result of each lookup in a bulk request as soon as it completes.
+ * <p>
+ * Results arrive in completion order, not request order, and may be delivered from several threads at once, so
+ * implementations must be thread safe. Exactly one of the methods is called for each distinct input.
+ * </p>
+ *
+ * @param <T> The type of a successful result.
+ */
+public interface BulkResultListener<T> {
+  /**
+   * Called when the lookup for an input succeeds.
+   *
+   * @param input  The input which was looked up, for instance a transaction hash.
+   * @param result The result of the lookup.
+   */
+  void onSuccess(String input, T result);
+
+  /**
+   * Called when the lookup for an input fails.
+   *
+   * @param input The input which was looked up, for instance a transaction hash.
+   * @param error The error encountered.
+   */
+  void onError(String input, Exception error);
+}
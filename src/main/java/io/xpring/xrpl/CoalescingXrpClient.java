@@ -0,0 +1,267 @@
+package io.xpring.xrpl;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.xpring.xrpl.model.SendXrpDetails;
+import io.xpring.xrpl.model.TransactionResult;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpDrops;
+import io.xpring.xrpl.model.XrpTransaction;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A decorator which coalesces concurrent identical reads into a single call to the decorated client.
+ * <p>
+ * While a read is in flight, any other thread issuing the same read waits for the in flight call and receives its
+ * result, or the exception it threw. Reads are not cached: once a call completes, the next identical read calls the
+ * decorated client again. Bulk reads and calls which submit transactions are always passed through.
+ * </p><p>
+ * This decorator sits above the layer which builds gRPC requests, so reads are identified by the method called and the
+ * address or hash it was called with rather than by the request message. An address passed as a string and as an
+ * {@link XAddress} is the same read, but an X-Address and the classic address it encodes are not. Results which are
+ * mutable, such as payment history, are copied for each caller so that callers cannot see each other's changes.
+ * </p>
+ */
+public class CoalescingXrpClient implements XrpClientDecorator {
+  private final XrpClientDecorator decoratedClient;
+
+  /**
+   * Calls which are currently in flight, keyed by the method and its argument.
+   */
+  private final ConcurrentMap<CallKey, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+
+  /**
+   * Run whenever a caller joins a call which is already in flight.
+   */
+  private final Runnable joinListener;
+
+  public CoalescingXrpClient(XrpClientDecorator decoratedClient) {
+    this(decoratedClient, () -> { });
+  }
+
+  @VisibleForTesting
+  CoalescingXrpClient(XrpClientDecorator decoratedClient, Runnable joinListener) {
+    this.decoratedClient = decoratedClient;
+    this.joinListener = joinListener;
+  }
+
+  @Override
+  public BigInteger getBalance(String xrplAccountAddress) throws XrpException {
+    return this.coalesce("getBalance", xrplAccountAddress,
+        () -> this.decoratedClient.getBalance(xrplAccountAddress));
+  }
+
+  @Override
+  public BigInteger getBalance(XAddress xrplAccountAddress) throws XrpException {
+    return this.coalesce("getBalance", xrplAccountAddress.value(),
+        () -> this.decoratedClient.getBalance(xrplAccountAddress));
+  }
+
+  @Override
+  public XrpBalances getBalances(
+      Collection<String> xrplAccountAddresses,
+      int maximumConcurrentRequests
+  ) throws XrpException {
+    return this.decoratedClient.getBalances(xrplAccountAddresses, maximumConcurrentRequests);
+  }
+
+  @Override
+  public TransactionStatus getPaymentStatus(String transactionHash) throws XrpException {
+    return this.coalesce("getPaymentStatus", transactionHash,
+        () -> this.decoratedClient.getPaymentStatus(transactionHash));
+  }
+
+  @Override
+  public void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    this.decoratedClient.getTransactionStatuses(transactionHashes, maximumConcurrentRequests, listener);
+  }
+
+  @Override
+  public String send(BigInteger amount, String destinationAddress, Wallet sourceWallet) throws XrpException {
+    return this.decoratedClient.send(amount, destinationAddress, sourceWallet);
+  }
+
+  @Override
+  public String send(XrpDrops amount, XAddress destinationAddress, Wallet sourceWallet) throws XrpException {
+    return this.decoratedClient.send(amount, destinationAddress, sourceWallet);
+  }
+
+  @Override
+  public String sendWithDetails(SendXrpDetails sendXrpDetails) throws XrpException {
+    return this.decoratedClient.sendWithDetails(sendXrpDetails);
+  }
+
+  @Override
+  public String sendWithDetails(SendXrpDetails sendXrpDetails, CompletableFuture<String> destinationAddress)
+      throws XrpException {
+    return this.decoratedClient.sendWithDetails(sendXrpDetails, destinationAddress);
+  }
+
+  @Override
+  public void sendPayments(
+      List<SendXrpDetails> payments,
+      int maximumConcurrentRequests,
+      PaymentResultListener listener
+  ) throws XrpException {
+    this.decoratedClient.sendPayments(payments, maximumConcurrentRequests, listener);
+  }
+
+  @Override
+  public int getLatestValidatedLedgerSequence(String address) throws XrpException {
+    return this.coalesce("getLatestValidatedLedgerSequence", address,
+        () -> this.decoratedClient.getLatestValidatedLedgerSequence(address));
+  }
+
+  @Override
+  public RawTransactionStatus getRawTransactionStatus(String transactionHash) throws XrpException {
+    return this.coalesce("getRawTransactionStatus", transactionHash,
+        () -> this.decoratedClient.getRawTransactionStatus(transactionHash));
+  }
+
+  @Override
+  public List<XrpTransaction> paymentHistory(String address) throws XrpException {
+    return new ArrayList<>(this.coalesce("paymentHistory", address,
+        () -> this.decoratedClient.paymentHistory(address)));
+  }
+
+  @Override
+  public List<XrpTransaction> paymentHistory(XAddress address) throws XrpException {
+    return new ArrayList<>(this.coalesce("paymentHistory", address.value(),
+        () -> this.decoratedClient.paymentHistory(address)));
+  }
+
+  @Override
+  public boolean accountExists(String address) throws XrpException {
+    return this.coalesce("accountExists", address,
+        () -> this.decoratedClient.accountExists(address));
+  }
+
+  @Override
+  public boolean accountExists(XAddress address) throws XrpException {
+    return this.coalesce("accountExists", address.value(),
+        () -> this.decoratedClient.accountExists(address));
+  }
+
+  @Override
+  public XrpTransaction getPayment(String transactionHash) throws XrpException {
+    return this.coalesce("getPayment", transactionHash,
+        () -> this.decoratedClient.getPayment(transactionHash));
+  }
+
+  @Override
+  public void getPayments(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException {
+    this.decoratedClient.getPayments(transactionHashes, maximumConcurrentRequests, listener);
+  }
+
+  @Override
+  public TransactionResult enableDepositAuth(Wallet wallet) throws XrpException {
+    return this.decoratedClient.enableDepositAuth(wallet);
+  }
+
+  /**
+   * Execute the given read, or join an identical read which is already in flight.
+   *
+   * @param method   The name of the method being called.
+   * @param argument The argument the method is called with.
+   * @param call     The call to the decorated client.
+   * @param <T>      The type of the result.
+   * @return The result of the call.
+   * @throws XrpException If the call threw an {@link XrpException}, or the thread was interrupted while waiting for an
+   *                      identical call.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> T coalesce(String method, String argument, XrpCall<T> call) throws XrpException {
+    CallKey key = new CallKey(method, argument);
+    CompletableFuture<Object> pendingResult = new CompletableFuture<>();
+    CompletableFuture<Object> inFlightResult = this.inFlightCalls.putIfAbsent(key, pendingResult);
+
+    // Another thread is already making this call, wait for its result.
+    if (inFlightResult != null) {
+      this.joinListener.run();
+      try {
+        return (T) inFlightResult.get();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new XrpException(XrpExceptionType.UNKNOWN, "Interrupted while waiting for " + method + ".");
+      } catch (ExecutionException exception) {
+        Throwable cause = exception.getCause();
+        if (cause instanceof XrpException) {
+          throw (XrpException) cause;
+        } else if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw new XrpException(XrpExceptionType.UNKNOWN, cause.getMessage());
+      }
+    }
+
+    // This thread leads the call. Waiting threads must always be released, whatever the outcome.
+    try {
+      T result = call.execute();
+      pendingResult.complete(result);
+      return result;
+    } catch (Throwable throwable) {
+      pendingResult.completeExceptionally(throwable);
+      throw throwable;
+    } finally {
+      this.inFlightCalls.remove(key, pendingResult);
+    }
+  }
+
+  /**
+   * A call to the decorated client.
+   *
+   * @param <T> The type of the result.
+   */
+  @FunctionalInterface
+  private interface XrpCall<T> {
+    T execute() throws XrpException;
+  }
+
+  /**
+   * Identifies a read by the method called and the argument it was called with.
+   */
+  private static final class CallKey {
+    private final String method;
+    private final String argument;
+
+    private CallKey(String method, String argument) {
+      this.method = method;
+      this.argument = argument;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof CallKey)) {
+        return false;
+      }
+      CallKey callKey = (CallKey) other;
+      return this.method.equals(callKey.method) && Objects.equals(this.argument, callKey.argument);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * this.method.hashCode() + Objects.hashCode(this.argument);
+    }
+  }
+}
@@ -1,13 +1,22 @@
 package io.xpring.xrpl;
 
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.xpring.common.XrplNetwork;
 import io.xpring.xrpl.model.AccountSetFlag;
+import io.xpring.xrpl.model.ImmutableXrpBalances;
 import io.xpring.xrpl.model.SendXrpDetails;
 import io.xpring.xrpl.model.TransactionResult;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpDrops;
 import io.xpring.xrpl.model.XrpMemo;
 import io.xpring.xrpl.model.XrpTransaction;
 import org.slf4j.Logger;
@@ -40,13 +49,26 @@ import org.xrpl.rpc.v1.TransactionOrBuilder;
 import org.xrpl.rpc.v1.XRPDropsAmount;
 import org.xrpl.rpc.v1.XRPLedgerAPIServiceGrpc;
 import org.xrpl.rpc.v1.XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceBlockingStub;
+import org.xrpl.rpc.v1.XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceFutureStub;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -62,17 +84,37 @@ public class DefaultXrpClient implements XrpClientDecorator {
 
   // Channel is the abstraction to connect to a service endpoint
   private final XRPLedgerAPIServiceBlockingStub stub;
+  private final XRPLedgerAPIServiceFutureStub futureStub;
   private final XrplNetwork xrplNetwork;
 
+  // Account data read from the latest validated ledger.
+  private final AccountDataCache accountDataCache;
+
+  // Transactions which have been retrieved, keyed by hash.
+  private final TransactionCache transactionCache;
+
   /**
    * No-args Constructor.
    */
   DefaultXrpClient(String grpcUrl, XrplNetwork xrplNetwork) {
+    this(grpcUrl, xrplNetwork, AccountDataCacheSettings.defaults());
+  }
+
+  /**
+   * Create a client which caches account data with the given settings.
+   *
+   * @param grpcUrl The remote URL to use for gRPC calls.
+   * @param xrplNetwork The {@link XrplNetwork} the URL connects to.
+   * @param accountDataCacheSettings The {@link AccountDataCacheSettings} which control the account data cache.
+   */
+  DefaultXrpClient(String grpcUrl, XrplNetwork xrplNetwork, AccountDataCacheSettings accountDataCacheSettings) {
     this(ManagedChannelBuilder
         .forTarget(grpcUrl)
         .usePlaintext()
         .build(),
-        xrplNetwork
+        xrplNetwork,
+        new AccountDataCache(accountDataCacheSettings),
+        new TransactionCache()
     );
   }
 
@@ -82,11 +124,31 @@ public class DefaultXrpClient implements XrpClientDecorator {
    * @param channel A {@link ManagedChannel}.
    */
   DefaultXrpClient(final ManagedChannel channel, XrplNetwork xrplNetwork) {
+    this(channel, xrplNetwork, new AccountDataCache(), new TransactionCache());
+  }
+
+  /**
+   * Required-args Constructor with a configured account data cache.
+   *
+   * @param channel A {@link ManagedChannel}.
+   * @param xrplNetwork The {@link XrplNetwork} the channel connects to.
+   * @param accountDataCache An {@link AccountDataCache} for account data read from the latest validated ledger.
+   * @param transactionCache A {@link TransactionCache} for transactions which have been retrieved.
+   */
+  DefaultXrpClient(
+      final ManagedChannel channel,
+      XrplNetwork xrplNetwork,
+      AccountDataCache accountDataCache,
+      TransactionCache transactionCache
+  ) {
     this.xrplNetwork = xrplNetwork;
+    this.accountDataCache = accountDataCache;
+    this.transactionCache = transactionCache;
 
     // It is up to the client to determine whether to block the call. Here we create a blocking stub, but an async
     // stub, or an async stub with Future are always possible.
     this.stub = XRPLedgerAPIServiceGrpc.newBlockingStub(channel);
+    this.futureStub = XRPLedgerAPIServiceGrpc.newFutureStub(channel);
 
     Runtime.getRuntime().addShutdownHook(new Thread(() -> {
       channel.shutdown();
@@ -110,14 +172,141 @@ public class DefaultXrpClient implements XrpClientDecorator {
    * @throws XrpException If the given inputs were invalid.
    */
   public BigInteger getBalance(final String xrplAccountAddress) throws XrpException {
-    if (!Utils.isValidXAddress(xrplAccountAddress)) {
-      throw XrpException.xAddressRequiredException;
+    return this.getBalance(XAddress.of(xrplAccountAddress));
+  }
+
+  /**
+   * Get the balance of the specified account on the XRP Ledger.
+   *
+   * @param xrplAccountAddress The {@link XAddress} to retrieve the balance for.
+   * @return A {@link BigInteger} with the number of drops in this account.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public BigInteger getBalance(final XAddress xrplAccountAddress) throws XrpException {
+    AccountRoot accountData = this.getAccountData(xrplAccountAddress.classicAddress().address());
+
+    return balanceOf(accountData);
+  }
+
+  /**
+   * Get the balances of the specified accounts on the XRP Ledger, all read at the same validated ledger.
+   * <p>
+   * The first account which exists is read at the latest validated ledger, and every other account is then read at
+   * that ledger, so that the balances are consistent with each other. Failures are reported per address rather than
+   * failing the whole request.
+   * </p>
+   *
+   * @param xrplAccountAddresses      The X-Addresses to retrieve balances for.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @return An {@link XrpBalances} containing the balance or error for each address.
+   * @throws XrpException If the thread was interrupted while waiting for responses.
+   */
+  @Override
+  public XrpBalances getBalances(
+      Collection<String> xrplAccountAddresses,
+      int maximumConcurrentRequests
+  ) throws XrpException {
+    Objects.requireNonNull(xrplAccountAddresses);
+    Preconditions.checkArgument(maximumConcurrentRequests > 0, "maximumConcurrentRequests must be positive");
+
+    Set<String> requestedAddresses = new LinkedHashSet<>(xrplAccountAddresses);
+    Map<String, BigInteger> balances = new ConcurrentHashMap<>();
+    Map<String, Exception> errors = new ConcurrentHashMap<>();
+
+    // Validate and decode every address before making any requests.
+    Map<String, String> classicAddresses = new LinkedHashMap<>();
+    for (String xrplAccountAddress : requestedAddresses) {
+      try {
+        classicAddresses.put(xrplAccountAddress, XAddress.of(xrplAccountAddress).classicAddress().address());
+      } catch (XrpException exception) {
+        errors.put(xrplAccountAddress, exception);
+      }
     }
-    ClassicAddress classicAddress = Utils.decodeXAddress(xrplAccountAddress);
 
-    AccountRoot accountData = this.getAccountData(classicAddress.address());
+    // Read accounts at the latest validated ledger until one exists, which pins the ledger for the rest.
+    Iterator<Map.Entry<String, String>> remainingAddresses = classicAddresses.entrySet().iterator();
+    Integer ledgerIndex = null;
+    while (ledgerIndex == null && remainingAddresses.hasNext()) {
+      Map.Entry<String, String> address = remainingAddresses.next();
+      long generation = this.accountDataCache.generation(address.getValue());
+      try {
+        GetAccountInfoResponse response = this.stub.getAccountInfo(
+            getAccountInfoRequest(address.getValue(), validatedLedger())
+        );
+        this.accountDataCache.put(
+            address.getValue(), response.getAccountData(), response.getLedgerIndex(), generation
+        );
+        balances.put(address.getKey(), balanceOf(response.getAccountData()));
+        ledgerIndex = response.getLedgerIndex();
+      } catch (StatusRuntimeException exception) {
+        errors.put(address.getKey(), exception);
+      }
+    }
 
-    return BigInteger.valueOf(accountData.getBalance().getValue().getXrpAmount().getDrops());
+    if (ledgerIndex != null) {
+      LedgerSpecifier pinnedLedger = LedgerSpecifier.newBuilder().setSequence(ledgerIndex).build();
+      Semaphore permits = new Semaphore(maximumConcurrentRequests);
+      try {
+        while (remainingAddresses.hasNext()) {
+          Map.Entry<String, String> address = remainingAddresses.next();
+
+          // Accounts cached at the pinned ledger do not need to be fetched again.
+          AccountDataCache.Entry cachedEntry = this.accountDataCache.getIfPresent(address.getValue());
+          if (cachedEntry != null && cachedEntry.ledgerIndex() == ledgerIndex) {
+            if (cachedEntry.accountData().isPresent()) {
+              balances.put(address.getKey(), balanceOf(cachedEntry.accountData().get()));
+            } else {
+              errors.put(address.getKey(), new StatusRuntimeException(cachedEntry.notFoundStatus()));
+            }
+            continue;
+          }
+
+          permits.acquire();
+          ListenableFuture<GetAccountInfoResponse> response = this.futureStub.getAccountInfo(
+              getAccountInfoRequest(address.getValue(), pinnedLedger)
+          );
+          Futures.addCallback(response, new FutureCallback<GetAccountInfoResponse>() {
+            @Override
+            public void onSuccess(GetAccountInfoResponse result) {
+              try {
+                balances.put(address.getKey(), balanceOf(result.getAccountData()));
+              } finally {
+                permits.release();
+              }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+              try {
+                errors.put(
+                    address.getKey(),
+                    throwable instanceof Exception ? (Exception) throwable : new RuntimeException(throwable)
+                );
+              } finally {
+                permits.release();
+              }
+            }
+          }, MoreExecutors.directExecutor());
+        }
+
+        // Wait for every request in flight to complete.
+        permits.acquire(maximumConcurrentRequests);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new XrpException(XrpExceptionType.UNKNOWN, "Interrupted while retrieving balances.");
+      }
+    }
+
+    // Report results in the order the addresses were requested.
+    ImmutableXrpBalances.Builder result = XrpBalances.builder();
+    for (String xrplAccountAddress : requestedAddresses) {
+      if (balances.containsKey(xrplAccountAddress)) {
+        result.putBalances(xrplAccountAddress, balances.get(xrplAccountAddress));
+      } else {
+        result.putErrors(xrplAccountAddress, errors.get(xrplAccountAddress));
+      }
+    }
+    return result.ledgerIndex(Optional.ofNullable(ledgerIndex)).build();
   }
 
   /**
@@ -138,14 +327,51 @@ public class DefaultXrpClient implements XrpClientDecorator {
 
     RawTransactionStatus transactionStatus = getRawTransactionStatus(transactionHash);
 
-    // Return PENDING if the transaction is not validated.
-    if (!transactionStatus.getValidated()) {
-      return TransactionStatus.PENDING;
-    }
+    return this.paymentStatusFrom(transactionStatus);
+  }
 
-    return transactionStatus.getTransactionStatusCode().startsWith("tes")
-        ? TransactionStatus.SUCCEEDED
-        : TransactionStatus.FAILED;
+  /**
+   * Retrieve the statuses of many Payments, reporting each one as soon as it is known.
+   *
+   * @param transactionHashes         The hashes of the transactions.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param listener                  A {@link BulkResultListener} which receives the status of each transaction.
+   * @throws XrpException If the thread was interrupted while waiting for responses.
+   */
+  @Override
+  public void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    this.getTransactions(
+        transactionHashes,
+        maximumConcurrentRequests,
+        response -> this.paymentStatusFrom(new RawTransactionStatus(response)),
+        listener
+    );
+  }
+
+  /**
+   * Retrieve many payment transactions, reporting each one as soon as it is retrieved.
+   *
+   * @param transactionHashes         The hashes of the transactions.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param listener                  A {@link BulkResultListener} which receives each transaction.
+   * @throws XrpException If the thread was interrupted while waiting for responses.
+   */
+  @Override
+  public void getPayments(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException {
+    this.getTransactions(
+        transactionHashes,
+        maximumConcurrentRequests,
+        response -> XrpTransaction.from(response, this.xrplNetwork),
+        listener
+    );
   }
 
   /**
@@ -170,6 +396,29 @@ public class DefaultXrpClient implements XrpClientDecorator {
     return this.sendWithDetails(sendXrpDetails);
   }
 
+  /**
+   * Send the given amount of XRP from the source wallet to the destination address.
+   *
+   * @param amount             The {@link XrpDrops} to send.
+   * @param destinationAddress The {@link XAddress} to send the XRP to.
+   * @param sourceWallet       The {@link Wallet} which holds the XRP.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public String send(
+      final XrpDrops amount,
+      final XAddress destinationAddress,
+      final Wallet sourceWallet
+  ) throws XrpException {
+    return this.sendPayment(
+        amount,
+        destinationAddress,
+        sourceWallet,
+        Optional.empty(),
+        this.prepareBaseTransaction(sourceWallet)
+    );
+  }
+
   /**
    * Send the given amount of XRP from the source wallet to the destination address, allowing
    * for additional details to be specified for use with supplementary features of the XRP ledger.
@@ -179,24 +428,258 @@ public class DefaultXrpClient implements XrpClientDecorator {
    * @throws XrpException If the given inputs were invalid.
    */
   public String sendWithDetails(final SendXrpDetails sendXrpDetails) throws XrpException {
-    final BigInteger drops = sendXrpDetails.amount();
-    final Wallet sourceWallet = sendXrpDetails.sender();
-    final String destinationAddress = sendXrpDetails.destination();
-    final Optional<List<XrpMemo>> xrpMemoList = sendXrpDetails.memosList();
+    Objects.requireNonNull(sendXrpDetails.destination());
+    XAddress destinationAddress = XAddress.of(sendXrpDetails.destination());
+
+    return this.sendPayment(
+        sendXrpDetails.drops(),
+        destinationAddress,
+        sendXrpDetails.sender(),
+        sendXrpDetails.memosList(),
+        this.prepareBaseTransaction(sendXrpDetails.sender())
+    );
+  }
+
+  /**
+   * Send XRP as described by the given details to an address which is still being resolved, such as the XRP address
+   * of a PayID. The fee, sequence and last ledger sequence are retrieved while the address is resolved, and the
+   * payment is signed and submitted once both are ready.
+   *
+   * @param sendXrpDetails     a {@link SendXrpDetails} wrapper object containing details for constructing a
+   *                           transaction. Its destination is replaced by the resolved address.
+   * @param destinationAddress A {@link CompletableFuture} which completes with the X-Address to send the XRP to.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If the given inputs were invalid.
+   * @throws CompletionException If the destination address could not be resolved, with the reason as its cause.
+   */
+  public String sendWithDetails(
+      final SendXrpDetails sendXrpDetails,
+      final CompletableFuture<String> destinationAddress
+  ) throws XrpException {
+    Objects.requireNonNull(destinationAddress);
+
+    Transaction.Builder transactionBuilder;
+    try {
+      transactionBuilder = this.prepareBaseTransaction(sendXrpDetails.sender());
+    } catch (XrpException | RuntimeException exception) {
+      // Report a destination which could not be resolved first, as if it had been resolved before preparing.
+      destinationAddress.join();
+      throw exception;
+    }
+
+    return this.sendPayment(
+        sendXrpDetails.drops(),
+        XAddress.of(destinationAddress.join()),
+        sendXrpDetails.sender(),
+        sendXrpDetails.memosList(),
+        transactionBuilder
+    );
+  }
+
+  /**
+   * Send many payments, reporting the outcome of each one as soon as it is known. Returns once every payment has been
+   * reported.
+   * <p>
+   * Payments from the same wallet share a single preparation: they are given consecutive sequence numbers and
+   * submitted in order without waiting for earlier payments to be validated. A payment with an invalid destination is
+   * reported before anything is submitted and does not use a sequence number. A payment which the XRP Ledger rejects
+   * without applying, such as a malformed one, is reported as an error; later payments from the same wallet may then
+   * be held by the ledger until their last ledger sequence has passed.
+   * </p>
+   *
+   * @param payments                  The payments to send. Each destination must be an X-Address.
+   * @param maximumConcurrentRequests The maximum number of submissions to have in flight at once.
+   * @param listener                  A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws XrpException If the thread was interrupted while waiting for submissions to complete.
+   */
+  @Override
+  public void sendPayments(
+      List<SendXrpDetails> payments,
+      int maximumConcurrentRequests,
+      PaymentResultListener listener
+  ) throws XrpException {
+    Objects.requireNonNull(payments);
+    Objects.requireNonNull(listener);
+    Preconditions.checkArgument(maximumConcurrentRequests > 0, "maximumConcurrentRequests must be positive");
+
+    // Validate every destination before preparing anything, and group the remaining payments by sender.
+    XAddress[] destinationAddresses = new XAddress[payments.size()];
+    Map<String, List<Integer>> paymentsBySender = new LinkedHashMap<>();
+    for (int index = 0; index < payments.size(); index++) {
+      SendXrpDetails payment = payments.get(index);
+      try {
+        destinationAddresses[index] = XAddress.of(payment.destination());
+        paymentsBySender.computeIfAbsent(payment.sender().getClassicAddress().address(), sender -> new ArrayList<>())
+            .add(index);
+      } catch (XrpException | RuntimeException exception) {
+        listener.onError(index, exception);
+      }
+    }
+
+    Semaphore permits = new Semaphore(maximumConcurrentRequests);
+    try {
+      for (List<Integer> senderPayments : paymentsBySender.values()) {
+        Wallet sourceWallet = payments.get(senderPayments.get(0)).sender();
+        Transaction.Builder baseTransaction;
+        try {
+          baseTransaction = this.prepareBaseTransaction(sourceWallet);
+        } catch (XrpException | RuntimeException exception) {
+          senderPayments.forEach(index -> listener.onError(index, exception));
+          continue;
+        }
+
+        int sequence = baseTransaction.getSequence().getValue();
+        for (int index : senderPayments) {
+          SendXrpDetails payment = payments.get(index);
+          Transaction transaction = this.buildPayment(
+              payment.drops(),
+              destinationAddresses[index],
+              payment.memosList(),
+              baseTransaction.clone().setSequence(Common.Sequence.newBuilder().setValue(sequence))
+          );
+          byte[] signedTransaction;
+          try {
+            signedTransaction = Signer.signTransaction(transaction, sourceWallet);
+          } catch (RuntimeException exception) {
+            listener.onError(index, exception);
+            continue;
+          }
+          sequence++;
+
+          permits.acquire();
+          this.submitPayment(
+              signedTransaction,
+              Arrays.asList(
+                  transaction.getAccount().getValue().getAddress(),
+                  destinationAddresses[index].classicAddress().address()
+              ),
+              index,
+              listener,
+              permits
+          );
+        }
+      }
+
+      // Wait for every submission in flight to complete.
+      permits.acquire(maximumConcurrentRequests);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new XrpException(XrpExceptionType.UNKNOWN, "Interrupted while sending payments.");
+    }
+  }
+
+  /**
+   * Submit a signed payment without waiting for the response, and report its outcome to the given listener.
+   *
+   * @param signedTransaction The signed payment.
+   * @param touchedAccounts   The classic addresses of the accounts whose data is changed by the payment.
+   * @param index             The position of the payment in its batch.
+   * @param listener          A {@link PaymentResultListener} which receives the outcome.
+   * @param permits           A {@link Semaphore} to release once the outcome has been reported.
+   */
+  private void submitPayment(
+      byte[] signedTransaction,
+      List<String> touchedAccounts,
+      int index,
+      PaymentResultListener listener,
+      Semaphore permits
+  ) {
+    SubmitTransactionRequest request = SubmitTransactionRequest.newBuilder()
+        .setSignedTransaction(ByteString.copyFrom(signedTransaction))
+        .build();
+    ListenableFuture<SubmitTransactionResponse> response = this.futureStub.submitTransaction(request);
+    Futures.addCallback(response, new FutureCallback<SubmitTransactionResponse>() {
+      @Override
+      public void onSuccess(SubmitTransactionResponse result) {
+        try {
+          accountDataCache.invalidate(touchedAccounts);
+          if (isRejected(result)) {
+            listener.onError(index, new XrpException(
+                XrpExceptionType.UNKNOWN,
+                "The payment was rejected: " + result.getEngineResult().getResult()
+            ));
+          } else {
+            listener.onSubmitted(index, Utils.byteArrayToHex(result.getHash().toByteArray()));
+          }
+        } finally {
+          permits.release();
+        }
+      }
+
+      @Override
+      public void onFailure(Throwable throwable) {
+        try {
+          // The payment may have been applied even if the response was lost.
+          accountDataCache.invalidate(touchedAccounts);
+          listener.onError(
+              index,
+              throwable instanceof Exception ? (Exception) throwable : new RuntimeException(throwable)
+          );
+        } finally {
+          permits.release();
+        }
+      }
+    }, MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Determine whether the preliminary result of a submission shows that the transaction was not applied and will not
+   * be applied later.
+   *
+   * @param response The response to the submission.
+   * @return true if the transaction was malformed, failed or was rejected by the server, otherwise false.
+   */
+  private static boolean isRejected(SubmitTransactionResponse response) {
+    switch (response.getEngineResult().getResultType()) {
+      case RESULT_TYPE_TEF:
+      case RESULT_TYPE_TEL:
+      case RESULT_TYPE_TEM:
+        return true;
+      default:
+        return false;
+    }
+  }
 
+  /**
+   * Build, sign and submit a payment to an address which has already been validated, from a transaction whose common
+   * fields have already been prepared.
+   */
+  private String sendPayment(
+      final XrpDrops drops,
+      final XAddress destinationAddress,
+      final Wallet sourceWallet,
+      final Optional<List<XrpMemo>> xrpMemoList,
+      final Transaction.Builder transactionBuilder
+  ) throws XrpException {
     Objects.requireNonNull(drops);
     Objects.requireNonNull(destinationAddress);
     Objects.requireNonNull(sourceWallet);
 
-    if (!Utils.isValidXAddress(destinationAddress)) {
-      throw XrpException.xAddressRequiredException;
-    }
+    Transaction transaction = this.buildPayment(drops, destinationAddress, xrpMemoList, transactionBuilder);
 
+    // The destination is already decoded, so there is no need to decode it again to find the accounts touched.
+    List<String> touchedAccounts = Arrays.asList(
+        transaction.getAccount().getValue().getAddress(),
+        destinationAddress.classicAddress().address()
+    );
+    return this.signAndSubmitTransaction(transaction, sourceWallet, touchedAccounts);
+  }
+
+  /**
+   * Add a payment to an address which has already been validated to a transaction whose common fields have already
+   * been prepared.
+   */
+  private Transaction buildPayment(
+      final XrpDrops drops,
+      final XAddress destinationAddress,
+      final Optional<List<XrpMemo>> xrpMemoList,
+      final Transaction.Builder transactionBuilder
+  ) {
     AccountAddress destinationAccountAddress = AccountAddress.newBuilder()
-        .setAddress(destinationAddress)
+        .setAddress(destinationAddress.value())
         .build();
 
-    XRPDropsAmount dropsAmount = XRPDropsAmount.newBuilder().setDrops(drops.longValue()).build();
+    XRPDropsAmount dropsAmount = XRPDropsAmount.newBuilder().setDrops(drops.toDrops()).build();
     CurrencyAmount currencyAmount = CurrencyAmount.newBuilder().setXrpAmount(dropsAmount).build();
     Amount amount = Amount.newBuilder().setValue(currencyAmount).build();
     Destination destination = Destination.newBuilder().setValue(destinationAccountAddress).build();
@@ -207,29 +690,28 @@ public class DefaultXrpClient implements XrpClientDecorator {
 
     Payment payment = paymentBuilder.build();
 
-    Transaction.Builder transactionBuilder = this.prepareBaseTransaction(sourceWallet);
     transactionBuilder.setPayment(payment);
 
     if (xrpMemoList.isPresent() && xrpMemoList.get().size() > 0) {
       List<Memo> memoList = xrpMemoList.get().stream()
                                           .map(memo -> {
                                             Memo.Builder xrpMemoBuilder = Memo.newBuilder();
-                                            if (memo.data().length > 0) {
-                                              ByteString memoDataBytes = ByteString.copyFrom(memo.data());
+                                            if (!memo.dataBytes().isEmpty()) {
+                                              ByteString memoDataBytes = memo.dataBytes();
                                               Common.MemoData memoData = Common.MemoData.newBuilder()
                                                                                         .setValue(memoDataBytes)
                                                                                         .build();
                                               xrpMemoBuilder.setMemoData(memoData);
                                             }
-                                            if (memo.format().length > 0) {
-                                              ByteString memoFormatBytes = ByteString.copyFrom(memo.format());
+                                            if (!memo.formatBytes().isEmpty()) {
+                                              ByteString memoFormatBytes = memo.formatBytes();
                                               Common.MemoFormat memoFormat = Common.MemoFormat.newBuilder()
                                                                                             .setValue(memoFormatBytes)
                                                                                             .build();
                                               xrpMemoBuilder.setMemoFormat(memoFormat);
                                             }
-                                            if (memo.type().length > 0) {
-                                              ByteString memoTypeBytes = ByteString.copyFrom(memo.type());
+                                            if (!memo.typeBytes().isEmpty()) {
+                                              ByteString memoTypeBytes = memo.typeBytes();
                                               Common.MemoType memoType = Common.MemoType.newBuilder()
                                                                                         .setValue(memoTypeBytes)
                                                                                         .build();
@@ -241,9 +723,7 @@ public class DefaultXrpClient implements XrpClientDecorator {
       transactionBuilder.addAllMemos(memoList);
     } // end if memos present
 
-    Transaction transaction = transactionBuilder.build();
-
-    return this.signAndSubmitTransaction(transaction, sourceWallet);
+    return transactionBuilder.build();
   }
 
   /**
@@ -260,12 +740,18 @@ public class DefaultXrpClient implements XrpClientDecorator {
    * @throws XrpException If there was a problem communicating with the XRP Ledger.
    */
   public List<XrpTransaction> paymentHistory(String address) throws XrpException {
-    if (!Utils.isValidXAddress(address)) {
-      throw XrpException.xAddressRequiredException;
-    }
-    ClassicAddress classicAddress = Utils.decodeXAddress(address);
+    return this.paymentHistory(XAddress.of(address));
+  }
 
-    AccountAddress account = AccountAddress.newBuilder().setAddress(classicAddress.address()).build();
+  /**
+   * Return the history of payments for the given account.
+   *
+   * @param address The {@link XAddress} (account) for which to retrieve payment history.
+   * @return An array of transactions associated with the account.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public List<XrpTransaction> paymentHistory(XAddress address) throws XrpException {
+    AccountAddress account = AccountAddress.newBuilder().setAddress(address.classicAddress().address()).build();
     GetAccountTransactionHistoryRequest request = GetAccountTransactionHistoryRequest.newBuilder()
                                                                                 .setAccount(account)
                                                                                 .build();
@@ -304,20 +790,18 @@ public class DefaultXrpClient implements XrpClientDecorator {
    */
   @Override
   public boolean accountExists(String address) throws XrpException {
-    if (!Utils.isValidXAddress(address)) {
-      throw XrpException.xAddressRequiredException;
-    }
-    try {
-      this.getBalance(address);
-      return true;
-    } catch (StatusRuntimeException exception) {
-      if (exception.getStatus().getCode() == io.grpc.Status.NOT_FOUND.getCode()) {
-        return false;
-      }
-      throw exception; // re-throw if code other than NOT_FOUND
-    } catch (Exception exception) {
-      throw exception; // re-throw any other type of exception
-    }
+    return this.accountExists(XAddress.of(address));
+  }
+
+  /**
+   * Check if an address exists on the XRP Ledger.
+   *
+   * @param address The {@link XAddress} to check the existence of.
+   * @return A boolean if the account is on the XRP Ledger.
+   */
+  @Override
+  public boolean accountExists(XAddress address) throws XrpException {
+    return this.lookupAccountData(address.classicAddress().address()).isPresent();
   }
 
   @Override
@@ -334,11 +818,7 @@ public class DefaultXrpClient implements XrpClientDecorator {
   public XrpTransaction getPayment(String transactionHash) throws XrpException {
     Objects.requireNonNull(transactionHash);
 
-    byte[] transactionHashBytes = Utils.hexStringToByteArray(transactionHash);
-    ByteString transactionHashByteString = ByteString.copyFrom(transactionHashBytes);
-    GetTransactionRequest request = GetTransactionRequest.newBuilder()
-            .setHash(transactionHashByteString).build();
-    GetTransactionResponse response = this.stub.getTransaction(request);
+    GetTransactionResponse response = this.getTransaction(transactionHash);
     return XrpTransaction.from(response, this.xrplNetwork);
   }
 
@@ -361,8 +841,8 @@ public class DefaultXrpClient implements XrpClientDecorator {
     Transaction transaction = transactionBuilder.setAccountSet(accountSet).build();
 
     String transactionHash = this.signAndSubmitTransaction(transaction, wallet);
-    TransactionStatus status = this.getPaymentStatus(transactionHash);
     RawTransactionStatus rawStatus = this.getRawTransactionStatus(transactionHash);
+    TransactionStatus status = this.paymentStatusFrom(rawStatus);
 
     return TransactionResult.builder()
                             .hash(transactionHash)
@@ -405,6 +885,7 @@ public class DefaultXrpClient implements XrpClientDecorator {
         .build();
 
     GetAccountInfoResponse getAccountInfoResponse = this.stub.getAccountInfo(getAccountInfoRequest);
+    this.accountDataCache.observeValidatedLedger(getAccountInfoResponse.getLedgerIndex());
 
     return getAccountInfoResponse.getLedgerIndex();
   }
@@ -413,14 +894,159 @@ public class DefaultXrpClient implements XrpClientDecorator {
   public RawTransactionStatus getRawTransactionStatus(String transactionHash) throws XrpException {
     Objects.requireNonNull(transactionHash);
 
+    GetTransactionResponse response = this.getTransaction(transactionHash);
+
+    return new RawTransactionStatus(response);
+  }
+
+  /**
+   * Retrieve a transaction, from the {@link TransactionCache} if possible.
+   *
+   * @param transactionHash The hash of the transaction, encoded as hex.
+   * @return The {@link GetTransactionResponse} for the transaction.
+   */
+  private GetTransactionResponse getTransaction(String transactionHash) {
     byte[] transactionHashBytes = Utils.hexStringToByteArray(transactionHash);
     ByteString transactionHashByteString = ByteString.copyFrom(transactionHashBytes);
+
+    GetTransactionResponse cachedResponse = this.transactionCache.getIfPresent(transactionHashByteString);
+    if (cachedResponse != null) {
+      return cachedResponse;
+    }
+
     GetTransactionRequest request = GetTransactionRequest.newBuilder()
                                               .setHash(transactionHashByteString).build();
-
     GetTransactionResponse response = this.stub.getTransaction(request);
+    this.transactionCache.put(transactionHashByteString, response);
 
-    return new RawTransactionStatus(response);
+    return response;
+  }
+
+  /**
+   * Retrieve many transactions concurrently, from the {@link TransactionCache} where possible, and report each one
+   * to the listener as soon as it is retrieved. Returns once every transaction has been reported.
+   *
+   * @param transactionHashes         The hashes of the transactions, encoded as hex.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param transform                 Converts a {@link GetTransactionResponse} into the reported result.
+   * @param listener                  A {@link BulkResultListener} which receives each result.
+   * @param <T>                       The type of the reported result.
+   * @throws XrpException If the thread was interrupted while waiting for responses.
+   */
+  private <T> void getTransactions(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      Function<GetTransactionResponse, T> transform,
+      BulkResultListener<T> listener
+  ) throws XrpException {
+    Objects.requireNonNull(transactionHashes);
+    Objects.requireNonNull(listener);
+    Preconditions.checkArgument(maximumConcurrentRequests > 0, "maximumConcurrentRequests must be positive");
+
+    Semaphore permits = new Semaphore(maximumConcurrentRequests);
+    try {
+      for (String transactionHash : new LinkedHashSet<>(transactionHashes)) {
+        ByteString transactionHashByteString;
+        try {
+          transactionHashByteString = ByteString.copyFrom(Utils.hexStringToByteArray(transactionHash));
+        } catch (RuntimeException exception) {
+          listener.onError(
+              transactionHash,
+              new XrpException(XrpExceptionType.INVALID_INPUTS, "Invalid transaction hash: " + transactionHash)
+          );
+          continue;
+        }
+
+        GetTransactionResponse cachedResponse = this.transactionCache.getIfPresent(transactionHashByteString);
+        if (cachedResponse != null) {
+          listener.onSuccess(transactionHash, transform.apply(cachedResponse));
+          continue;
+        }
+
+        permits.acquire();
+        GetTransactionRequest request = GetTransactionRequest.newBuilder().setHash(transactionHashByteString).build();
+        ListenableFuture<GetTransactionResponse> response = this.futureStub.getTransaction(request);
+        Futures.addCallback(response, new FutureCallback<GetTransactionResponse>() {
+          @Override
+          public void onSuccess(GetTransactionResponse result) {
+            try {
+              transactionCache.put(transactionHashByteString, result);
+              listener.onSuccess(transactionHash, transform.apply(result));
+            } finally {
+              permits.release();
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable throwable) {
+            try {
+              listener.onError(
+                  transactionHash,
+                  throwable instanceof Exception ? (Exception) throwable : new RuntimeException(throwable)
+              );
+            } finally {
+              permits.release();
+            }
+          }
+        }, MoreExecutors.directExecutor());
+      }
+
+      // Wait for every request in flight to complete.
+      permits.acquire(maximumConcurrentRequests);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new XrpException(XrpExceptionType.UNKNOWN, "Interrupted while retrieving transactions.");
+    }
+  }
+
+  /**
+   * Determine the status of a Payment from its raw status.
+   *
+   * @param transactionStatus The {@link RawTransactionStatus} of the Payment.
+   * @return The {@link TransactionStatus} of the Payment.
+   */
+  private TransactionStatus paymentStatusFrom(RawTransactionStatus transactionStatus) {
+    // Return PENDING if the transaction is not validated.
+    if (!transactionStatus.getValidated()) {
+      return TransactionStatus.PENDING;
+    }
+
+    return transactionStatus.getTransactionStatusCode().startsWith("tes")
+        ? TransactionStatus.SUCCEEDED
+        : TransactionStatus.FAILED;
+  }
+
+  /**
+   * Build a request for the data of an account.
+   *
+   * @param xrplAccountAddress The classic address of the account.
+   * @param ledgerSpecifier    The {@link LedgerSpecifier} of the ledger to read the account at.
+   * @return A {@link GetAccountInfoRequest}.
+   */
+  private static GetAccountInfoRequest getAccountInfoRequest(
+      String xrplAccountAddress,
+      LedgerSpecifier ledgerSpecifier
+  ) {
+    AccountAddress account = AccountAddress.newBuilder().setAddress(xrplAccountAddress).build();
+
+    return GetAccountInfoRequest.newBuilder().setAccount(account).setLedger(ledgerSpecifier).build();
+  }
+
+  /**
+   * A {@link LedgerSpecifier} for the latest validated ledger.
+   */
+  private static LedgerSpecifier validatedLedger() {
+    return LedgerSpecifier.newBuilder().setShortcut(LedgerSpecifier.Shortcut.SHORTCUT_VALIDATED).build();
+  }
+
+  /**
+   * The balance of an account, in drops.
+   *
+   * @param accountData The {@link AccountRoot} of the account.
+   * @return A {@link BigInteger} with the number of drops in the account.
+   */
+  private static BigInteger balanceOf(AccountRoot accountData) {
+    return BigInteger.valueOf(accountData.getBalance().getValue().getXrpAmount().getDrops());
   }
 
   private XRPDropsAmount getMinimumFee() {
@@ -432,18 +1058,55 @@ public class DefaultXrpClient implements XrpClientDecorator {
     return this.stub.getFee(request);
   }
 
+  /**
+   * Retrieve the data of an account in the latest validated ledger, preferring the account data cache.
+   *
+   * @param xrplAccountAddress The classic address of the account.
+   * @return The {@link AccountRoot} of the account.
+   * @throws StatusRuntimeException with the NOT_FOUND status rippled reported if the account does not exist.
+   */
   private AccountRoot getAccountData(String xrplAccountAddress) {
-    AccountAddress account = AccountAddress.newBuilder().setAddress(xrplAccountAddress).build();
+    AccountDataCache.Entry entry = this.lookupAccountEntry(xrplAccountAddress);
+    return entry.accountData().orElseThrow(() -> new StatusRuntimeException(entry.notFoundStatus()));
+  }
 
-    LedgerSpecifier ledgerSpecifier = LedgerSpecifier.newBuilder()
-                                                      .setShortcut(LedgerSpecifier.Shortcut.SHORTCUT_VALIDATED).build();
+  /**
+   * Look up the data of an account in the latest validated ledger, preferring the account data cache.
+   *
+   * @param xrplAccountAddress The classic address of the account.
+   * @return An {@link Optional} containing the {@link AccountRoot} of the account, or empty if it does not exist.
+   */
+  private Optional<AccountRoot> lookupAccountData(String xrplAccountAddress) {
+    return this.lookupAccountEntry(xrplAccountAddress).accountData();
+  }
 
-    GetAccountInfoRequest request = GetAccountInfoRequest.newBuilder()
-                                                          .setAccount(account).setLedger(ledgerSpecifier).build();
+  /**
+   * Read an account from the account data cache, or from the latest validated ledger if it is not cached.
+   *
+   * @param xrplAccountAddress The classic address of the account.
+   * @return An {@link AccountDataCache.Entry} holding either the data of the account or the status it was not found
+   *         with.
+   */
+  private AccountDataCache.Entry lookupAccountEntry(String xrplAccountAddress) {
+    AccountDataCache.Entry cachedEntry = this.accountDataCache.getIfPresent(xrplAccountAddress);
+    if (cachedEntry != null) {
+      return cachedEntry;
+    }
 
-    GetAccountInfoResponse response = this.stub.getAccountInfo(request);
+    GetAccountInfoRequest request = getAccountInfoRequest(xrplAccountAddress, validatedLedger());
+    long generation = this.accountDataCache.generation(xrplAccountAddress);
 
-    return response.getAccountData();
+    try {
+      GetAccountInfoResponse response = this.stub.getAccountInfo(request);
+      return this.accountDataCache.put(
+          xrplAccountAddress, response.getAccountData(), response.getLedgerIndex(), generation
+      );
+    } catch (StatusRuntimeException exception) {
+      if (exception.getStatus().getCode() != Status.Code.NOT_FOUND) {
+        throw exception;
+      }
+      return this.accountDataCache.putNotFound(xrplAccountAddress, exception.getStatus(), generation);
+    }
   }
 
   /**
@@ -458,7 +1121,7 @@ public class DefaultXrpClient implements XrpClientDecorator {
    * @throws XrpException if the sending address is invalid.
    */
   private Transaction.Builder prepareBaseTransaction(Wallet wallet) throws XrpException {
-    ClassicAddress classicAddress = Utils.decodeXAddress(wallet.getAddress());
+    ClassicAddress classicAddress = wallet.getClassicAddress();
 
     XRPDropsAmount fee = this.getMinimumFee();
     AccountRoot accountData = this.getAccountData(classicAddress.address());
@@ -469,9 +1132,8 @@ public class DefaultXrpClient implements XrpClientDecorator {
                                           .build();
     Account sourceAccount = Account.newBuilder().setValue(sourceAccountAddress).build();
 
-    byte[] signingPublicKeyBytes = Utils.hexStringToByteArray(wallet.getPublicKey());
     SigningPublicKey signingPublicKey = SigningPublicKey.newBuilder()
-            .setValue(ByteString.copyFrom(signingPublicKeyBytes))
+            .setValue(wallet.getPublicKeyBytes())
             .build();
 
     int lastLedgerSequenceInt = openLedgerSequence + MAX_LEDGER_VERSION_OFFSET;
@@ -496,15 +1158,60 @@ public class DefaultXrpClient implements XrpClientDecorator {
    * @throws XrpException if there was a problem communicating with the XRP Ledger.
    */
   private String signAndSubmitTransaction(Transaction transaction, Wallet wallet) throws XrpException {
+    return this.signAndSubmitTransaction(transaction, wallet, this.accountsTouchedBy(transaction));
+  }
+
+  /**
+   * Signs the provided transaction using the wallet and submits to the XRPL network.
+   *
+   * @param transaction     The transaction to be signed and submitted.
+   * @param wallet          The wallet that will sign and submit this transaction.
+   * @param touchedAccounts The classic addresses of the accounts whose data is changed by the transaction.
+   * @returns A String representing the hash of the submitted transaction.
+   * @throws XrpException if there was a problem communicating with the XRP Ledger.
+   */
+  private String signAndSubmitTransaction(
+      Transaction transaction,
+      Wallet wallet,
+      List<String> touchedAccounts
+  ) throws XrpException {
     byte[] signedTransaction = Signer.signTransaction(transaction, wallet);
 
     SubmitTransactionRequest request = SubmitTransactionRequest.newBuilder()
             .setSignedTransaction(ByteString.copyFrom(signedTransaction))
             .build();
 
-    SubmitTransactionResponse response = this.stub.submitTransaction(request);
+    SubmitTransactionResponse response;
+    try {
+      response = this.stub.submitTransaction(request);
+    } finally {
+      // The transaction may have been applied even if the response was lost, so always drop cached account data for
+      // the accounts it touches.
+      this.accountDataCache.invalidate(touchedAccounts);
+    }
 
     byte[] hashBytes = response.getHash().toByteArray();
     return Utils.byteArrayToHex(hashBytes);
   }
+
+  /**
+   * Determine the classic addresses of the accounts whose data is changed by the given transaction.
+   *
+   * @param transaction The transaction to inspect.
+   * @returns A {@link List} of classic addresses.
+   */
+  private List<String> accountsTouchedBy(Transaction transaction) {
+    String sourceAddress = transaction.getAccount().getValue().getAddress();
+    if (!transaction.hasPayment()) {
+      return Arrays.asList(sourceAddress);
+    }
+
+    // Payments built by this client address their destination with an X-Address.
+    String destinationAddress = transaction.getPayment().getDestination().getValue().getAddress();
+    ClassicAddress destinationClassicAddress = Utils.decodeXAddress(destinationAddress);
+    if (destinationClassicAddress != null) {
+      destinationAddress = destinationClassicAddress.address();
+    }
+    return Arrays.asList(sourceAddress, destinationAddress);
+  }
 }
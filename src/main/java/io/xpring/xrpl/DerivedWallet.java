@@ -0,0 +1,91 @@
+package io.xpring.xrpl;
+
+/**
+ * A wallet derived by an {@link HdWalletDeriver}.
+ * <p>
+ * It holds its address and public key. Its private key is derived by the deriver each time it is requested, which
+ * fails once the deriver has been closed.
+ * </p>
+ */
+public final class DerivedWallet {
+  private final HdWalletDeriver deriver;
+  private final int index;
+  private final String derivationPath;
+  private final String publicKey;
+  private final String address;
+  private final boolean isTest;
+
+  DerivedWallet(
+      HdWalletDeriver deriver, int index, String derivationPath, String publicKey, String address, boolean isTest
+  ) {
+    this.deriver = deriver;
+    this.index = index;
+    this.derivationPath = derivationPath;
+    this.publicKey = publicKey;
+    this.address = address;
+    this.isTest = isTest;
+  }
+
+  /**
+   * The index of this wallet among the children of its parent path.
+   *
+   * @return The index of this wallet.
+   */
+  public int getIndex() {
+    return index;
+  }
+
+  /**
+   * The full derivation path of this wallet.
+   *
+   * @return The parent path followed by the index of this wallet.
+   */
+  public String getDerivationPath() {
+    return derivationPath;
+  }
+
+  /**
+   * The address of this wallet.
+   *
+   * @return An X-Address without a tag.
+   */
+  public String getAddress() {
+    return address;
+  }
+
+  /**
+   * The public key of this wallet.
+   *
+   * @return A hex encoded compressed public key, as returned by {@link Wallet#getPublicKey()}.
+   */
+  public String getPublicKey() {
+    return publicKey;
+  }
+
+  /**
+   * The private key of this wallet, derived on every call.
+   *
+   * @return A hex encoded private key, as returned by {@link Wallet#getPrivateKey()}.
+   * @throws XrpException If the private key could not be derived.
+   * @throws IllegalStateException If the deriver has been closed.
+   */
+  public String getPrivateKey() throws XrpException {
+    return deriver.privateKey(index);
+  }
+
+  /**
+   * A {@link Wallet} which can sign for this wallet's address, created from its keys.
+   *
+   * @return A new {@link Wallet}.
+   * @throws XrpException If the private key could not be derived.
+   * @throws IllegalStateException If the deriver has been closed.
+   */
+  public Wallet toWallet() throws XrpException {
+    return Wallet.walletFromKeys(publicKey, getPrivateKey(), isTest);
+  }
+
+  @Override
+  public String toString() {
+    return "DerivedWallet{derivationPath=" + derivationPath + ", address=" + address + "}";
+  }
+}
@@ -0,0 +1,200 @@
+package io.xpring.xrpl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.spec.ECPoint;
+import java.util.Arrays;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * A BIP32 extended private key: a private key, its chain code and its public key.
+ * <p>
+ * The private key and chain code are held in byte arrays, which {@link #destroy()} overwrites, and so are the
+ * intermediate values of each derivation. Children which are not hardened can have their public keys derived without
+ * computing their private keys.
+ * </p>
+ *
+ * @see <a href="https://github.com/bitcoin/bips/blob/master/bip-0032.mediawiki">BIP32</a>
+ */
+final class ExtendedPrivateKey {
+  /**
+   * The lowest index of a hardened child.
+   */
+  static final int HARDENED = 0x80000000;
+
+  private static final byte[] MASTER_SECRET = "Bitcoin seed".getBytes(StandardCharsets.US_ASCII);
+  private static final String HMAC_ALGORITHM = "HmacSHA512";
+
+  private final byte[] privateKey;
+  private final byte[] chainCode;
+  private final ECPoint publicKey;
+
+  private ExtendedPrivateKey(byte[] privateKey, byte[] chainCode, ECPoint publicKey) {
+    this.privateKey = privateKey;
+    this.chainCode = chainCode;
+    this.publicKey = publicKey;
+  }
+
+  /**
+   * Compute the master key of a seed.
+   *
+   * @param seed A BIP39 seed, which is not modified.
+   * @return The master {@link ExtendedPrivateKey}.
+   * @throws GeneralSecurityException If the seed gives an invalid master key.
+   */
+  static ExtendedPrivateKey fromSeed(byte[] seed) throws GeneralSecurityException {
+    return fromHmac(hmac(MASTER_SECRET, seed));
+  }
+
+  /**
+   * Derive a descendant of this key.
+   *
+   * @param path The index of each child along the path, where hardened indexes include {@link #HARDENED}.
+   * @return The {@link ExtendedPrivateKey} at the end of the path, which is this key if the path is empty.
+   * @throws GeneralSecurityException If a key along the path is invalid.
+   */
+  ExtendedPrivateKey derive(int[] path) throws GeneralSecurityException {
+    ExtendedPrivateKey key = this;
+    for (int index : path) {
+      ExtendedPrivateKey child = key.deriveChild(index);
+      if (key != this) {
+        key.destroy();
+      }
+      key = child;
+    }
+    return key;
+  }
+
+  /**
+   * The compressed public key of this key.
+   *
+   * @return A 33 byte compressed public key.
+   */
+  byte[] getPublicKey() {
+    return Secp256k1.compress(publicKey);
+  }
+
+  /**
+   * Derive the compressed public key of a child which is not hardened, without computing its private key.
+   *
+   * @param index The index of the child, less than {@link #HARDENED}.
+   * @return A 33 byte compressed public key.
+   * @throws GeneralSecurityException If the child at this index is invalid.
+   */
+  byte[] childPublicKey(int index) throws GeneralSecurityException {
+    byte[] digest = hmac(chainCode, publicData(index));
+    byte[] tweak = Arrays.copyOf(digest, Secp256k1.SCALAR_LENGTH);
+    try {
+      if (!Secp256k1.isValidScalar(tweak)) {
+        throw new GeneralSecurityException("Invalid child at index " + index);
+      }
+      return Secp256k1.compress(Secp256k1.add(Secp256k1.multiplyGenerator(tweak), publicKey));
+    } finally {
+      Arrays.fill(digest, (byte) 0);
+      Arrays.fill(tweak, (byte) 0);
+    }
+  }
+
+  /**
+   * Derive the private key of a child which is not hardened.
+   *
+   * @param index The index of the child, less than {@link #HARDENED}.
+   * @return A 32 byte private key, which the caller should overwrite once it is no longer needed.
+   * @throws GeneralSecurityException If the child at this index is invalid.
+   */
+  byte[] childPrivateKey(int index) throws GeneralSecurityException {
+    byte[] digest = hmac(chainCode, publicData(index));
+    byte[] childKey = Arrays.copyOf(digest, Secp256k1.SCALAR_LENGTH);
+    Arrays.fill(digest, (byte) 0);
+    if (!Secp256k1.isValidScalar(childKey) || !Secp256k1.addModN(childKey, privateKey, childKey)) {
+      Arrays.fill(childKey, (byte) 0);
+      throw new GeneralSecurityException("Invalid child at index " + index);
+    }
+    return childKey;
+  }
+
+  /**
+   * Overwrite the private key and chain code.
+   */
+  void destroy() {
+    Arrays.fill(privateKey, (byte) 0);
+    Arrays.fill(chainCode, (byte) 0);
+  }
+
+  private ExtendedPrivateKey deriveChild(int index) throws GeneralSecurityException {
+    byte[] data;
+    if ((index & HARDENED) != 0) {
+      data = new byte[1 + Secp256k1.SCALAR_LENGTH + 4];
+      System.arraycopy(privateKey, 0, data, 1, Secp256k1.SCALAR_LENGTH);
+      putIndex(index, data);
+    } else {
+      data = publicData(index);
+    }
+
+    byte[] digest = hmac(chainCode, data);
+    Arrays.fill(data, (byte) 0);
+    byte[] childKey = Arrays.copyOf(digest, Secp256k1.SCALAR_LENGTH);
+    if (!Secp256k1.isValidScalar(childKey) || !Secp256k1.addModN(childKey, privateKey, childKey)) {
+      Arrays.fill(digest, (byte) 0);
+      Arrays.fill(childKey, (byte) 0);
+      throw new GeneralSecurityException("Invalid child at index " + Integer.toUnsignedString(index));
+    }
+    return of(childKey, chainCodeOf(digest));
+  }
+
+  /**
+   * The data hashed to derive a child which is not hardened: the public key of this key followed by the index.
+   */
+  private byte[] publicData(int index) {
+    byte[] data = Arrays.copyOf(Secp256k1.compress(publicKey), Secp256k1.COMPRESSED_LENGTH + 4);
+    putIndex(index, data);
+    return data;
+  }
+
+  private static ExtendedPrivateKey fromHmac(byte[] digest) throws GeneralSecurityException {
+    byte[] key = Arrays.copyOf(digest, Secp256k1.SCALAR_LENGTH);
+    if (!Secp256k1.isValidScalar(key)) {
+      Arrays.fill(digest, (byte) 0);
+      Arrays.fill(key, (byte) 0);
+      throw new GeneralSecurityException("Invalid master key");
+    }
+    return of(key, chainCodeOf(digest));
+  }
+
+  /**
+   * Create a key, computing its public key. The arrays are overwritten if that fails.
+   */
+  private static ExtendedPrivateKey of(byte[] privateKey, byte[] chainCode) throws GeneralSecurityException {
+    try {
+      return new ExtendedPrivateKey(privateKey, chainCode, Secp256k1.multiplyGenerator(privateKey));
+    } catch (GeneralSecurityException exception) {
+      Arrays.fill(privateKey, (byte) 0);
+      Arrays.fill(chainCode, (byte) 0);
+      throw exception;
+    }
+  }
+
+  /**
+   * Take the chain code from the second half of a digest, overwriting the digest.
+   */
+  private static byte[] chainCodeOf(byte[] digest) {
+    byte[] chainCode = Arrays.copyOfRange(digest, Secp256k1.SCALAR_LENGTH, digest.length);
+    Arrays.fill(digest, (byte) 0);
+    return chainCode;
+  }
+
+  private static void putIndex(int index, byte[] data) {
+    int offset = data.length - 4;
+    data[offset] = (byte) (index >>> 24);
+    data[offset + 1] = (byte) (index >>> 16);
+    data[offset + 2] = (byte) (index >>> 8);
+    data[offset + 3] = (byte) index;
+  }
+
+  private static byte[] hmac(byte[] key, byte[] data) throws GeneralSecurityException {
+    Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+    mac.init(new SecretKeySpec(key, HMAC_ALGORITHM));
+    return mac.doFinal(data);
+  }
+}
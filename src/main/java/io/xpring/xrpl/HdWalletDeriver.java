@@ -0,0 +1,420 @@
+package io.xpring.xrpl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.BaseEncoding;
+import io.xpring.xrpl.javascript.JavaScriptWallet;
+import io.xpring.xrpl.javascript.JavaScriptWalletFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Derives many HD wallets which share a mnemonic and a parent derivation path, such as deposit addresses.
+ * <p>
+ * Creating each wallet with {@link Wallet#Wallet(String, String)} computes the seed of the mnemonic and every key
+ * along the derivation path from scratch. A deriver computes the seed and the extended private key of the parent path
+ * once, overwrites the seed, and derives each child's public key from the parent's. A child's private key is computed
+ * only when it is requested. Children are derived in Java, concurrently, and only their addresses are encoded by
+ * JavaScript.
+ * </p><p>
+ * Keys are multiplied on the curve by the JDK's elliptic curve provider. On JDKs whose provider does not implement
+ * secp256k1, children are instead derived from the seed by the same JavaScript BIP32 implementation as
+ * {@link Wallet}, one after another, and the seed is held until the deriver is closed.
+ * </p><p>
+ * Closing the deriver overwrites the parent key or the seed, after which no more children or private keys can be
+ * derived.
+ * </p>
+ */
+public final class HdWalletDeriver implements AutoCloseable {
+  /**
+   * The parent of the default derivation path. Its children are the default wallet and the wallets after it.
+   */
+  public static final String DEFAULT_PARENT_PATH = "m/44'/144'/0'/0";
+
+  /**
+   * The largest index of a child which is not hardened.
+   */
+  private static final int MAXIMUM_INDEX = Integer.MAX_VALUE;
+
+  private static final int PBKDF2_ROUNDS = 2048;
+  private static final int SEED_BITS = 512;
+  private static final int BITS_PER_WORD = 11;
+
+  private final String parentPath;
+  private final boolean isTest;
+
+  /**
+   * The extended private key of the parent path, or null if children are derived by JavaScript.
+   */
+  private final ExtendedPrivateKey parentKey;
+
+  /**
+   * The seed, if children are derived by JavaScript, or null.
+   */
+  private final byte[] seed;
+
+  /**
+   * Guards the parent key and seed, which derivations read and closing overwrites.
+   */
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private boolean closed;
+
+  private HdWalletDeriver(String parentPath, boolean isTest, ExtendedPrivateKey parentKey, byte[] seed) {
+    this.parentPath = parentPath;
+    this.isTest = isTest;
+    this.parentKey = parentKey;
+    this.seed = seed;
+  }
+
+  /**
+   * Create a deriver for the children of {@link #DEFAULT_PARENT_PATH}.
+   *
+   * @param mnemonic A space separated mnemonic.
+   * @param isTest   Whether the derived addresses are for use on a test network.
+   * @return A new {@link HdWalletDeriver}.
+   * @throws XrpException If the mnemonic is malformed.
+   */
+  public static HdWalletDeriver fromMnemonic(String mnemonic, boolean isTest) throws XrpException {
+    return fromMnemonic(mnemonic, DEFAULT_PARENT_PATH, isTest);
+  }
+
+  /**
+   * Create a deriver for the children of the given parent path.
+   *
+   * @param mnemonic   A space separated BIP39 mnemonic in English, whose checksum is validated.
+   * @param parentPath The derivation path whose children are derived, such as {@link #DEFAULT_PARENT_PATH}.
+   * @param isTest     Whether the derived addresses are for use on a test network.
+   * @return A new {@link HdWalletDeriver}.
+   * @throws XrpException If the mnemonic or parent path are malformed.
+   */
+  public static HdWalletDeriver fromMnemonic(String mnemonic, String parentPath, boolean isTest) throws XrpException {
+    Objects.requireNonNull(mnemonic);
+    Objects.requireNonNull(parentPath);
+
+    String normalizedMnemonic = Normalizer.normalize(mnemonic, Normalizer.Form.NFKD);
+    if (!isValidMnemonic(normalizedMnemonic)) {
+      throw new XrpException(
+          XrpExceptionType.INVALID_INPUTS, JavaScriptWalletFactory.invalidMnemonicOrDerivationPathMessage
+      );
+    }
+    return fromSeed(seedFromMnemonic(normalizedMnemonic), parentPath, isTest);
+  }
+
+  /**
+   * Create a deriver for the children of the given parent path from a seed. The deriver takes ownership of the seed,
+   * and overwrites it once it is no longer needed.
+   *
+   * @param seed       The BIP39 seed of a mnemonic.
+   * @param parentPath The derivation path whose children are derived.
+   * @param isTest     Whether the derived addresses are for use on a test network.
+   * @return A new {@link HdWalletDeriver}.
+   * @throws XrpException If the parent path is malformed.
+   */
+  @VisibleForTesting
+  static HdWalletDeriver fromSeed(byte[] seed, String parentPath, boolean isTest) throws XrpException {
+    return fromSeed(seed, parentPath, isTest, Secp256k1.isSupported());
+  }
+
+  /**
+   * Create a deriver from a seed, choosing whether children are derived in Java or by JavaScript.
+   */
+  @VisibleForTesting
+  static HdWalletDeriver fromSeed(byte[] seed, String parentPath, boolean isTest, boolean inJava) throws XrpException {
+    int[] path = parsePath(parentPath);
+    if (!inJava) {
+      return new HdWalletDeriver(parentPath, isTest, null, seed);
+    }
+
+    ExtendedPrivateKey masterKey = null;
+    try {
+      masterKey = ExtendedPrivateKey.fromSeed(seed);
+      ExtendedPrivateKey parentKey = masterKey.derive(path);
+      return new HdWalletDeriver(parentPath, isTest, parentKey, null);
+    } catch (GeneralSecurityException exception) {
+      throw new XrpException(XrpExceptionType.UNKNOWN, "Could not derive parent key: " + exception.getMessage());
+    } finally {
+      Arrays.fill(seed, (byte) 0);
+      if (masterKey != null && path.length > 0) {
+        masterKey.destroy();
+      }
+    }
+  }
+
+  /**
+   * The derivation path whose children this deriver derives.
+   *
+   * @return A derivation path, such as {@link #DEFAULT_PARENT_PATH}.
+   */
+  public String getParentPath() {
+    return parentPath;
+  }
+
+  /**
+   * Derive a single child. Its private key is not computed.
+   *
+   * @param index The index of the child, which is not hardened.
+   * @return The {@link DerivedWallet} at the given index.
+   * @throws XrpException If the child could not be derived.
+   */
+  public DerivedWallet derive(int index) throws XrpException {
+    if (index < 0) {
+      throw new IllegalArgumentException("Index must not be negative: " + index);
+    }
+
+    String publicKey;
+    Lock readLock = lock.readLock();
+    readLock.lock();
+    try {
+      checkOpen();
+      if (parentKey != null) {
+        publicKey = BaseEncoding.base16().encode(parentKey.childPublicKey(index));
+      } else {
+        publicKey = javaScriptChild(index).getPublicKey();
+      }
+    } catch (GeneralSecurityException exception) {
+      throw new XrpException(
+          XrpExceptionType.UNKNOWN, "Could not derive child " + index + ": " + exception.getMessage()
+      );
+    } finally {
+      readLock.unlock();
+    }
+
+    String address = JavaScriptWalletFactory.get().addressFromPublicKey(publicKey, isTest);
+    return new DerivedWallet(this, index, derivationPath(index), publicKey, address, isTest);
+  }
+
+  /**
+   * Derive a range of children, concurrently on the common fork join pool. Their private keys are not computed.
+   *
+   * @param fromIndex The index of the first child, which is not hardened.
+   * @param count     The number of children to derive.
+   * @return A {@link List} of {@link DerivedWallet}s, in order of index.
+   * @throws XrpException If a child could not be derived.
+   */
+  public List<DerivedWallet> derive(int fromIndex, int count) throws XrpException {
+    if (fromIndex < 0 || count < 0 || count - 1 > MAXIMUM_INDEX - fromIndex) {
+      throw new IllegalArgumentException("Invalid range of " + count + " children from " + fromIndex);
+    }
+    if (parentKey == null) {
+      List<DerivedWallet> wallets = new ArrayList<>(count);
+      for (int offset = 0; offset < count; offset++) {
+        wallets.add(derive(fromIndex + offset));
+      }
+      return wallets;
+    }
+
+    try {
+      return IntStream.range(0, count).parallel()
+          .mapToObj(offset -> {
+            try {
+              return derive(fromIndex + offset);
+            } catch (XrpException exception) {
+              throw new CompletionException(exception);
+            }
+          })
+          .collect(Collectors.toList());
+    } catch (CompletionException exception) {
+      throw (XrpException) exception.getCause();
+    }
+  }
+
+  /**
+   * Overwrite the parent key or seed. Children and their private keys can no longer be derived afterwards.
+   */
+  @Override
+  public void close() {
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      if (parentKey != null) {
+        parentKey.destroy();
+      } else {
+        Arrays.fill(seed, (byte) 0);
+      }
+      closed = true;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Compute the private key of a child.
+   *
+   * @param index The index of the child.
+   * @return A hex encoded private key, in the format of {@link Wallet#getPrivateKey()}.
+   * @throws XrpException If the private key could not be derived.
+   */
+  String privateKey(int index) throws XrpException {
+    Lock readLock = lock.readLock();
+    readLock.lock();
+    try {
+      checkOpen();
+      if (parentKey == null) {
+        return javaScriptChild(index).getPrivateKey();
+      }
+
+      byte[] privateKey = parentKey.childPrivateKey(index);
+      try {
+        return "00" + BaseEncoding.base16().encode(privateKey);
+      } finally {
+        Arrays.fill(privateKey, (byte) 0);
+      }
+    } catch (GeneralSecurityException exception) {
+      throw new XrpException(
+          XrpExceptionType.UNKNOWN, "Could not derive child " + index + ": " + exception.getMessage()
+      );
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * Compute the BIP39 seed of a mnemonic without a passphrase.
+   *
+   * @param mnemonic A space separated mnemonic.
+   * @return The 64 byte seed.
+   * @throws XrpException If the seed could not be computed.
+   */
+  @VisibleForTesting
+  static byte[] seedFromMnemonic(String mnemonic) throws XrpException {
+    char[] password = Normalizer.normalize(mnemonic, Normalizer.Form.NFKD).toCharArray();
+    byte[] salt = Normalizer.normalize("mnemonic", Normalizer.Form.NFKD).getBytes(StandardCharsets.UTF_8);
+    PBEKeySpec keySpec = new PBEKeySpec(password, salt, PBKDF2_ROUNDS, SEED_BITS);
+    try {
+      SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA512");
+      return factory.generateSecret(keySpec).getEncoded();
+    } catch (GeneralSecurityException exception) {
+      throw new XrpException(XrpExceptionType.UNKNOWN, "Could not compute seed: " + exception.getMessage());
+    } finally {
+      keySpec.clearPassword();
+      Arrays.fill(password, '\0');
+    }
+  }
+
+  /**
+   * Whether a mnemonic consists of 12 to 24 words from the BIP39 English word list, in a multiple of three, whose
+   * checksum matches their entropy.
+   *
+   * @param mnemonic A space separated mnemonic, normalized to NFKD.
+   * @return true if the mnemonic is valid.
+   */
+  @VisibleForTesting
+  static boolean isValidMnemonic(String mnemonic) {
+    String[] words = mnemonic.split(" ", -1);
+    if (words.length < 12 || words.length > 24 || words.length % 3 != 0) {
+      return false;
+    }
+
+    int checksumBits = words.length * BITS_PER_WORD / 33;
+    byte[] bits = new byte[(words.length * BITS_PER_WORD + 7) / 8];
+    byte[] entropy = new byte[checksumBits * 4];
+    try {
+      for (int i = 0; i < words.length; i++) {
+        int wordIndex = Arrays.binarySearch(Wordlist.WORDS, words[i]);
+        if (wordIndex < 0) {
+          return false;
+        }
+        for (int bit = 0; bit < BITS_PER_WORD; bit++) {
+          if ((wordIndex & (1 << (BITS_PER_WORD - 1 - bit))) != 0) {
+            int position = i * BITS_PER_WORD + bit;
+            bits[position / 8] |= (byte) (0x80 >>> (position % 8));
+          }
+        }
+      }
+
+      System.arraycopy(bits, 0, entropy, 0, entropy.length);
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(entropy);
+      int checksumMask = 0xff << (8 - checksumBits);
+      return ((bits[entropy.length] ^ hash[0]) & checksumMask) == 0;
+    } catch (GeneralSecurityException exception) {
+      throw new IllegalStateException(exception);
+    } finally {
+      Arrays.fill(bits, (byte) 0);
+      Arrays.fill(entropy, (byte) 0);
+    }
+  }
+
+  /**
+   * Parse a derivation path, such as {@code m/44'/144'/0'/0}, into the index of each child along it.
+   *
+   * @param path A derivation path, optionally starting with {@code m}.
+   * @return The indexes along the path, where hardened indexes include {@link ExtendedPrivateKey#HARDENED}.
+   * @throws XrpException If the path is malformed.
+   */
+  @VisibleForTesting
+  static int[] parsePath(String path) throws XrpException {
+    String[] components = path.split("/", -1);
+    int start = components[0].equals("m") ? 1 : 0;
+    int[] indexes = new int[components.length - start];
+    for (int i = start; i < components.length; i++) {
+      String component = components[i];
+      boolean hardened = component.endsWith("'");
+      String digits = hardened ? component.substring(0, component.length() - 1) : component;
+      if (digits.isEmpty() || digits.length() > 10 || !digits.chars().allMatch(c -> c >= '0' && c <= '9')) {
+        throw new XrpException(
+            XrpExceptionType.INVALID_INPUTS, JavaScriptWalletFactory.invalidMnemonicOrDerivationPathMessage
+        );
+      }
+      long index = Long.parseLong(digits);
+      if (index > MAXIMUM_INDEX) {
+        throw new XrpException(
+            XrpExceptionType.INVALID_INPUTS, JavaScriptWalletFactory.invalidMnemonicOrDerivationPathMessage
+        );
+      }
+      indexes[i - start] = hardened ? (int) index | ExtendedPrivateKey.HARDENED : (int) index;
+    }
+    return indexes;
+  }
+
+  private String derivationPath(int index) {
+    return parentPath + "/" + index;
+  }
+
+  private JavaScriptWallet javaScriptChild(int index) throws XrpException {
+    return JavaScriptWalletFactory.get().walletFromSeedAndDerivationPath(seed, derivationPath(index), isTest);
+  }
+
+  private void checkOpen() {
+    if (closed) {
+      throw new IllegalStateException("The deriver has been closed");
+    }
+  }
+
+  /**
+   * The BIP39 English word list, in sorted order, loaded on first use.
+   */
+  private static final class Wordlist {
+    private static final String[] WORDS = load();
+
+    private static String[] load() {
+      InputStream stream = HdWalletDeriver.class.getResourceAsStream("/bip39/english.txt");
+      if (stream == null) {
+        throw new IllegalStateException("Missing BIP39 word list");
+      }
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+        return reader.lines().toArray(String[]::new);
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+  }
+}
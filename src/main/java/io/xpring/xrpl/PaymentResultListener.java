@@ -0,0 +1,30 @@
+package io.xpring.xrpl;
+
+/**
+ * Receives the outcome of each payment in a batch as soon as it is known.
+ * <p>
+ * Outcomes arrive in completion order, not request order, and may be delivered from several threads at once, so
+ * implementations must be thread safe. Exactly one of the methods is called for each payment in the batch.
+ * </p>
+ */
+public interface PaymentResultListener {
+  /**
+   * Called when a payment has been submitted to the XRP Ledger.
+   * <p>
+   * Submission does not mean the payment will be validated. Its final status can be retrieved with the transaction
+   * hash.
+   * </p>
+   *
+   * @param index           The position of the payment in the batch.
+   * @param transactionHash The hash of the submitted transaction.
+   */
+  void onSubmitted(int index, String transactionHash);
+
+  /**
+   * Called when a payment could not be submitted, or was rejected by the XRP Ledger without being applied.
+   *
+   * @param index The position of the payment in the batch.
+   * @param error The error encountered.
+   */
+  void onError(int index, Exception error);
+}
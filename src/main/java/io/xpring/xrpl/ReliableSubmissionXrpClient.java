@@ -4,6 +4,8 @@ import static org.awaitility.Awaitility.await;
 
 import io.xpring.xrpl.model.SendXrpDetails;
 import io.xpring.xrpl.model.TransactionResult;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpDrops;
 import io.xpring.xrpl.model.XrpTransaction;
 import org.awaitility.core.ConditionFactory;
 import org.awaitility.core.ConditionTimeoutException;
@@ -11,7 +13,11 @@ import org.hamcrest.Matchers;
 
 import java.math.BigInteger;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 public class ReliableSubmissionXrpClient implements XrpClientDecorator {
   // ledgers close every 4 seconds on average but are bucketed into 10s intervals.
@@ -28,11 +34,33 @@ public class ReliableSubmissionXrpClient implements XrpClientDecorator {
     return this.decoratedClient.getBalance(xrplAccountAddress);
   }
 
+  @Override
+  public BigInteger getBalance(XAddress xrplAccountAddress) throws XrpException {
+    return this.decoratedClient.getBalance(xrplAccountAddress);
+  }
+
+  @Override
+  public XrpBalances getBalances(
+      Collection<String> xrplAccountAddresses,
+      int maximumConcurrentRequests
+  ) throws XrpException {
+    return this.decoratedClient.getBalances(xrplAccountAddresses, maximumConcurrentRequests);
+  }
+
   @Override
   public TransactionStatus getPaymentStatus(String transactionHash) throws XrpException {
     return this.decoratedClient.getPaymentStatus(transactionHash);
   }
 
+  @Override
+  public void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    this.decoratedClient.getTransactionStatuses(transactionHashes, maximumConcurrentRequests, listener);
+  }
+
   @Override
   public String send(BigInteger amount, String destinationAddress, Wallet sourceWallet) throws XrpException {
     SendXrpDetails sendXrpDetails = SendXrpDetails.builder()
@@ -43,6 +71,13 @@ public class ReliableSubmissionXrpClient implements XrpClientDecorator {
     return this.sendWithDetails(sendXrpDetails);
   }
 
+  @Override
+  public String send(XrpDrops amount, XAddress destinationAddress, Wallet sourceWallet) throws XrpException {
+    String transactionHash = this.decoratedClient.send(amount, destinationAddress, sourceWallet);
+    this.awaitFinalTransactionResult(transactionHash, sourceWallet);
+    return transactionHash;
+  }
+
   @Override
   public String sendWithDetails(SendXrpDetails sendXrpDetails) throws XrpException {
     String transactionHash = this.decoratedClient.sendWithDetails(sendXrpDetails);
@@ -50,6 +85,45 @@ public class ReliableSubmissionXrpClient implements XrpClientDecorator {
     return transactionHash;
   }
 
+  @Override
+  public String sendWithDetails(SendXrpDetails sendXrpDetails, CompletableFuture<String> destinationAddress)
+      throws XrpException {
+    String transactionHash = this.decoratedClient.sendWithDetails(sendXrpDetails, destinationAddress);
+    this.awaitFinalTransactionResult(transactionHash, sendXrpDetails.sender());
+    return transactionHash;
+  }
+
+  @Override
+  public void sendPayments(
+      List<SendXrpDetails> payments,
+      int maximumConcurrentRequests,
+      PaymentResultListener listener
+  ) throws XrpException {
+    // Submit every payment first, so that they are validated together, then wait for each one in turn.
+    Map<Integer, String> submittedPayments = new ConcurrentSkipListMap<>();
+    this.decoratedClient.sendPayments(payments, maximumConcurrentRequests, new PaymentResultListener() {
+      @Override
+      public void onSubmitted(int index, String transactionHash) {
+        submittedPayments.put(index, transactionHash);
+      }
+
+      @Override
+      public void onError(int index, Exception error) {
+        listener.onError(index, error);
+      }
+    });
+
+    for (Map.Entry<Integer, String> submittedPayment : submittedPayments.entrySet()) {
+      int index = submittedPayment.getKey();
+      try {
+        this.awaitFinalTransactionResult(submittedPayment.getValue(), payments.get(index).sender());
+        listener.onSubmitted(index, submittedPayment.getValue());
+      } catch (XrpException | RuntimeException exception) {
+        listener.onError(index, exception);
+      }
+    }
+  }
+
   @Override
   public int getLatestValidatedLedgerSequence(String address) throws XrpException {
     return this.decoratedClient.getLatestValidatedLedgerSequence(address);
@@ -65,16 +139,35 @@ public class ReliableSubmissionXrpClient implements XrpClientDecorator {
     return this.decoratedClient.paymentHistory(address);
   }
 
+  @Override
+  public List<XrpTransaction> paymentHistory(XAddress address) throws XrpException {
+    return this.decoratedClient.paymentHistory(address);
+  }
+
   @Override
   public boolean accountExists(String address) throws XrpException {
     return this.decoratedClient.accountExists(address);
   }
 
+  @Override
+  public boolean accountExists(XAddress address) throws XrpException {
+    return this.decoratedClient.accountExists(address);
+  }
+
   @Override
   public XrpTransaction getPayment(String transactionHash) throws XrpException {
     return this.decoratedClient.getPayment(transactionHash);
   }
 
+  @Override
+  public void getPayments(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException {
+    this.decoratedClient.getPayments(transactionHashes, maximumConcurrentRequests, listener);
+  }
+
   @Override
   public TransactionResult enableDepositAuth(Wallet wallet) throws XrpException {
     TransactionResult initialResult = this.decoratedClient.enableDepositAuth(wallet);
@@ -112,7 +205,7 @@ public class ReliableSubmissionXrpClient implements XrpClientDecorator {
       // 2) Occur after the transaction has settled which is an unlikely enough case that we ignore it.
       //
       // This logic is brittle and should be replaced when we have an RPC that can give us this data.
-      ClassicAddress classicAddress = Utils.decodeXAddress(sender.getAddress());
+      ClassicAddress classicAddress = sender.getClassicAddress();
       if (classicAddress == null) {
         throw new XrpException(
                 XrpExceptionType.UNKNOWN,
@@ -0,0 +1,257 @@
+package io.xpring.xrpl;
+
+import com.google.common.io.BaseEncoding;
+
+import java.math.BigInteger;
+import java.security.AlgorithmParameters;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPrivateKeySpec;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Arrays;
+import javax.crypto.KeyAgreement;
+
+/**
+ * Operations on the secp256k1 curve for BIP32 derivation. Secret scalars are only ever multiplied by the JDK's
+ * elliptic curve provider.
+ * <p>
+ * The provider multiplies the generator by a scalar through ECDH, which yields only the x coordinate of the product.
+ * Its y coordinate is recovered from the curve equation, and the root which is used is the one which, added to the
+ * generator, gives the x coordinate of the product with the scalar plus one. That addition, like every other addition
+ * here, is of public points.
+ * </p><p>
+ * The providers of JDK 16 and later no longer implement secp256k1, in which case {@link #isSupported()} is false.
+ * </p>
+ */
+final class Secp256k1 {
+  /**
+   * The length of a scalar, in bytes.
+   */
+  static final int SCALAR_LENGTH = 32;
+
+  /**
+   * The length of a compressed public key, in bytes.
+   */
+  static final int COMPRESSED_LENGTH = 33;
+
+  /**
+   * The order of the field.
+   */
+  private static final BigInteger P =
+      new BigInteger("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEFFFFFC2F", 16);
+
+  /**
+   * The order of the generator, as a big endian scalar.
+   */
+  private static final byte[] N =
+      BaseEncoding.base16().decode("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD0364141");
+
+  /**
+   * The exponent which gives a square root modulo {@link #P}, which is 3 modulo 4.
+   */
+  private static final BigInteger SQUARE_ROOT_EXPONENT = P.add(BigInteger.ONE).shiftRight(2);
+
+  private static final BigInteger SEVEN = BigInteger.valueOf(7);
+
+  /**
+   * The x coordinate of twice the generator, which the provider is checked against.
+   */
+  private static final byte[] TWICE_GENERATOR_X =
+      BaseEncoding.base16().decode("C6047F9441ED7D6D3045406E95C07CD85C778E4B8CEF3CA7ABAC09B95C709EE5");
+
+  private static final byte[] ONE = scalarOf(1);
+
+  /**
+   * The curve parameters, or null if the provider does not implement the curve.
+   */
+  private static final ECParameterSpec PARAMETERS;
+
+  /**
+   * The generator as a public key, for use as the other party of ECDH.
+   */
+  private static final PublicKey GENERATOR;
+
+  static {
+    ECParameterSpec parameters;
+    PublicKey generator;
+    try {
+      AlgorithmParameters algorithmParameters = AlgorithmParameters.getInstance("EC");
+      algorithmParameters.init(new ECGenParameterSpec("secp256k1"));
+      parameters = algorithmParameters.getParameterSpec(ECParameterSpec.class);
+      generator = KeyFactory.getInstance("EC")
+          .generatePublic(new ECPublicKeySpec(parameters.getGenerator(), parameters));
+      if (!Arrays.equals(multiplyX(scalarOf(2), parameters, generator), TWICE_GENERATOR_X)) {
+        parameters = null;
+        generator = null;
+      }
+    } catch (GeneralSecurityException | RuntimeException exception) {
+      parameters = null;
+      generator = null;
+    }
+    PARAMETERS = parameters;
+    GENERATOR = generator;
+  }
+
+  /**
+   * Please do not initialize this static utility class.
+   */
+  private Secp256k1() {
+  }
+
+  /**
+   * Whether the JDK's elliptic curve provider implements secp256k1.
+   *
+   * @return true if the other operations of this class can be used.
+   */
+  static boolean isSupported() {
+    return PARAMETERS != null;
+  }
+
+  /**
+   * Multiply the generator by a secret scalar.
+   *
+   * @param scalar A big endian scalar between 1 and the order of the generator, exclusive.
+   * @return The product.
+   * @throws GeneralSecurityException If the product could not be computed.
+   */
+  static ECPoint multiplyGenerator(byte[] scalar) throws GeneralSecurityException {
+    byte[] nextScalar = new byte[SCALAR_LENGTH];
+    try {
+      if (!addModN(scalar, ONE, nextScalar)) {
+        throw new GeneralSecurityException("Scalar is out of range");
+      }
+      BigInteger productX = new BigInteger(1, multiplyX(scalar, PARAMETERS, GENERATOR));
+      BigInteger nextX = new BigInteger(1, multiplyX(nextScalar, PARAMETERS, GENERATOR));
+
+      BigInteger productY = squareRoot(productX.pow(3).add(SEVEN).mod(P));
+      ECPoint product = new ECPoint(productX, productY);
+      if (!add(product, PARAMETERS.getGenerator()).getAffineX().equals(nextX)) {
+        product = new ECPoint(productX, P.subtract(productY));
+        if (!add(product, PARAMETERS.getGenerator()).getAffineX().equals(nextX)) {
+          throw new GeneralSecurityException("Product is not on the curve");
+        }
+      }
+      return product;
+    } finally {
+      Arrays.fill(nextScalar, (byte) 0);
+    }
+  }
+
+  /**
+   * Add two distinct public points, neither of which is the negation of the other.
+   *
+   * @param first  A point on the curve.
+   * @param second Another point on the curve.
+   * @return The sum of the points.
+   * @throws GeneralSecurityException If the points have the same x coordinate.
+   */
+  static ECPoint add(ECPoint first, ECPoint second) throws GeneralSecurityException {
+    BigInteger dx = second.getAffineX().subtract(first.getAffineX()).mod(P);
+    if (dx.signum() == 0) {
+      throw new GeneralSecurityException("Points have the same x coordinate");
+    }
+    BigInteger slope = second.getAffineY().subtract(first.getAffineY()).multiply(dx.modInverse(P)).mod(P);
+    BigInteger sumX = slope.pow(2).subtract(first.getAffineX()).subtract(second.getAffineX()).mod(P);
+    BigInteger sumY = slope.multiply(first.getAffineX().subtract(sumX)).subtract(first.getAffineY()).mod(P);
+    return new ECPoint(sumX, sumY);
+  }
+
+  /**
+   * Serialize a point in compressed form.
+   *
+   * @param point A point on the curve.
+   * @return The parity of the y coordinate as 0x02 or 0x03, followed by the 32 byte x coordinate.
+   */
+  static byte[] compress(ECPoint point) {
+    byte[] compressed = new byte[COMPRESSED_LENGTH];
+    compressed[0] = (byte) (point.getAffineY().testBit(0) ? 0x03 : 0x02);
+    byte[] pointX = point.getAffineX().toByteArray();
+    int length = Math.min(pointX.length, SCALAR_LENGTH);
+    System.arraycopy(pointX, pointX.length - length, compressed, COMPRESSED_LENGTH - length, length);
+    return compressed;
+  }
+
+  /**
+   * Whether a scalar is between 1 and the order of the generator, exclusive. The check does not branch on the value.
+   *
+   * @param scalar A big endian scalar.
+   * @return true if the scalar is a valid private key.
+   */
+  static boolean isValidScalar(byte[] scalar) {
+    int borrow = 0;
+    int nonZero = 0;
+    for (int i = SCALAR_LENGTH - 1; i >= 0; i--) {
+      int difference = (scalar[i] & 0xff) - (N[i] & 0xff) - borrow;
+      borrow = (difference >> 8) & 1;
+      nonZero |= scalar[i];
+    }
+    return borrow == 1 && nonZero != 0;
+  }
+
+  /**
+   * Add two scalars modulo the order of the generator. The addition does not branch on their values.
+   *
+   * @param first  A big endian scalar less than the order of the generator.
+   * @param second Another big endian scalar less than the order of the generator.
+   * @param sum    The array to hold the sum, which may be one of the others.
+   * @return false if the sum is zero, and so not a valid private key.
+   */
+  static boolean addModN(byte[] first, byte[] second, byte[] sum) {
+    byte[] reduced = new byte[SCALAR_LENGTH];
+    int carry = 0;
+    int borrow = 0;
+    for (int i = SCALAR_LENGTH - 1; i >= 0; i--) {
+      carry += (first[i] & 0xff) + (second[i] & 0xff);
+      sum[i] = (byte) carry;
+      carry >>>= 8;
+      int difference = (sum[i] & 0xff) - (N[i] & 0xff) - borrow;
+      reduced[i] = (byte) difference;
+      borrow = (difference >> 8) & 1;
+    }
+
+    // The reduced sum is used if the sum overflowed or subtracting the order did not.
+    int mask = -(carry | (borrow ^ 1));
+    int nonZero = 0;
+    for (int i = 0; i < SCALAR_LENGTH; i++) {
+      sum[i] = (byte) ((sum[i] & ~mask) | (reduced[i] & mask));
+      nonZero |= sum[i];
+    }
+    Arrays.fill(reduced, (byte) 0);
+    return nonZero != 0;
+  }
+
+  /**
+   * The x coordinate of the product of the generator and a scalar, computed by the provider through ECDH.
+   */
+  private static byte[] multiplyX(byte[] scalar, ECParameterSpec parameters, PublicKey generator)
+      throws GeneralSecurityException {
+    PrivateKey privateKey = KeyFactory.getInstance("EC")
+        .generatePrivate(new ECPrivateKeySpec(new BigInteger(1, scalar), parameters));
+    KeyAgreement keyAgreement = KeyAgreement.getInstance("ECDH");
+    keyAgreement.init(privateKey);
+    keyAgreement.doPhase(generator, true);
+    return keyAgreement.generateSecret();
+  }
+
+  /**
+   * A square root modulo {@link #P}.
+   */
+  private static BigInteger squareRoot(BigInteger value) throws GeneralSecurityException {
+    BigInteger root = value.modPow(SQUARE_ROOT_EXPONENT, P);
+    if (!root.pow(2).mod(P).equals(value)) {
+      throw new GeneralSecurityException("Value has no square root");
+    }
+    return root;
+  }
+
+  private static byte[] scalarOf(int value) {
+    byte[] scalar = new byte[SCALAR_LENGTH];
+    scalar[SCALAR_LENGTH - 1] = (byte) value;
+    return scalar;
+  }
+}
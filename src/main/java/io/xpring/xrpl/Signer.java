@@ -30,7 +30,7 @@ public class Signer {
    */
   public static byte[] signTransaction(Transaction transaction, Wallet wallet) {
     try {
-      return javascriptSigner.signTransaction(transaction, wallet);
+      return javascriptSigner.signTransaction(transaction, wallet.getJavaScriptWallet());
     } catch (Exception exception) {
       throw new RuntimeException(exception);
     }
@@ -0,0 +1,135 @@
+package io.xpring.xrpl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.xrpl.rpc.v1.GetTransactionResponse;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded cache of {@link GetTransactionResponse} objects, keyed by 32 byte transaction hash.
+ * <p>
+ * A transaction which is included in a validated ledger never changes, so validated responses are retained until
+ * evicted. They are stored in their serialized protocol buffer form in direct {@link ByteBuffer}s, outside the Java
+ * heap, and the cache is bounded by the total number of serialized bytes it holds. Each lookup parses a fresh copy of
+ * the response.
+ * </p><p>
+ * Responses for transactions which are not yet validated may still change, so they are only retained for a short time
+ * on the heap. This lets back-to-back lookups of a freshly submitted transaction share a single request without
+ * hiding its validation for longer than that.
+ * </p>
+ */
+class TransactionCache {
+  /**
+   * The length of a transaction hash, in bytes.
+   */
+  static final int TRANSACTION_HASH_LENGTH = 32;
+
+  /**
+   * The default number of serialized bytes of validated transactions to retain.
+   */
+  static final long DEFAULT_MAXIMUM_VALIDATED_BYTES = 64L * 1024 * 1024;
+
+  /**
+   * The default number of unvalidated transactions to retain.
+   */
+  static final int DEFAULT_MAXIMUM_UNVALIDATED_SIZE = 1_000;
+
+  /**
+   * The default time to retain an unvalidated transaction. This is shorter than the interval at which
+   * {@link ReliableSubmissionXrpClient} polls for a transaction's status.
+   */
+  static final Duration DEFAULT_UNVALIDATED_MAXIMUM_AGE = Duration.ofMillis(500);
+
+  private final Cache<ByteString, ByteBuffer> validatedTransactions;
+  private final Cache<ByteString, GetTransactionResponse> unvalidatedTransactions;
+
+  /**
+   * Create a new cache with the default bounds.
+   */
+  TransactionCache() {
+    this(DEFAULT_MAXIMUM_VALIDATED_BYTES, DEFAULT_MAXIMUM_UNVALIDATED_SIZE, DEFAULT_UNVALIDATED_MAXIMUM_AGE);
+  }
+
+  /**
+   * Create a new cache.
+   *
+   * @param maximumValidatedBytes   The maximum number of serialized bytes of validated transactions to retain before
+   *                                evicting the least recently used.
+   * @param maximumUnvalidatedSize  The maximum number of unvalidated transactions to retain.
+   * @param unvalidatedMaximumAge   The maximum age of an unvalidated transaction.
+   */
+  TransactionCache(long maximumValidatedBytes, int maximumUnvalidatedSize, Duration unvalidatedMaximumAge) {
+    this(maximumValidatedBytes, maximumUnvalidatedSize, unvalidatedMaximumAge, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  TransactionCache(
+      long maximumValidatedBytes,
+      int maximumUnvalidatedSize,
+      Duration unvalidatedMaximumAge,
+      Ticker ticker
+  ) {
+    this.validatedTransactions = CacheBuilder.newBuilder()
+        .maximumWeight(maximumValidatedBytes)
+        .weigher((ByteString hash, ByteBuffer serializedResponse) -> serializedResponse.capacity())
+        .build();
+    this.unvalidatedTransactions = CacheBuilder.newBuilder()
+        .maximumSize(maximumUnvalidatedSize)
+        .expireAfterWrite(unvalidatedMaximumAge.toNanos(), TimeUnit.NANOSECONDS)
+        .ticker(ticker)
+        .build();
+  }
+
+  /**
+   * Look up the cached response for the given transaction.
+   *
+   * @param transactionHash The 32 byte hash of the transaction.
+   * @return The cached {@link GetTransactionResponse}, or null if there is none.
+   */
+  GetTransactionResponse getIfPresent(ByteString transactionHash) {
+    ByteBuffer serializedResponse = this.validatedTransactions.getIfPresent(transactionHash);
+    if (serializedResponse != null) {
+      try {
+        // Duplicate the buffer so that concurrent readers do not share a position.
+        return GetTransactionResponse.parseFrom(serializedResponse.duplicate());
+      } catch (InvalidProtocolBufferException exception) {
+        // The buffer was serialized by this class, so this should never happen. Treat it as a miss.
+        this.validatedTransactions.invalidate(transactionHash);
+        return null;
+      }
+    }
+    return this.unvalidatedTransactions.getIfPresent(transactionHash);
+  }
+
+  /**
+   * Cache a response for the given transaction.
+   *
+   * @param transactionHash The 32 byte hash of the transaction.
+   * @param response        The {@link GetTransactionResponse} for the transaction.
+   */
+  void put(ByteString transactionHash, GetTransactionResponse response) {
+    if (transactionHash.size() != TRANSACTION_HASH_LENGTH) {
+      return;
+    }
+
+    if (!response.getValidated()) {
+      this.unvalidatedTransactions.put(transactionHash, response);
+      return;
+    }
+
+    byte[] serializedBytes = response.toByteArray();
+    ByteBuffer serializedResponse = ByteBuffer.allocateDirect(serializedBytes.length);
+    serializedResponse.put(serializedBytes);
+    serializedResponse.flip();
+
+    this.validatedTransactions.put(transactionHash, serializedResponse.asReadOnlyBuffer());
+    this.unvalidatedTransactions.invalidate(transactionHash);
+  }
+}
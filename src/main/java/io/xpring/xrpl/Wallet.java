@@ -1,18 +1,34 @@
 package io.xpring.xrpl;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.ByteString;
 import io.xpring.xrpl.javascript.JavaScriptWallet;
 import io.xpring.xrpl.javascript.JavaScriptWalletFactory;
 import io.xpring.xrpl.javascript.JavaScriptWalletGenerationResult;
 
 /**
  * Represents an account on the XRP Ledger and provides signing / verifying cryptographic functions.
+ * <p>
+ * The address and public key are read from JavaScript once, when the wallet is created, and reused afterwards. The
+ * private key is read from JavaScript each time it is requested, so that it is not held in a Java string for the life
+ * of the wallet.
+ * </p>
  */
 public class Wallet {
   /**
    * The underlying JavaScript wallet.
    */
-  private JavaScriptWallet javaScriptWallet;
+  private final JavaScriptWallet javaScriptWallet;
+
+  // Material derived from the underlying JavaScript wallet.
+  private final String address;
+  private final String publicKey;
+  private final ByteString publicKeyBytes;
+
+  /**
+   * The classic address form of {@link #address}, decoded on first use.
+   */
+  private volatile ClassicAddress classicAddress;
 
   /**
    * Initialize a new wallet from a seed.
@@ -84,6 +100,9 @@ public class Wallet {
   @VisibleForTesting
   public Wallet(JavaScriptWallet javaScriptWallet) {
     this.javaScriptWallet = javaScriptWallet;
+    this.address = javaScriptWallet.getAddress();
+    this.publicKey = javaScriptWallet.getPublicKey();
+    this.publicKeyBytes = ByteString.copyFrom(Utils.hexStringToByteArray(publicKey));
   }
 
   /**
@@ -121,7 +140,7 @@ public class Wallet {
    * @return The address of this {@link Wallet}.
    */
   public String getAddress() {
-    return javaScriptWallet.getAddress();
+    return address;
   }
 
   /**
@@ -130,11 +149,11 @@ public class Wallet {
    * @return The public key of this {@link Wallet}.
    */
   public String getPublicKey() {
-    return javaScriptWallet.getPublicKey();
+    return publicKey;
   }
 
   /**
-   * The private key of this {@link Wallet}.
+   * The private key of this {@link Wallet}, read from the underlying JavaScript wallet on every call.
    *
    * @return The private key of this {@link Wallet}.
    */
@@ -142,6 +161,38 @@ public class Wallet {
     return javaScriptWallet.getPrivateKey();
   }
 
+  /**
+   * The public key of this {@link Wallet}, as used in the signing public key field of a transaction.
+   *
+   * @return The decoded public key of this {@link Wallet}.
+   */
+  ByteString getPublicKeyBytes() {
+    return publicKeyBytes;
+  }
+
+  /**
+   * The classic address of this {@link Wallet}.
+   *
+   * @return The {@link ClassicAddress} decoded from {@link #getAddress()}, or null if it could not be decoded.
+   */
+  ClassicAddress getClassicAddress() {
+    ClassicAddress result = classicAddress;
+    if (result == null) {
+      result = Utils.decodeXAddress(getAddress());
+      classicAddress = result;
+    }
+    return result;
+  }
+
+  /**
+   * The underlying JavaScript wallet, which signs transactions on behalf of this {@link Wallet}.
+   *
+   * @return The {@link JavaScriptWallet} this wallet wraps.
+   */
+  JavaScriptWallet getJavaScriptWallet() {
+    return javaScriptWallet;
+  }
+
   /**
    * Sign the given input.
    *
@@ -0,0 +1,112 @@
+package io.xpring.xrpl;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An X-Address which has been validated and decoded.
+ * <p>
+ * Validating and decoding an X-Address calls into JavaScript, so APIs which accept an {@link XAddress} rather than a
+ * {@link String} skip that work. Parse an address once and reuse it when the same address is used repeatedly.
+ * </p>
+ * @see <a href="https://xrpaddress.info/">https://xrpaddress.info/</a>
+ */
+public final class XAddress {
+  private final String value;
+  private final ClassicAddress classicAddress;
+
+  private XAddress(String value, ClassicAddress classicAddress) {
+    this.value = value;
+    this.classicAddress = classicAddress;
+  }
+
+  /**
+   * Validate and decode an X-Address.
+   *
+   * @param xAddress The X-Address to decode.
+   * @return The {@link XAddress}.
+   * @throws XrpException If the given string is not a valid X-Address.
+   */
+  @SuppressWarnings("checkstyle:ParameterName")
+  public static XAddress of(String xAddress) throws XrpException {
+    Objects.requireNonNull(xAddress);
+
+    // Decoding fails exactly when the address is not a valid X-Address, so a single call validates it as well.
+    ClassicAddress classicAddress = Utils.decodeXAddress(xAddress);
+    if (classicAddress == null) {
+      throw XrpException.xAddressRequiredException;
+    }
+    return new XAddress(xAddress, classicAddress);
+  }
+
+  /**
+   * Encode a {@link ClassicAddress} as an X-Address.
+   *
+   * @param classicAddress The {@link ClassicAddress} to encode.
+   * @return The {@link XAddress}.
+   * @throws XrpException If the classic address could not be encoded.
+   */
+  public static XAddress from(ClassicAddress classicAddress) throws XrpException {
+    Objects.requireNonNull(classicAddress);
+
+    String encodedAddress = Utils.encodeXAddress(classicAddress);
+    if (encodedAddress == null) {
+      throw new XrpException(XrpExceptionType.INVALID_INPUTS, "Invalid classic address: " + classicAddress.address());
+    }
+    return new XAddress(encodedAddress, classicAddress);
+  }
+
+  /**
+   * The encoded X-Address.
+   *
+   * @return A {@link String} representing the X-Address.
+   */
+  public String value() {
+    return value;
+  }
+
+  /**
+   * The classic address components of this X-Address.
+   *
+   * @return The decoded {@link ClassicAddress}.
+   */
+  public ClassicAddress classicAddress() {
+    return classicAddress;
+  }
+
+  /**
+   * The tag component of this X-Address.
+   *
+   * @return An {@link Optional} of {@link Integer} representing the tag.
+   */
+  public Optional<Integer> tag() {
+    return classicAddress.tag();
+  }
+
+  /**
+   * Whether this address is for use on a test network.
+   *
+   * @return A boolean indicating whether this address is for use on a test network.
+   */
+  public boolean isTest() {
+    return classicAddress.isTest();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof XAddress && ((XAddress) other).value.equals(this.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  /**
+   * The encoded X-Address.
+   */
+  @Override
+  public String toString() {
+    return value;
+  }
+}
@@ -3,10 +3,15 @@ package io.xpring.xrpl;
 import io.xpring.common.XrplNetwork;
 import io.xpring.xrpl.model.SendXrpDetails;
 import io.xpring.xrpl.model.TransactionResult;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpDrops;
 import io.xpring.xrpl.model.XrpTransaction;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * A client that can submit transactions to the XRP Ledger.
@@ -14,6 +19,11 @@ import java.util.List;
  * @see "https://xrpl.org"
  */
 public class XrpClient implements XrpClientInterface {
+  /**
+   * The default maximum number of requests to have in flight at once for bulk calls.
+   */
+  public static final int DEFAULT_MAXIMUM_CONCURRENT_REQUESTS = 16;
+
   private XrpClientDecorator decoratedClient;
 
   /**
@@ -28,8 +38,21 @@ public class XrpClient implements XrpClientInterface {
    * @param network The network this XRPClient is connecting to.
    */
   public XrpClient(String grpcUrl, XrplNetwork network) {
-    XrpClientDecorator defaultXrpClient = new DefaultXrpClient(grpcUrl, network);
-    this.decoratedClient = new ReliableSubmissionXrpClient(defaultXrpClient);
+    this(grpcUrl, network, AccountDataCacheSettings.defaults());
+  }
+
+  /**
+   * Initialize a new client with the given options and account data cache settings.
+   *
+   * @param grpcUrl The remote URL to use for gRPC calls.
+   * @param network The network this XRPClient is connecting to.
+   * @param accountDataCacheSettings The {@link AccountDataCacheSettings} which control how account data is cached,
+   *                                 such as {@link AccountDataCacheSettings#disabled()}.
+   */
+  public XrpClient(String grpcUrl, XrplNetwork network, AccountDataCacheSettings accountDataCacheSettings) {
+    XrpClientDecorator defaultXrpClient = new DefaultXrpClient(grpcUrl, network, accountDataCacheSettings);
+    XrpClientDecorator coalescingXrpClient = new CoalescingXrpClient(defaultXrpClient);
+    this.decoratedClient = new ReliableSubmissionXrpClient(coalescingXrpClient);
 
     this.network = network;
   }
@@ -53,6 +76,46 @@ public class XrpClient implements XrpClientInterface {
     return decoratedClient.getBalance(xrplAccountAddress);
   }
 
+  /**
+   * Get the balance of the specified account on the XRP Ledger.
+   *
+   * @param xrplAccountAddress The {@link XAddress} to retrieve the balance for.
+   * @return A {@link BigInteger} with the number of drops in this account.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  @Override
+  public BigInteger getBalance(final XAddress xrplAccountAddress) throws XrpException {
+    return decoratedClient.getBalance(xrplAccountAddress);
+  }
+
+  /**
+   * Get the balances of the specified accounts on the XRP Ledger, all read at the same validated ledger.
+   * <p>
+   * At most {@link #DEFAULT_MAXIMUM_CONCURRENT_REQUESTS} requests are in flight at once.
+   * </p>
+   * @param xrplAccountAddresses The X-Addresses to retrieve balances for.
+   * @return An {@link XrpBalances} containing the balance or error for each address.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public XrpBalances getBalances(Collection<String> xrplAccountAddresses) throws XrpException {
+    return this.getBalances(xrplAccountAddresses, DEFAULT_MAXIMUM_CONCURRENT_REQUESTS);
+  }
+
+  /**
+   * Get the balances of the specified accounts on the XRP Ledger, all read at the same validated ledger.
+   *
+   * @param xrplAccountAddresses      The X-Addresses to retrieve balances for.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @return An {@link XrpBalances} containing the balance or error for each address.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public XrpBalances getBalances(
+      Collection<String> xrplAccountAddresses,
+      int maximumConcurrentRequests
+  ) throws XrpException {
+    return decoratedClient.getBalances(xrplAccountAddresses, maximumConcurrentRequests);
+  }
+
   /**
    * Retrieve the transaction status for a Payment given transaction hash.
    * <p>
@@ -67,6 +130,38 @@ public class XrpClient implements XrpClientInterface {
     return decoratedClient.getPaymentStatus(transactionHash);
   }
 
+  /**
+   * Retrieve the statuses of many Payments, reporting each one as soon as it is known.
+   * <p>
+   * At most {@link #DEFAULT_MAXIMUM_CONCURRENT_REQUESTS} requests are in flight at once.
+   * </p>
+   * @param transactionHashes The hashes of the transactions.
+   * @param listener          A {@link BulkResultListener} which receives the status of each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    this.getTransactionStatuses(transactionHashes, DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, listener);
+  }
+
+  /**
+   * Retrieve the statuses of many Payments, reporting each one as soon as it is known.
+   *
+   * @param transactionHashes         The hashes of the transactions.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param listener                  A {@link BulkResultListener} which receives the status of each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    decoratedClient.getTransactionStatuses(transactionHashes, maximumConcurrentRequests, listener);
+  }
+
   /**
    * Send the given amount of XRP from the source wallet to the destination address.
    *
@@ -89,6 +184,24 @@ public class XrpClient implements XrpClientInterface {
     return decoratedClient.sendWithDetails(sendXrpDetails);
   }
 
+  /**
+   * Send the given amount of XRP from the source wallet to the destination address.
+   *
+   * @param amount             The {@link XrpDrops} to send.
+   * @param destinationAddress The {@link XAddress} to send the XRP to.
+   * @param sourceWallet       The {@link Wallet} which holds the XRP.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  @Override
+  public String send(
+      final XrpDrops amount,
+      final XAddress destinationAddress,
+      final Wallet sourceWallet
+  ) throws XrpException {
+    return decoratedClient.send(amount, destinationAddress, sourceWallet);
+  }
+
   /**
    * Send the given amount of XRP from the source wallet to the destination address, allowing
    * for additional details to be specified for use with supplementary features of the XRP ledger.
@@ -101,6 +214,61 @@ public class XrpClient implements XrpClientInterface {
     return decoratedClient.sendWithDetails(sendXrpDetails);
   }
 
+  /**
+   * Send XRP as described by the given details to an address which is still being resolved, such as the XRP address
+   * of a PayID. The fee and the state of the sending account are retrieved while the address is resolved, and the
+   * payment is signed and submitted once both are ready.
+   *
+   * @param sendXrpDetails     a {@link SendXrpDetails} wrapper object containing details for constructing a
+   *                           transaction. Its destination is replaced by the resolved address.
+   * @param destinationAddress A {@link CompletableFuture} which completes with the X-Address to send the XRP to.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If the given inputs were invalid.
+   * @throws CompletionException If the destination address could not be resolved, with the reason as its cause.
+   */
+  @Override
+  public String sendWithDetails(
+      final SendXrpDetails sendXrpDetails,
+      final CompletableFuture<String> destinationAddress
+  ) throws XrpException {
+    return decoratedClient.sendWithDetails(sendXrpDetails, destinationAddress);
+  }
+
+  /**
+   * Send many payments, reporting the outcome of each one as soon as it is known. Returns once every payment has been
+   * reported.
+   * <p>
+   * At most {@link #DEFAULT_MAXIMUM_CONCURRENT_REQUESTS} submissions are in flight at once.
+   * </p>
+   * @param payments The payments to send. Each destination must be an X-Address.
+   * @param listener A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public void sendPayments(List<SendXrpDetails> payments, PaymentResultListener listener) throws XrpException {
+    this.sendPayments(payments, DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, listener);
+  }
+
+  /**
+   * Send many payments, reporting the outcome of each one as soon as it is known. Returns once every payment has been
+   * reported.
+   * <p>
+   * Payments from the same wallet are given consecutive sequence numbers and submitted without waiting for earlier
+   * ones to be validated. A payment which cannot be sent, or which the XRP Ledger rejects without applying, is
+   * reported as an error without stopping the others.
+   * </p>
+   * @param payments                  The payments to send. Each destination must be an X-Address.
+   * @param maximumConcurrentRequests The maximum number of submissions to have in flight at once.
+   * @param listener                  A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public void sendPayments(
+      List<SendXrpDetails> payments,
+      int maximumConcurrentRequests,
+      PaymentResultListener listener
+  ) throws XrpException {
+    decoratedClient.sendPayments(payments, maximumConcurrentRequests, listener);
+  }
+
   /**
    * Check if an address exists on the XRP Ledger.
    *
@@ -108,10 +276,23 @@ public class XrpClient implements XrpClientInterface {
    * @return A boolean if the account is on the XRP Ledger.
    * @throws XrpException If the given inputs were invalid.
    */
+  @Override
   public boolean accountExists(final String xrplAccountAddress) throws XrpException {
     return decoratedClient.accountExists(xrplAccountAddress);
   }
 
+  /**
+   * Check if an address exists on the XRP Ledger.
+   *
+   * @param xrplAccountAddress The {@link XAddress} to check the existence of.
+   * @return A boolean if the account is on the XRP Ledger.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  @Override
+  public boolean accountExists(final XAddress xrplAccountAddress) throws XrpException {
+    return decoratedClient.accountExists(xrplAccountAddress);
+  }
+
   /**
    * Return the history of payments for the given account.
    * <p>
@@ -127,6 +308,18 @@ public class XrpClient implements XrpClientInterface {
     return decoratedClient.paymentHistory(xrplAccountAddress);
   }
 
+  /**
+   * Return the history of payments for the given account.
+   *
+   * @param xrplAccountAddress The {@link XAddress} (account) for which to retrieve payment history.
+   * @return An array of transactions associated with the account.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  @Override
+  public List<XrpTransaction> paymentHistory(XAddress xrplAccountAddress) throws XrpException {
+    return decoratedClient.paymentHistory(xrplAccountAddress);
+  }
+
   /**
    * Retrieve the payment transaction corresponding to the given transaction hash.
    * <p>
@@ -141,6 +334,38 @@ public class XrpClient implements XrpClientInterface {
     return decoratedClient.getPayment(transactionHash);
   }
 
+  /**
+   * Retrieve many payment transactions, reporting each one as soon as it is retrieved.
+   * <p>
+   * At most {@link #DEFAULT_MAXIMUM_CONCURRENT_REQUESTS} requests are in flight at once.
+   * </p>
+   * @param transactionHashes The hashes of the transactions.
+   * @param listener          A {@link BulkResultListener} which receives each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public void getPayments(
+      Collection<String> transactionHashes,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException {
+    this.getPayments(transactionHashes, DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, listener);
+  }
+
+  /**
+   * Retrieve many payment transactions, reporting each one as soon as it is retrieved.
+   *
+   * @param transactionHashes         The hashes of the transactions.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param listener                  A {@link BulkResultListener} which receives each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  public void getPayments(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException {
+    decoratedClient.getPayments(transactionHashes, maximumConcurrentRequests, listener);
+  }
+
   /**
    * Enable Deposit Authorization for this XRPL account.
    *
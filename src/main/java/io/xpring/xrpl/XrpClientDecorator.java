@@ -2,10 +2,15 @@ package io.xpring.xrpl;
 
 import io.xpring.xrpl.model.SendXrpDetails;
 import io.xpring.xrpl.model.TransactionResult;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpDrops;
 import io.xpring.xrpl.model.XrpTransaction;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * An common interface shared between XRPClient and the internal hierarchy of decorators.
@@ -20,6 +25,26 @@ interface XrpClientDecorator {
    */
   BigInteger getBalance(final String xrplAccountAddress) throws XrpException;
 
+  /**
+   * Get the balance of the specified account on the XRP Ledger.
+   *
+   * @param xrplAccountAddress The {@link XAddress} to retrieve the balance for.
+   * @return A {@link BigInteger} with the number of drops in this account.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  BigInteger getBalance(final XAddress xrplAccountAddress) throws XrpException;
+
+  /**
+   * Get the balances of the specified accounts on the XRP Ledger, all read at the same validated ledger.
+   *
+   * @param xrplAccountAddresses      The X-Addresses to retrieve balances for.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @return An {@link XrpBalances} containing the balance or error for each address.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  XrpBalances getBalances(Collection<String> xrplAccountAddresses, int maximumConcurrentRequests)
+      throws XrpException;
+
   /**
    * Retrieve the transaction status for a Payment given transaction hash.
    * <p>
@@ -34,6 +59,20 @@ interface XrpClientDecorator {
    */
   public TransactionStatus getPaymentStatus(String transactionHash) throws XrpException;
 
+  /**
+   * Retrieve the statuses of many Payments, reporting each one as soon as it is known.
+   *
+   * @param transactionHashes         The hashes of the transactions.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param listener                  A {@link BulkResultListener} which receives the status of each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException;
+
   /**
    * Send the given amount of XRP from the source wallet to the destination address.
    *
@@ -49,6 +88,21 @@ interface XrpClientDecorator {
       final Wallet sourceWallet
   ) throws XrpException;
 
+  /**
+   * Send the given amount of XRP from the source wallet to the destination address.
+   *
+   * @param amount             The {@link XrpDrops} to send.
+   * @param destinationAddress The {@link XAddress} to send the XRP to.
+   * @param sourceWallet       The {@link Wallet} which holds the XRP.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  String send(
+      final XrpDrops amount,
+      final XAddress destinationAddress,
+      final Wallet sourceWallet
+  ) throws XrpException;
+
   /**
    * Send the given amount of XRP from the source wallet to the destination address, allowing
    * for additional details to be specified for use with supplementary features of the XRP ledger.
@@ -59,6 +113,32 @@ interface XrpClientDecorator {
    */
   String sendWithDetails(final SendXrpDetails sendXrpDetails) throws XrpException;
 
+  /**
+   * Send XRP as described by the given details to an address which is still being resolved, such as the XRP address
+   * of a PayID. Preparation which does not depend on the destination may happen while the address is resolved.
+   *
+   * @param sendXrpDetails     a {@link SendXrpDetails} wrapper object containing details for constructing a
+   *                           transaction. Its destination is replaced by the resolved address.
+   * @param destinationAddress A {@link CompletableFuture} which completes with the X-Address to send the XRP to.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If the given inputs were invalid.
+   * @throws CompletionException If the destination address could not be resolved, with the reason as its cause.
+   */
+  String sendWithDetails(SendXrpDetails sendXrpDetails, CompletableFuture<String> destinationAddress)
+      throws XrpException;
+
+  /**
+   * Send many payments, reporting the outcome of each one as soon as it is known. Returns once every payment has been
+   * reported.
+   *
+   * @param payments                  The payments to send. Each destination must be an X-Address.
+   * @param maximumConcurrentRequests The maximum number of submissions to have in flight at once.
+   * @param listener                  A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  void sendPayments(List<SendXrpDetails> payments, int maximumConcurrentRequests, PaymentResultListener listener)
+      throws XrpException;
+
   /**
    * Retrieve the latest validated ledger sequence on the XRP Ledger.
    * <p>
@@ -98,6 +178,15 @@ interface XrpClientDecorator {
    */
   List<XrpTransaction> paymentHistory(String address) throws XrpException;
 
+  /**
+   * Return the history of payments for the given account.
+   *
+   * @param address The {@link XAddress} (account) for which to retrieve payment history.
+   * @return An array of transactions associated with the account.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  List<XrpTransaction> paymentHistory(XAddress address) throws XrpException;
+
   /**
    * Check if an address exists on the XRP Ledger.
    *
@@ -107,6 +196,15 @@ interface XrpClientDecorator {
    */
   boolean accountExists(String address) throws XrpException;
 
+  /**
+   * Check if an address exists on the XRP Ledger.
+   *
+   * @param address The {@link XAddress} to check the existence of.
+   * @return A boolean if the account is on the XRPLedger.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  boolean accountExists(XAddress address) throws XrpException;
+
   /**
    * Retrieve the payment transaction corresponding to the given transaction hash.
    * <p>
@@ -120,6 +218,20 @@ interface XrpClientDecorator {
    */
   XrpTransaction getPayment(String transactionHash) throws XrpException;
 
+  /**
+   * Retrieve many payment transactions, reporting each one as soon as it is retrieved.
+   *
+   * @param transactionHashes         The hashes of the transactions.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param listener                  A {@link BulkResultListener} which receives each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  void getPayments(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException;
+
   /**
    * Enable Deposit Authorization for this XRPL account.
    *
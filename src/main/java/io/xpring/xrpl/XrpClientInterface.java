@@ -1,12 +1,19 @@
 package io.xpring.xrpl;
 
 import io.xpring.common.XrplNetwork;
+import io.xpring.xrpl.model.ImmutableXrpBalances;
 import io.xpring.xrpl.model.SendXrpDetails;
 import io.xpring.xrpl.model.TransactionResult;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpDrops;
 import io.xpring.xrpl.model.XrpTransaction;
 
 import java.math.BigInteger;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public interface XrpClientInterface {
   /**
@@ -25,6 +32,60 @@ public interface XrpClientInterface {
    */
   BigInteger getBalance(final String xrplAccountAddress) throws XrpException;
 
+  /**
+   * Get the balance of the specified account on the XRP Ledger.
+   *
+   * @param xrplAccountAddress The {@link XAddress} to retrieve the balance for.
+   * @return A {@link BigInteger} with the number of drops in this account.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default BigInteger getBalance(final XAddress xrplAccountAddress) throws XrpException {
+    return this.getBalance(xrplAccountAddress.value());
+  }
+
+  /**
+   * Get the balances of the specified accounts on the XRP Ledger, all read at the same validated ledger.
+   * <p>
+   * Balances which cannot be retrieved, for instance because the address is invalid or the account does not exist,
+   * are reported as errors for that address rather than failing the whole request.
+   * </p><p>
+   * The default implementation calls {@link #getBalances(Collection, int)} with one request in flight at a time.
+   * </p>
+   * @param xrplAccountAddresses The X-Addresses to retrieve balances for.
+   * @return An {@link XrpBalances} containing the balance or error for each address.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default XrpBalances getBalances(Collection<String> xrplAccountAddresses) throws XrpException {
+    return this.getBalances(xrplAccountAddresses, 1);
+  }
+
+  /**
+   * Get the balances of the specified accounts on the XRP Ledger, all read at the same validated ledger.
+   * <p>
+   * Balances which cannot be retrieved, for instance because the address is invalid or the account does not exist,
+   * are reported as errors for that address rather than failing the whole request.
+   * </p><p>
+   * The default implementation retrieves each balance in turn with {@link #getBalance(String)}, so the balances are
+   * not necessarily read at the same ledger and {@link XrpBalances#ledgerIndex()} is empty.
+   * </p>
+   * @param xrplAccountAddresses      The X-Addresses to retrieve balances for.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @return An {@link XrpBalances} containing the balance or error for each address.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default XrpBalances getBalances(Collection<String> xrplAccountAddresses, int maximumConcurrentRequests)
+      throws XrpException {
+    ImmutableXrpBalances.Builder result = XrpBalances.builder();
+    for (String address : new LinkedHashSet<>(xrplAccountAddresses)) {
+      try {
+        result.putBalances(address, this.getBalance(address));
+      } catch (XrpException | RuntimeException exception) {
+        result.putErrors(address, exception);
+      }
+    }
+    return result.build();
+  }
+
   /**
    * Retrieve the transaction status for a Payment given transaction hash.
    * <p>
@@ -38,6 +99,53 @@ public interface XrpClientInterface {
    */
   TransactionStatus getPaymentStatus(String transactionHash) throws XrpException;
 
+  /**
+   * Retrieve the statuses of many Payments, reporting each one as soon as it is known.
+   * <p>
+   * Requests are issued concurrently and this call returns once every status has been reported. Hashes whose status
+   * cannot be retrieved are reported as errors without failing the others.
+   * </p><p>
+   * The default implementation calls {@link #getTransactionStatuses(Collection, int, BulkResultListener)} with one
+   * request in flight at a time.
+   * </p>
+   * @param transactionHashes The hashes of the transactions.
+   * @param listener          A {@link BulkResultListener} which receives the status of each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    this.getTransactionStatuses(transactionHashes, 1, listener);
+  }
+
+  /**
+   * Retrieve the statuses of many Payments, reporting each one as soon as it is known.
+   * <p>
+   * Requests are issued concurrently and this call returns once every status has been reported. Hashes whose status
+   * cannot be retrieved are reported as errors without failing the others.
+   * </p><p>
+   * The default implementation retrieves each status in turn with {@link #getPaymentStatus(String)}.
+   * </p>
+   * @param transactionHashes         The hashes of the transactions.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param listener                  A {@link BulkResultListener} which receives the status of each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    for (String transactionHash : new LinkedHashSet<>(transactionHashes)) {
+      try {
+        listener.onSuccess(transactionHash, this.getPaymentStatus(transactionHash));
+      } catch (XrpException | RuntimeException exception) {
+        listener.onError(transactionHash, exception);
+      }
+    }
+  }
+
   /**
    * Send the given amount of XRP from the source wallet to the destination address.
    *
@@ -49,6 +157,36 @@ public interface XrpClientInterface {
    */
   public String send(BigInteger amount, String destinationAddress, Wallet sourceWallet) throws XrpException;
 
+  /**
+   * Send the given amount of XRP from the source wallet to the destination address.
+   *
+   * @param amount             The {@link XrpDrops} to send.
+   * @param destinationAddress The X-Address to send the XRP to.
+   * @param sourceWallet       The {@link Wallet} which holds the XRP.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If the given inputs were invalid.
+   */
+  default String send(XrpDrops amount, String destinationAddress, Wallet sourceWallet) throws XrpException {
+    return this.sendWithDetails(SendXrpDetails.builder()
+        .drops(amount)
+        .destination(destinationAddress)
+        .sender(sourceWallet)
+        .build());
+  }
+
+  /**
+   * Send the given amount of XRP from the source wallet to the destination address.
+   *
+   * @param amount             The {@link XrpDrops} to send.
+   * @param destinationAddress The {@link XAddress} to send the XRP to.
+   * @param sourceWallet       The {@link Wallet} which holds the XRP.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default String send(XrpDrops amount, XAddress destinationAddress, Wallet sourceWallet) throws XrpException {
+    return this.send(amount, destinationAddress.value(), sourceWallet);
+  }
+
   /**
    * Send the given amount of XRP from the source wallet to the destination address, allowing
    * for additional details to be specified for use with supplementary features of the XRP ledger.
@@ -59,6 +197,90 @@ public interface XrpClientInterface {
    */
   String sendWithDetails(final SendXrpDetails sendXrpDetails) throws XrpException;
 
+  /**
+   * Send XRP as described by the given details to an address which is still being resolved, such as the XRP address
+   * of a PayID. Preparation which does not depend on the destination may happen while the address is resolved.
+   * <p>
+   * The default implementation waits for the address and then calls {@link #sendWithDetails(SendXrpDetails)}.
+   * </p>
+   *
+   * @param sendXrpDetails     a {@link SendXrpDetails} wrapper object containing details for constructing a
+   *                           transaction. Its destination is replaced by the resolved address.
+   * @param destinationAddress A {@link CompletableFuture} which completes with the X-Address to send the XRP to.
+   * @return A string representing the hash of the submitted transaction.
+   * @throws XrpException If the given inputs were invalid.
+   * @throws CompletionException If the destination address could not be resolved, with the reason as its cause.
+   */
+  default String sendWithDetails(SendXrpDetails sendXrpDetails, CompletableFuture<String> destinationAddress)
+      throws XrpException {
+    return this.sendWithDetails(SendXrpDetails.builder()
+        .from(sendXrpDetails)
+        .destination(destinationAddress.join())
+        .build());
+  }
+
+  /**
+   * Send many payments, reporting the outcome of each one as soon as it is known. Returns once every payment has been
+   * reported.
+   * <p>
+   * The default implementation calls {@link #sendPayments(List, int, PaymentResultListener)} with one submission in
+   * flight at a time.
+   * </p>
+   *
+   * @param payments The payments to send. Each destination must be an X-Address.
+   * @param listener A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default void sendPayments(List<SendXrpDetails> payments, PaymentResultListener listener) throws XrpException {
+    this.sendPayments(payments, 1, listener);
+  }
+
+  /**
+   * Send many payments, reporting the outcome of each one as soon as it is known. Returns once every payment has been
+   * reported.
+   * <p>
+   * The default implementation sends each payment in turn with {@link #sendWithDetails(SendXrpDetails)}.
+   * </p>
+   *
+   * @param payments                  The payments to send. Each destination must be an X-Address.
+   * @param maximumConcurrentRequests The maximum number of submissions to have in flight at once.
+   * @param listener                  A {@link PaymentResultListener} which receives the outcome of each payment.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default void sendPayments(
+      List<SendXrpDetails> payments,
+      int maximumConcurrentRequests,
+      PaymentResultListener listener
+  ) throws XrpException {
+    for (int index = 0; index < payments.size(); index++) {
+      try {
+        listener.onSubmitted(index, this.sendWithDetails(payments.get(index)));
+      } catch (XrpException | RuntimeException exception) {
+        listener.onError(index, exception);
+      }
+    }
+  }
+
+  /**
+   * Check if an address exists on the XRP Ledger.
+   *
+   * @param xrplAccountAddress The address to check the existence of.
+   * @return A boolean if the account is on the XRP Ledger.
+   * @throws XrpException If the given inputs were invalid.
+   */
+  boolean accountExists(final String xrplAccountAddress) throws XrpException;
+
+  /**
+   * Check if an address exists on the XRP Ledger.
+   *
+   * @param xrplAccountAddress The {@link XAddress} to check the existence of.
+   * @return A boolean if the account is on the XRP Ledger.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default boolean accountExists(final XAddress xrplAccountAddress) throws XrpException {
+    return this.accountExists(xrplAccountAddress.value());
+  }
+
   /**
    * Return the history of payments for the given account.
    * <p>
@@ -72,6 +294,17 @@ public interface XrpClientInterface {
    */
   public List<XrpTransaction> paymentHistory(String address) throws XrpException;
 
+  /**
+   * Return the history of payments for the given account.
+   *
+   * @param address The {@link XAddress} (account) for which to retrieve payment history.
+   * @return An array of transactions associated with the account.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default List<XrpTransaction> paymentHistory(XAddress address) throws XrpException {
+    return this.paymentHistory(address.value());
+  }
+
   /**
    * Retrieve the payment transaction corresponding to the given transaction hash.
    * <p>
@@ -85,6 +318,51 @@ public interface XrpClientInterface {
    */
   public XrpTransaction getPayment(String transactionHash) throws XrpException;
 
+  /**
+   * Retrieve many payment transactions, reporting each one as soon as it is retrieved.
+   * <p>
+   * Requests are issued concurrently and this call returns once every transaction has been reported. Hashes which
+   * cannot be retrieved are reported as errors without failing the others.
+   * </p><p>
+   * The default implementation calls {@link #getPayments(Collection, int, BulkResultListener)} with one request in
+   * flight at a time.
+   * </p>
+   * @param transactionHashes The hashes of the transactions.
+   * @param listener          A {@link BulkResultListener} which receives each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default void getPayments(Collection<String> transactionHashes, BulkResultListener<XrpTransaction> listener)
+      throws XrpException {
+    this.getPayments(transactionHashes, 1, listener);
+  }
+
+  /**
+   * Retrieve many payment transactions, reporting each one as soon as it is retrieved.
+   * <p>
+   * Requests are issued concurrently and this call returns once every transaction has been reported. Hashes which
+   * cannot be retrieved are reported as errors without failing the others.
+   * </p><p>
+   * The default implementation retrieves each transaction in turn with {@link #getPayment(String)}.
+   * </p>
+   * @param transactionHashes         The hashes of the transactions.
+   * @param maximumConcurrentRequests The maximum number of requests to have in flight at once.
+   * @param listener                  A {@link BulkResultListener} which receives each transaction.
+   * @throws XrpException If there was a problem communicating with the XRP Ledger.
+   */
+  default void getPayments(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException {
+    for (String transactionHash : new LinkedHashSet<>(transactionHashes)) {
+      try {
+        listener.onSuccess(transactionHash, this.getPayment(transactionHash));
+      } catch (XrpException | RuntimeException exception) {
+        listener.onError(transactionHash, exception);
+      }
+    }
+  }
+
 
   /**
    * Enable Deposit Authorization for this XRPL account.
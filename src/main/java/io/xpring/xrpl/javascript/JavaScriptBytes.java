@@ -0,0 +1,98 @@
+package io.xpring.xrpl.javascript;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+
+/**
+ * Moves binary data between Java and JavaScript without encoding it as hex.
+ * <p>
+ * Java byte arrays are exposed to JavaScript as {@link ProxyArray}s of unsigned bytes and copied into a
+ * {@code Uint8Array} by a single JavaScript call. Callers must hold the lock on {@link JavaScriptLoader#getContext()}.
+ * </p>
+ */
+final class JavaScriptBytes {
+  /**
+   * A JavaScript function which copies an array-like of unsigned bytes into a new {@code Uint8Array}.
+   */
+  private static final Value newUint8ArrayFunction;
+
+  /**
+   * A JavaScript function which copies an array-like of unsigned bytes into another array-like.
+   */
+  private static final Value copyBytesFunction;
+
+  static {
+    Context context = JavaScriptLoader.getContext();
+    synchronized (context) {
+      newUint8ArrayFunction = context.eval("js",
+          "(function (bytes) {"
+              + "  const length = bytes.length;"
+              + "  const result = new Uint8Array(length);"
+              + "  for (let i = 0; i < length; i++) { result[i] = bytes[i]; }"
+              + "  return result;"
+              + "})"
+      );
+      copyBytesFunction = context.eval("js",
+          "(function (bytes, target) {"
+              + "  const length = bytes.length;"
+              + "  for (let i = 0; i < length; i++) { target[i] = bytes[i]; }"
+              + "})"
+      );
+    }
+  }
+
+  /**
+   * Please do not initialize this static utility class.
+   */
+  private JavaScriptBytes() {
+  }
+
+  /**
+   * Copy the given bytes into a JavaScript {@code Uint8Array}.
+   *
+   * @param bytes The bytes to copy.
+   * @return A reference to a {@code Uint8Array} holding the same bytes.
+   */
+  static Value toUint8Array(byte[] bytes) {
+    return newUint8ArrayFunction.execute(new ByteArrayProxy(bytes));
+  }
+
+  /**
+   * Copy the bytes of a JavaScript array-like, such as a {@code Uint8Array}, into a Java byte array.
+   *
+   * @param javaScriptBytes A reference to the JavaScript bytes.
+   * @return An array of bytes.
+   */
+  static byte[] toByteArray(Value javaScriptBytes) {
+    byte[] bytes = new byte[(int) javaScriptBytes.getArraySize()];
+    copyBytesFunction.execute(javaScriptBytes, new ByteArrayProxy(bytes));
+    return bytes;
+  }
+
+  /**
+   * A view of a byte array as an array of unsigned bytes, which JavaScript can read and write by index.
+   */
+  private static final class ByteArrayProxy implements ProxyArray {
+    private final byte[] bytes;
+
+    ByteArrayProxy(byte[] bytes) {
+      this.bytes = bytes;
+    }
+
+    @Override
+    public Object get(long index) {
+      return bytes[(int) index] & 0xFF;
+    }
+
+    @Override
+    public void set(long index, Value value) {
+      bytes[(int) index] = (byte) value.asInt();
+    }
+
+    @Override
+    public long getSize() {
+      return bytes.length;
+    }
+  }
+}
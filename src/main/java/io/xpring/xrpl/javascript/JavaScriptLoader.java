@@ -57,6 +57,10 @@ public class JavaScriptLoader {
 
   /**
    * Load a JavaScript Context that contains all the JavaScript code for the Xpring ecosystem.
+   * <p>
+   * The context is shared, and only one thread may use it at a time. Callers must hold its monitor, by synchronizing
+   * on the returned context, while they use it or any {@link Value} obtained from it.
+   * </p>
    *
    * @return a new JavaScript context.
    */
@@ -101,4 +105,24 @@ public class JavaScriptLoader {
 
     return resource;
   }
+
+  /**
+   * Load a function as a keyed subscript from the given value, bound to that value as its receiver.
+   * <p>
+   * The returned {@link Value} can be executed repeatedly without looking the function up again.
+   * </p>
+   *
+   * @param functionName The name of the function to load.
+   * @param value The value to load the function from.
+   * @return An executable {@link Value} referring to the requested function.
+   * @throws JavaScriptLoaderException An exception if the function was missing or not executable.
+   */
+  public static Value loadFunction(String functionName, Value value) throws JavaScriptLoaderException {
+    Value function = loadResource(functionName, value);
+    if (!function.canExecute()) {
+      throw new JavaScriptLoaderException(missingResource + functionName);
+    }
+
+    return function.invokeMember("bind", value);
+  }
 }
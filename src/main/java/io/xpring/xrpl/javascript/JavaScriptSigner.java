@@ -1,6 +1,5 @@
 package io.xpring.xrpl.javascript;
 
-import io.xpring.xrpl.Utils;
 import io.xpring.xrpl.Wallet;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Value;
@@ -10,10 +9,11 @@ import org.xrpl.rpc.v1.Transaction;
  * Provides JavaScript based Signing functionality.
  */
 public class JavaScriptSigner {
-  private Value signerClass;
-  private Value walletClass;
-  private Value transactionClass;
-  private Value utilsClass;
+  private final Value walletClass;
+
+  // Functions resolved once rather than on every call.
+  private final Value signTransactionFunction;
+  private final Value deserializeTransactionFunction;
 
   /**
    * Create a new JavaScriptSigner.
@@ -22,10 +22,14 @@ public class JavaScriptSigner {
    */
   public JavaScriptSigner() throws JavaScriptLoaderException {
     Context context = JavaScriptLoader.getContext();
-    this.transactionClass = JavaScriptLoader.loadResource("Transaction", context);
-    this.signerClass = JavaScriptLoader.loadResource("Signer", context);
-    this.walletClass = JavaScriptLoader.loadResource("Wallet", context);
-    this.utilsClass = JavaScriptLoader.loadResource("Utils", context);
+    synchronized (context) {
+      Value transactionClass = JavaScriptLoader.loadResource("Transaction", context);
+      Value signerClass = JavaScriptLoader.loadResource("Signer", context);
+      this.walletClass = JavaScriptLoader.loadResource("Wallet", context);
+
+      this.signTransactionFunction = JavaScriptLoader.loadFunction("signTransaction", signerClass);
+      this.deserializeTransactionFunction = JavaScriptLoader.loadFunction("deserializeBinary", transactionClass);
+    }
   }
 
   /**
@@ -37,27 +41,35 @@ public class JavaScriptSigner {
    * @throws JavaScriptLoaderException An exception if the javascript could not be loaded.
    */
   public byte[] signTransaction(Transaction transaction, Wallet wallet) throws JavaScriptLoaderException {
-    // Convert Java objects into JavaScript objects.
-    Value javaScriptTransaction = transactionToJavaScriptValue(transaction);
-    Value javaScriptWallet = walletToJavaScriptValue(wallet);
+    synchronized (JavaScriptLoader.getContext()) {
+      // Convert Java objects into JavaScript objects.
+      Value javaScriptTransaction = transactionToJavaScriptValue(transaction);
+      Value javaScriptWallet = walletToJavaScriptValue(wallet);
 
-    // Create a JavaScript SignedTransaction.
-    Value javascriptSignedTransaction =
-        signerClass.invokeMember("signTransaction", javaScriptTransaction, javaScriptWallet);
+      // Create a JavaScript SignedTransaction.
+      Value javascriptSignedTransaction = signTransactionFunction.execute(javaScriptTransaction, javaScriptWallet);
 
-    // Convert JavaScript SignedTransaction into a Java SignedTransaction.
-    return valueToByteArray(javascriptSignedTransaction);
+      // Convert JavaScript SignedTransaction into a Java SignedTransaction.
+      return JavaScriptBytes.toByteArray(javascriptSignedTransaction);
+    }
   }
 
   /**
-   * Convert a {@link Value} into a byte array.
+   * Sign the given transaction with the given wallet.
+   * <p>
+   * The JavaScript wallet signs directly, rather than a new JavaScript wallet being created from its keys.
+   * </p>
    *
-   * @param javascriptByteArray The serialized bytes to convert.
-   * @return An array of bytes.
+   * @param transaction The {@link Transaction} to sign.
+   * @param wallet The {@link JavaScriptWallet} that will sign the transaction.
+   * @return An array of bytes representing the signed transaction.
    */
-  private byte[] valueToByteArray(Value javascriptByteArray) {
-    String signTransactionHex = utilsClass.invokeMember("toHex", javascriptByteArray).asString();
-    return Utils.hexStringToByteArray(signTransactionHex);
+  public byte[] signTransaction(Transaction transaction, JavaScriptWallet wallet) {
+    synchronized (JavaScriptLoader.getContext()) {
+      Value javaScriptTransaction = transactionToJavaScriptValue(transaction);
+      Value javascriptSignedTransaction = signTransactionFunction.execute(javaScriptTransaction, wallet.getValue());
+      return JavaScriptBytes.toByteArray(javascriptSignedTransaction);
+    }
   }
 
   /**
@@ -79,10 +91,7 @@ public class JavaScriptSigner {
    * @return A reference to the analagous transaction in JavaScript.
    */
   private Value transactionToJavaScriptValue(Transaction transaction) {
-    byte[] transactionBytes = transaction.toByteArray();
-    String transactionHex = Utils.byteArrayToHex(transactionBytes);
-    Value javaScriptBytes = utilsClass.invokeMember("toBytes", transactionHex);
-
-    return transactionClass.invokeMember("deserializeBinary", javaScriptBytes);
+    Value javaScriptBytes = JavaScriptBytes.toUint8Array(transaction.toByteArray());
+    return deserializeTransactionFunction.execute(javaScriptBytes);
   }
 }
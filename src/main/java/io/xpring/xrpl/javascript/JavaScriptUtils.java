@@ -12,10 +12,18 @@ import java.util.Optional;
  * Provides JavaScript based Utils functionality.
  */
 public class JavaScriptUtils {
+  // Functions on the underlying JavaScript Utils object, resolved once rather than on every call.
+  private final Value isValidAddressFunction;
+  private final Value encodeXAddressFunction;
+  private final Value decodeXAddressFunction;
+  private final Value isValidXAddressFunction;
+  private final Value isValidClassicAddressFunction;
+  private final Value transactionBlobToTransactionHashFunction;
+
   /**
-   * An reference to the underlying JavaScript Utils object.
+   * A reference to JavaScript's undefined, passed in place of an absent tag.
    */
-  private Value javaScriptUtils;
+  private final Value undefined;
 
   /**
    * Initialize a new JavaScriptUtils.
@@ -24,9 +32,18 @@ public class JavaScriptUtils {
    */
   public JavaScriptUtils() throws JavaScriptLoaderException {
     Context context = JavaScriptLoader.getContext();
-    Value javaScriptUtils = JavaScriptLoader.loadResource("XrpUtils", context);
-
-    this.javaScriptUtils = javaScriptUtils;
+    synchronized (context) {
+      Value javaScriptUtils = JavaScriptLoader.loadResource("XrpUtils", context);
+
+      this.isValidAddressFunction = JavaScriptLoader.loadFunction("isValidAddress", javaScriptUtils);
+      this.encodeXAddressFunction = JavaScriptLoader.loadFunction("encodeXAddress", javaScriptUtils);
+      this.decodeXAddressFunction = JavaScriptLoader.loadFunction("decodeXAddress", javaScriptUtils);
+      this.isValidXAddressFunction = JavaScriptLoader.loadFunction("isValidXAddress", javaScriptUtils);
+      this.isValidClassicAddressFunction = JavaScriptLoader.loadFunction("isValidClassicAddress", javaScriptUtils);
+      this.transactionBlobToTransactionHashFunction =
+          JavaScriptLoader.loadFunction("transactionBlobToTransactionHash", javaScriptUtils);
+      this.undefined = context.eval("js", "undefined");
+    }
   }
 
   /**
@@ -36,10 +53,11 @@ public class JavaScriptUtils {
    * @return A boolean indicating whether this was a valid address.
    */
   public boolean isValidAddress(String address) {
-    Objects.requireNonNull(address);
+    synchronized (JavaScriptLoader.getContext()) {
+      Objects.requireNonNull(address);
 
-    Value isValidAddressFunction = javaScriptUtils.getMember("isValidAddress");
-    return isValidAddressFunction.execute(address).asBoolean();
+      return isValidAddressFunction.execute(address).asBoolean();
+    }
   }
 
   /**
@@ -51,20 +69,11 @@ public class JavaScriptUtils {
    */
   @SuppressWarnings("checkstyle:LocalVariableName")
   public String encodeXAddress(ClassicAddress classicAddress) {
-    Objects.requireNonNull(classicAddress);
-
-    Value encodeXAddressFunction = javaScriptUtils.getMember("encodeXAddress");
+    synchronized (JavaScriptLoader.getContext()) {
+      Objects.requireNonNull(classicAddress);
 
-    if (classicAddress.tag().isPresent()) {
-      Value xAddress = encodeXAddressFunction.execute(
-          classicAddress.address(),
-          classicAddress.tag().get(),
-          classicAddress.isTest()
-      );
-      return xAddress.asString();
-    } else {
-      Value undefined = JavaScriptLoader.getContext().eval("js", "undefined");
-      Value xAddress = encodeXAddressFunction.execute(classicAddress.address(), undefined, classicAddress.isTest());
+      Object tag = classicAddress.tag().isPresent() ? classicAddress.tag().get() : undefined;
+      Value xAddress = encodeXAddressFunction.execute(classicAddress.address(), tag, classicAddress.isTest());
       return xAddress.asString();
     }
   }
@@ -78,20 +87,22 @@ public class JavaScriptUtils {
    */
   @SuppressWarnings("checkstyle:ParameterName")
   public ClassicAddress decodeXAddress(String xAddress) {
-    Objects.requireNonNull(xAddress);
+    synchronized (JavaScriptLoader.getContext()) {
+      Objects.requireNonNull(xAddress);
 
-    Value decodeXAddressFunction = javaScriptUtils.getMember("decodeXAddress");
-    Value result = decodeXAddressFunction.execute(xAddress);
+      Value result = decodeXAddressFunction.execute(xAddress);
 
-    if (result.isNull()) {
-      return null;
-    }
+      if (result.isNull()) {
+        return null;
+      }
 
-    String address = result.getMember("address").asString();
-    Integer tag = result.getMember("tag").isNull() ? null : result.getMember("tag").asInt();
-    boolean isTest = result.getMember("test").asBoolean();
+      String address = result.getMember("address").asString();
+      Value tagValue = result.getMember("tag");
+      Integer tag = tagValue.isNull() ? null : tagValue.asInt();
+      boolean isTest = result.getMember("test").asBoolean();
 
-    return ImmutableClassicAddress.builder().address(address).tag(Optional.ofNullable(tag)).isTest(isTest).build();
+      return ImmutableClassicAddress.builder().address(address).tag(Optional.ofNullable(tag)).isTest(isTest).build();
+    }
   }
 
   /**
@@ -101,10 +112,11 @@ public class JavaScriptUtils {
    * @return A boolean indicating whether this was a valid X-Address.
    */
   public boolean isValidXAddress(String address) {
-    Objects.requireNonNull(address);
+    synchronized (JavaScriptLoader.getContext()) {
+      Objects.requireNonNull(address);
 
-    Value isValidXAddressFunction = javaScriptUtils.getMember("isValidXAddress");
-    return isValidXAddressFunction.execute(address).asBoolean();
+      return isValidXAddressFunction.execute(address).asBoolean();
+    }
   }
 
   /**
@@ -114,10 +126,11 @@ public class JavaScriptUtils {
    * @return A boolean indicating whether this was a valid clssic address.
    */
   public boolean isValidClassicAddress(String address) {
-    Objects.requireNonNull(address);
+    synchronized (JavaScriptLoader.getContext()) {
+      Objects.requireNonNull(address);
 
-    Value isValidClassicAddressFunction = javaScriptUtils.getMember("isValidClassicAddress");
-    return isValidClassicAddressFunction.execute(address).asBoolean();
+      return isValidClassicAddressFunction.execute(address).asBoolean();
+    }
   }
 
   /**
@@ -127,10 +140,11 @@ public class JavaScriptUtils {
    * @return A hex encoded hash if the input was valid, otherwise null.
    */
   public String toTransactionHash(String transactionBlobHex) {
-    Objects.requireNonNull(transactionBlobHex);
+    synchronized (JavaScriptLoader.getContext()) {
+      Objects.requireNonNull(transactionBlobHex);
 
-    Value transactionBlobToTransactionHashFunction = javaScriptUtils.getMember("transactionBlobToTransactionHash");
-    Value hash = transactionBlobToTransactionHashFunction.execute(transactionBlobHex);
-    return hash.isNull() ? null : hash.toString();
+      Value hash = transactionBlobToTransactionHashFunction.execute(transactionBlobHex);
+      return hash.isNull() ? null : hash.toString();
+    }
   }
 }
@@ -12,7 +12,7 @@ public class JavaScriptWallet {
   /**
    * An underlying reference to a JavaScript wallet.
    */
-  private Value javaScriptWallet;
+  private final Value javaScriptWallet;
 
   /**
    * Initialize a new JavaScriptWallet.
@@ -23,13 +23,24 @@ public class JavaScriptWallet {
     this.javaScriptWallet = javaScriptWallet;
   }
 
+  /**
+   * Returns the underlying reference to the JavaScript wallet.
+   *
+   * @return The JavaScript wallet.
+   */
+  Value getValue() {
+    return javaScriptWallet;
+  }
+
   /**
    * Returns the address of this JavaScriptWallet.
    *
    * @return The address of the wallet.
    */
   public String getAddress() {
-    return javaScriptWallet.invokeMember("getAddress").asString();
+    synchronized (JavaScriptLoader.getContext()) {
+      return javaScriptWallet.invokeMember("getAddress").asString();
+    }
   }
 
   /**
@@ -38,7 +49,9 @@ public class JavaScriptWallet {
    * @return A hexadecimal encoded representation of the wallet's public key.
    */
   public String getPublicKey() {
-    return javaScriptWallet.getMember("publicKey").asString();
+    synchronized (JavaScriptLoader.getContext()) {
+      return javaScriptWallet.getMember("publicKey").asString();
+    }
   }
 
   /**
@@ -47,7 +60,9 @@ public class JavaScriptWallet {
    * @return A hexadecimal encoded representation of the wallet's private key.
    */
   public String getPrivateKey() {
-    return javaScriptWallet.getMember("privateKey").asString();
+    synchronized (JavaScriptLoader.getContext()) {
+      return javaScriptWallet.getMember("privateKey").asString();
+    }
   }
 
   /**
@@ -58,11 +73,13 @@ public class JavaScriptWallet {
    * @throws XrpException An exception if the input could not be signed.
    */
   public String sign(String input) throws XrpException {
-    Value javaScriptSignature = javaScriptWallet.invokeMember("sign", input);
-    if (javaScriptSignature.isNull()) {
-      throw new XrpException(XrpExceptionType.SIGNING_ERROR, "Could not sign input");
+    synchronized (JavaScriptLoader.getContext()) {
+      Value javaScriptSignature = javaScriptWallet.invokeMember("sign", input);
+      if (javaScriptSignature.isNull()) {
+        throw new XrpException(XrpExceptionType.SIGNING_ERROR, "Could not sign input");
+      }
+      return javaScriptSignature.asString();
     }
-    return javaScriptSignature.asString();
   }
 
   /**
@@ -73,6 +90,8 @@ public class JavaScriptWallet {
    * @return A boolean indicating the validity of the signature.
    */
   public boolean verify(String message, String signature) {
-    return javaScriptWallet.invokeMember("verify", message, signature).asBoolean();
+    synchronized (JavaScriptLoader.getContext()) {
+      return javaScriptWallet.invokeMember("verify", message, signature).asBoolean();
+    }
   }
 }
@@ -25,17 +25,34 @@ public class JavaScriptWalletFactory {
 
   private Value wallet;
 
+  // Factories for wallets on the main and test networks.
+  private Value mainNetWalletFactory;
+  private Value testNetWalletFactory;
+
   private JavaScriptWalletFactory() throws JavaScriptLoaderException {
     Context context = JavaScriptLoader.getContext();
     this.wallet = JavaScriptLoader.loadResource("Wallet", context);
+
+    Value walletFactory = JavaScriptLoader.loadResource("WalletFactory", context);
+    Value network = JavaScriptLoader.loadResource("XrplNetwork", context);
+    this.mainNetWalletFactory = walletFactory.newInstance(JavaScriptLoader.loadResource("Main", network));
+    this.testNetWalletFactory = walletFactory.newInstance(JavaScriptLoader.loadResource("Test", network));
   }
 
   public static JavaScriptWalletFactory get() {
     return sharedJavaScriptWalletFactory;
   }
 
+  /**
+   * The derivation path used when a mnemonic is given without one.
+   *
+   * @return The default derivation path.
+   * @throws JavaScriptLoaderException If the underlying JavaScript was missing or malformed.
+   */
   public String getDefaultDerivationPath() throws JavaScriptLoaderException {
-    return this.wallet.getMember("defaultDerivationPath").asString();
+    synchronized (JavaScriptLoader.getContext()) {
+      return this.wallet.getMember("defaultDerivationPath").asString();
+    }
   }
 
   /**
@@ -45,15 +62,17 @@ public class JavaScriptWalletFactory {
    * @return A {WalletGenerationResult} containing the artifacts of the generation process.
    */
   public JavaScriptWalletGenerationResult generateRandomWallet(boolean isTest) {
-    byte[] randomBytes = randomBytes(16);
-    String hexRandomBytes = Utils.byteArrayToHex(randomBytes);
-
-    Value walletGenerationResult = this.wallet.invokeMember("generateRandomWallet", hexRandomBytes, isTest);
-    return new JavaScriptWalletGenerationResult(
-        walletGenerationResult.getMember("mnemonic").asString(),
-        walletGenerationResult.getMember("derivationPath").asString(),
-        new JavaScriptWallet(walletGenerationResult.getMember("wallet"))
-    );
+    synchronized (JavaScriptLoader.getContext()) {
+      byte[] randomBytes = randomBytes(16);
+      String hexRandomBytes = Utils.byteArrayToHex(randomBytes);
+
+      Value walletGenerationResult = this.wallet.invokeMember("generateRandomWallet", hexRandomBytes, isTest);
+      return new JavaScriptWalletGenerationResult(
+          walletGenerationResult.getMember("mnemonic").asString(),
+          walletGenerationResult.getMember("derivationPath").asString(),
+          new JavaScriptWallet(walletGenerationResult.getMember("wallet"))
+      );
+    }
   }
 
   /**
@@ -66,11 +85,13 @@ public class JavaScriptWalletFactory {
    * @throws XrpException If either input key is malformed.
    */
   public JavaScriptWallet walletFromKeys(String publicKey, String privateKey, boolean isTest) throws XrpException {
-    Value wallet = this.wallet.newInstance(publicKey, privateKey, isTest);
-    if (wallet.isNull()) {
-      throw new XrpException(XrpExceptionType.INVALID_INPUTS, "Invalid inputs");
+    synchronized (JavaScriptLoader.getContext()) {
+      Value wallet = this.wallet.newInstance(publicKey, privateKey, isTest);
+      if (wallet.isNull()) {
+        throw new XrpException(XrpExceptionType.INVALID_INPUTS, "Invalid inputs");
+      }
+      return new JavaScriptWallet(wallet);
     }
-    return new JavaScriptWallet(wallet);
   }
 
   /**
@@ -82,11 +103,13 @@ public class JavaScriptWalletFactory {
    * @throws XrpException If the seed is malformed.
    */
   public JavaScriptWallet walletFromSeed(String seed, boolean isTest) throws XrpException {
-    Value wallet = this.wallet.invokeMember("generateWalletFromSeed", seed, isTest);
-    if (wallet.isNull()) {
-      throw new XrpException(XrpExceptionType.INVALID_INPUTS, "Invalid Seed");
+    synchronized (JavaScriptLoader.getContext()) {
+      Value wallet = this.wallet.invokeMember("generateWalletFromSeed", seed, isTest);
+      if (wallet.isNull()) {
+        throw new XrpException(XrpExceptionType.INVALID_INPUTS, "Invalid Seed");
+      }
+      return new JavaScriptWallet(wallet);
     }
-    return new JavaScriptWallet(wallet);
   }
 
   /**
@@ -103,19 +126,77 @@ public class JavaScriptWalletFactory {
       String derivationPath,
       boolean isTest
   ) throws XrpException {
-    try {
-      String normalizedDerivationPath = derivationPath != null ? derivationPath : this.getDefaultDerivationPath();
-      Value wallet = this.wallet.invokeMember("generateWalletFromMnemonic", mnemonic, normalizedDerivationPath, isTest);
-
-      if (wallet.isNull()) {
+    synchronized (JavaScriptLoader.getContext()) {
+      try {
+        String normalizedDerivationPath = derivationPath != null ? derivationPath : this.getDefaultDerivationPath();
+        Value wallet =
+            this.wallet.invokeMember("generateWalletFromMnemonic", mnemonic, normalizedDerivationPath, isTest);
+
+        if (wallet.isNull()) {
+          throw new XrpException(XrpExceptionType.INVALID_INPUTS, invalidMnemonicOrDerivationPathMessage);
+        }
+
+        return new JavaScriptWallet(wallet);
+      } catch (PolyglotException exception) {
+        throw new XrpException(XrpExceptionType.INVALID_INPUTS, invalidMnemonicOrDerivationPathMessage);
+      } catch (JavaScriptLoaderException exception) {
         throw new XrpException(XrpExceptionType.INVALID_INPUTS, invalidMnemonicOrDerivationPathMessage);
       }
+    }
+  }
 
-      return new JavaScriptWallet(wallet);
-    } catch (PolyglotException exception) {
-      throw new XrpException(XrpExceptionType.INVALID_INPUTS, invalidMnemonicOrDerivationPathMessage);
-    } catch (JavaScriptLoaderException exception) {
-      throw new XrpException(XrpExceptionType.INVALID_INPUTS, invalidMnemonicOrDerivationPathMessage);
+  /**
+   * Derive the address of a public key, without a private key.
+   *
+   * @param publicKey A hex encoded string representing the public key.
+   * @param isTest    Whether the address is for use on a test network.
+   * @return An X-Address without a tag.
+   * @throws XrpException If the public key is malformed.
+   */
+  public String addressFromPublicKey(String publicKey, boolean isTest) throws XrpException {
+    synchronized (JavaScriptLoader.getContext()) {
+      try {
+        // A JavaScript wallet derives its address from its public key alone.
+        return this.wallet.newInstance(publicKey, "", isTest).invokeMember("getAddress").asString();
+      } catch (PolyglotException exception) {
+        throw new XrpException(XrpExceptionType.INVALID_INPUTS, "Invalid public key");
+      }
+    }
+  }
+
+  /**
+   * Create a new HD Wallet from a seed which has already been computed from a mnemonic.
+   * <p>
+   * This skips computing the seed, which is deliberately slow, so many wallets which share a mnemonic can be created
+   * from the same seed. The seed is copied into a JavaScript typed array rather than encoded as a string.
+   * </p>
+   *
+   * @param seed           The BIP39 seed of a mnemonic.
+   * @param derivationPath A derivation path.
+   * @param isTest         Whether the address is for use on a test network.
+   * @return A new {@link JavaScriptWallet}.
+   * @throws XrpException If the seed or derivation path are malformed.
+   */
+  public JavaScriptWallet walletFromSeedAndDerivationPath(
+      byte[] seed,
+      String derivationPath,
+      boolean isTest
+  ) throws XrpException {
+    synchronized (JavaScriptLoader.getContext()) {
+      try {
+        Value walletFactory = isTest ? this.testNetWalletFactory : this.mainNetWalletFactory;
+        Value wallet = walletFactory.invokeMember(
+            "walletFromSeedAndDerivationPath", JavaScriptBytes.toUint8Array(seed), derivationPath
+        );
+
+        if (wallet.isNull()) {
+          throw new XrpException(XrpExceptionType.INVALID_INPUTS, invalidMnemonicOrDerivationPathMessage);
+        }
+
+        return new JavaScriptWallet(wallet);
+      } catch (PolyglotException exception) {
+        throw new XrpException(XrpExceptionType.INVALID_INPUTS, invalidMnemonicOrDerivationPathMessage);
+      }
     }
   }
 
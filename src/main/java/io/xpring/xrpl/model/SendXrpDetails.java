@@ -14,8 +14,8 @@ import java.util.Optional;
  */
 @Value.Immutable
 public interface SendXrpDetails {
-  static ImmutableSendXrpDetails.Builder builder() {
-    return ImmutableSendXrpDetails.builder();
+  static Builder builder() {
+    return new Builder();
   }
 
   /**
@@ -23,7 +23,16 @@ public interface SendXrpDetails {
    *
    * @return A {@link BigInteger} representing the drops of XRP to send.
    */
-  BigInteger amount();
+  default BigInteger amount() {
+    return drops().toBigInteger();
+  }
+
+  /**
+   * The amount of XRP to send.
+   *
+   * @return The {@link XrpDrops} to send.
+   */
+  XrpDrops drops();
 
   /**
    * The receiving address.
@@ -46,4 +55,20 @@ public interface SendXrpDetails {
    *         transaction constructed from these details.
    */
   Optional<List<XrpMemo>> memosList();
-}
\ No newline at end of file
+
+  /**
+   * Builds {@link SendXrpDetails} from either {@link XrpDrops} or a {@link BigInteger} number of drops.
+   */
+  class Builder extends ImmutableSendXrpDetails.Builder {
+    /**
+     * Initializes the amount to send from a number of drops.
+     *
+     * @param amount A {@link BigInteger} representing the drops of XRP to send.
+     * @return {@code this} builder for use in a chained invocation.
+     * @throws IllegalArgumentException If the amount is outside the range of an XRP amount.
+     */
+    public final Builder amount(BigInteger amount) {
+      return drops(XrpDrops.of(amount));
+    }
+  }
+}
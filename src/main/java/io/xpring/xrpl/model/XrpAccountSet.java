@@ -1,5 +1,6 @@
 package io.xpring.xrpl.model;
 
+import com.google.protobuf.ByteString;
 import io.xpring.xrpl.model.ImmutableXrpAccountSet;
 import org.immutables.value.Value;
 import org.xrpl.rpc.v1.AccountSet;
@@ -16,8 +17,8 @@ import java.util.Optional;
  */
 @Value.Immutable
 public interface XrpAccountSet {
-  static ImmutableXrpAccountSet.Builder builder() {
-    return ImmutableXrpAccountSet.builder();
+  static Builder builder() {
+    return new Builder();
   }
 
   /**
@@ -40,9 +41,18 @@ public interface XrpAccountSet {
    *
    * @return A byte array containing the hash value of an email address to be used for generating an avatar image.
    */
-  @Value.Default
   default byte[] emailHash() {
-    return new byte[0];
+    return emailHashBytes().toByteArray();
+  }
+
+  /**
+   * (Optional) Hash of an email address to be used for generating an avatar image.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this transaction was read from.
+   */
+  @Value.Default
+  default ByteString emailHashBytes() {
+    return ByteString.EMPTY;
   }
 
   /**
@@ -50,9 +60,18 @@ public interface XrpAccountSet {
    *
    * @return A byte array containing the public key for sending encrypted messages to this account.
    */
-  @Value.Default
   default byte[] messageKey() {
-    return new byte[0];
+    return messageKeyBytes().toByteArray();
+  }
+
+  /**
+   * (Optional) Public key for sending encrypted messages to this account.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this transaction was read from.
+   */
+  @Value.Default
+  default ByteString messageKeyBytes() {
+    return ByteString.EMPTY;
   }
 
   /**
@@ -86,6 +105,19 @@ public interface XrpAccountSet {
    */
   Optional<Integer> transferRate();
 
+  /**
+   * Builds {@link XrpAccountSet}s from either byte arrays, which are copied, or {@link ByteString}s, which are not.
+   */
+  class Builder extends ImmutableXrpAccountSet.Builder {
+    public final Builder emailHash(byte[] emailHash) {
+      return emailHashBytes(ByteString.copyFrom(emailHash));
+    }
+
+    public final Builder messageKey(byte[] messageKey) {
+      return messageKeyBytes(ByteString.copyFrom(messageKey));
+    }
+  }
+
   /**
    * Constructs an {@link XrpAccountSet} from a {@link AccountSet}.
    *
@@ -104,13 +136,13 @@ public interface XrpAccountSet {
         ? Optional.of(accountSet.getDomain().getValue())
         : Optional.empty();
 
-    final byte[] emailHash = accountSet.hasEmailHash()
-      ? accountSet.getEmailHash().getValue().toByteArray()
-      : new byte[0];
+    final ByteString emailHash = accountSet.hasEmailHash()
+        ? accountSet.getEmailHash().getValue()
+        : ByteString.EMPTY;
 
-    final byte[] messageKey = accountSet.hasMessageKey()
-      ? accountSet.getMessageKey().getValue().toByteArray()
-      : new byte[0];
+    final ByteString messageKey = accountSet.hasMessageKey()
+        ? accountSet.getMessageKey().getValue()
+        : ByteString.EMPTY;
 
     final Optional<Integer> setFlag = accountSet.hasSetFlag()
         ? Optional.of(accountSet.getSetFlag().getValue())
@@ -127,8 +159,8 @@ public interface XrpAccountSet {
     return XrpAccountSet.builder()
       .clearFlag(clearFlag)
       .domain(domain)
-      .emailHash(emailHash)
-      .messageKey(messageKey)
+      .emailHashBytes(emailHash)
+      .messageKeyBytes(messageKey)
       .setFlag(setFlag)
       .tickSize(tickSize)
       .transferRate(transferRate)
@@ -0,0 +1,40 @@
+package io.xpring.xrpl.model;
+
+import org.immutables.value.Value;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Represents the balances of many accounts, read at a single validated ledger.
+ */
+@Value.Immutable
+public interface XrpBalances {
+  static ImmutableXrpBalances.Builder builder() {
+    return ImmutableXrpBalances.builder();
+  }
+
+  /**
+   * The balances which were retrieved.
+   *
+   * @return A {@link Map} from X-Address to the number of drops in that account, in the order the addresses were
+   *         requested.
+   */
+  Map<String, BigInteger> balances();
+
+  /**
+   * The addresses for which a balance could not be retrieved.
+   *
+   * @return A {@link Map} from X-Address to the error encountered for that address, in the order the addresses were
+   *         requested.
+   */
+  Map<String, Exception> errors();
+
+  /**
+   * The index of the validated ledger all balances were read at.
+   *
+   * @return An {@link Optional} containing the ledger index, or empty if no balance could be retrieved.
+   */
+  Optional<Integer> ledgerIndex();
+}
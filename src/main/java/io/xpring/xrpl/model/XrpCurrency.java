@@ -1,5 +1,6 @@
 package io.xpring.xrpl.model;
 
+import com.google.protobuf.ByteString;
 import org.immutables.value.Value;
 import org.xrpl.rpc.v1.Currency;
 
@@ -10,8 +11,8 @@ import org.xrpl.rpc.v1.Currency;
  */
 @Value.Immutable
 public interface XrpCurrency {
-  static ImmutableXrpCurrency.Builder builder() {
-    return ImmutableXrpCurrency.builder();
+  static Builder builder() {
+    return new Builder();
   }
 
   /**
@@ -26,7 +27,25 @@ public interface XrpCurrency {
    *
    * @return The 160 bit currency code. 20 bytes.
    */
-  byte[] code();
+  default byte[] code() {
+    return codeBytes().toByteArray();
+  }
+
+  /**
+   * The 160 bit currency code. 20 bytes.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this currency was read from.
+   */
+  ByteString codeBytes();
+
+  /**
+   * Builds {@link XrpCurrency}s from either a byte array code, which is copied, or a {@link ByteString}, which is not.
+   */
+  class Builder extends ImmutableXrpCurrency.Builder {
+    public final Builder code(byte[] code) {
+      return codeBytes(ByteString.copyFrom(code));
+    }
+  }
 
   /**
    * Constructs an {@link XrpCurrency} from a {@link Currency}.
@@ -40,7 +59,7 @@ public interface XrpCurrency {
   static XrpCurrency from(Currency currency) {
     return builder()
         .name(currency.getName())
-        .code(currency.getCode().toByteArray())
+        .codeBytes(currency.getCode())
         .build();
   }
 }
@@ -0,0 +1,295 @@
+package io.xpring.xrpl.model;
+
+import com.google.common.base.Preconditions;
+import io.xpring.xrpl.XrpException;
+import io.xpring.xrpl.XrpExceptionType;
+
+import java.math.BigInteger;
+
+/**
+ * An amount of XRP, expressed in drops and backed by a {@code long}.
+ * <p>
+ * Amounts are bounded by the total supply of XRP, so arithmetic which leaves that range fails rather than wrapping.
+ * Parsing and formatting do not go through {@link java.math.BigDecimal}, which makes this type suitable for converting
+ * large numbers of amounts.
+ * </p>
+ * @see "https://xrpl.org/basic-data-types.html#specifying-currency-amounts"
+ */
+public final class XrpDrops implements Comparable<XrpDrops> {
+  /**
+   * The number of drops in one XRP.
+   */
+  public static final long DROPS_PER_XRP = 1_000_000L;
+
+  /**
+   * The largest magnitude of an amount, which is the total supply of 100 billion XRP.
+   */
+  public static final long MAX_DROPS = 100_000_000_000L * DROPS_PER_XRP;
+
+  public static final XrpDrops ZERO = new XrpDrops(0);
+
+  private static final int XRP_DECIMAL_PLACES = 6;
+
+  private final long drops;
+
+  private XrpDrops(long drops) {
+    this.drops = drops;
+  }
+
+  /**
+   * Create an amount from a number of drops.
+   *
+   * @param drops The number of drops.
+   * @return The {@link XrpDrops}.
+   * @throws IllegalArgumentException If the amount is larger than the total supply of XRP.
+   */
+  public static XrpDrops of(long drops) {
+    Preconditions.checkArgument(
+        drops >= -MAX_DROPS && drops <= MAX_DROPS,
+        "%s drops is outside the range of an XRP amount", drops
+    );
+    return drops == 0 ? ZERO : new XrpDrops(drops);
+  }
+
+  /**
+   * Create an amount from a number of drops.
+   *
+   * @param drops The number of drops.
+   * @return The {@link XrpDrops}.
+   * @throws IllegalArgumentException If the amount is larger than the total supply of XRP.
+   */
+  public static XrpDrops of(BigInteger drops) {
+    Preconditions.checkNotNull(drops);
+    Preconditions.checkArgument(drops.bitLength() < Long.SIZE, "%s drops is outside the range of an XRP amount", drops);
+    return of(drops.longValue());
+  }
+
+  /**
+   * Parse a string-encoded number of drops, such as {@code 1000}. The number may have a fractional part as long as it
+   * is zero, for instance {@code 1000.00}.
+   *
+   * @param drops The number of drops.
+   * @return The {@link XrpDrops}.
+   * @throws XrpException If the string is not a whole number of drops within the range of an XRP amount.
+   */
+  public static XrpDrops parseDrops(CharSequence drops) throws XrpException {
+    return of(parse(drops, 0));
+  }
+
+  /**
+   * Parse a string-encoded amount of XRP, such as {@code 12.5}, which has at most six significant decimal places.
+   *
+   * @param xrp The amount of XRP.
+   * @return The {@link XrpDrops}.
+   * @throws XrpException If the string is not an amount of XRP, or has more precision than a drop.
+   */
+  public static XrpDrops parseXrp(CharSequence xrp) throws XrpException {
+    return of(parse(xrp, XRP_DECIMAL_PLACES));
+  }
+
+  /**
+   * Parse a plain decimal number, scaling it by the given number of decimal places. Digits after those places must be
+   * zero. The result is checked against {@link #MAX_DROPS} after every digit, so it cannot overflow.
+   */
+  private static long parse(CharSequence value, int decimalPlaces) throws XrpException {
+    Preconditions.checkNotNull(value);
+
+    int length = value.length();
+    int index = 0;
+    boolean negative = length > 0 && value.charAt(0) == '-';
+    if (negative) {
+      index++;
+    }
+
+    long result = 0;
+    int digits = 0;
+    for (; index < length && isDigit(value.charAt(index)); index++) {
+      result = result * 10 + (value.charAt(index) - '0');
+      if (result > MAX_DROPS) {
+        throw outOfRange(value);
+      }
+      digits++;
+    }
+
+    if (index < length && value.charAt(index) == '.') {
+      index++;
+    }
+    int places = 0;
+    for (; index < length && isDigit(value.charAt(index)); index++) {
+      int digit = value.charAt(index) - '0';
+      if (places < decimalPlaces) {
+        result = result * 10 + digit;
+        if (result > MAX_DROPS) {
+          throw outOfRange(value);
+        }
+        places++;
+      } else if (digit != 0) {
+        throw new XrpException(XrpExceptionType.INVALID_INPUTS, decimalPlaces == 0
+            ? String.format("Value %s must be a whole number of drops.", value)
+            : String.format("Value %s has too many decimal places.", value));
+      }
+      digits++;
+    }
+
+    if (index != length || digits == 0) {
+      throw new XrpException(XrpExceptionType.INVALID_INPUTS,
+          String.format("Invalid value %s, should be a plain string-encoded number.", value));
+    }
+
+    for (; places < decimalPlaces; places++) {
+      result *= 10;
+      if (result > MAX_DROPS) {
+        throw outOfRange(value);
+      }
+    }
+    return negative ? -result : result;
+  }
+
+  private static boolean isDigit(char character) {
+    return character >= '0' && character <= '9';
+  }
+
+  private static XrpException outOfRange(CharSequence value) {
+    return new XrpException(XrpExceptionType.INVALID_INPUTS,
+        String.format("Value %s is outside the range of an XRP amount.", value));
+  }
+
+  /**
+   * The number of drops in this amount.
+   *
+   * @return The number of drops.
+   */
+  public long toDrops() {
+    return drops;
+  }
+
+  /**
+   * The number of drops in this amount.
+   *
+   * @return A {@link BigInteger} with the number of drops.
+   */
+  public BigInteger toBigInteger() {
+    return BigInteger.valueOf(drops);
+  }
+
+  /**
+   * Format this amount in units of XRP, without trailing zeroes, for instance {@code 12.5}.
+   *
+   * @return The string-encoded amount of XRP.
+   */
+  public String toXrpString() {
+    return appendXrpTo(new StringBuilder(24)).toString();
+  }
+
+  /**
+   * Append this amount in units of XRP, without trailing zeroes, to the given builder. This does not allocate beyond
+   * growing the builder, so a single builder can be reused to format many amounts.
+   *
+   * @param builder The {@link StringBuilder} to append to.
+   * @return The given builder.
+   */
+  public StringBuilder appendXrpTo(StringBuilder builder) {
+    long magnitude = Math.abs(drops);
+    if (drops < 0) {
+      builder.append('-');
+    }
+    builder.append(magnitude / DROPS_PER_XRP);
+
+    long fraction = magnitude % DROPS_PER_XRP;
+    if (fraction != 0) {
+      builder.append('.');
+      long divisor = DROPS_PER_XRP / 10;
+      while (fraction != 0) {
+        builder.append((char) ('0' + fraction / divisor));
+        fraction %= divisor;
+        divisor /= 10;
+      }
+    }
+    return builder;
+  }
+
+  /**
+   * Add an amount to this one.
+   *
+   * @param other The amount to add.
+   * @return The sum.
+   * @throws ArithmeticException If the sum is outside the range of an XRP amount.
+   */
+  public XrpDrops plus(XrpDrops other) {
+    return checked(this.drops + other.drops);
+  }
+
+  /**
+   * Subtract an amount from this one.
+   *
+   * @param other The amount to subtract.
+   * @return The difference.
+   * @throws ArithmeticException If the difference is outside the range of an XRP amount.
+   */
+  public XrpDrops minus(XrpDrops other) {
+    return checked(this.drops - other.drops);
+  }
+
+  /**
+   * Multiply this amount by a whole number.
+   *
+   * @param multiplier The number to multiply by.
+   * @return The product.
+   * @throws ArithmeticException If the product is outside the range of an XRP amount.
+   */
+  public XrpDrops times(long multiplier) {
+    return checked(Math.multiplyExact(this.drops, multiplier));
+  }
+
+  /**
+   * Negate this amount.
+   *
+   * @return The negated amount.
+   */
+  public XrpDrops negate() {
+    return drops == 0 ? this : new XrpDrops(-drops);
+  }
+
+  /**
+   * The sign of this amount.
+   *
+   * @return -1, 0 or 1 if this amount is negative, zero or positive.
+   */
+  public int signum() {
+    return Long.signum(drops);
+  }
+
+  /**
+   * Both operands of addition and subtraction are bounded by {@link #MAX_DROPS}, so their result cannot overflow a
+   * {@code long} before it is checked here.
+   */
+  private static XrpDrops checked(long drops) {
+    if (drops < -MAX_DROPS || drops > MAX_DROPS) {
+      throw new ArithmeticException(drops + " drops is outside the range of an XRP amount");
+    }
+    return drops == 0 ? ZERO : new XrpDrops(drops);
+  }
+
+  @Override
+  public int compareTo(XrpDrops other) {
+    return Long.compare(this.drops, other.drops);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof XrpDrops && ((XrpDrops) other).drops == this.drops;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(drops);
+  }
+
+  /**
+   * The number of drops in this amount, as a string.
+   */
+  @Override
+  public String toString() {
+    return Long.toString(drops);
+  }
+}
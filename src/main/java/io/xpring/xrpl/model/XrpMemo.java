@@ -14,8 +14,8 @@ import java.util.Optional;
  */
 @Value.Immutable
 public interface XrpMemo {
-  static ImmutableXrpMemo.Builder builder() {
-    return ImmutableXrpMemo.builder();
+  static Builder builder() {
+    return new Builder();
   }
 
   /**
@@ -23,9 +23,19 @@ public interface XrpMemo {
    *
    * @return A byte array of arbitrary hex value, conventionally containing the content of the memo.
    */
-  @Value.Default
   default byte[] data() {
-    return new byte[0];
+    return dataBytes().toByteArray();
+  }
+
+  /**
+   * (Optional) An arbitrary hex value, conventionally containing the content of the memo.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this memo was read from, or is
+   *         written to.
+   */
+  @Value.Default
+  default ByteString dataBytes() {
+    return ByteString.EMPTY;
   }
 
   /**
@@ -34,9 +44,20 @@ public interface XrpMemo {
    *
    * @return A byte array of arbitrary hex value containing the characters allowed in URLs.
    */
-  @Value.Default
   default byte[] format() {
-    return new byte[0];
+    return formatBytes().toByteArray();
+  }
+
+  /**
+   * (Optional) Hex value representing characters allowed in URLs.
+   * Conventionally containing information on how the memo is encoded, for example as a MIME type.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this memo was read from, or is
+   *         written to.
+   */
+  @Value.Default
+  default ByteString formatBytes() {
+    return ByteString.EMPTY;
   }
 
   /**
@@ -45,9 +66,37 @@ public interface XrpMemo {
    *
    * @return A byte array of arbitrary hex value containing the characters allowed in URLs.
    */
-  @Value.Default
   default byte[] type() {
-    return new byte[0];
+    return typeBytes().toByteArray();
+  }
+
+  /**
+   * (Optional) Hex value representing characters allowed in URLs.
+   * Conventionally, a unique relation (according to RFC 5988) that defines the format of this memo.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this memo was read from, or is
+   *         written to.
+   */
+  @Value.Default
+  default ByteString typeBytes() {
+    return ByteString.EMPTY;
+  }
+
+  /**
+   * Builds {@link XrpMemo}s from either byte arrays, which are copied, or {@link ByteString}s, which are not.
+   */
+  class Builder extends ImmutableXrpMemo.Builder {
+    public final Builder data(byte[] data) {
+      return dataBytes(ByteString.copyFrom(data));
+    }
+
+    public final Builder format(byte[] format) {
+      return formatBytes(ByteString.copyFrom(format));
+    }
+
+    public final Builder type(byte[] type) {
+      return typeBytes(ByteString.copyFrom(type));
+    }
   }
 
   /**
@@ -60,19 +109,10 @@ public interface XrpMemo {
    * Memo protocol buffer</a>
    */
   static XrpMemo from(Memo memo) {
-    ByteString memoData = memo.getMemoData().getValue();
-    byte[] data = memoData.toByteArray();
-
-    ByteString memoFormat = memo.getMemoFormat().getValue();
-    byte[] format = memoFormat.toByteArray();
-
-    ByteString memoType = memo.getMemoType().getValue();
-    byte[] type = memoType.toByteArray();
-
     return XrpMemo.builder()
-        .data(data)
-        .format(format)
-        .type(type)
+        .dataBytes(memo.getMemoData().getValue())
+        .formatBytes(memo.getMemoFormat().getValue())
+        .typeBytes(memo.getMemoType().getValue())
         .build();
   }
 
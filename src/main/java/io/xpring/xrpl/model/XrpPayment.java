@@ -1,5 +1,6 @@
 package io.xpring.xrpl.model;
 
+import com.google.protobuf.ByteString;
 import io.xpring.common.XrplNetwork;
 import io.xpring.xrpl.ClassicAddress;
 import io.xpring.xrpl.ImmutableClassicAddress;
@@ -20,8 +21,8 @@ import java.util.stream.Collectors;
  */
 @Value.Immutable
 public interface XrpPayment {
-  static ImmutableXrpPayment.Builder builder() {
-    return ImmutableXrpPayment.builder();
+  static Builder builder() {
+    return new Builder();
   }
 
   /**
@@ -73,9 +74,19 @@ public interface XrpPayment {
    *
    * @return A byte array containing a 256-bit hash representing a specific reason or identifier for this payment.
    */
-  @Value.Default
   default byte[] invoiceID() {
-    return new byte[0];
+    return invoiceIDBytes().toByteArray();
+  }
+
+  /**
+   * (Optional) Arbitrary 256-bit hash representing a specific reason or identifier for this payment.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this payment was read from.
+   */
+  @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+  @Value.Default
+  default ByteString invoiceIDBytes() {
+    return ByteString.EMPTY;
   }
 
   /**
@@ -97,6 +108,16 @@ public interface XrpPayment {
    */
   Optional<XrpCurrencyAmount> sendMax();
 
+  /**
+   * Builds {@link XrpPayment}s from either a byte array invoice ID, which is copied, or a {@link ByteString}, which is
+   * not.
+   */
+  class Builder extends ImmutableXrpPayment.Builder {
+    public final Builder invoiceID(byte[] invoiceID) {
+      return invoiceIDBytes(ByteString.copyFrom(invoiceID));
+    }
+  }
+
   /**
    * Constructs an {@link XrpPayment} from a {@link org.xrpl.rpc.v1.Payment}.
    *
@@ -142,7 +163,7 @@ public interface XrpPayment {
       }
     }
 
-    byte[] invoiceID = payment.getInvoiceId().getValue().toByteArray();
+    ByteString invoiceID = payment.getInvoiceId().getValue();
 
     List<XrpPath> paths = payment.getPathsList()
             .stream()
@@ -164,7 +185,7 @@ public interface XrpPayment {
             .destinationTag(destinationTag)
             .destinationXAddress(destinationXAddress)
             .deliverMin(deliverMin)
-            .invoiceID(invoiceID)
+            .invoiceIDBytes(invoiceID)
             .paths(paths)
             .sendMax(sendMax)
             .build();
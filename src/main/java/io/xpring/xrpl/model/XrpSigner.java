@@ -1,5 +1,6 @@
 package io.xpring.xrpl.model;
 
+import com.google.protobuf.ByteString;
 import io.xpring.xrpl.model.ImmutableXrpSigner;
 import org.immutables.value.Value;
 import org.xrpl.rpc.v1.Signer;
@@ -11,8 +12,8 @@ import org.xrpl.rpc.v1.Signer;
  */
 @Value.Immutable
 public interface XrpSigner {
-  static ImmutableXrpSigner.Builder builder() {
-    return ImmutableXrpSigner.builder();
+  static Builder builder() {
+    return new Builder();
   }
 
   /**
@@ -27,14 +28,45 @@ public interface XrpSigner {
    *
    * @return A byte array containing the public key used to create this signature.
    */
-  byte[] signingPublicKey();
+  default byte[] signingPublicKey() {
+    return signingPublicKeyBytes().toByteArray();
+  }
+
+  /**
+   * The public key used to create this signature.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this signer was read from.
+   */
+  ByteString signingPublicKeyBytes();
 
   /**
    * A signature for this transaction, verifiable using the {@code signingPublicKey()}.
    *
    * @return A byte array containing a signature for this transaction, verifiable using the {@code signingPublicKey()}.
    */
-  byte[] transactionSignature();
+  default byte[] transactionSignature() {
+    return transactionSignatureBytes().toByteArray();
+  }
+
+  /**
+   * A signature for this transaction, verifiable using the {@code signingPublicKey()}.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this signer was read from.
+   */
+  ByteString transactionSignatureBytes();
+
+  /**
+   * Builds {@link XrpSigner}s from either byte arrays, which are copied, or {@link ByteString}s, which are not.
+   */
+  class Builder extends ImmutableXrpSigner.Builder {
+    public final Builder signingPublicKey(byte[] signingPublicKey) {
+      return signingPublicKeyBytes(ByteString.copyFrom(signingPublicKey));
+    }
+
+    public final Builder transactionSignature(byte[] transactionSignature) {
+      return transactionSignatureBytes(ByteString.copyFrom(transactionSignature));
+    }
+  }
 
   /**
    * Constructs an {@link XrpSigner} from a {@link Signer}.
@@ -48,14 +80,10 @@ public interface XrpSigner {
   static XrpSigner from(Signer signer) {
     String account = signer.getAccount().getValue().getAddress();
 
-    byte[] signingPublicKey = signer.getSigningPublicKey().getValue().toByteArray();
-
-    byte[] transactionSignature = signer.getTransactionSignature().getValue().toByteArray();
-
     return XrpSigner.builder()
         .account(account)
-        .signingPublicKey(signingPublicKey)
-        .transactionSignature(transactionSignature)
+        .signingPublicKeyBytes(signer.getSigningPublicKey().getValue())
+        .transactionSignatureBytes(signer.getTransactionSignature().getValue())
         .build();
   }
 }
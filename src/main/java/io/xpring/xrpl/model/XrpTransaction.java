@@ -1,5 +1,6 @@
 package io.xpring.xrpl.model;
 
+import com.google.protobuf.ByteString;
 import io.xpring.common.XrplNetwork;
 import io.xpring.xrpl.ClassicAddress;
 import io.xpring.xrpl.ImmutableClassicAddress;
@@ -24,8 +25,8 @@ import java.util.stream.Collectors;
  */
 @Value.Immutable
 public interface XrpTransaction {
-  static ImmutableXrpTransaction.Builder builder() {
-    return ImmutableXrpTransaction.builder();
+  static Builder builder() {
+    return new Builder();
   }
 
   /**
@@ -52,9 +53,19 @@ public interface XrpTransaction {
    *
    * @return A byte array containing the hash value of another transaction.
    */
-  @Value.Default
   default byte[] accountTransactionID() {
-    return new byte[0];
+    return accountTransactionIDBytes().toByteArray();
+  }
+
+  /**
+   * (Optional) Hash value identifying another transaction.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this transaction was read from.
+   */
+  @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
+  @Value.Default
+  default ByteString accountTransactionIDBytes() {
+    return ByteString.EMPTY;
   }
 
   /**
@@ -116,7 +127,16 @@ public interface XrpTransaction {
    *
    * @return A byte array containing the public key.
    */
-  byte[] signingPublicKey();
+  default byte[] signingPublicKey() {
+    return signingPublicKeyBytes().toByteArray();
+  }
+
+  /**
+   * The public key that corresponds to the private key used to sign this transaction.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this transaction was read from.
+   */
+  ByteString signingPublicKeyBytes();
 
   @Deprecated
   /**
@@ -145,7 +165,16 @@ public interface XrpTransaction {
    * @return A byte array containing the signature that verifies this transaction as originating from
    *          the account it says it is from.
    */
-  byte[] transactionSignature();
+  default byte[] transactionSignature() {
+    return transactionSignatureBytes().toByteArray();
+  }
+
+  /**
+   * The signature that verifies this transaction as originating from the account it says it is from.
+   *
+   * @return A {@link ByteString} which shares its bytes with the protocol buffer this transaction was read from.
+   */
+  ByteString transactionSignatureBytes();
 
   /**
    * The type of this {@link TransactionType}.
@@ -194,6 +223,23 @@ public interface XrpTransaction {
    */
   int ledgerIndex();
 
+  /**
+   * Builds {@link XrpTransaction}s from either byte arrays, which are copied, or {@link ByteString}s, which are not.
+   */
+  class Builder extends ImmutableXrpTransaction.Builder {
+    public final Builder accountTransactionID(byte[] accountTransactionID) {
+      return accountTransactionIDBytes(ByteString.copyFrom(accountTransactionID));
+    }
+
+    public final Builder signingPublicKey(byte[] signingPublicKey) {
+      return signingPublicKeyBytes(ByteString.copyFrom(signingPublicKey));
+    }
+
+    public final Builder transactionSignature(byte[] transactionSignature) {
+      return transactionSignatureBytes(ByteString.copyFrom(transactionSignature));
+    }
+  }
+
   /**
    * Constructs an {@link XrpTransaction} from a {@link GetTransactionResponse}.
    *
@@ -219,7 +265,7 @@ public interface XrpTransaction {
 
     final String account = transaction.getAccount().getValue().getAddress();
 
-    final byte[] accountTransactionID = transaction.getAccountTransactionId().getValue().toByteArray();
+    final ByteString accountTransactionID = transaction.getAccountTransactionId().getValue();
 
     final Long fee = transaction.getFee().getDrops();
 
@@ -245,7 +291,7 @@ public interface XrpTransaction {
             .map(XrpSigner::from)
             .collect(Collectors.toList());
 
-    final byte[] signingPublicKey = transaction.getSigningPublicKey().getValue().toByteArray();
+    final ByteString signingPublicKey = transaction.getSigningPublicKey().getValue();
 
     Optional<Integer> sourceTag = Optional.empty();
     if (transaction.hasSourceTag()) {
@@ -260,7 +306,7 @@ public interface XrpTransaction {
 
     final String sourceXAddress = Utils.encodeXAddress(sourceClassicAddress);
 
-    final byte[] transactionSignature = transaction.getTransactionSignature().getValue().toByteArray();
+    final ByteString transactionSignature = transaction.getTransactionSignature().getValue();
 
     TransactionType type;
     XrpPayment paymentFields;
@@ -313,17 +359,17 @@ public interface XrpTransaction {
     return XrpTransaction.builder()
             .hash(hash)
             .account(account)
-            .accountTransactionID(accountTransactionID)
+            .accountTransactionIDBytes(accountTransactionID)
             .fee(fee)
             .flags(flags)
             .lastLedgerSequence(lastLedgerSequence)
             .memos(memos)
             .sequence(sequence)
             .signers(signers)
-            .signingPublicKey(signingPublicKey)
+            .signingPublicKeyBytes(signingPublicKey)
             .sourceTag(sourceTag)
             .sourceXAddress(sourceXAddress)
-            .transactionSignature(transactionSignature)
+            .transactionSignatureBytes(transactionSignature)
             .type(type)
             .paymentFields(paymentFields)
             .timestamp(timestamp)
@@ -332,4 +378,28 @@ public interface XrpTransaction {
             .ledgerIndex(ledgerIndex)
             .build();
   }
+
+  /**
+   * Provides a view of a {@link GetTransactionResponse} as an {@link XrpTransaction}, which converts each field on
+   * first access rather than converting every field up front as {@link #from} does. This suits callers which only
+   * read a few fields of many transactions, such as scans over account history.
+   * <p>
+   * Note: The view checks that the response is a payment with a destination, but the payment's amounts are only
+   *       converted when {@link #paymentFields()} is first called, which throws an {@link IllegalStateException} if
+   *       they cannot be converted. A view is only equal to other views of the same response.
+   * </p>
+   *
+   * @param getTransactionResponse a {@link GetTransactionResponse} (protobuf object) to provide a view of.
+   * @param xrplNetwork The XrpL network from which this object was retrieved.
+   * @return an {@link XrpTransaction} backed by the response, or null if the transaction is not a supported type.
+   */
+  static XrpTransaction view(
+          GetTransactionResponse getTransactionResponse,
+          XrplNetwork xrplNetwork
+  ) {
+    if (!XrpTransactionView.isSupported(getTransactionResponse)) {
+      return null;
+    }
+    return new XrpTransactionView(getTransactionResponse, xrplNetwork);
+  }
 }
@@ -0,0 +1,246 @@
+package io.xpring.xrpl.model;
+
+import com.google.protobuf.ByteString;
+import io.xpring.common.XrplNetwork;
+import io.xpring.xrpl.ImmutableClassicAddress;
+import io.xpring.xrpl.TransactionType;
+import io.xpring.xrpl.Utils;
+import org.xrpl.rpc.v1.CurrencyAmount;
+import org.xrpl.rpc.v1.GetTransactionResponse;
+import org.xrpl.rpc.v1.Transaction;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link XrpTransaction} which is backed by a {@link GetTransactionResponse} and converts each field on first
+ * access, rather than up front as {@link XrpTransaction#from} does.
+ * <p>
+ * Fields which need work to convert, such as the hash, memos, signers, source X-Address and payment fields, are
+ * converted at most once and then kept. Binary fields are shared with the response rather than copied. Instances
+ * are safe to share between threads.
+ * </p>
+ *
+ * @see XrpTransaction#view(GetTransactionResponse, XrplNetwork)
+ */
+final class XrpTransactionView implements XrpTransaction {
+  /**
+   * The Ripple Epoch is 946,684,800 seconds after the unix epoch.
+   */
+  private static final long RIPPLE_EPOCH_OFFSET = 946684800;
+
+  private final GetTransactionResponse response;
+  private final Transaction transaction;
+  private final XrplNetwork xrplNetwork;
+
+  // Converted fields. Each is converted from immutable protobuf data, so a race only means a field may be converted
+  // more than once.
+  private volatile String hash;
+  private volatile List<XrpMemo> memos;
+  private volatile List<XrpSigner> signers;
+  private volatile String sourceXAddress;
+  private volatile XrpPayment paymentFields;
+  private volatile Optional<String> deliveredAmount;
+
+  XrpTransactionView(GetTransactionResponse response, XrplNetwork xrplNetwork) {
+    this.response = response;
+    this.transaction = response.getTransaction();
+    this.xrplNetwork = xrplNetwork;
+  }
+
+  /**
+   * Check the parts of a response which {@link XrpTransaction#from} would reject, without converting any fields.
+   *
+   * @param response The {@link GetTransactionResponse} to check.
+   * @return Whether the response describes a payment whose required fields are present.
+   */
+  static boolean isSupported(GetTransactionResponse response) {
+    Transaction transaction = response.getTransaction();
+    if (transaction.getTransactionDataCase() != Transaction.TransactionDataCase.PAYMENT) {
+      return false;
+    }
+    if (!transaction.getPayment().hasDestination()
+        || transaction.getPayment().getDestination().getValue().getAddress().isEmpty()) {
+      return false;
+    }
+    return !response.getMeta().hasDeliveredAmount()
+        || response.getMeta().getDeliveredAmount().getValue().getAmountCase()
+            != CurrencyAmount.AmountCase.AMOUNT_NOT_SET;
+  }
+
+  @Override
+  public String hash() {
+    String result = hash;
+    if (result == null) {
+      result = Utils.byteArrayToHex(response.getHash().toByteArray());
+      hash = result;
+    }
+    return result;
+  }
+
+  @Override
+  public String account() {
+    return transaction.getAccount().getValue().getAddress();
+  }
+
+  @Override
+  public ByteString accountTransactionIDBytes() {
+    return transaction.getAccountTransactionId().getValue();
+  }
+
+  @Override
+  public Long fee() {
+    return transaction.getFee().getDrops();
+  }
+
+  @Override
+  public Optional<Integer> flags() {
+    return transaction.hasFlags() ? Optional.of(transaction.getFlags().getValue()) : Optional.empty();
+  }
+
+  @Override
+  public Optional<Integer> lastLedgerSequence() {
+    return transaction.hasLastLedgerSequence()
+        ? Optional.of(transaction.getLastLedgerSequence().getValue())
+        : Optional.empty();
+  }
+
+  @Override
+  public List<XrpMemo> memos() {
+    List<XrpMemo> result = memos;
+    if (result == null) {
+      result = Collections.unmodifiableList(
+          transaction.getMemosList().stream().map(XrpMemo::from).collect(Collectors.toList())
+      );
+      memos = result;
+    }
+    return result;
+  }
+
+  @Override
+  public Integer sequence() {
+    return transaction.getSequence().getValue();
+  }
+
+  @Override
+  public List<XrpSigner> signers() {
+    List<XrpSigner> result = signers;
+    if (result == null) {
+      result = Collections.unmodifiableList(
+          transaction.getSignersList().stream().map(XrpSigner::from).collect(Collectors.toList())
+      );
+      signers = result;
+    }
+    return result;
+  }
+
+  @Override
+  public ByteString signingPublicKeyBytes() {
+    return transaction.getSigningPublicKey().getValue();
+  }
+
+  @Override
+  public Optional<Integer> sourceTag() {
+    return transaction.hasSourceTag() ? Optional.of(transaction.getSourceTag().getValue()) : Optional.empty();
+  }
+
+  @Override
+  public String sourceXAddress() {
+    String result = sourceXAddress;
+    if (result == null) {
+      result = Utils.encodeXAddress(ImmutableClassicAddress.builder()
+          .address(account())
+          .tag(sourceTag())
+          .isTest(xrplNetwork == XrplNetwork.TEST)
+          .build());
+      sourceXAddress = result;
+    }
+    return result;
+  }
+
+  @Override
+  public ByteString transactionSignatureBytes() {
+    return transaction.getTransactionSignature().getValue();
+  }
+
+  @Override
+  public TransactionType type() {
+    return TransactionType.PAYMENT;
+  }
+
+  /**
+   * Additional fields present in an {@link XrpPayment}.
+   *
+   * @return A {@link XrpPayment} representing the additional fields present in an {@link XrpPayment}.
+   * @throws IllegalStateException If the payment has an amount which cannot be converted.
+   */
+  @Override
+  public XrpPayment paymentFields() {
+    XrpPayment result = paymentFields;
+    if (result == null) {
+      result = XrpPayment.from(transaction.getPayment(), xrplNetwork);
+      if (result == null) {
+        throw new IllegalStateException("The payment in transaction " + hash() + " could not be converted");
+      }
+      paymentFields = result;
+    }
+    return result;
+  }
+
+  @Override
+  public Optional<Long> timestamp() {
+    return response.hasDate()
+        ? Optional.of(Integer.toUnsignedLong(response.getDate().getValue()) + RIPPLE_EPOCH_OFFSET)
+        : Optional.empty();
+  }
+
+  @Override
+  public Optional<String> deliveredAmount() {
+    Optional<String> result = deliveredAmount;
+    if (result == null) {
+      result = Optional.empty();
+      if (response.getMeta().hasDeliveredAmount()) {
+        CurrencyAmount currencyAmountDelivered = response.getMeta().getDeliveredAmount().getValue();
+        result = Optional.of(currencyAmountDelivered.getAmountCase() == CurrencyAmount.AmountCase.XRP_AMOUNT
+            ? Long.toString(currencyAmountDelivered.getXrpAmount().getDrops())
+            : currencyAmountDelivered.getIssuedCurrencyAmount().getValue());
+      }
+      deliveredAmount = result;
+    }
+    return result;
+  }
+
+  @Override
+  public boolean validated() {
+    return response.getValidated();
+  }
+
+  @Override
+  public int ledgerIndex() {
+    return response.getLedgerIndex();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof XrpTransactionView)) {
+      return false;
+    }
+    XrpTransactionView otherView = (XrpTransactionView) other;
+    return xrplNetwork == otherView.xrplNetwork && response.equals(otherView.response);
+  }
+
+  @Override
+  public int hashCode() {
+    return response.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "XrpTransactionView{hash=" + hash() + ", validated=" + validated() + "}";
+  }
+}
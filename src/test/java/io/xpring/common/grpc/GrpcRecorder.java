@@ -0,0 +1,120 @@
+package io.xpring.common.grpc;
+
+import com.google.common.io.ByteStreams;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A {@link ClientInterceptor} which records every unary call made through it, for replay by a
+ * {@link GrpcReplayServer}.
+ * <p>
+ * The recorder works with any service, so the same session can capture both XRP Ledger and ILP traffic. Install it
+ * with {@link io.grpc.ManagedChannelBuilder#intercept(ClientInterceptor...)} and pass the channel to a client.
+ * Streaming calls pass through unrecorded.
+ * </p><p>
+ * This class is thread safe.
+ * </p>
+ */
+public class GrpcRecorder implements ClientInterceptor {
+  private final long startNanos = System.nanoTime();
+  private final List<RecordedCall> calls = new ArrayList<>();
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> method,
+      CallOptions callOptions,
+      Channel next
+  ) {
+    ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+    if (method.getType() != MethodDescriptor.MethodType.UNARY) {
+      return call;
+    }
+    return new RecordingCall<>(method, call);
+  }
+
+  /**
+   * The calls completed so far, in the order they started.
+   *
+   * @return A {@link GrpcRecording}.
+   */
+  public GrpcRecording getRecording() {
+    List<RecordedCall> snapshot;
+    synchronized (calls) {
+      snapshot = new ArrayList<>(calls);
+    }
+    snapshot.sort(Comparator.comparingLong(RecordedCall::getStartOffsetNanos));
+    return new GrpcRecording(snapshot);
+  }
+
+  private static byte[] toByteArray(InputStream stream) {
+    try {
+      return ByteStreams.toByteArray(stream);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  /**
+   * Captures the request, response and timing of a single unary call.
+   */
+  private class RecordingCall<ReqT, RespT> extends SimpleForwardingClientCall<ReqT, RespT> {
+    private final MethodDescriptor<ReqT, RespT> method;
+    private long callStartNanos;
+    private byte[] request = new byte[0];
+    private byte[] response;
+
+    RecordingCall(MethodDescriptor<ReqT, RespT> method, ClientCall<ReqT, RespT> call) {
+      super(call);
+      this.method = method;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      callStartNanos = System.nanoTime();
+      super.start(new SimpleForwardingClientCallListener<RespT>(responseListener) {
+        @Override
+        public void onMessage(RespT message) {
+          response = toByteArray(method.streamResponse(message));
+          super.onMessage(message);
+        }
+
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+          RecordedCall recordedCall = new RecordedCall(
+              method.getFullMethodName(),
+              callStartNanos - startNanos,
+              System.nanoTime() - callStartNanos,
+              request,
+              status.isOk() ? response : null,
+              status.getCode(),
+              status.getDescription()
+          );
+          synchronized (calls) {
+            calls.add(recordedCall);
+          }
+          super.onClose(status, trailers);
+        }
+      }, headers);
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+      request = toByteArray(method.streamRequest(message));
+      super.sendMessage(message);
+    }
+  }
+}
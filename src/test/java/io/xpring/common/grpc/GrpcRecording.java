@@ -0,0 +1,160 @@
+package io.xpring.common.grpc;
+
+import com.google.common.collect.ImmutableList;
+import io.grpc.Status;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An ordered session of gRPC calls, which can be saved to and loaded from a compact file.
+ * <p>
+ * The file is a gzip compressed stream of calls in the order they started. Each call holds its method name, timings,
+ * status and the serialized request and response messages, so a recording made against one service can be replayed
+ * without its generated classes.
+ * </p>
+ */
+public final class GrpcRecording {
+  /**
+   * Identifies a recording file, and the version of its format.
+   */
+  private static final int MAGIC = 0x58475243;
+  private static final int VERSION = 1;
+
+  private final List<RecordedCall> calls;
+
+  public GrpcRecording(List<RecordedCall> calls) {
+    this.calls = ImmutableList.copyOf(calls);
+  }
+
+  /**
+   * The recorded calls, in the order they started.
+   *
+   * @return An immutable {@link List} of {@link RecordedCall}s.
+   */
+  public List<RecordedCall> getCalls() {
+    return calls;
+  }
+
+  /**
+   * Save this recording to a file, replacing any existing file.
+   *
+   * @param path The file to write.
+   * @throws IOException If the file could not be written.
+   */
+  public void writeTo(Path path) throws IOException {
+    try (OutputStream outputStream = Files.newOutputStream(path)) {
+      this.writeTo(outputStream);
+    }
+  }
+
+  /**
+   * Write this recording to a stream. The stream is not closed.
+   *
+   * @param outputStream The stream to write to.
+   * @throws IOException If the stream could not be written.
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+    DataOutputStream output = new DataOutputStream(gzipOutputStream);
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeInt(calls.size());
+    for (RecordedCall call : calls) {
+      output.writeUTF(call.getFullMethodName());
+      output.writeLong(call.getStartOffsetNanos());
+      output.writeLong(call.getLatencyNanos());
+      writeBytes(output, call.getRequest());
+      writeBytes(output, call.getResponse().orElse(null));
+
+      Status status = call.getStatus();
+      output.writeInt(status.getCode().value());
+      output.writeBoolean(status.getDescription() != null);
+      if (status.getDescription() != null) {
+        output.writeUTF(status.getDescription());
+      }
+    }
+    output.flush();
+    gzipOutputStream.finish();
+  }
+
+  /**
+   * Load a recording from a file.
+   *
+   * @param path The file to read.
+   * @return The {@link GrpcRecording}.
+   * @throws IOException If the file could not be read or is not a recording.
+   */
+  public static GrpcRecording readFrom(Path path) throws IOException {
+    try (InputStream inputStream = Files.newInputStream(path)) {
+      return readFrom(inputStream);
+    }
+  }
+
+  /**
+   * Read a recording from a stream. The stream is not closed.
+   *
+   * @param inputStream The stream to read.
+   * @return The {@link GrpcRecording}.
+   * @throws IOException If the stream could not be read or does not hold a recording.
+   */
+  public static GrpcRecording readFrom(InputStream inputStream) throws IOException {
+    DataInputStream input = new DataInputStream(new GZIPInputStream(inputStream));
+    if (input.readInt() != MAGIC) {
+      throw new IOException("Not a gRPC recording");
+    }
+    int version = input.readInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported recording version " + version);
+    }
+
+    int count = input.readInt();
+    ImmutableList.Builder<RecordedCall> calls = ImmutableList.builder();
+    for (int i = 0; i < count; i++) {
+      String fullMethodName = input.readUTF();
+      long startOffsetNanos = input.readLong();
+      long latencyNanos = input.readLong();
+      byte[] request = readBytes(input);
+      byte[] response = readBytes(input);
+      Status.Code statusCode = Status.fromCodeValue(input.readInt()).getCode();
+      String statusDescription = input.readBoolean() ? input.readUTF() : null;
+      calls.add(new RecordedCall(
+          fullMethodName,
+          startOffsetNanos,
+          latencyNanos,
+          request,
+          response,
+          statusCode,
+          statusDescription
+      ));
+    }
+    return new GrpcRecording(calls.build());
+  }
+
+  private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+    if (bytes == null) {
+      output.writeInt(-1);
+      return;
+    }
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static byte[] readBytes(DataInputStream input) throws IOException {
+    int length = input.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    input.readFully(bytes);
+    return bytes;
+  }
+}
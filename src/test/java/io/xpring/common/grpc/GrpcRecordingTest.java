@@ -0,0 +1,160 @@
+package io.xpring.common.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xrpl.rpc.v1.AccountAddress;
+import org.xrpl.rpc.v1.GetAccountInfoRequest;
+import org.xrpl.rpc.v1.GetAccountInfoResponse;
+import org.xrpl.rpc.v1.GetFeeRequest;
+import org.xrpl.rpc.v1.GetFeeResponse;
+import org.xrpl.rpc.v1.XRPLedgerAPIServiceGrpc;
+import org.xrpl.rpc.v1.XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceBlockingStub;
+import org.xrpl.rpc.v1.XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceImplBase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GrpcRecordingTest {
+  @Rule
+  public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  @Rule
+  public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * An account which the recorded service does not know about.
+   */
+  private static final String MISSING_ACCOUNT = "rByLcEZ7iwTBAK8FfjtpFuT7fCzt4kF4r2";
+
+  @Test
+  public void replayRecordedSession() throws IOException {
+    // GIVEN a session recorded against a service and saved to a file.
+    GrpcRecorder recorder = new GrpcRecorder();
+    XRPLedgerAPIServiceBlockingStub recordingStub = XRPLedgerAPIServiceGrpc.newBlockingStub(
+        this.liveChannel(recorder)
+    );
+    GetFeeResponse recordedFee = recordingStub.getFee(GetFeeRequest.getDefaultInstance());
+    assertThatThrownBy(() -> recordingStub.getAccountInfo(accountInfoRequest(MISSING_ACCOUNT)))
+        .isInstanceOf(StatusRuntimeException.class);
+
+    Path file = temporaryFolder.newFile().toPath();
+    recorder.getRecording().writeTo(file);
+
+    // WHEN the file is replayed.
+    try (GrpcReplayServer replayServer = new GrpcReplayServer(GrpcRecording.readFrom(file), 0, false)) {
+      XRPLedgerAPIServiceBlockingStub replayStub = XRPLedgerAPIServiceGrpc.newBlockingStub(
+          grpcCleanup.register(replayServer.newChannel())
+      );
+
+      // THEN the same requests receive the recorded responses and failures.
+      assertThat(replayStub.getFee(GetFeeRequest.getDefaultInstance())).isEqualTo(recordedFee);
+      assertThatThrownBy(() -> replayStub.getAccountInfo(accountInfoRequest(MISSING_ACCOUNT)))
+          .isInstanceOf(StatusRuntimeException.class)
+          .extracting(exception -> ((StatusRuntimeException) exception).getStatus())
+          .matches(status -> status.getCode() == Status.Code.NOT_FOUND)
+          .matches(status -> "Account not found.".equals(status.getDescription()));
+      assertThat(replayServer.getUnmatchedRequestCount()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  public void replayRepeatsLastMatchingResponse() {
+    // GIVEN a session in which the same request received two different responses.
+    GrpcRecorder recorder = new GrpcRecorder();
+    XRPLedgerAPIServiceBlockingStub recordingStub = XRPLedgerAPIServiceGrpc.newBlockingStub(
+        this.liveChannel(recorder)
+    );
+    recordingStub.getFee(GetFeeRequest.getDefaultInstance());
+    recordingStub.getFee(GetFeeRequest.getDefaultInstance());
+
+    // WHEN the request is replayed more times than it was recorded.
+    try (GrpcReplayServer replayServer = new GrpcReplayServer(recorder.getRecording(), 0, false)) {
+      XRPLedgerAPIServiceBlockingStub replayStub = XRPLedgerAPIServiceGrpc.newBlockingStub(
+          grpcCleanup.register(replayServer.newChannel())
+      );
+
+      // THEN the responses are replayed in order, and the last one is repeated.
+      assertThat(replayStub.getFee(GetFeeRequest.getDefaultInstance()).getLedgerCurrentIndex()).isEqualTo(1);
+      assertThat(replayStub.getFee(GetFeeRequest.getDefaultInstance()).getLedgerCurrentIndex()).isEqualTo(2);
+      assertThat(replayStub.getFee(GetFeeRequest.getDefaultInstance()).getLedgerCurrentIndex()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  public void replayUnrecordedRequest() {
+    // GIVEN a session which looked up one account.
+    GrpcRecorder recorder = new GrpcRecorder();
+    XRPLedgerAPIServiceBlockingStub recordingStub = XRPLedgerAPIServiceGrpc.newBlockingStub(
+        this.liveChannel(recorder)
+    );
+    assertThatThrownBy(() -> recordingStub.getAccountInfo(accountInfoRequest(MISSING_ACCOUNT)))
+        .isInstanceOf(StatusRuntimeException.class);
+
+    // WHEN a different account is looked up during a strict replay.
+    try (GrpcReplayServer replayServer = new GrpcReplayServer(recorder.getRecording(), 0, false)) {
+      XRPLedgerAPIServiceBlockingStub replayStub = XRPLedgerAPIServiceGrpc.newBlockingStub(
+          grpcCleanup.register(replayServer.newChannel())
+      );
+
+      // THEN the request fails and is counted as unmatched.
+      assertThatThrownBy(() -> replayStub.getAccountInfo(accountInfoRequest("rOther")))
+          .isInstanceOf(StatusRuntimeException.class)
+          .extracting(exception -> ((StatusRuntimeException) exception).getStatus().getCode())
+          .isEqualTo(Status.Code.FAILED_PRECONDITION);
+      assertThat(replayServer.getUnmatchedRequestCount()).isEqualTo(1);
+    }
+  }
+
+  /**
+   * Create a channel to a service which reports an increasing ledger index from GetFee and finds no accounts, recording
+   * traffic with the given recorder.
+   */
+  private ManagedChannel liveChannel(GrpcRecorder recorder) {
+    AtomicInteger ledgerIndex = new AtomicInteger();
+    XRPLedgerAPIServiceImplBase service = new XRPLedgerAPIServiceImplBase() {
+      @Override
+      public void getFee(GetFeeRequest request, StreamObserver<GetFeeResponse> responseObserver) {
+        responseObserver.onNext(
+            GetFeeResponse.newBuilder().setLedgerCurrentIndex(ledgerIndex.incrementAndGet()).build()
+        );
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void getAccountInfo(
+          GetAccountInfoRequest request,
+          StreamObserver<GetAccountInfoResponse> responseObserver
+      ) {
+        responseObserver.onError(Status.NOT_FOUND.withDescription("Account not found.").asRuntimeException());
+      }
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    try {
+      grpcCleanup.register(
+          InProcessServerBuilder.forName(serverName).directExecutor().addService(service).build().start()
+      );
+    } catch (IOException exception) {
+      throw new IllegalStateException(exception);
+    }
+    return grpcCleanup.register(
+        InProcessChannelBuilder.forName(serverName).directExecutor().intercept(recorder).build()
+    );
+  }
+
+  private static GetAccountInfoRequest accountInfoRequest(String address) {
+    return GetAccountInfoRequest.newBuilder().setAccount(AccountAddress.newBuilder().setAddress(address)).build();
+  }
+}
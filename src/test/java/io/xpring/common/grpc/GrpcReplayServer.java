@@ -0,0 +1,203 @@
+package io.xpring.common.grpc;
+
+import com.google.common.io.ByteStreams;
+import io.grpc.HandlerRegistry;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.Marshaller;
+import io.grpc.Server;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An in-process gRPC server which answers requests from a {@link GrpcRecording}, so that clients can be exercised and
+ * benchmarked against a captured session without a live node.
+ * <p>
+ * A request is answered with the earliest unused recorded call to the same method with an identical request. Once
+ * those are used up, the last of them is repeated, which lets polling loops run for longer than they did while
+ * recording. If the method was never called with that request, the earliest unused call to the method is used instead
+ * when the server is lenient, and the request fails with FAILED_PRECONDITION otherwise.
+ * </p><p>
+ * Responses are delayed by the recorded latency multiplied by a time scale, which can be 0 to replay as fast as
+ * possible.
+ * </p>
+ */
+public class GrpcReplayServer implements AutoCloseable {
+  private static final Marshaller<byte[]> BYTES_MARSHALLER = new Marshaller<byte[]>() {
+    @Override
+    public InputStream stream(byte[] value) {
+      return new ByteArrayInputStream(value);
+    }
+
+    @Override
+    public byte[] parse(InputStream stream) {
+      try {
+        return ByteStreams.toByteArray(stream);
+      } catch (IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+  };
+
+  private final Map<String, List<RecordedCall>> callsByMethod = new HashMap<>();
+  private final Set<RecordedCall> used = new HashSet<>();
+  private final Map<String, ServerMethodDefinition<byte[], byte[]>> methods = new HashMap<>();
+  private final AtomicInteger unmatchedRequestCount = new AtomicInteger();
+  private final double timeScale;
+  private final boolean lenient;
+  private final ScheduledExecutorService scheduler;
+  private final String name;
+  private final Server server;
+
+  /**
+   * Start a server which replays a recording.
+   *
+   * @param recording The {@link GrpcRecording} to replay.
+   * @param timeScale The multiple of each recorded latency to wait before responding, or 0 to respond immediately.
+   * @param lenient   Whether to answer requests which were never recorded with another call to the same method.
+   */
+  public GrpcReplayServer(GrpcRecording recording, double timeScale, boolean lenient) {
+    this.timeScale = timeScale;
+    this.lenient = lenient;
+    for (RecordedCall call : recording.getCalls()) {
+      this.callsByMethod.computeIfAbsent(call.getFullMethodName(), method -> new ArrayList<>()).add(call);
+      this.methods.computeIfAbsent(call.getFullMethodName(), this::methodDefinition);
+    }
+
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "grpc-replay");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.name = InProcessServerBuilder.generateName();
+    try {
+      this.server = InProcessServerBuilder.forName(name)
+          .fallbackHandlerRegistry(new HandlerRegistry() {
+            @Override
+            public ServerMethodDefinition<?, ?> lookupMethod(String methodName, String authority) {
+              return methods.get(methodName);
+            }
+          })
+          .build()
+          .start();
+    } catch (IOException exception) {
+      this.scheduler.shutdownNow();
+      throw new IllegalStateException("Could not start replay server", exception);
+    }
+  }
+
+  /**
+   * Create a new channel connected to this server. The caller is responsible for shutting the channel down.
+   *
+   * @return A {@link ManagedChannel}.
+   */
+  public ManagedChannel newChannel() {
+    return InProcessChannelBuilder.forName(name).build();
+  }
+
+  /**
+   * The number of requests which did not exactly match a recorded call. A non-zero count means the client's behavior
+   * has drifted from the recorded session.
+   *
+   * @return The count of unmatched requests.
+   */
+  public int getUnmatchedRequestCount() {
+    return unmatchedRequestCount.get();
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    server.shutdownNow();
+    try {
+      server.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private ServerMethodDefinition<byte[], byte[]> methodDefinition(String fullMethodName) {
+    MethodDescriptor<byte[], byte[]> descriptor = MethodDescriptor.<byte[], byte[]>newBuilder()
+        .setType(MethodDescriptor.MethodType.UNARY)
+        .setFullMethodName(fullMethodName)
+        .setRequestMarshaller(BYTES_MARSHALLER)
+        .setResponseMarshaller(BYTES_MARSHALLER)
+        .build();
+    return ServerMethodDefinition.create(
+        descriptor,
+        ServerCalls.asyncUnaryCall((request, responseObserver) -> replay(fullMethodName, request, responseObserver))
+    );
+  }
+
+  private void replay(String fullMethodName, byte[] request, StreamObserver<byte[]> responseObserver) {
+    RecordedCall call = this.findCall(fullMethodName, request);
+    if (call == null) {
+      responseObserver.onError(Status.FAILED_PRECONDITION
+          .withDescription("No recorded call to " + fullMethodName + " matches the request.")
+          .asRuntimeException());
+      return;
+    }
+
+    Runnable delivery = () -> {
+      if (call.getStatus().isOk() && call.getResponse().isPresent()) {
+        responseObserver.onNext(call.getResponse().get());
+        responseObserver.onCompleted();
+      } else {
+        responseObserver.onError(call.getStatus().asRuntimeException());
+      }
+    };
+    long delayNanos = (long) (call.getLatencyNanos() * timeScale);
+    if (delayNanos <= 0) {
+      delivery.run();
+    } else {
+      scheduler.schedule(delivery, delayNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private synchronized RecordedCall findCall(String fullMethodName, byte[] request) {
+    RecordedCall lastUsedMatch = null;
+    for (RecordedCall call : callsByMethod.get(fullMethodName)) {
+      if (call.matches(fullMethodName, request)) {
+        if (!used.contains(call)) {
+          used.add(call);
+          return call;
+        }
+        lastUsedMatch = call;
+      }
+    }
+    if (lastUsedMatch != null) {
+      return lastUsedMatch;
+    }
+
+    unmatchedRequestCount.incrementAndGet();
+    if (!lenient) {
+      return null;
+    }
+    for (RecordedCall call : callsByMethod.get(fullMethodName)) {
+      if (!used.contains(call)) {
+        used.add(call);
+        return call;
+      }
+    }
+    return null;
+  }
+}
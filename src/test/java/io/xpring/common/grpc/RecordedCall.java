@@ -0,0 +1,88 @@
+package io.xpring.common.grpc;
+
+import io.grpc.Status;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A single unary gRPC call captured by a {@link GrpcRecorder}.
+ */
+public final class RecordedCall {
+  private final String fullMethodName;
+  private final long startOffsetNanos;
+  private final long latencyNanos;
+  private final byte[] request;
+  private final byte[] response;
+  private final Status.Code statusCode;
+  private final String statusDescription;
+
+  /**
+   * Create a recorded call.
+   *
+   * @param fullMethodName    The full name of the method, for instance "org.xrpl.rpc.v1.XRPLedgerAPIService/GetFee".
+   * @param startOffsetNanos  When the call started, relative to the start of the recording.
+   * @param latencyNanos      The time between the start of the call and its completion.
+   * @param request           The serialized request message.
+   * @param response          The serialized response message, or null if the call failed.
+   * @param statusCode        The status the call closed with.
+   * @param statusDescription The description of that status, or null if there is none.
+   */
+  public RecordedCall(
+      String fullMethodName,
+      long startOffsetNanos,
+      long latencyNanos,
+      byte[] request,
+      byte[] response,
+      Status.Code statusCode,
+      String statusDescription
+  ) {
+    this.fullMethodName = fullMethodName;
+    this.startOffsetNanos = startOffsetNanos;
+    this.latencyNanos = latencyNanos;
+    this.request = request.clone();
+    this.response = response == null ? null : response.clone();
+    this.statusCode = statusCode;
+    this.statusDescription = statusDescription;
+  }
+
+  public String getFullMethodName() {
+    return fullMethodName;
+  }
+
+  public long getStartOffsetNanos() {
+    return startOffsetNanos;
+  }
+
+  public long getLatencyNanos() {
+    return latencyNanos;
+  }
+
+  public byte[] getRequest() {
+    return request.clone();
+  }
+
+  public Optional<byte[]> getResponse() {
+    return Optional.ofNullable(response).map(byte[]::clone);
+  }
+
+  /**
+   * The status the call closed with, including its description.
+   *
+   * @return A {@link Status}.
+   */
+  public Status getStatus() {
+    return Status.fromCode(statusCode).withDescription(statusDescription);
+  }
+
+  /**
+   * Whether this call was made with the given request.
+   *
+   * @param fullMethodName The full name of the method.
+   * @param request        The serialized request message.
+   * @return true if the method and request bytes both match.
+   */
+  boolean matches(String fullMethodName, byte[] request) {
+    return this.fullMethodName.equals(fullMethodName) && Arrays.equals(this.request, request);
+  }
+}
@@ -14,6 +14,11 @@ import org.interledger.spsp.server.grpc.SendPaymentResponse;
 
 import com.google.common.primitives.UnsignedLong;
 import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.inprocess.InProcessChannelBuilder;
@@ -22,6 +27,7 @@ import io.grpc.stub.StreamObserver;
 import io.grpc.testing.GrpcCleanupRule;
 import io.xpring.common.Result;
 import io.xpring.ilp.model.AccountBalance;
+import io.xpring.ilp.model.PaymentBatchOptions;
 import io.xpring.ilp.model.PaymentRequest;
 import io.xpring.ilp.model.PaymentResult;
 import org.junit.Before;
@@ -29,6 +35,19 @@ import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Unit tests for {@link io.xpring.ilp.DefaultIlpClient}.
@@ -230,6 +249,233 @@ public class DefaultIlpClientTest {
     assertSendPaymentThrows(client, IlpException.UNKNOWN);
   }
 
+  @Test
+  public void successfulGetBalanceAsyncTest() throws IOException, InterruptedException, ExecutionException {
+    // GIVEN a DefaultIlpClient with mocked networking which will succeed.
+    DefaultIlpClient client = getSuccessfulClient();
+
+    // WHEN the balance is retrieved asynchronously for "bob"
+    AccountBalance balanceResponse = client.getBalanceAsync("bob", "jwtjwtjwtjwt", Duration.ofSeconds(5)).get();
+
+    // THEN the balance response is equal to the mocked response
+    assertThat(balanceResponse.accountId()).isEqualTo(this.getBalanceResponse.getAccountId());
+    assertThat(balanceResponse.netBalance()).isEqualTo(this.getBalanceResponse.getNetBalance());
+  }
+
+  @Test
+  public void sendPaymentAsyncFailsWithNotFound() throws IOException {
+    // GIVEN a DefaultIlpClient with mocked networking which will throw a StatusRuntimeException
+    // with grpc.Status = NOT_FOUND
+    DefaultIlpClient client = getFailingClient(Status.NOT_FOUND);
+
+    // WHEN a payment is sent asynchronously
+    CompletableFuture<PaymentResult> result = client.sendPaymentAsync(
+        mockPaymentRequest, "password", Duration.ofSeconds(5)
+    );
+
+    // THEN the result fails with IlpException.NOT_FOUND
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertThat(exception.getCause()).isSameAs(IlpException.NOT_FOUND);
+  }
+
+  @Test
+  public void sendPaymentAsyncFailsWithInvalidAccessToken() throws IOException {
+    // GIVEN a DefaultIlpClient with mocked networking which will succeed
+    DefaultIlpClient client = getSuccessfulClient();
+
+    // WHEN a payment is sent asynchronously with an access token prefixed with "Bearer "
+    CompletableFuture<PaymentResult> result = client.sendPaymentAsync(
+        mockPaymentRequest, "Bearer bob", Duration.ofSeconds(5)
+    );
+
+    // THEN the result fails with IlpException.INVALID_ACCESS_TOKEN
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertThat(exception.getCause()).isSameAs(IlpException.INVALID_ACCESS_TOKEN);
+  }
+
+  @Test
+  public void sendPaymentAsyncFailsAfterDeadline() throws IOException {
+    // GIVEN a DefaultIlpClient whose connector never responds to a payment
+    DefaultIlpClient client = startClient(
+        getBalanceService(Result.ok(getBalanceResponse)),
+        new IlpOverHttpServiceGrpc.IlpOverHttpServiceImplBase() {
+          @Override
+          public void sendMoney(SendPaymentRequest request, StreamObserver<SendPaymentResponse> responseObserver) {
+          }
+        }
+    );
+
+    // WHEN a payment is sent asynchronously with a short deadline
+    CompletableFuture<PaymentResult> result = client.sendPaymentAsync(
+        mockPaymentRequest, "password", Duration.ofMillis(100)
+    );
+
+    // THEN the result fails with IlpException.DEADLINE_EXCEEDED
+    ExecutionException exception = assertThrows(ExecutionException.class, result::get);
+    assertThat(exception.getCause()).isSameAs(IlpException.DEADLINE_EXCEEDED);
+  }
+
+  @Test
+  public void sendPaymentsPreservesSenderOrderTest() throws IOException, IlpException {
+    // GIVEN a DefaultIlpClient whose connector responds to each payment after a short delay, and which records how
+    // many payments from each sender are in flight at once
+    ScheduledExecutorService responseExecutor = Executors.newSingleThreadScheduledExecutor();
+    Map<String, AtomicInteger> inFlightBySender = new ConcurrentHashMap<>();
+    Map<String, List<Long>> amountsBySender = new ConcurrentHashMap<>();
+    AtomicInteger maximumInFlightFromOneSender = new AtomicInteger();
+    DefaultIlpClient client = startClient(
+        getBalanceService(Result.ok(getBalanceResponse)),
+        new IlpOverHttpServiceGrpc.IlpOverHttpServiceImplBase() {
+          @Override
+          public void sendMoney(SendPaymentRequest request, StreamObserver<SendPaymentResponse> responseObserver) {
+            AtomicInteger inFlight =
+                inFlightBySender.computeIfAbsent(request.getAccountId(), key -> new AtomicInteger());
+            maximumInFlightFromOneSender.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            amountsBySender.computeIfAbsent(request.getAccountId(), key -> new ArrayList<>()).add(request.getAmount());
+            responseExecutor.schedule(() -> {
+              inFlight.decrementAndGet();
+              responseObserver.onNext(sendPaymentResponse);
+              responseObserver.onCompleted();
+            }, 10, TimeUnit.MILLISECONDS);
+          }
+        }
+    );
+
+    // AND a batch of payments from two senders
+    List<PaymentRequest> paymentRequests = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      paymentRequests.add(PaymentRequest.builder()
+          .amount(UnsignedLong.valueOf(i))
+          .destinationPaymentPointer("$foo.dev/bar")
+          .senderAccountId(i % 2 == 0 ? "alice" : "bob")
+          .build());
+    }
+
+    // WHEN the payments are sent preserving the order of each sender's payments
+    CollectingPaymentListener listener = new CollectingPaymentListener();
+    PaymentBatchOptions options = PaymentBatchOptions.builder()
+        .maximumConcurrentPayments(4)
+        .preserveSenderOrder(true)
+        .build();
+    try {
+      client.sendPayments(paymentRequests, "password", options, listener);
+    } finally {
+      responseExecutor.shutdown();
+    }
+
+    // THEN every payment is reported, no sender has two payments in flight, and each sender's payments arrive in order
+    assertThat(listener.results.keySet()).containsExactly(0, 1, 2, 3, 4, 5);
+    assertThat(listener.errors).isEmpty();
+    assertThat(maximumInFlightFromOneSender.get()).isEqualTo(1);
+    assertThat(amountsBySender.get("alice")).containsExactly(0L, 2L, 4L);
+    assertThat(amountsBySender.get("bob")).containsExactly(1L, 3L, 5L);
+  }
+
+  @Test
+  public void sendPaymentsReportsErrorsTest() throws IOException, IlpException {
+    // GIVEN a DefaultIlpClient with mocked networking which will throw a StatusRuntimeException
+    // with grpc.Status = UNAUTHENTICATED
+    DefaultIlpClient client = getFailingClient(Status.UNAUTHENTICATED);
+
+    // WHEN a batch of payments is sent
+    CollectingPaymentListener listener = new CollectingPaymentListener();
+    client.sendPayments(
+        Arrays.asList(mockPaymentRequest, mockPaymentRequest, mockPaymentRequest),
+        "password",
+        PaymentBatchOptions.defaults(),
+        listener
+    );
+
+    // THEN each payment is reported as failing with IlpException.UNAUTHENTICATED
+    assertThat(listener.results).isEmpty();
+    assertThat(listener.errors.keySet()).containsExactly(0, 1, 2);
+    assertThat(listener.errors.values()).containsOnly(IlpException.UNAUTHENTICATED);
+  }
+
+  @Test
+  public void sendPaymentsThrowsInvalidAccessToken() throws IOException {
+    // GIVEN a DefaultIlpClient with mocked networking which will succeed
+    DefaultIlpClient client = getSuccessfulClient();
+    CollectingPaymentListener listener = new CollectingPaymentListener();
+
+    // WHEN a batch of payments is sent with an access token prefixed with "Bearer "
+    // THEN an IlpException in thrown and no payment is reported
+    assertThrows(
+        IlpException.INVALID_ACCESS_TOKEN.getMessage(),
+        IlpException.class,
+        () -> client.sendPayments(
+            Arrays.asList(mockPaymentRequest), "Bearer bob", PaymentBatchOptions.defaults(), listener
+        )
+    );
+    assertThat(listener.results).isEmpty();
+    assertThat(listener.errors).isEmpty();
+  }
+
+  @Test
+  public void reusesCredentialsForSameAccessTokenTest() throws IOException, IlpException {
+    // GIVEN a DefaultIlpClient whose connector records the Authorization header of each call
+    List<String> authorizations = new ArrayList<>();
+    DefaultIlpClient client = getRecordingClient(authorizations, IlpCredentialsCacheSettings.defaults());
+
+    // WHEN calls are made with two access tokens, one of them twice
+    client.getBalance("alice", "alicetoken");
+    client.sendPayment(mockPaymentRequest, "alicetoken");
+    client.getBalance("bob", "bobtoken");
+
+    // THEN each call carries its own token, and credentials are kept once per token
+    assertThat(authorizations).containsExactly("Bearer alicetoken", "Bearer alicetoken", "Bearer bobtoken");
+    assertThat(client.cachedAccessTokenCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void evictsCredentialsBeyondMaximumSizeTest() throws IOException, IlpException {
+    // GIVEN a DefaultIlpClient which keeps credentials for a single access token
+    List<String> authorizations = new ArrayList<>();
+    DefaultIlpClient client = getRecordingClient(
+        authorizations,
+        IlpCredentialsCacheSettings.builder().maximumSize(1).build()
+    );
+
+    // WHEN calls alternate between two access tokens
+    client.getBalance("alice", "alicetoken");
+    client.getBalance("bob", "bobtoken");
+    client.getBalance("alice", "alicetoken");
+
+    // THEN every call still carries its own token, and only one token's credentials are kept
+    assertThat(authorizations).containsExactly("Bearer alicetoken", "Bearer bobtoken", "Bearer alicetoken");
+    assertThat(client.cachedAccessTokenCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void doesNotCacheInvalidAccessTokenTest() throws IOException {
+    // GIVEN a DefaultIlpClient with mocked networking which will succeed
+    DefaultIlpClient client = getSuccessfulClient();
+
+    // WHEN the balance is retrieved twice with an access token prefixed with "Bearer "
+    // THEN an IlpException is thrown each time, and no credentials are kept
+    assertThrows(IlpException.class, () -> client.getBalance("bob", "Bearer password"));
+    assertThrows(IlpException.class, () -> client.getBalance("bob", "Bearer password"));
+    assertThat(client.cachedAccessTokenCount()).isZero();
+  }
+
+  /**
+   * A {@link PaymentResultListener} which collects every outcome by index.
+   */
+  private static class CollectingPaymentListener implements PaymentResultListener {
+    private final Map<Integer, PaymentResult> results = new ConcurrentSkipListMap<>();
+    private final Map<Integer, IlpException> errors = new ConcurrentSkipListMap<>();
+
+    @Override
+    public void onResult(int index, PaymentResult result) {
+      results.put(index, result);
+    }
+
+    @Override
+    public void onError(int index, IlpException error) {
+      errors.put(index, error);
+    }
+  }
+
   /**
    * Convenience method to get a IlpClient which has successful network calls.
    */
@@ -266,6 +512,50 @@ public class DefaultIlpClientTest {
 
     IlpOverHttpServiceGrpc.IlpOverHttpServiceImplBase ilpOverHttpServiceImpl = ilpOverHttpService(sendPaymentResponse);
 
+    return startClient(balanceServiceImpl, ilpOverHttpServiceImpl);
+  }
+
+  /**
+   * Return a DefaultIlpClient with successful network calls, whose server records the Authorization header of each
+   * call.
+   */
+  private DefaultIlpClient getRecordingClient(List<String> authorizations, IlpCredentialsCacheSettings settings)
+      throws IOException {
+    Metadata.Key<String> authorizationKey = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
+    ServerInterceptor recordingInterceptor = new ServerInterceptor() {
+      @Override
+      public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                   Metadata headers,
+                                                                   ServerCallHandler<ReqT, RespT> next) {
+        authorizations.add(headers.get(authorizationKey));
+        return next.startCall(call, headers);
+      }
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    grpcCleanup.register(InProcessServerBuilder
+        .forName(serverName)
+        .directExecutor()
+        .addService(ServerInterceptors.intercept(
+            getBalanceService(Result.ok(getBalanceResponse)), recordingInterceptor
+        ))
+        .addService(ServerInterceptors.intercept(
+            ilpOverHttpService(Result.ok(sendPaymentResponse)), recordingInterceptor
+        ))
+        .build()
+        .start());
+
+    ManagedChannel channel = grpcCleanup.register(
+        InProcessChannelBuilder.forName(serverName).directExecutor().build());
+    return new DefaultIlpClient(channel, settings);
+  }
+
+  /**
+   * Return a DefaultIlpClient connected to an in-process server with the given services.
+   */
+  private DefaultIlpClient startClient(BalanceServiceGrpc.BalanceServiceImplBase balanceServiceImpl,
+                                       IlpOverHttpServiceGrpc.IlpOverHttpServiceImplBase ilpOverHttpServiceImpl)
+      throws IOException {
     // Generate a unique in-process server name.
     String serverName = InProcessServerBuilder.generateName();
 
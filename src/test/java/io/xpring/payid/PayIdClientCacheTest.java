@@ -0,0 +1,245 @@
+package io.xpring.payid;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import io.xpring.payid.generated.model.Address;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class PayIdClientCacheTest {
+  private static final String FIRST_ADDRESS = "X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4";
+  private static final String SECOND_ADDRESS = "XV5sbjUmgPpvXv4ixFWZ5ptAYZ6PD28Sq49uo34VyjnmK5H";
+
+  @Rule
+  public WireMockRule wireMockRule = new WireMockRule(wireMockConfig().dynamicPort().dynamicHttpsPort());
+
+  private FakeClock clock;
+  private String payId;
+
+  @Before
+  public void setUp() {
+    this.clock = new FakeClock();
+    this.payId = "georgewashington$localhost:" + wireMockRule.httpsPort();
+  }
+
+  @Test
+  public void testRepeatedLookupsAreCached() throws PayIdException {
+    // GIVEN a caching PayIdClient and mocked networking which returns an address for a PayID.
+    PayIdClient payIdClient = cachingClient(PayIdCacheSettings.defaults());
+    stubLookup(addressResponse(FIRST_ADDRESS));
+
+    // WHEN the PayID is resolved several times.
+    for (int i = 0; i < 3; i++) {
+      assertEquals(FIRST_ADDRESS, resolve(payIdClient));
+    }
+
+    // THEN only the first lookup goes to the network.
+    verify(1, getRequestedFor(urlEqualTo("/georgewashington")));
+  }
+
+  @Test
+  public void testEquivalentPayIdsShareCacheEntry() throws PayIdException {
+    // GIVEN a caching PayIdClient and mocked networking which returns an address for a PayID in any case.
+    PayIdClient payIdClient = cachingClient(PayIdCacheSettings.defaults());
+    stubFor(get(urlMatching("(?i)/georgewashington")).willReturn(addressResponse(FIRST_ADDRESS)));
+
+    // WHEN the PayID is resolved with different capitalization.
+    payIdClient.allAddressesForPayId(payId);
+    payIdClient.allAddressesForPayId("GeorgeWashington$LOCALHOST:" + wireMockRule.httpsPort());
+
+    // THEN only the first lookup goes to the network.
+    verify(1, getRequestedFor(urlMatching("(?i)/georgewashington")));
+  }
+
+  @Test
+  public void testCacheControlMaxAgeIsHonored() throws PayIdException {
+    // GIVEN a caching PayIdClient which serves nothing stale and a response which may be cached for ten seconds.
+    PayIdClient payIdClient = cachingClient(PayIdCacheSettings.builder().staleWhileRevalidate(Duration.ZERO).build());
+    stubLookup(addressResponse(FIRST_ADDRESS).withHeader("Cache-Control", "max-age=10"));
+
+    // WHEN the PayID is resolved within ten seconds THEN it is served from the cache.
+    resolve(payIdClient);
+    clock.advance(Duration.ofSeconds(9));
+    resolve(payIdClient);
+    verify(1, getRequestedFor(urlEqualTo("/georgewashington")));
+
+    // WHEN the PayID is resolved after ten seconds THEN it is looked up again.
+    clock.advance(Duration.ofSeconds(2));
+    resolve(payIdClient);
+    verify(2, getRequestedFor(urlEqualTo("/georgewashington")));
+  }
+
+  @Test
+  public void testNoStoreIsNotCached() throws PayIdException {
+    // GIVEN a caching PayIdClient and a response which may not be stored.
+    PayIdClient payIdClient = cachingClient(PayIdCacheSettings.defaults());
+    stubLookup(addressResponse(FIRST_ADDRESS).withHeader("Cache-Control", "no-store"));
+
+    // WHEN the PayID is resolved twice.
+    resolve(payIdClient);
+    resolve(payIdClient);
+
+    // THEN both lookups go to the network.
+    verify(2, getRequestedFor(urlEqualTo("/georgewashington")));
+  }
+
+  @Test
+  public void testNotFoundIsCachedBriefly() {
+    // GIVEN a caching PayIdClient which remembers missing PayIDs for thirty seconds and a PayID which is not found.
+    PayIdClient payIdClient = cachingClient(PayIdCacheSettings.builder()
+        .notFoundTimeToLive(Duration.ofSeconds(30))
+        .staleWhileRevalidate(Duration.ZERO)
+        .build());
+    stubLookup(aResponse().withStatus(404));
+
+    // WHEN the PayID is resolved twice THEN both lookups fail but only the first goes to the network.
+    assertMappingNotFound(payIdClient);
+    assertMappingNotFound(payIdClient);
+    verify(1, getRequestedFor(urlEqualTo("/georgewashington")));
+
+    // WHEN the PayID is resolved after thirty seconds THEN it is looked up again.
+    clock.advance(Duration.ofSeconds(31));
+    assertMappingNotFound(payIdClient);
+    verify(2, getRequestedFor(urlEqualTo("/georgewashington")));
+  }
+
+  @Test
+  public void testStaleResolutionIsServedWhileRefreshing() throws Exception {
+    // GIVEN a caching PayIdClient which has resolved a PayID that has since moved to a new address.
+    PayIdClient payIdClient = cachingClient(PayIdCacheSettings.builder()
+        .staleWhileRevalidate(Duration.ofMinutes(1))
+        .build());
+    stubLookup(addressResponse(FIRST_ADDRESS).withHeader("Cache-Control", "max-age=10"));
+    resolve(payIdClient);
+    stubLookup(addressResponse(SECOND_ADDRESS).withHeader("Cache-Control", "max-age=10"));
+
+    // WHEN the PayID is resolved after its resolution is stale.
+    clock.advance(Duration.ofSeconds(15));
+    String staleAddress = resolve(payIdClient);
+
+    // THEN the stale address is returned, and the new address is returned once the background refresh completes.
+    assertEquals(FIRST_ADDRESS, staleAddress);
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!SECOND_ADDRESS.equals(resolve(payIdClient)) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(SECOND_ADDRESS, resolve(payIdClient));
+    verify(2, getRequestedFor(urlEqualTo("/georgewashington")));
+  }
+
+  @Test
+  public void testConcurrentMissesShareOneRequest() throws Exception {
+    // GIVEN a caching PayIdClient and mocked networking which responds slowly.
+    PayIdClient payIdClient = cachingClient(PayIdCacheSettings.defaults());
+    stubLookup(addressResponse(FIRST_ADDRESS).withFixedDelay(500));
+
+    // WHEN several threads resolve the PayID at once.
+    int threadCount = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      results.add(executor.submit(() -> {
+        start.await();
+        return resolve(payIdClient);
+      }));
+    }
+    start.countDown();
+
+    // THEN every thread receives the address from a single lookup.
+    for (Future<String> result : results) {
+      assertEquals(FIRST_ADDRESS, result.get());
+    }
+    executor.shutdown();
+    verify(1, getRequestedFor(urlEqualTo("/georgewashington")));
+  }
+
+  private PayIdClient cachingClient(PayIdCacheSettings cacheSettings) {
+    PayIdClient payIdClient = new PayIdClient(
+        PayIdConnectionSettings.defaults(),
+        new InMemoryPayIdCache(),
+        cacheSettings,
+        clock
+    );
+    payIdClient.setEnableSSLVerification(false);
+    return payIdClient;
+  }
+
+  private String resolve(PayIdClient payIdClient) throws PayIdException {
+    List<Address> addresses = payIdClient.allAddressesForPayId(payId);
+    assertThat(addresses).hasSize(1);
+    return addresses.get(0).getAddressDetails().getAddress();
+  }
+
+  private void assertMappingNotFound(PayIdClient payIdClient) {
+    try {
+      payIdClient.allAddressesForPayId(payId);
+      fail("Expected the PayID not to be found");
+    } catch (PayIdException exception) {
+      assertEquals(PayIdExceptionType.MAPPING_NOT_FOUND, exception.getType());
+    }
+  }
+
+  private static void stubLookup(ResponseDefinitionBuilder response) {
+    stubFor(get(urlEqualTo("/georgewashington")).willReturn(response));
+  }
+
+  private static ResponseDefinitionBuilder addressResponse(String address) {
+    return aResponse()
+        .withStatus(200)
+        .withHeader("Content-Type", "application/payid+json")
+        .withBody("{ addresses: [{ addressDetailsType: 'CryptoAddressDetails', "
+            + "addressDetails: { address: '" + address + "' } }] }");
+  }
+
+  /**
+   * A {@link Clock} which only moves when told to.
+   */
+  private static final class FakeClock extends Clock {
+    private volatile Instant instant = Instant.parse("2020-09-01T00:00:00Z");
+
+    void advance(Duration duration) {
+      this.instant = this.instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return this.instant;
+    }
+  }
+}
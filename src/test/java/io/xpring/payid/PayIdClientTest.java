@@ -14,6 +14,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -104,4 +105,81 @@ public class PayIdClientTest {
     expectedException.expect(PayIdException.class);
     payIdClient.allAddressesForPayId(payId);
   }
+
+  @Test
+  public void testRepeatedLookupsReuseConnection() throws PayIdException {
+    // GIVEN a PayIdClient and mocked networking which returns an address for a PayID.
+    final String payId = "georgewashington$localhost:" + wireMockRule.httpsPort();
+    PayIdClient payIdClient = new PayIdClient();
+    payIdClient.setEnableSSLVerification(false);
+    stubFor(get(urlEqualTo("/georgewashington"))
+            .willReturn(aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "application/payid+json")
+                    .withBody("{ addresses: [] }")
+            )
+    );
+
+    // WHEN the PayID is resolved several times.
+    for (int i = 0; i < 3; i++) {
+      payIdClient.allAddressesForPayId(payId);
+    }
+
+    // THEN every lookup is sent over the same connection.
+    assertEquals(1, payIdClient.getHttpClient().connectionPool().connectionCount());
+  }
+
+  @Test
+  public void testLookupsAreNotLimitedAcrossHosts() {
+    // GIVEN a PayIdClient.
+    PayIdClient payIdClient = new PayIdClient();
+
+    // WHEN its HTTP client is inspected THEN it does not limit the number of lookups in flight.
+    assertEquals(Integer.MAX_VALUE, payIdClient.getHttpClient().dispatcher().getMaxRequests());
+    assertEquals(Integer.MAX_VALUE, payIdClient.getHttpClient().dispatcher().getMaxRequestsPerHost());
+  }
+
+  @Test
+  public void testConnectionSettings() {
+    // GIVEN connection settings with custom timeouts.
+    PayIdConnectionSettings connectionSettings = PayIdConnectionSettings.builder()
+        .connectTimeout(Duration.ofSeconds(3))
+        .readTimeout(Duration.ofSeconds(4))
+        .maximumIdleConnections(1024)
+        .build();
+
+    // WHEN a PayIdClient is created with them.
+    PayIdClient payIdClient = new PayIdClient(connectionSettings);
+
+    // THEN its HTTP client uses them.
+    assertEquals(3000, payIdClient.getHttpClient().connectTimeoutMillis());
+    assertEquals(4000, payIdClient.getHttpClient().readTimeoutMillis());
+  }
+
+  @Test
+  public void testConnectionSettingsRejectNegativeIdleConnections() {
+    // GIVEN a negative number of idle connections WHEN connection settings are built THEN they are rejected.
+    expectedException.expect(IllegalArgumentException.class);
+    PayIdConnectionSettings.builder().maximumIdleConnections(-1).build();
+  }
+
+  @Test
+  public void testLookupTimesOut() throws PayIdException {
+    // GIVEN a PayIdClient with a short read timeout and mocked networking which responds slowly.
+    final String payId = "georgewashington$localhost:" + wireMockRule.httpsPort();
+    PayIdClient payIdClient = new PayIdClient(Duration.ofSeconds(1), Duration.ofMillis(100));
+    payIdClient.setEnableSSLVerification(false);
+    stubFor(get(urlEqualTo("/georgewashington"))
+            .willReturn(aResponse()
+                    .withStatus(200)
+                    .withFixedDelay(2000)
+                    .withHeader("Content-Type", "application/payid+json")
+                    .withBody("{ addresses: [] }")
+            )
+    );
+
+    // WHEN the PayID is resolved THEN an unexpected response error is thrown.
+    expectedException.expect(PayIdException.class);
+    payIdClient.allAddressesForPayId(payId);
+  }
 }
@@ -0,0 +1,135 @@
+package io.xpring.payid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import io.xpring.payid.generated.model.Address;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class PayIdResponseDecoderTest {
+  private static final String RESPONSE = "{"
+      + "\"payId\": \"alice$example.com\","
+      + "\"addresses\": ["
+      + "  {\"paymentNetwork\": \"BTC\", \"environment\": \"TESTNET\","
+      + "   \"addressDetailsType\": \"CryptoAddressDetails\","
+      + "   \"addressDetails\": {\"address\": \"2NF9H32iwQcVcoAiiBmAtjpGmQfsmU5L6SR\"}},"
+      + "  {\"addressDetailsType\": \"CryptoAddressDetails\","
+      + "   \"addressDetails\": {"
+      + "     \"address\": \"rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY\", \"tag\": 12345, \"extra\": [1, 2]"
+      + "   },"
+      + "   \"paymentNetwork\": \"XRPL\", \"environment\": \"TESTNET\"}"
+      + "],"
+      + "\"verifiedAddresses\": [{\"signatures\": [{\"name\": \"identityKey\"}]}],"
+      + "\"memo\": \"hello\""
+      + "}";
+
+  @Test
+  public void testDecodeAllAddresses() throws IOException {
+    // GIVEN a PayID response with addresses on two networks.
+    // WHEN every address is decoded.
+    List<Address> addresses = PayIdResponseDecoder.decodeAddresses(stream(RESPONSE), "payid");
+
+    // THEN both addresses are returned with their details.
+    assertThat(addresses).hasSize(2);
+    assertEquals("BTC", addresses.get(0).getPaymentNetwork());
+    assertEquals("2NF9H32iwQcVcoAiiBmAtjpGmQfsmU5L6SR", addresses.get(0).getAddressDetails().getAddress());
+    assertEquals("XRPL", addresses.get(1).getPaymentNetwork());
+    assertEquals("TESTNET", addresses.get(1).getEnvironment());
+    assertEquals("CryptoAddressDetails", addresses.get(1).getAddressDetailsType());
+    assertEquals("rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY", addresses.get(1).getAddressDetails().getAddress());
+    assertEquals("12345", addresses.get(1).getAddressDetails().getTag());
+  }
+
+  @Test
+  public void testDecodeAddressesForNetwork() throws IOException {
+    // GIVEN a PayID response with addresses on two networks.
+    // WHEN the addresses on the XRPL test network are decoded.
+    List<Address> addresses = PayIdResponseDecoder.decodeAddresses(stream(RESPONSE), "xrpl-testnet");
+
+    // THEN only the XRPL address is returned.
+    assertThat(addresses).hasSize(1);
+    assertEquals("rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY", addresses.get(0).getAddressDetails().getAddress());
+  }
+
+  @Test
+  public void testDecodeAddressDetailsBetweenNetworkAndEnvironment() throws IOException {
+    // GIVEN an address whose details come after its payment network but before its environment.
+    String response = "{\"addresses\": [{"
+        + "\"paymentNetwork\": \"XRPL\","
+        + "\"addressDetails\": {\"address\": \"rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY\", \"tag\": 12345},"
+        + "\"environment\": \"TESTNET\""
+        + "}]}";
+
+    // WHEN the addresses on the XRPL test network are decoded.
+    List<Address> addresses = PayIdResponseDecoder.decodeAddresses(stream(response), "xrpl-testnet");
+
+    // THEN the address is returned with its details.
+    assertThat(addresses).hasSize(1);
+    assertEquals("rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY", addresses.get(0).getAddressDetails().getAddress());
+    assertEquals("12345", addresses.get(0).getAddressDetails().getTag());
+  }
+
+  @Test
+  public void testDecodeAddressesForOtherEnvironment() throws IOException {
+    // GIVEN a PayID response with addresses on test networks only.
+    // WHEN the addresses on the XRPL main network are decoded.
+    List<Address> addresses = PayIdResponseDecoder.decodeAddresses(stream(RESPONSE), "xrpl-mainnet");
+
+    // THEN no address is returned.
+    assertThat(addresses).isEmpty();
+  }
+
+  @Test
+  public void testDecodeStopsAtSecondMatch() throws IOException {
+    // GIVEN a response with two matching addresses followed by malformed JSON.
+    String response = "{ addresses: [{ addressDetails: { address: 'a' } }, { addressDetails: { address: 'b' } }, ";
+
+    // WHEN the addresses on a specific network are decoded.
+    List<Address> addresses = PayIdResponseDecoder.decodeAddresses(stream(response), "xrpl-testnet");
+
+    // THEN decoding stops at the second match, before the malformed JSON.
+    assertThat(addresses).hasSize(2);
+  }
+
+  @Test
+  public void testDecodeLenientJson() throws IOException {
+    // GIVEN a response with unquoted field names and single quoted strings.
+    String response = "{ addresses: [{ addressDetailsType: 'CryptoAddressDetails', "
+        + "addressDetails: { address: 'a' } }] }";
+
+    // WHEN every address is decoded.
+    List<Address> addresses = PayIdResponseDecoder.decodeAddresses(stream(response), "payid");
+
+    // THEN the address is returned.
+    assertThat(addresses).hasSize(1);
+    assertEquals("a", addresses.get(0).getAddressDetails().getAddress());
+  }
+
+  @Test
+  public void testDecodeResponseWithoutAddresses() throws IOException {
+    // GIVEN a response without addresses.
+    // WHEN it is decoded THEN there are no addresses.
+    assertNull(PayIdResponseDecoder.decodeAddresses(stream("{ \"memo\": { \"nested\": [] } }"), "payid"));
+    assertNull(PayIdResponseDecoder.decodeAddresses(stream("{ \"addresses\": null }"), "payid"));
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void testDecodeMalformedAddresses() throws IOException {
+    // GIVEN a response whose addresses are not objects.
+    // WHEN it is decoded THEN an exception is thrown.
+    String response = "{ \"addresses\": [\"rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY\"] }";
+    PayIdResponseDecoder.decodeAddresses(stream(response), "payid");
+  }
+
+  private static InputStream stream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
+}
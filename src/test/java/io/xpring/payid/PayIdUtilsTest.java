@@ -104,4 +104,19 @@ public class PayIdUtilsTest {
     // THEN the Pay ID failed to parse.
     assertNull(payIDComponents);
   }
+
+  @Test
+  public void testParsePayIdHostWithPath() {
+    // GIVEN a Pay ID whose host includes a path.
+    String host = "rafiki.money/p/test@example.com";
+    String path = "georgewashington";
+    String rawPayId = path + "$" + host;
+
+    // WHEN it is parsed to components.
+    PayIdComponents payIDComponents = PayIdUtils.parsePayID(rawPayId);
+
+    // THEN the host and path are set as written.
+    assertEquals(payIDComponents.host(), host);
+    assertEquals(payIDComponents.path(), "/" + path);
+  }
 }
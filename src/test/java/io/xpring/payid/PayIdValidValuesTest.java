@@ -124,6 +124,13 @@ public class PayIdValidValuesTest {
         "alice", // accountPart
         ":example.com", // host
         "payid:alice$:example.com", // expectedToString
+      },
+      //10 (lower-case everything but percent-encoded triplets)
+      {
+        "payid:Alice%2fWallet%zz$Bank%2eExample.NET", // input
+        "alice%2Fwallet%zz", // accountPart
+        "bank%2Eexample.net", // host
+        "payid:alice%2Fwallet%zz$bank%2Eexample.net", // expectedToString
       }
     });
   }
@@ -0,0 +1,139 @@
+package io.xpring.payid;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import io.xpring.payid.generated.model.Address;
+import io.xpring.payid.generated.model.CryptoAddressDetails;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+public class PersistentPayIdCacheTest {
+  private static final String FOUND_KEY = "xrpl-testnet /GEORGEWASHINGTON$XPRING.MONEY";
+  private static final String NOT_FOUND_KEY = "xrpl-testnet /NOBODY$XPRING.MONEY";
+  private static final Duration SNAPSHOT_INTERVAL = Duration.ofHours(1);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void testEntriesSurviveRestart() throws IOException {
+    // GIVEN a persistent cache holding a found and a not found resolution, one of which has expired.
+    Path file = temporaryFolder.getRoot().toPath().resolve("payid-cache.bin");
+    Instant expiresAt = Instant.ofEpochMilli(1_600_000_000_000L);
+    try (PersistentPayIdCache cache = new PersistentPayIdCache(file, SNAPSHOT_INTERVAL)) {
+      cache.put(FOUND_KEY, PayIdCacheEntry.found(
+          Collections.singletonList(address("rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY", "12345")), expiresAt));
+      cache.put(NOT_FOUND_KEY, PayIdCacheEntry.notFound(expiresAt.plusSeconds(30)));
+    }
+
+    // WHEN a new cache is created from the same file.
+    PersistentPayIdCache restored = new PersistentPayIdCache(file, SNAPSHOT_INTERVAL);
+
+    // THEN both resolutions are restored as they were, including their expiry.
+    assertEquals(2, restored.size());
+    PayIdCacheEntry found = restored.getIfPresent(FOUND_KEY);
+    assertEquals(expiresAt, found.expiresAt());
+    List<Address> addresses = found.addresses().get();
+    assertEquals(1, addresses.size());
+    assertEquals("xrpl", addresses.get(0).getPaymentNetwork());
+    assertEquals("testnet", addresses.get(0).getEnvironment());
+    assertEquals("CryptoAddressDetails", addresses.get(0).getAddressDetailsType());
+    assertEquals("rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY", addresses.get(0).getAddressDetails().getAddress());
+    assertEquals("12345", addresses.get(0).getAddressDetails().getTag());
+
+    PayIdCacheEntry notFound = restored.getIfPresent(NOT_FOUND_KEY);
+    assertFalse(notFound.addresses().isPresent());
+    assertEquals(expiresAt.plusSeconds(30), notFound.expiresAt());
+  }
+
+  @Test
+  public void testMissingFileStartsEmpty() {
+    // GIVEN a snapshot file which does not exist.
+    Path file = temporaryFolder.getRoot().toPath().resolve("missing.bin");
+
+    // WHEN a persistent cache is created from it.
+    PersistentPayIdCache cache = new PersistentPayIdCache(file, SNAPSHOT_INTERVAL);
+
+    // THEN the cache is empty.
+    assertEquals(0, cache.size());
+    assertNull(cache.getIfPresent(FOUND_KEY));
+  }
+
+  @Test
+  public void testCorruptFileStartsEmpty() throws IOException {
+    // GIVEN a snapshot file which was not written by a persistent cache.
+    Path file = temporaryFolder.newFile("corrupt.bin").toPath();
+    Files.write(file, "not a snapshot".getBytes(StandardCharsets.UTF_8));
+
+    // WHEN a persistent cache is created from it.
+    PersistentPayIdCache cache = new PersistentPayIdCache(file, SNAPSHOT_INTERVAL);
+
+    // THEN the cache is empty.
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testTruncatedFileKeepsCompleteEntries() throws IOException {
+    // GIVEN a snapshot whose last entry was cut short.
+    Path file = temporaryFolder.getRoot().toPath().resolve("truncated.bin");
+    try (PersistentPayIdCache cache = new PersistentPayIdCache(file, SNAPSHOT_INTERVAL)) {
+      cache.put(NOT_FOUND_KEY, PayIdCacheEntry.notFound(Instant.EPOCH));
+    }
+    byte[] complete = Files.readAllBytes(file);
+    byte[] truncated = new byte[complete.length + 6];
+    System.arraycopy(complete, 0, truncated, 0, complete.length);
+    truncated[complete.length + 3] = 10;
+    Files.write(file, truncated);
+
+    // WHEN a persistent cache is created from it.
+    PersistentPayIdCache cache = new PersistentPayIdCache(file, SNAPSHOT_INTERVAL);
+
+    // THEN the complete entry is restored.
+    assertEquals(1, cache.size());
+    assertThat(cache.getIfPresent(NOT_FOUND_KEY)).isNotNull();
+  }
+
+  @Test
+  public void testCorruptAddressCountStartsEmpty() throws IOException {
+    // GIVEN a snapshot whose only entry claims far more addresses than the file holds.
+    Path file = temporaryFolder.getRoot().toPath().resolve("corrupt-count.bin");
+    try (PersistentPayIdCache cache = new PersistentPayIdCache(file, SNAPSHOT_INTERVAL)) {
+      cache.put(NOT_FOUND_KEY, PayIdCacheEntry.notFound(Instant.EPOCH));
+    }
+    byte[] snapshot = Files.readAllBytes(file);
+    ByteBuffer.wrap(snapshot).putInt(snapshot.length - Integer.BYTES, Integer.MAX_VALUE);
+    Files.write(file, snapshot);
+
+    // WHEN a persistent cache is created from it.
+    PersistentPayIdCache cache = new PersistentPayIdCache(file, SNAPSHOT_INTERVAL);
+
+    // THEN the entry is ignored rather than allocated, and the cache is empty.
+    assertEquals(0, cache.size());
+  }
+
+  private static Address address(String classicAddress, String tag) {
+    CryptoAddressDetails addressDetails = new CryptoAddressDetails();
+    addressDetails.setAddress(classicAddress);
+    addressDetails.setTag(tag);
+    Address address = new Address();
+    address.setPaymentNetwork("xrpl");
+    address.setEnvironment("testnet");
+    address.setAddressDetailsType("CryptoAddressDetails");
+    address.setAddressDetails(addressDetails);
+    return address;
+  }
+}
@@ -5,10 +5,12 @@ import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import io.xpring.common.XrplNetwork;
+import io.xpring.xrpl.BulkResultListener;
 import io.xpring.xrpl.ClassicAddress;
 import io.xpring.xrpl.ImmutableClassicAddress;
 import io.xpring.xrpl.Utils;
@@ -16,6 +18,12 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
 public class XrpPayIdClientTest {
@@ -239,5 +247,98 @@ public class XrpPayIdClientTest {
     expectedException.expect(PayIdException.class);
     client.xrpAddressForPayId(payID);
   }
-}
 
+  @Test
+  public void testXRPAddressForPayIDAsyncSuccess() throws Exception {
+    // GIVEN a PayID client, a valid PayID and mocked networking to return an X-Address for the PayID.
+    String payID = "georgewashington$localhost:" + wireMockRule.httpsPort();
+    XrpPayIdClient client = new XrpPayIdClient(XrplNetwork.MAIN);
+    client.setEnableSSLVerification(false);
+    String expectedAddress = "X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4";
+    stubAddress("/georgewashington", expectedAddress, 0);
+
+    // WHEN an XRP address is requested asynchronously.
+    String address = client.xrpAddressForPayIdAsync(payID).get();
+
+    // THEN the address is the one returned in the response.
+    assertEquals(expectedAddress, address);
+  }
+
+  @Test
+  public void testXRPAddressForPayIDAsyncMappingNotFound() {
+    // GIVEN a PayID client, a valid PayID and mocked networking to return a 404 for the PayID.
+    String payID = "georgewashington$localhost:" + wireMockRule.httpsPort();
+    XrpPayIdClient client = new XrpPayIdClient(XrplNetwork.MAIN);
+    client.setEnableSSLVerification(false);
+    stubFor(get(urlEqualTo("/georgewashington")).willReturn(aResponse().withStatus(404)));
+
+    // WHEN an XRP address is requested asynchronously THEN the future fails with a mapping not found error.
+    Throwable error = catchCompletionError(() -> client.xrpAddressForPayIdAsync(payID).join());
+    assertThat(error).isInstanceOf(PayIdException.class);
+    assertEquals(PayIdExceptionType.MAPPING_NOT_FOUND, ((PayIdException) error).getType());
+  }
+
+  @Test
+  public void testXRPAddressesForPayIDsAreNotHeldUpBySlowHost() throws PayIdException {
+    // GIVEN a PayID client which has resolved a PayID before, and PayIDs on a slow host and a fast host, including a
+    // duplicate and an invalid PayID.
+    XrpPayIdClient client = new XrpPayIdClient(XrplNetwork.MAIN);
+    client.setEnableSSLVerification(false);
+    String address = "X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4";
+    stubAddress("/warmup", address, 0);
+    client.xrpAddressForPayId("warmup$127.0.0.1:" + wireMockRule.httpsPort());
+    stubAddress("/slow", address, 1500);
+    stubAddress("/fast1", address, 0);
+    stubAddress("/fast2", address, 0);
+    stubAddress("/fast3", address, 0);
+    String slowPayID = "slow$localhost:" + wireMockRule.httpsPort();
+    String fastHost = "$127.0.0.1:" + wireMockRule.httpsPort();
+    String invalidPayID = "georgewashington$";
+    List<String> payIDs = Arrays.asList(
+        slowPayID, "fast1" + fastHost, "fast2" + fastHost, "fast3" + fastHost, "fast1" + fastHost, invalidPayID
+    );
+
+    // WHEN the PayIDs are resolved in bulk with one lookup in flight per host.
+    List<String> completionOrder = new CopyOnWriteArrayList<>();
+    Map<String, Exception> errors = new ConcurrentHashMap<>();
+    client.xrpAddressesForPayIds(payIDs, 1, new BulkResultListener<String>() {
+      @Override
+      public void onSuccess(String input, String result) {
+        assertEquals(address, result);
+        completionOrder.add(input);
+      }
+
+      @Override
+      public void onError(String input, Exception error) {
+        errors.put(input, error);
+      }
+    });
+
+    // THEN each distinct PayID is reported once, and the fast host finishes before the slow host.
+    assertThat(completionOrder).containsExactly(
+        "fast1" + fastHost, "fast2" + fastHost, "fast3" + fastHost, slowPayID
+    );
+    assertThat(errors).containsOnlyKeys(invalidPayID);
+  }
+
+  private static void stubAddress(String path, String address, int delayMillis) {
+    stubFor(get(urlEqualTo(path))
+        .willReturn(aResponse()
+            .withStatus(200)
+            .withFixedDelay(delayMillis)
+            .withHeader("Content-Type", "application/xrpl-mainnet+json")
+            .withBody("{ addresses: [{ addressDetailsType: 'CryptoAddressDetails', "
+                + "addressDetails: { address: '" + address + "' } }] }")
+        )
+    );
+  }
+
+  private static Throwable catchCompletionError(Runnable runnable) {
+    try {
+      runnable.run();
+    } catch (CompletionException exception) {
+      return exception.getCause();
+    }
+    throw new AssertionError("Expected the future to fail");
+  }
+}
@@ -10,6 +10,7 @@ import io.xpring.payid.XrpPayIdClientInterface;
 import io.xpring.payid.fakes.FakeXrpPayIdClient;
 import io.xpring.xrpl.FakeXrpClient;
 import io.xpring.xrpl.FakeXrpProtobufs;
+import io.xpring.xrpl.PaymentResultListener;
 import io.xpring.xrpl.RawTransactionStatus;
 import io.xpring.xrpl.TransactionStatus;
 import io.xpring.xrpl.Wallet;
@@ -17,6 +18,7 @@ import io.xpring.xrpl.XrpClientInterface;
 import io.xpring.xrpl.XrpException;
 import io.xpring.xrpl.XrpExceptionType;
 import io.xpring.xrpl.fakes.FakeWallet;
+import io.xpring.xrpl.model.SendXrpDetails;
 import io.xpring.xrpl.model.TransactionResult;
 import io.xpring.xrpl.model.XrpTransaction;
 import org.junit.Rule;
@@ -25,8 +27,11 @@ import org.junit.rules.ExpectedException;
 import org.xrpl.rpc.v1.GetTransactionResponse;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class XpringClientTest {
   @Rule
@@ -109,6 +114,131 @@ public class XpringClientTest {
     assertEquals(transactionHash, expectedTransactionHash);
   }
 
+  @Test
+  public void testSendWithDetailsSuccess() throws PayIdException, XrpException {
+    // GIVEN a XpringClient composed of a fake PayIdClient and a fake XrpClient which will both succeed.
+    String expectedTransactionHash = "deadbeefdeadbeefdeadbeef";
+    XrpClientInterface xrpClient = new FakeXrpClient(
+        XrplNetwork.TEST,
+        Result.ok(FAKE_BALANCE_VALUE),
+        Result.ok(FAKE_TRANSACTION_STATUS_VALUE),
+        Result.ok(expectedTransactionHash),
+        Result.ok(FAKE_LAST_LEDGER_SEQUENCE_VALUE),
+        Result.ok(DEFAULT_RAW_TRANSACTION_STATUS_VALUE),
+        Result.ok(FAKE_PAYMENT_HISTORY_VALUE),
+        Result.ok(FAKE_ACCOUNT_EXISTS_VALUE),
+        Result.ok(FAKE_GET_TRANSACTION_VALUE),
+        Result.ok(FAKE_ENABLE_DEPOSIT_AUTH_VALUE)
+    );
+    XrpPayIdClientInterface payIdClient = new FakeXrpPayIdClient(XrplNetwork.TEST, Result.ok("r123"));
+
+    XpringClient xpringClient = new XpringClient(payIdClient, xrpClient);
+
+    // WHEN XRP is sent to the PayID with details.
+    SendXrpDetails sendXrpDetails = SendXrpDetails.builder()
+        .amount(AMOUNT)
+        .destination(PAY_ID)
+        .sender(this.wallet)
+        .build();
+    String transactionHash = xpringClient.sendWithDetails(sendXrpDetails);
+
+    // THEN the returned hash is correct and no error was thrown.
+    assertEquals(expectedTransactionHash, transactionHash);
+  }
+
+  @Test
+  public void testSendWithDetailsFailureInPayId() throws PayIdException, XrpException {
+    // GIVEN a XpringClient composed of a PayIdClient which will throw an error.
+    XrpClientInterface xrpClient = new FakeXrpClient(
+        XrplNetwork.TEST,
+        Result.ok(FAKE_BALANCE_VALUE),
+        Result.ok(FAKE_TRANSACTION_STATUS_VALUE),
+        Result.ok("deadbeefdeadbeefdeadbeef"),
+        Result.ok(FAKE_LAST_LEDGER_SEQUENCE_VALUE),
+        Result.ok(DEFAULT_RAW_TRANSACTION_STATUS_VALUE),
+        Result.ok(FAKE_PAYMENT_HISTORY_VALUE),
+        Result.ok(FAKE_ACCOUNT_EXISTS_VALUE),
+        Result.ok(FAKE_GET_TRANSACTION_VALUE),
+        Result.ok(FAKE_ENABLE_DEPOSIT_AUTH_VALUE)
+    );
+    XrpPayIdClientInterface payIdClient = new FakeXrpPayIdClient(XrplNetwork.TEST, Result.error(PAY_ID_EXCEPTION));
+
+    XpringClient xpringClient = new XpringClient(payIdClient, xrpClient);
+
+    // WHEN XRP is sent to the PayID with details THEN the exception thrown is the PayID error itself.
+    SendXrpDetails sendXrpDetails = SendXrpDetails.builder()
+        .amount(AMOUNT)
+        .destination(PAY_ID)
+        .sender(this.wallet)
+        .build();
+    expectedException.expect(PayIdException.class);
+    expectedException.expectMessage(PAY_ID_EXCEPTION.getMessage());
+    xpringClient.sendWithDetails(sendXrpDetails);
+  }
+
+  @Test
+  public void testSendPaymentsSuccess() throws PayIdException, XrpException {
+    // GIVEN a XpringClient composed of a fake PayIdClient and a fake XrpClient which will both succeed, and payments
+    // to the same PayID.
+    String expectedTransactionHash = "deadbeefdeadbeefdeadbeef";
+    XrpClientInterface xrpClient = new FakeXrpClient(
+        XrplNetwork.TEST,
+        Result.ok(FAKE_BALANCE_VALUE),
+        Result.ok(FAKE_TRANSACTION_STATUS_VALUE),
+        Result.ok(expectedTransactionHash),
+        Result.ok(FAKE_LAST_LEDGER_SEQUENCE_VALUE),
+        Result.ok(DEFAULT_RAW_TRANSACTION_STATUS_VALUE),
+        Result.ok(FAKE_PAYMENT_HISTORY_VALUE),
+        Result.ok(FAKE_ACCOUNT_EXISTS_VALUE),
+        Result.ok(FAKE_GET_TRANSACTION_VALUE),
+        Result.ok(FAKE_ENABLE_DEPOSIT_AUTH_VALUE)
+    );
+    XrpPayIdClientInterface payIdClient = new FakeXrpPayIdClient(XrplNetwork.TEST, Result.ok("r123"));
+
+    XpringClient xpringClient = new XpringClient(payIdClient, xrpClient);
+
+    // WHEN XRP is sent to the PayIDs.
+    SendXrpDetails payment = SendXrpDetails.builder().amount(AMOUNT).destination(PAY_ID).sender(this.wallet).build();
+    CollectingPaymentListener listener = new CollectingPaymentListener();
+    xpringClient.sendPayments(Arrays.asList(payment, payment), listener);
+
+    // THEN every payment is reported as submitted.
+    assertEquals(2, listener.submitted.size());
+    assertEquals(expectedTransactionHash, listener.submitted.get(0));
+    assertEquals(expectedTransactionHash, listener.submitted.get(1));
+    assertEquals(0, listener.errors.size());
+  }
+
+  @Test
+  public void testSendPaymentsFailureInPayId() throws PayIdException, XrpException {
+    // GIVEN a XpringClient composed of a PayIdClient which will throw an error.
+    XrpClientInterface xrpClient = new FakeXrpClient(
+        XrplNetwork.TEST,
+        Result.ok(FAKE_BALANCE_VALUE),
+        Result.ok(FAKE_TRANSACTION_STATUS_VALUE),
+        Result.ok("deadbeefdeadbeefdeadbeef"),
+        Result.ok(FAKE_LAST_LEDGER_SEQUENCE_VALUE),
+        Result.ok(DEFAULT_RAW_TRANSACTION_STATUS_VALUE),
+        Result.ok(FAKE_PAYMENT_HISTORY_VALUE),
+        Result.ok(FAKE_ACCOUNT_EXISTS_VALUE),
+        Result.ok(FAKE_GET_TRANSACTION_VALUE),
+        Result.ok(FAKE_ENABLE_DEPOSIT_AUTH_VALUE)
+    );
+    XrpPayIdClientInterface payIdClient = new FakeXrpPayIdClient(XrplNetwork.TEST, Result.error(PAY_ID_EXCEPTION));
+
+    XpringClient xpringClient = new XpringClient(payIdClient, xrpClient);
+
+    // WHEN XRP is sent to the PayIDs.
+    SendXrpDetails payment = SendXrpDetails.builder().amount(AMOUNT).destination(PAY_ID).sender(this.wallet).build();
+    CollectingPaymentListener listener = new CollectingPaymentListener();
+    xpringClient.sendPayments(Arrays.asList(payment, payment), listener);
+
+    // THEN every payment is reported with the PayID error and nothing is submitted.
+    assertEquals(0, listener.submitted.size());
+    assertEquals(PAY_ID_EXCEPTION, listener.errors.get(0));
+    assertEquals(PAY_ID_EXCEPTION, listener.errors.get(1));
+  }
+
   @SuppressWarnings("checkstyle:AbbreviationAsWordInName")
   @Test
   public void testSendFailureInPayID() throws PayIdException, XrpException {
@@ -188,4 +318,22 @@ public class XpringClientTest {
     expectedException.expect(PayIdException.class);
     xpringClient.send(AMOUNT, PAY_ID, this.wallet);
   }
+
+  /**
+   * A {@link PaymentResultListener} which collects every outcome it receives.
+   */
+  private static class CollectingPaymentListener implements PaymentResultListener {
+    private final Map<Integer, String> submitted = new ConcurrentHashMap<>();
+    private final Map<Integer, Exception> errors = new ConcurrentHashMap<>();
+
+    @Override
+    public void onSubmitted(int index, String transactionHash) {
+      submitted.put(index, transactionHash);
+    }
+
+    @Override
+    public void onError(int index, Exception error) {
+      errors.put(index, error);
+    }
+  }
 }
@@ -0,0 +1,183 @@
+package io.xpring.xrpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Ticker;
+import io.grpc.Status;
+import org.junit.Test;
+import org.xrpl.rpc.v1.AccountRoot;
+import org.xrpl.rpc.v1.Common.Sequence;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Unit tests for {@link AccountDataCache}.
+ */
+public class AccountDataCacheTest {
+  private static final String ADDRESS = "rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1";
+  private static final String OTHER_ADDRESS = "rPEPPER7kfTD9w2To4CQk6UCfuHM9c6GDY";
+  private static final AccountRoot ACCOUNT_DATA = AccountRoot.newBuilder()
+      .setSequence(Sequence.newBuilder().setValue(12).build())
+      .build();
+  private static final int LEDGER_INDEX = 100;
+
+  /**
+   * A {@link Ticker} which only advances when told to.
+   */
+  private static class ManualTicker extends Ticker {
+    private long nanos = 0;
+
+    @Override
+    public long read() {
+      return nanos;
+    }
+
+    void advance(Duration duration) {
+      nanos += duration.toNanos();
+    }
+  }
+
+  @Test
+  public void getReturnsCachedAccountData() {
+    // GIVEN a cache containing account data.
+    AccountDataCache cache = new AccountDataCache();
+    cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(ADDRESS));
+
+    // WHEN the account is looked up.
+    AccountDataCache.Entry entry = cache.getIfPresent(ADDRESS);
+
+    // THEN the cached data and ledger are returned.
+    assertThat(entry).isNotNull();
+    assertThat(entry.accountData()).contains(ACCOUNT_DATA);
+    assertThat(entry.ledgerIndex()).isEqualTo(LEDGER_INDEX);
+  }
+
+  @Test
+  public void getReturnsNegativeEntryForNotFound() {
+    // GIVEN a cache where an account was recorded as not found.
+    AccountDataCache cache = new AccountDataCache();
+    cache.putNotFound(ADDRESS, Status.NOT_FOUND, cache.generation(ADDRESS));
+
+    // WHEN the account is looked up.
+    AccountDataCache.Entry entry = cache.getIfPresent(ADDRESS);
+
+    // THEN a hit is returned which carries no account data.
+    assertThat(entry).isNotNull();
+    assertThat(entry.accountData()).isEmpty();
+  }
+
+  @Test
+  public void notFoundEntryKeepsReportedStatus() {
+    // GIVEN a cache where an account was recorded as not found with a description.
+    AccountDataCache cache = new AccountDataCache();
+    Status status = Status.NOT_FOUND.withDescription("Account not found.");
+    cache.putNotFound(ADDRESS, status, cache.generation(ADDRESS));
+
+    // WHEN the account is looked up.
+    AccountDataCache.Entry entry = cache.getIfPresent(ADDRESS);
+
+    // THEN the status it was reported with is returned.
+    assertThat(entry).isNotNull();
+    assertThat(entry.notFoundStatus()).isSameAs(status);
+  }
+
+  @Test
+  public void putIgnoresReadStartedBeforeInvalidation() {
+    // GIVEN a read of an account which starts before the account is invalidated.
+    AccountDataCache cache = new AccountDataCache();
+    long generation = cache.generation(ADDRESS);
+    cache.invalidate(Collections.singletonList(ADDRESS));
+
+    // WHEN the read completes and is cached.
+    cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, generation);
+    cache.putNotFound(ADDRESS, Status.NOT_FOUND, generation);
+
+    // THEN neither result is served, but a read started after the invalidation is.
+    assertThat(cache.getIfPresent(ADDRESS)).isNull();
+    cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(ADDRESS));
+    assertThat(cache.getIfPresent(ADDRESS)).isNotNull();
+  }
+
+  @Test
+  public void newerValidatedLedgerInvalidatesEntries() {
+    // GIVEN a cache containing account data read at a ledger.
+    AccountDataCache cache = new AccountDataCache();
+    cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(ADDRESS));
+
+    // WHEN a newer validated ledger is observed.
+    cache.observeValidatedLedger(LEDGER_INDEX + 1);
+
+    // THEN the entry is no longer served.
+    assertThat(cache.getIfPresent(ADDRESS)).isNull();
+  }
+
+  @Test
+  public void putIgnoresDataFromOlderLedger() {
+    // GIVEN a cache which has observed a validated ledger.
+    AccountDataCache cache = new AccountDataCache();
+    cache.observeValidatedLedger(LEDGER_INDEX);
+
+    // WHEN account data read at an older ledger is cached.
+    cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX - 1, cache.generation(ADDRESS));
+
+    // THEN the data is not served.
+    assertThat(cache.getIfPresent(ADDRESS)).isNull();
+  }
+
+  @Test
+  public void invalidateRemovesOnlyGivenAccounts() {
+    // GIVEN a cache containing two accounts.
+    AccountDataCache cache = new AccountDataCache();
+    cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(ADDRESS));
+    cache.put(OTHER_ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(OTHER_ADDRESS));
+
+    // WHEN one account is invalidated.
+    cache.invalidate(Collections.singletonList(ADDRESS));
+
+    // THEN only that account is removed.
+    assertThat(cache.getIfPresent(ADDRESS)).isNull();
+    assertThat(cache.getIfPresent(OTHER_ADDRESS)).isNotNull();
+  }
+
+  @Test
+  public void entriesExpireAfterMaximumAge() {
+    // GIVEN a cache with a maximum age containing account data.
+    ManualTicker ticker = new ManualTicker();
+    AccountDataCache cache = new AccountDataCache(10, Duration.ofSeconds(3), ticker);
+    cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(ADDRESS));
+
+    // WHEN more than the maximum age elapses.
+    ticker.advance(Duration.ofSeconds(4));
+
+    // THEN the entry is no longer served.
+    assertThat(cache.getIfPresent(ADDRESS)).isNull();
+  }
+
+  @Test
+  public void disabledCacheKeepsNothing() {
+    // GIVEN a cache which is turned off.
+    AccountDataCache cache = new AccountDataCache(AccountDataCacheSettings.disabled());
+
+    // WHEN account data is cached.
+    AccountDataCache.Entry entry = cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(ADDRESS));
+
+    // THEN the data is returned to the caller but not served from the cache.
+    assertThat(entry.accountData()).contains(ACCOUNT_DATA);
+    assertThat(cache.getIfPresent(ADDRESS)).isNull();
+  }
+
+  @Test
+  public void leastRecentlyUsedEntryIsEvicted() {
+    // GIVEN a cache which can hold a single account.
+    AccountDataCache cache = new AccountDataCache(1, Duration.ofSeconds(3));
+    cache.put(ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(ADDRESS));
+
+    // WHEN a second account is cached.
+    cache.put(OTHER_ADDRESS, ACCOUNT_DATA, LEDGER_INDEX, cache.generation(OTHER_ADDRESS));
+
+    // THEN the first account was evicted.
+    assertThat(cache.getIfPresent(ADDRESS)).isNull();
+    assertThat(cache.getIfPresent(OTHER_ADDRESS)).isNotNull();
+  }
+}
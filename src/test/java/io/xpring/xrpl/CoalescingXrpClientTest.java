@@ -0,0 +1,231 @@
+package io.xpring.xrpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import io.xpring.common.Result;
+import io.xpring.common.XrplNetwork;
+import io.xpring.xrpl.model.XrpTransaction;
+import org.junit.After;
+import org.junit.Test;
+import org.xrpl.rpc.v1.GetTransactionResponse;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for {@link CoalescingXrpClient}.
+ */
+public class CoalescingXrpClientTest {
+  private static final String XRPL_ADDRESS = "XVwDxLQ4SN9pEBQagTNHwqpFkPgGppXqrMoTmUcSKdCtcK5";
+  private static final String OTHER_XRPL_ADDRESS = "X76YZJgkFzdSLZQTa7UzVSs34tFgyV2P16S3bvC8AWpmwdH";
+  private static final BigInteger BALANCE = new BigInteger("10");
+  private static final int CONCURRENT_CALLERS = 8;
+  private static final int CALLERS_PER_ADDRESS = CONCURRENT_CALLERS / 2;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+
+  /**
+   * A {@link FakeXrpClient} which counts calls to getBalance and paymentHistory and blocks them until released.
+   */
+  private static class BlockingXrpClient extends FakeXrpClient {
+    final AtomicInteger calls = new AtomicInteger();
+    final CountDownLatch called;
+    final CountDownLatch release = new CountDownLatch(1);
+
+    BlockingXrpClient(Result<BigInteger, XrpException> getBalanceResult, int expectedCalls) {
+      super(
+          XrplNetwork.TEST,
+          getBalanceResult,
+          Result.ok(TransactionStatus.SUCCEEDED),
+          Result.ok("DEADBEEF"),
+          Result.ok(10),
+          Result.ok(new RawTransactionStatus(GetTransactionResponse.newBuilder().build())),
+          Result.ok(new ArrayList<>()),
+          Result.ok(true),
+          Result.ok(null),
+          Result.ok(null)
+      );
+      this.called = new CountDownLatch(expectedCalls);
+    }
+
+    @Override
+    public BigInteger getBalance(String xrplAccountAddress) throws XrpException {
+      block();
+      return super.getBalance(xrplAccountAddress);
+    }
+
+    @Override
+    public List<XrpTransaction> paymentHistory(String address) throws XrpException {
+      block();
+      return super.paymentHistory(address);
+    }
+
+    private void block() {
+      calls.incrementAndGet();
+      called.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void concurrentIdenticalReadsShareOneCall() throws Exception {
+    // GIVEN a CoalescingXrpClient over a client whose getBalance blocks.
+    BlockingXrpClient blockingClient = new BlockingXrpClient(Result.ok(BALANCE), 1);
+    CountDownLatch joined = new CountDownLatch(CALLERS_PER_ADDRESS - 1);
+    CoalescingXrpClient client = new CoalescingXrpClient(blockingClient, joined::countDown);
+
+    // WHEN many threads request the same balance at the same time.
+    final List<Future<BigInteger>> results = submitConcurrently(client, XRPL_ADDRESS);
+    awaitLatch(blockingClient.called);
+    awaitLatch(joined);
+    blockingClient.release.countDown();
+
+    // THEN every caller receives the balance and the decorated client was called once.
+    for (Future<BigInteger> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(BALANCE);
+    }
+    assertThat(blockingClient.calls.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void concurrentDifferentReadsAreNotCoalesced() throws Exception {
+    // GIVEN a CoalescingXrpClient over a client whose getBalance blocks.
+    BlockingXrpClient blockingClient = new BlockingXrpClient(Result.ok(BALANCE), 2);
+    CountDownLatch joined = new CountDownLatch(2 * (CALLERS_PER_ADDRESS - 1));
+    CoalescingXrpClient client = new CoalescingXrpClient(blockingClient, joined::countDown);
+
+    // WHEN balances for two different addresses are requested at the same time.
+    List<Future<BigInteger>> results = submitConcurrently(client, XRPL_ADDRESS);
+    results.addAll(submitConcurrently(client, OTHER_XRPL_ADDRESS));
+    awaitLatch(blockingClient.called);
+    awaitLatch(joined);
+    blockingClient.release.countDown();
+
+    // THEN the decorated client was called once per address.
+    for (Future<BigInteger> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(BALANCE);
+    }
+    assertThat(blockingClient.calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void sequentialReadsAreNotCached() throws XrpException {
+    // GIVEN a CoalescingXrpClient over a client which does not block.
+    BlockingXrpClient blockingClient = new BlockingXrpClient(Result.ok(BALANCE), 2);
+    blockingClient.release.countDown();
+    CoalescingXrpClient client = new CoalescingXrpClient(blockingClient);
+
+    // WHEN the same balance is requested twice in sequence.
+    client.getBalance(XRPL_ADDRESS);
+    client.getBalance(XRPL_ADDRESS);
+
+    // THEN each request reaches the decorated client.
+    assertThat(blockingClient.calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void errorsArePropagatedToEveryCaller() throws Exception {
+    // GIVEN a CoalescingXrpClient over a client whose getBalance blocks and then fails.
+    XrpException error = new XrpException(XrpExceptionType.UNKNOWN, "Test error");
+    BlockingXrpClient blockingClient = new BlockingXrpClient(Result.error(error), 1);
+    CountDownLatch joined = new CountDownLatch(CALLERS_PER_ADDRESS - 1);
+    CoalescingXrpClient client = new CoalescingXrpClient(blockingClient, joined::countDown);
+
+    // WHEN many threads request the same balance at the same time.
+    final List<Future<BigInteger>> results = submitConcurrently(client, XRPL_ADDRESS);
+    awaitLatch(blockingClient.called);
+    awaitLatch(joined);
+    blockingClient.release.countDown();
+
+    // THEN every caller receives the error.
+    for (Future<BigInteger> result : results) {
+      Exception exception = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+      assertThat(exception.getCause()).isSameAs(error);
+    }
+  }
+
+  @Test
+  public void coalescedPaymentHistoryIsCopiedForEachCaller() throws Exception {
+    // GIVEN a CoalescingXrpClient over a client whose paymentHistory blocks.
+    BlockingXrpClient blockingClient = new BlockingXrpClient(Result.ok(BALANCE), 1);
+    CountDownLatch joined = new CountDownLatch(1);
+    CoalescingXrpClient client = new CoalescingXrpClient(blockingClient, joined::countDown);
+
+    // WHEN two threads request the same payment history at the same time.
+    final Future<List<XrpTransaction>> first = executor.submit(() -> client.paymentHistory(XRPL_ADDRESS));
+    final Future<List<XrpTransaction>> second = executor.submit(() -> client.paymentHistory(XRPL_ADDRESS));
+    awaitLatch(blockingClient.called);
+    awaitLatch(joined);
+    blockingClient.release.countDown();
+
+    // THEN they share one call, and a change one caller makes is not seen by the other.
+    List<XrpTransaction> firstHistory = first.get(5, TimeUnit.SECONDS);
+    List<XrpTransaction> secondHistory = second.get(5, TimeUnit.SECONDS);
+    assertThat(blockingClient.calls.get()).isEqualTo(1);
+    firstHistory.add(null);
+    assertThat(secondHistory).isEmpty();
+  }
+
+  @Test
+  public void interruptedWaiterStopsWaiting() throws Exception {
+    // GIVEN a CoalescingXrpClient with a call in flight.
+    BlockingXrpClient blockingClient = new BlockingXrpClient(Result.ok(BALANCE), 1);
+    CountDownLatch joined = new CountDownLatch(1);
+    CoalescingXrpClient client = new CoalescingXrpClient(blockingClient, joined::countDown);
+    final Future<BigInteger> leader = executor.submit(() -> client.getBalance(XRPL_ADDRESS));
+    awaitLatch(blockingClient.called);
+
+    // WHEN a second caller joins the call and is interrupted.
+    AtomicReference<Throwable> thrown = new AtomicReference<>();
+    AtomicBoolean stillInterrupted = new AtomicBoolean();
+    Thread waiter = new Thread(() -> {
+      try {
+        client.getBalance(XRPL_ADDRESS);
+      } catch (Throwable throwable) {
+        thrown.set(throwable);
+      }
+      stillInterrupted.set(Thread.currentThread().isInterrupted());
+    });
+    waiter.start();
+    awaitLatch(joined);
+    waiter.interrupt();
+    waiter.join(5000);
+
+    // THEN the waiter stops with an XrpException and keeps its interrupt, while the call itself completes.
+    assertThat(thrown.get()).isInstanceOf(XrpException.class);
+    assertThat(stillInterrupted.get()).isTrue();
+    blockingClient.release.countDown();
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(BALANCE);
+  }
+
+  private List<Future<BigInteger>> submitConcurrently(CoalescingXrpClient client, String address) {
+    List<Future<BigInteger>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS_PER_ADDRESS; i++) {
+      results.add(executor.submit(() -> client.getBalance(address)));
+    }
+    return results;
+  }
+
+  private static void awaitLatch(CountDownLatch latch) throws InterruptedException {
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -1,8 +1,14 @@
 package io.xpring.xrpl;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.ByteString;
 import io.grpc.ManagedChannel;
@@ -16,11 +22,14 @@ import io.xpring.common.Result;
 import io.xpring.common.XrplNetwork;
 import io.xpring.xrpl.helpers.XrpTestUtils;
 import io.xpring.xrpl.model.SendXrpDetails;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpDrops;
 import io.xpring.xrpl.model.XrpMemo;
 import io.xpring.xrpl.model.XrpTransaction;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.xrpl.rpc.v1.AccountRoot;
 import org.xrpl.rpc.v1.Common.Balance;
 import org.xrpl.rpc.v1.CurrencyAmount;
@@ -33,6 +42,7 @@ import org.xrpl.rpc.v1.GetFeeRequest;
 import org.xrpl.rpc.v1.GetFeeResponse;
 import org.xrpl.rpc.v1.GetTransactionRequest;
 import org.xrpl.rpc.v1.GetTransactionResponse;
+import org.xrpl.rpc.v1.LedgerSpecifier;
 import org.xrpl.rpc.v1.Meta;
 import org.xrpl.rpc.v1.SubmitTransactionRequest;
 import org.xrpl.rpc.v1.SubmitTransactionResponse;
@@ -46,6 +56,11 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Unit tests for {@link DefaultXrpClient}.
@@ -68,6 +83,11 @@ public class DefaultXrpClientTest {
    */
   private static final String XRPL_ADDRESS = "XVwDxLQ4SN9pEBQagTNHwqpFkPgGppXqrMoTmUcSKdCtcK5";
 
+  /**
+   * Another address on the XRP Ledger.
+   */
+  private static final String OTHER_XRPL_ADDRESS = "X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4";
+
   /**
    * Mocked values in responses from the gRPC server.
    */
@@ -83,8 +103,10 @@ public class DefaultXrpClientTest {
       "terRETRY"
   };
   private static final String TRANSACTION_HASH = "DEADBEEF";
+  private static final String OTHER_TRANSACTION_HASH = "CAFEBABE";
   private static final long MINIMUM_FEE = 12;
   private static final int LAST_LEDGER_SEQUENCE = 20;
+  private static final int VALIDATED_LEDGER_INDEX = 15;
 
   /**
    * The seed for a wallet with funds on the XRP Ledger test net.
@@ -108,6 +130,19 @@ public class DefaultXrpClientTest {
     assertThat(balance).isEqualTo(BigInteger.valueOf(DROPS_OF_XRP_IN_ACCOUNT));
   }
 
+  @Test
+  public void getBalanceWithXAddressTest() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which will succeed, and a parsed X-Address.
+    DefaultXrpClient client = getClient();
+    XAddress address = XAddress.of(XRPL_ADDRESS);
+
+    // WHEN the balance is retrieved for the parsed address.
+    BigInteger balance = client.getBalance(address);
+
+    // THEN the balance returned is the the same as the mocked response.
+    assertThat(balance).isEqualTo(BigInteger.valueOf(DROPS_OF_XRP_IN_ACCOUNT));
+  }
+
   @Test
   public void getBalanceWithClassicAddressTest() throws IOException, XrpException {
     // GIVEN a classic address.
@@ -137,6 +172,93 @@ public class DefaultXrpClientTest {
   }
 
 
+  @Test
+  public void getBalancesTest() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which will succeed at a validated ledger.
+    XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceImplBase serviceImpl = getService(
+        Result.ok(makeGetAccountInfoResponse(DROPS_OF_XRP_IN_ACCOUNT).toBuilder()
+            .setLedgerIndex(VALIDATED_LEDGER_INDEX)
+            .build()),
+        Result.ok(makeTransactionStatus(true, TRANSACTION_STATUS_SUCCESS)),
+        Result.ok(makeGetFeeResponse(MINIMUM_FEE, LAST_LEDGER_SEQUENCE)),
+        Result.ok(makeSubmitTransactionResponse(TRANSACTION_HASH)),
+        Result.ok(makeGetAccountTransactionHistoryResponse())
+    );
+    DefaultXrpClient client = getClient(serviceImpl);
+    String classicAddress = Utils.decodeXAddress(XRPL_ADDRESS).address();
+
+    // WHEN the balances of two X-Addresses and a classic address are retrieved.
+    XrpBalances balances = client.getBalances(Arrays.asList(XRPL_ADDRESS, OTHER_XRPL_ADDRESS, classicAddress), 2);
+
+    // THEN both X-Addresses have balances, the classic address has an error and the ledger is reported.
+    assertThat(balances.balances()).containsOnlyKeys(XRPL_ADDRESS, OTHER_XRPL_ADDRESS);
+    assertThat(balances.balances().get(OTHER_XRPL_ADDRESS)).isEqualTo(BigInteger.valueOf(DROPS_OF_XRP_IN_ACCOUNT));
+    assertThat(balances.errors()).containsOnlyKeys(classicAddress);
+    assertThat(balances.ledgerIndex()).contains(VALIDATED_LEDGER_INDEX);
+
+    // AND the second account was read at the same ledger as the first.
+    ArgumentCaptor<GetAccountInfoRequest> requests = ArgumentCaptor.forClass(GetAccountInfoRequest.class);
+    verify(serviceImpl, times(2)).getAccountInfo(requests.capture(), any());
+    assertThat(requests.getAllValues().get(0).getLedger().getShortcut())
+        .isEqualTo(LedgerSpecifier.Shortcut.SHORTCUT_VALIDATED);
+    assertThat(requests.getAllValues().get(1).getLedger().getSequence()).isEqualTo(VALIDATED_LEDGER_INDEX);
+  }
+
+  @Test
+  public void getBalancesTestWithFailedAccountInfo() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which will fail to retrieve account info.
+    DefaultXrpClient client = getClient(
+        Result.error(new StatusRuntimeException(Status.NOT_FOUND)),
+        Result.ok(makeTransactionStatus(true, TRANSACTION_STATUS_SUCCESS)),
+        Result.ok(makeGetFeeResponse(MINIMUM_FEE, LAST_LEDGER_SEQUENCE)),
+        Result.ok(makeSubmitTransactionResponse(TRANSACTION_HASH)),
+        Result.ok(makeGetAccountTransactionHistoryResponse())
+    );
+
+    // WHEN the balances are retrieved.
+    XrpBalances balances = client.getBalances(Arrays.asList(XRPL_ADDRESS, OTHER_XRPL_ADDRESS), 2);
+
+    // THEN every address has an error and no ledger is reported.
+    assertThat(balances.balances()).isEmpty();
+    assertThat(balances.errors()).containsOnlyKeys(XRPL_ADDRESS, OTHER_XRPL_ADDRESS);
+    assertThat(balances.ledgerIndex()).isEmpty();
+  }
+
+  @Test
+  public void getTransactionStatusesTest() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which will return a validated, successful transaction.
+    DefaultXrpClient client = getClient();
+    CollectingListener<TransactionStatus> listener = new CollectingListener<>();
+
+    // WHEN the statuses of two hashes and a malformed hash are retrieved.
+    client.getTransactionStatuses(Arrays.asList(TRANSACTION_HASH, OTHER_TRANSACTION_HASH, "ABC"), 2, listener);
+
+    // THEN both hashes succeeded and the malformed hash is reported as an error.
+    assertThat(listener.results).containsOnlyKeys(TRANSACTION_HASH, OTHER_TRANSACTION_HASH);
+    assertThat(listener.results.get(OTHER_TRANSACTION_HASH)).isEqualTo(TransactionStatus.SUCCEEDED);
+    assertThat(listener.errors).containsOnlyKeys("ABC");
+  }
+
+  @Test
+  public void getPaymentsTestWithFailedTransaction() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which will fail to retrieve transactions.
+    DefaultXrpClient client = getClient(
+        Result.ok(makeGetAccountInfoResponse(DROPS_OF_XRP_IN_ACCOUNT)),
+        Result.error(GENERIC_ERROR),
+        Result.ok(makeGetFeeResponse(MINIMUM_FEE, LAST_LEDGER_SEQUENCE)),
+        Result.ok(makeSubmitTransactionResponse(TRANSACTION_HASH)),
+        Result.ok(makeGetAccountTransactionHistoryResponse())
+    );
+    CollectingListener<XrpTransaction> listener = new CollectingListener<>();
+
+    // WHEN the payments are retrieved.
+    client.getPayments(Arrays.asList(TRANSACTION_HASH, OTHER_TRANSACTION_HASH), 2, listener);
+
+    // THEN every hash is reported as an error.
+    assertThat(listener.results).isEmpty();
+    assertThat(listener.errors).containsOnlyKeys(TRANSACTION_HASH, OTHER_TRANSACTION_HASH);
+  }
+
   @Test
   public void paymentStatusWithUnvalidatedTransactionAndFailureCode() throws IOException, XrpException {
     // Iterate over different types of transaction status codes which represent failures.
@@ -244,6 +366,20 @@ public class DefaultXrpClientTest {
     assertThat(transactionHash).isEqualTo(TRANSACTION_HASH.toLowerCase());
   }
 
+  @Test
+  public void submitTransactionWithXAddressTest() throws IOException, XrpException {
+    // GIVEN an XRPClient with mocked networking which will succeed, and a parsed destination.
+    DefaultXrpClient client = getClient();
+    Wallet wallet = new Wallet(WALLET_SEED);
+    XAddress destination = XAddress.of(XRPL_ADDRESS);
+
+    // WHEN a transaction is sent to the parsed destination.
+    String transactionHash = client.send(XrpDrops.of(AMOUNT), destination, wallet);
+
+    // THEN the transaction hash is the same as the hash of the mocked transaction blob in the response.
+    assertThat(transactionHash).isEqualTo(TRANSACTION_HASH.toLowerCase());
+  }
+
   @Test
   public void submitTransactionWithClassicAddress() throws IOException, XrpException {
     // GIVEN a classic address.
@@ -406,6 +542,18 @@ public class DefaultXrpClientTest {
     assertThat(exists).isEqualTo(true);
   }
 
+  @Test
+  public void accountExistsWithXAddressTest() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which will succeed.
+    DefaultXrpClient client = getClient();
+
+    // WHEN the account is checked with a parsed X-Address.
+    boolean exists = client.accountExists(XAddress.of(XRPL_ADDRESS));
+
+    // THEN the existence of the account is the the same as the mocked response.
+    assertThat(exists).isEqualTo(true);
+  }
+
   @Test
   public void accountExistsWithClassicAddressTest() throws IOException, XrpException {
     // GIVEN a classic address.
@@ -437,6 +585,30 @@ public class DefaultXrpClientTest {
     assertThat(exists).isEqualTo(false);
   }
 
+  @Test
+  public void getBalanceAfterCachedNotFoundKeepsStatus() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which reports an account as not found with a description.
+    Status notFound = Status.NOT_FOUND.withDescription("Account not found.");
+    DefaultXrpClient client = getClient(
+        Result.error(new StatusRuntimeException(notFound)),
+        Result.ok(makeTransactionStatus(true, TRANSACTION_STATUS_SUCCESS)),
+        Result.ok(makeGetFeeResponse(MINIMUM_FEE, LAST_LEDGER_SEQUENCE)),
+        Result.ok(makeSubmitTransactionResponse(TRANSACTION_HASH)),
+        Result.ok(makeGetAccountTransactionHistoryResponse())
+    );
+    assertThat(client.accountExists(XRPL_ADDRESS)).isFalse();
+
+    // WHEN the balance is retrieved from the cached result.
+    try {
+      client.getBalance(XRPL_ADDRESS);
+      fail("Expected a NOT_FOUND error");
+    } catch (StatusRuntimeException exception) {
+      // THEN the error carries the status rippled reported.
+      assertThat(exception.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+      assertThat(exception.getStatus().getDescription()).isEqualTo("Account not found.");
+    }
+  }
+
   @Test
   public void accountExistsTestWithUnknownError() throws IOException, XrpException {
     // GIVEN a DefaultXrpClient with mocked networking which will fail to retrieve account info w/ UNKNOWN error code.
@@ -562,6 +734,136 @@ public class DefaultXrpClientTest {
     String transactionHash = xrpClient.sendWithDetails(sendXrpDetails);
   }
 
+  @Test
+  public void sendWithDetailsToPendingDestinationTest() throws Exception {
+    // GIVEN a DefaultXrpClient with mocked networking and a destination address which has not been resolved yet.
+    XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceImplBase serviceImpl = getService(
+        Result.ok(makeGetAccountInfoResponse(DROPS_OF_XRP_IN_ACCOUNT)),
+        Result.ok(makeTransactionStatus(true, TRANSACTION_STATUS_SUCCESS)),
+        Result.ok(makeGetFeeResponse(MINIMUM_FEE, LAST_LEDGER_SEQUENCE)),
+        Result.ok(makeSubmitTransactionResponse(TRANSACTION_HASH)),
+        Result.ok(makeGetAccountTransactionHistoryResponse())
+    );
+    DefaultXrpClient client = getClient(serviceImpl);
+    Wallet wallet = Wallet.generateRandomWallet().getWallet();
+    SendXrpDetails sendXrpDetails = SendXrpDetails.builder()
+        .amount(new BigInteger("10"))
+        .destination("alice$example.com")
+        .sender(wallet)
+        .build();
+    CompletableFuture<String> destinationAddress = new CompletableFuture<>();
+
+    // WHEN XRP is sent to the pending destination.
+    final CompletableFuture<String> transactionHash = CompletableFuture.supplyAsync(() -> {
+      try {
+        return client.sendWithDetails(sendXrpDetails, destinationAddress);
+      } catch (XrpException exception) {
+        throw new CompletionException(exception);
+      }
+    });
+
+    // THEN the fee and sending account are retrieved before the destination is resolved, but nothing is submitted.
+    verify(serviceImpl, timeout(5000).atLeastOnce()).getFee(any(), any());
+    verify(serviceImpl, timeout(5000).atLeastOnce()).getAccountInfo(any(), any());
+    verify(serviceImpl, never()).submitTransaction(any(), any());
+
+    // AND once the destination is resolved the payment is submitted to it.
+    destinationAddress.complete("X76YZJgkFzdSLZQTa7UzVSs34tFgyV2P16S3bvC8AWpmwdH");
+    assertThat(transactionHash.get(5, TimeUnit.SECONDS)).isEqualTo(TRANSACTION_HASH.toLowerCase());
+    verify(serviceImpl).submitTransaction(any(), any());
+  }
+
+  @Test
+  public void sendWithDetailsToUnresolvedDestinationTest() throws XrpException, IOException {
+    // GIVEN a DefaultXrpClient with mocked networking and a destination address which could not be resolved.
+    XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceImplBase serviceImpl = getService(
+        Result.ok(makeGetAccountInfoResponse(DROPS_OF_XRP_IN_ACCOUNT)),
+        Result.ok(makeTransactionStatus(true, TRANSACTION_STATUS_SUCCESS)),
+        Result.ok(makeGetFeeResponse(MINIMUM_FEE, LAST_LEDGER_SEQUENCE)),
+        Result.ok(makeSubmitTransactionResponse(TRANSACTION_HASH)),
+        Result.ok(makeGetAccountTransactionHistoryResponse())
+    );
+    DefaultXrpClient client = getClient(serviceImpl);
+    SendXrpDetails sendXrpDetails = SendXrpDetails.builder()
+        .amount(new BigInteger("10"))
+        .destination("alice$example.com")
+        .sender(Wallet.generateRandomWallet().getWallet())
+        .build();
+    CompletableFuture<String> destinationAddress = new CompletableFuture<>();
+    destinationAddress.completeExceptionally(GENERIC_ERROR);
+
+    // WHEN XRP is sent to the destination THEN the resolution failure is propagated and nothing is submitted.
+    try {
+      client.sendWithDetails(sendXrpDetails, destinationAddress);
+      fail("Expected the resolution failure to be propagated");
+    } catch (CompletionException exception) {
+      assertThat(exception.getCause()).isEqualTo(GENERIC_ERROR);
+    }
+    verify(serviceImpl, never()).submitTransaction(any(), any());
+  }
+
+  @Test
+  public void sendPaymentsTest() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which will succeed, and payments from one wallet of which one
+    // has an invalid destination.
+    XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceImplBase serviceImpl = getService(
+        Result.ok(makeGetAccountInfoResponse(DROPS_OF_XRP_IN_ACCOUNT)),
+        Result.ok(makeTransactionStatus(true, TRANSACTION_STATUS_SUCCESS)),
+        Result.ok(makeGetFeeResponse(MINIMUM_FEE, LAST_LEDGER_SEQUENCE)),
+        Result.ok(makeSubmitTransactionResponse(TRANSACTION_HASH)),
+        Result.ok(makeGetAccountTransactionHistoryResponse())
+    );
+    DefaultXrpClient client = getClient(serviceImpl);
+    Wallet wallet = new Wallet(WALLET_SEED);
+    List<SendXrpDetails> payments = Arrays.asList(
+        SendXrpDetails.builder().amount(AMOUNT).destination(XRPL_ADDRESS).sender(wallet).build(),
+        SendXrpDetails.builder().amount(AMOUNT).destination("notanaddress").sender(wallet).build(),
+        SendXrpDetails.builder().amount(AMOUNT).destination(XRPL_ADDRESS).sender(wallet).build()
+    );
+
+    // WHEN the payments are sent.
+    CollectingPaymentListener listener = new CollectingPaymentListener();
+    client.sendPayments(payments, 2, listener);
+
+    // THEN the valid payments are submitted from a single preparation and the invalid one is reported as an error.
+    assertThat(listener.submitted).containsOnlyKeys(0, 2);
+    assertThat(listener.submitted.get(0)).isEqualTo(TRANSACTION_HASH.toLowerCase());
+    assertThat(listener.errors).containsOnlyKeys(1);
+    verify(serviceImpl, times(1)).getAccountInfo(any(), any());
+    verify(serviceImpl, times(2)).submitTransaction(any(), any());
+  }
+
+  @Test
+  public void sendPaymentsWithRejectedSubmissionTest() throws IOException, XrpException {
+    // GIVEN a DefaultXrpClient with mocked networking which will reject every submission as malformed.
+    SubmitTransactionResponse rejectedResponse = makeSubmitTransactionResponse(TRANSACTION_HASH).toBuilder()
+        .setEngineResult(TransactionResult.newBuilder()
+            .setResultType(TransactionResult.ResultType.RESULT_TYPE_TEM)
+            .setResult("temBAD_AMOUNT"))
+        .build();
+    DefaultXrpClient client = getClient(
+        Result.ok(makeGetAccountInfoResponse(DROPS_OF_XRP_IN_ACCOUNT)),
+        Result.ok(makeTransactionStatus(true, TRANSACTION_STATUS_SUCCESS)),
+        Result.ok(makeGetFeeResponse(MINIMUM_FEE, LAST_LEDGER_SEQUENCE)),
+        Result.ok(rejectedResponse),
+        Result.ok(makeGetAccountTransactionHistoryResponse())
+    );
+    Wallet wallet = new Wallet(WALLET_SEED);
+    List<SendXrpDetails> payments = Arrays.asList(
+        SendXrpDetails.builder().amount(AMOUNT).destination(XRPL_ADDRESS).sender(wallet).build(),
+        SendXrpDetails.builder().amount(AMOUNT).destination(XRPL_ADDRESS).sender(wallet).build()
+    );
+
+    // WHEN the payments are sent.
+    CollectingPaymentListener listener = new CollectingPaymentListener();
+    client.sendPayments(payments, 2, listener);
+
+    // THEN every payment is reported as rejected.
+    assertThat(listener.submitted).isEmpty();
+    assertThat(listener.errors).containsOnlyKeys(0, 1);
+    assertThat(listener.errors.get(0).getMessage()).contains("temBAD_AMOUNT");
+  }
+
   @Test
   public void enableDepositAuthSuccessfulResponse() throws XrpException, IOException {
     // GIVEN a DefaultXrpClient with mocked networking that will return a successful hash for submitTransaction
@@ -595,6 +897,42 @@ public class DefaultXrpClientTest {
     client.enableDepositAuth(wallet);
   }
 
+  /**
+   * A {@link BulkResultListener} which collects every result it receives.
+   */
+  private static class CollectingListener<T> implements BulkResultListener<T> {
+    private final Map<String, T> results = new ConcurrentHashMap<>();
+    private final Map<String, Exception> errors = new ConcurrentHashMap<>();
+
+    @Override
+    public void onSuccess(String input, T result) {
+      results.put(input, result);
+    }
+
+    @Override
+    public void onError(String input, Exception error) {
+      errors.put(input, error);
+    }
+  }
+
+  /**
+   * A {@link PaymentResultListener} which collects every outcome it receives.
+   */
+  private static class CollectingPaymentListener implements PaymentResultListener {
+    private final Map<Integer, String> submitted = new ConcurrentHashMap<>();
+    private final Map<Integer, Exception> errors = new ConcurrentHashMap<>();
+
+    @Override
+    public void onSubmitted(int index, String transactionHash) {
+      submitted.put(index, transactionHash);
+    }
+
+    @Override
+    public void onError(int index, Exception error) {
+      errors.put(index, error);
+    }
+  }
+
   /**
    * Convenience method to get an XRPClient which has successful network calls.
    */
@@ -626,6 +964,15 @@ public class DefaultXrpClientTest {
         getAccountTransactionHistoryResult
     );
 
+    return getClient(serviceImpl);
+  }
+
+  /**
+   * Return an XRPClient which is backed by the given XRPLedgerService implementation.
+   */
+  private DefaultXrpClient getClient(
+      XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceImplBase serviceImpl
+  ) throws IOException {
     // Generate a unique in-process server name.
     String serverName = InProcessServerBuilder.generateName();
 
@@ -2,12 +2,17 @@ package io.xpring.xrpl;
 
 import io.xpring.common.Result;
 import io.xpring.common.XrplNetwork;
+import io.xpring.xrpl.model.ImmutableXrpBalances;
 import io.xpring.xrpl.model.SendXrpDetails;
 import io.xpring.xrpl.model.TransactionResult;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpDrops;
 import io.xpring.xrpl.model.XrpTransaction;
 
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A fake XRPClient which returns the given iVars as results from XrpClientDecorator calls.
@@ -82,6 +87,32 @@ public class FakeXrpClient implements XrpClientDecorator, XrpClientInterface {
     }
   }
 
+  @Override
+  public BigInteger getBalance(XAddress xrplAccountAddress) throws XrpException {
+    return this.getBalance(xrplAccountAddress.value());
+  }
+
+  @Override
+  public XrpBalances getBalances(Collection<String> xrplAccountAddresses) throws XrpException {
+    return this.getBalances(xrplAccountAddresses, XrpClient.DEFAULT_MAXIMUM_CONCURRENT_REQUESTS);
+  }
+
+  @Override
+  public XrpBalances getBalances(
+      Collection<String> xrplAccountAddresses,
+      int maximumConcurrentRequests
+  ) throws XrpException {
+    ImmutableXrpBalances.Builder balances = XrpBalances.builder();
+    for (String xrplAccountAddress : xrplAccountAddresses) {
+      if (this.getBalanceResult.isError()) {
+        balances.putErrors(xrplAccountAddress, this.getBalanceResult.getError());
+      } else {
+        balances.putBalances(xrplAccountAddress, this.getBalanceResult.getValue());
+      }
+    }
+    return balances.build();
+  }
+
   @Override
   public TransactionStatus getPaymentStatus(String transactionHash) throws XrpException {
     if (this.paymentStatusResult.isError()) {
@@ -91,6 +122,29 @@ public class FakeXrpClient implements XrpClientDecorator, XrpClientInterface {
     }
   }
 
+  @Override
+  public void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    this.getTransactionStatuses(transactionHashes, XrpClient.DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, listener);
+  }
+
+  @Override
+  public void getTransactionStatuses(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<TransactionStatus> listener
+  ) throws XrpException {
+    for (String transactionHash : transactionHashes) {
+      if (this.paymentStatusResult.isError()) {
+        listener.onError(transactionHash, this.paymentStatusResult.getError());
+      } else {
+        listener.onSuccess(transactionHash, this.paymentStatusResult.getValue());
+      }
+    }
+  }
+
   @Override
   public String send(BigInteger amount, String destinationAddress, Wallet sourceWallet) throws XrpException {
     if (this.sendResult.isError()) {
@@ -100,6 +154,11 @@ public class FakeXrpClient implements XrpClientDecorator, XrpClientInterface {
     }
   }
 
+  @Override
+  public String send(XrpDrops amount, XAddress destinationAddress, Wallet sourceWallet) throws XrpException {
+    return this.send(amount.toBigInteger(), destinationAddress.value(), sourceWallet);
+  }
+
   @Override
   public String sendWithDetails(SendXrpDetails sendXrpDetails) throws XrpException {
     if (this.sendResult.isError()) {
@@ -109,6 +168,33 @@ public class FakeXrpClient implements XrpClientDecorator, XrpClientInterface {
     }
   }
 
+  @Override
+  public String sendWithDetails(SendXrpDetails sendXrpDetails, CompletableFuture<String> destinationAddress)
+      throws XrpException {
+    destinationAddress.join();
+    return this.sendWithDetails(sendXrpDetails);
+  }
+
+  @Override
+  public void sendPayments(List<SendXrpDetails> payments, PaymentResultListener listener) throws XrpException {
+    this.sendPayments(payments, XrpClient.DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, listener);
+  }
+
+  @Override
+  public void sendPayments(
+      List<SendXrpDetails> payments,
+      int maximumConcurrentRequests,
+      PaymentResultListener listener
+  ) throws XrpException {
+    for (int index = 0; index < payments.size(); index++) {
+      if (this.sendResult.isError()) {
+        listener.onError(index, this.sendResult.getError());
+      } else {
+        listener.onSubmitted(index, this.sendResult.getValue());
+      }
+    }
+  }
+
   @Override
   public int getLatestValidatedLedgerSequence(String address) throws XrpException {
     if (this.latestValidatedLedgerResult.isError()) {
@@ -136,6 +222,11 @@ public class FakeXrpClient implements XrpClientDecorator, XrpClientInterface {
     }
   }
 
+  @Override
+  public boolean accountExists(XAddress address) throws XrpException {
+    return this.accountExists(address.value());
+  }
+
   @Override
   public List<XrpTransaction> paymentHistory(String xrplAccountAddress) throws XrpException {
     if (this.paymentHistoryResult.isError()) {
@@ -145,6 +236,11 @@ public class FakeXrpClient implements XrpClientDecorator, XrpClientInterface {
     }
   }
 
+  @Override
+  public List<XrpTransaction> paymentHistory(XAddress xrplAccountAddress) throws XrpException {
+    return this.paymentHistory(xrplAccountAddress.value());
+  }
+
   @Override
   public XrpTransaction getPayment(String transactionHash) throws XrpException {
     if (this.getPaymentResult.isError()) {
@@ -154,6 +250,29 @@ public class FakeXrpClient implements XrpClientDecorator, XrpClientInterface {
     }
   }
 
+  @Override
+  public void getPayments(
+      Collection<String> transactionHashes,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException {
+    this.getPayments(transactionHashes, XrpClient.DEFAULT_MAXIMUM_CONCURRENT_REQUESTS, listener);
+  }
+
+  @Override
+  public void getPayments(
+      Collection<String> transactionHashes,
+      int maximumConcurrentRequests,
+      BulkResultListener<XrpTransaction> listener
+  ) throws XrpException {
+    for (String transactionHash : transactionHashes) {
+      if (this.getPaymentResult.isError()) {
+        listener.onError(transactionHash, this.getPaymentResult.getError());
+      } else {
+        listener.onSuccess(transactionHash, this.getPaymentResult.getValue());
+      }
+    }
+  }
+
   @Override
   public TransactionResult enableDepositAuth(Wallet wallet) throws XrpException {
     if (this.enableDepositAuthResult.isError()) {
@@ -0,0 +1,154 @@
+package io.xpring.xrpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+public class HdWalletDeriverTest {
+  private static final String DEFAULT_PARENT_PATH = HdWalletDeriver.DEFAULT_PARENT_PATH;
+  private static final String MNEMONIC =
+      "abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon abandon about";
+
+  private static HdWalletDeriver mainNetDeriver;
+
+  @BeforeClass
+  public static void setUp() throws XrpException {
+    mainNetDeriver = HdWalletDeriver.fromMnemonic(MNEMONIC, false);
+  }
+
+  @Test
+  public void seedMatchesBip39TestVector() throws XrpException {
+    // GIVEN a mnemonic with a published BIP39 seed WHEN its seed is computed THEN it matches the published seed.
+    assertThat(Utils.byteArrayToHex(HdWalletDeriver.seedFromMnemonic(MNEMONIC))).isEqualToIgnoringCase(
+        "5eb00bbddcf069084889a8ab9155568165f5c453ccb85e70811aaed6f6da5fc1"
+            + "9a5ac40b389cd370d086206dec8aa6c43daea6690f20ad3d8d48b2d2ce9e38e4"
+    );
+  }
+
+  @Test
+  public void deriveMatchesBip32TestVector() throws XrpException {
+    // GIVEN the seed of BIP32 test vector 1.
+    byte[] seed = Utils.hexStringToByteArray("000102030405060708090a0b0c0d0e0f");
+
+    // WHEN children are derived along the published chain
+    // THEN their public keys match the published public keys.
+    try (HdWalletDeriver deriver = HdWalletDeriver.fromSeed(seed.clone(), "m/0'", false)) {
+      assertThat(deriver.derive(1).getPublicKey())
+          .isEqualToIgnoringCase("03501e454bf00751f24b1b489aa925215d66af2234e3891c3b21a52bedb3cd711c");
+    }
+    try (HdWalletDeriver deriver = HdWalletDeriver.fromSeed(seed.clone(), "m/0'/1/2'/2", false)) {
+      assertThat(deriver.derive(1000000000).getPublicKey())
+          .isEqualToIgnoringCase("022a471424da5e657499d1ff51cb43c47481a03b1e77f951fe64cec9f5a48f7011");
+    }
+  }
+
+  @Test
+  public void fromSeedOverwritesSeed() throws XrpException {
+    // GIVEN a seed WHEN a deriver is created from it THEN the seed is overwritten once the parent key is derived.
+    byte[] seed = Utils.hexStringToByteArray("000102030405060708090a0b0c0d0e0f");
+    HdWalletDeriver deriver = HdWalletDeriver.fromSeed(seed, "m/0'", false);
+    assertThat(seed).containsOnly(0);
+
+    // AND children and their private keys can be derived until the deriver is closed.
+    DerivedWallet child = deriver.derive(1);
+    assertThat(child.getPrivateKey()).isNotEmpty();
+    deriver.close();
+    assertThatThrownBy(() -> deriver.derive(0)).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(child::getPrivateKey).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void closeOverwritesSeedHeldForJavaScript() throws XrpException {
+    // GIVEN a deriver which derives children by JavaScript, and so holds the seed.
+    byte[] seed = Utils.hexStringToByteArray("000102030405060708090a0b0c0d0e0f");
+    HdWalletDeriver deriver = HdWalletDeriver.fromSeed(seed, "m/0'", false, false);
+
+    // WHEN it is closed THEN the seed is overwritten and no more children can be derived.
+    deriver.close();
+    assertThat(seed).containsOnly(0);
+    assertThatThrownBy(() -> deriver.derive(0)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void deriveInJavaMatchesJavaScript() throws XrpException {
+    // GIVEN derivers for the same seed which derive children in Java and by JavaScript.
+    byte[] seed = HdWalletDeriver.seedFromMnemonic(MNEMONIC);
+    try (HdWalletDeriver java = HdWalletDeriver.fromSeed(seed.clone(), DEFAULT_PARENT_PATH, false, true);
+        HdWalletDeriver javaScript = HdWalletDeriver.fromSeed(seed, DEFAULT_PARENT_PATH, false, false)) {
+      // WHEN the same child is derived by each.
+      DerivedWallet inJava = java.derive(3);
+      DerivedWallet byJavaScript = javaScript.derive(3);
+
+      // THEN their keys and addresses match.
+      assertThat(inJava.getPublicKey()).isEqualTo(byJavaScript.getPublicKey());
+      assertThat(inJava.getPrivateKey()).isEqualTo(byJavaScript.getPrivateKey());
+      assertThat(inJava.getAddress()).isEqualTo(byJavaScript.getAddress());
+    }
+  }
+
+  @Test
+  public void deriveMatchesWalletFromMnemonic() throws XrpException {
+    // GIVEN a deriver for the default parent path WHEN the first two children are derived.
+    DerivedWallet first = mainNetDeriver.derive(0);
+    DerivedWallet second = mainNetDeriver.derive(1);
+
+    // THEN they match wallets created from the mnemonic and their full derivation paths.
+    assertThat(first.getDerivationPath()).isEqualTo("m/44'/144'/0'/0/0");
+    assertThat(first.getPublicKey()).isEqualTo("031D68BC1A142E6766B2BDFB006CCFE135EF2E0E2E94ABB5CF5C9AB6104776FBAE");
+    assertThat(first.getPrivateKey()).isEqualTo("0090802A50AA84EFB6CDB225F17C27616EA94048C179142FECF03F4712A07EA7A4");
+    assertThat(first.getAddress()).isEqualTo("XVMFQQBMhdouRqhPMuawgBMN1AVFTofPAdRsXG5RkPtUPNQ");
+    assertThat(second.getPublicKey()).isEqualTo("038BF420B5271ADA2D7479358FF98A29954CF18DC25155184AEAD05796DA737E89");
+    assertThat(second.getPrivateKey()).isEqualTo("000974B4CFE004A2E6C4364CBF3510A36A352796728D0861F6B555ED7E54A70389");
+    assertThat(second.getAddress()).isEqualTo("X7uRz9jfzHUFEjZTZ7rMVzFuTGZTHWcmkKjvGkNqVbfMhca");
+  }
+
+  @Test
+  public void deriveTestNetAddress() throws XrpException {
+    // GIVEN a deriver for test network addresses WHEN the first child is derived THEN its address is for test net.
+    HdWalletDeriver deriver = HdWalletDeriver.fromMnemonic(MNEMONIC, true);
+
+    assertThat(deriver.derive(0).getAddress()).isEqualTo("TVHLFWLKvbMv1LFzd6FA2Bf9MPpcy4mRto4VFAAxLuNpvdW");
+  }
+
+  @Test
+  public void deriveRangeMatchesSingleDerivation() throws XrpException {
+    // GIVEN a deriver WHEN a range of children is derived.
+    List<DerivedWallet> wallets = mainNetDeriver.derive(5, 3);
+
+    // THEN the children are in order and match children derived one at a time.
+    assertThat(wallets).hasSize(3);
+    for (int i = 0; i < wallets.size(); i++) {
+      DerivedWallet wallet = wallets.get(i);
+      assertThat(wallet.getIndex()).isEqualTo(5 + i);
+      assertThat(wallet.getAddress()).isEqualTo(mainNetDeriver.derive(5 + i).getAddress());
+    }
+
+    // AND a child's keys are those of a wallet created from its derivation path.
+    DerivedWallet last = wallets.get(wallets.size() - 1);
+    Wallet wallet = new Wallet(MNEMONIC, last.getDerivationPath());
+    assertThat(last.getPublicKey()).isEqualTo(wallet.getPublicKey());
+    assertThat(last.getPrivateKey()).isEqualTo(wallet.getPrivateKey());
+    assertThat(last.toWallet().getAddress()).isEqualTo(wallet.getAddress());
+  }
+
+  @Test
+  public void invalidInputsAreRejected() {
+    // GIVEN malformed mnemonics and paths WHEN a deriver is created THEN an exception is thrown.
+    assertThatThrownBy(() -> HdWalletDeriver.fromMnemonic("xrp xrp xrp xrp xrp xrp xrp xrp xrp xrp xrp xrp", false))
+        .isInstanceOf(XrpException.class);
+    assertThatThrownBy(() -> HdWalletDeriver.fromMnemonic(MNEMONIC.replace("about", "abandon"), false))
+        .isInstanceOf(XrpException.class);
+    assertThatThrownBy(() -> HdWalletDeriver.fromMnemonic(MNEMONIC, "invalid_path", false))
+        .isInstanceOf(XrpException.class);
+    assertThatThrownBy(() -> HdWalletDeriver.fromMnemonic(MNEMONIC, "m/44'/x", false))
+        .isInstanceOf(XrpException.class);
+    assertThatThrownBy(() -> mainNetDeriver.derive(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> mainNetDeriver.derive(Integer.MAX_VALUE, 2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -2,7 +2,9 @@ package io.xpring.xrpl;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
+import com.google.protobuf.ByteString;
 import io.xpring.common.XrplNetwork;
+import io.xpring.xrpl.model.ImmutableXrpTransaction;
 import io.xpring.xrpl.model.XrpCurrency;
 import io.xpring.xrpl.model.XrpCurrencyAmount;
 import io.xpring.xrpl.model.XrpIssuedCurrency;
@@ -45,6 +47,7 @@ public class ProtocolBufferConversionTest {
     // THEN the currency converted as expected.
     assertThat(xrpCurrency.name()).isEqualTo(currencyProto.getName());
     assertThat(xrpCurrency.code()).isEqualTo(currencyProto.getCode().toByteArray());
+    assertThat(xrpCurrency.codeBytes()).isSameAs(currencyProto.getCode());
   }
 
   // PathElement
@@ -284,6 +287,49 @@ public class ProtocolBufferConversionTest {
     assertThat(xrpMemo.type()).isEqualTo(memoProto.getMemoType().getValue().toByteArray());
   }
 
+  @Test
+  public void convertMemoSharesBytesTest() {
+    // GIVEN a memo with all fields set.
+    Memo memoProto = FakeXrpProtobufs.memoWithAllFieldsSet;
+
+    // WHEN the protocol buffer is converted to a native Java type.
+    XrpMemo xrpMemo = XrpMemo.from(memoProto);
+
+    // THEN the binary fields are the protocol buffer's own bytes rather than copies.
+    assertThat(xrpMemo.dataBytes()).isSameAs(memoProto.getMemoData().getValue());
+    assertThat(xrpMemo.formatBytes()).isSameAs(memoProto.getMemoFormat().getValue());
+    assertThat(xrpMemo.typeBytes()).isSameAs(memoProto.getMemoType().getValue());
+  }
+
+  @Test
+  public void memoBuiltFromByteArrayIsCopiedTest() {
+    // GIVEN a byte array.
+    byte[] data = {1, 2, 3};
+
+    // WHEN a memo is built from it and the array is changed afterwards.
+    XrpMemo xrpMemo = XrpMemo.builder().data(data).build();
+    data[0] = 9;
+
+    // THEN the memo is unchanged.
+    assertThat(xrpMemo.data()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void memoBuilderMixesByteArraysAndByteStringsTest() {
+    // GIVEN a byte array and a ByteString.
+    byte[] type = {4, 5, 6};
+    ByteString data = ByteString.copyFrom(new byte[] {1, 2, 3});
+
+    // WHEN memos are built by setting them in either order.
+    XrpMemo byteStringFirst = XrpMemo.builder().dataBytes(data).type(type).build();
+    XrpMemo byteArrayFirst = XrpMemo.builder().type(type).dataBytes(data).build();
+
+    // THEN both memos hold the same fields.
+    assertThat(byteStringFirst).isEqualTo(byteArrayFirst);
+    assertThat(byteStringFirst.dataBytes()).isSameAs(data);
+    assertThat(byteStringFirst.type()).containsExactly(4, 5, 6);
+  }
+
   @Test
   public void convertMemoWithNoFieldsSetTest() {
     // GIVEN a memo with no fields set.
@@ -440,4 +486,35 @@ public class ProtocolBufferConversionTest {
     // THEN the result is null.
     assertThat(xrpTransaction).isNull();
   }
+
+  @Test
+  public void viewOfPaymentTransactionMatchesConversionTest() {
+    // GIVEN GetTransactionResponse protocol buffers with all, mandatory, XRP and issued currency fields set.
+    GetTransactionResponse[] responses = {
+        FakeXrpProtobufs.getTransactionResponsePaymentAllFields,
+        FakeXrpProtobufs.getTransactionResponsePaymentMandatoryFields,
+        FakeXrpProtobufs.getTransactionResponsePaymentXRP,
+        FakeXrpProtobufs.getTransactionResponsePaymentIssued
+    };
+    for (GetTransactionResponse response : responses) {
+      // WHEN each is viewed as a native Java type.
+      XrpTransaction view = XrpTransaction.view(response, XrplNetwork.TEST);
+
+      // THEN every field matches the eagerly converted transaction, and repeated reads return the same objects.
+      assertThat(ImmutableXrpTransaction.copyOf(view)).isEqualTo(XrpTransaction.from(response, XrplNetwork.TEST));
+      assertThat(view.paymentFields()).isSameAs(view.paymentFields());
+      assertThat(view.sourceXAddress()).isSameAs(view.sourceXAddress());
+    }
+  }
+
+  @Test
+  public void viewOfUnsupportedTransactionTest() {
+    // GIVEN GetTransactionResponse protocol buffers with an empty payment and an unsupported transaction type.
+    // WHEN they are viewed as native Java types THEN the results are null.
+    assertThat(XrpTransaction.view(FakeXrpProtobufs.invalidGetTransactionResponseEmptyPaymentFields, XrplNetwork.TEST))
+        .isNull();
+    assertThat(
+        XrpTransaction.view(FakeXrpProtobufs.invalidGetTransactionResponseUnsupportedTransactionType, XrplNetwork.TEST)
+    ).isNull();
+  }
 }
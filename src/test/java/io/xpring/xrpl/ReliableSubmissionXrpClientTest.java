@@ -5,6 +5,7 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import io.xpring.common.Result;
 import io.xpring.common.XrplNetwork;
 import io.xpring.xrpl.helpers.XrpTestUtils;
+import io.xpring.xrpl.model.SendXrpDetails;
 import io.xpring.xrpl.model.XrpTransaction;
 import org.junit.Before;
 import org.junit.Rule;
@@ -17,7 +18,10 @@ import org.xrpl.rpc.v1.Transaction;
 import org.xrpl.rpc.v1.TransactionResult;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -137,6 +141,35 @@ public class ReliableSubmissionXrpClientTest {
     assertThat(transactionStatus).isEqualTo(DEFAULT_RAW_TRANSACTION_STATUS_VALUE);
   }
 
+  @Test(timeout = 10000)
+  public void testSendPayments() throws XrpException {
+    // GIVEN a `ReliableSubmissionClient` decorating a FakeXrpClient whose transactions are validated.
+    Wallet wallet = new Wallet(WALLET_SEED);
+    SendXrpDetails payment = SendXrpDetails.builder()
+        .amount(SEND_AMOUNT)
+        .destination(XRPL_ADDRESS)
+        .sender(wallet)
+        .build();
+    Map<Integer, String> submitted = new ConcurrentHashMap<>();
+
+    // WHEN payments are sent.
+    this.reliableSubmissionXRPClient.sendPayments(Arrays.asList(payment, payment), 2, new PaymentResultListener() {
+      @Override
+      public void onSubmitted(int index, String transactionHash) {
+        submitted.put(index, transactionHash);
+      }
+
+      @Override
+      public void onError(int index, Exception error) {
+        throw new AssertionError("Unexpected error for payment " + index, error);
+      }
+    });
+
+    // THEN every payment is reported once it has reached a final state.
+    assertThat(submitted).containsOnlyKeys(0, 1);
+    assertThat(submitted.get(0)).isEqualTo(DEFAULT_SEND_VALUE);
+  }
+
   @Test(timeout = 10000)
   public void testSendWithExpiredLedgerSequenceAndUnvalidatedTransaction() throws XrpException {
     // GIVEN A faked latestLedgerSequence number that will increment past the lastLedgerSequence for a transaction
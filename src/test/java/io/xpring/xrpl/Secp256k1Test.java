@@ -0,0 +1,68 @@
+package io.xpring.xrpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.io.BaseEncoding;
+import org.junit.Test;
+
+import java.security.GeneralSecurityException;
+
+public class Secp256k1Test {
+  private static final String ORDER_MINUS_ONE = "FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD0364140";
+
+  @Test
+  public void addModNReducesSums() {
+    // GIVEN scalars whose sums reach or overflow the order of the generator.
+    byte[] orderMinusOne = scalar(ORDER_MINUS_ONE);
+    byte[] one = scalar("01");
+    byte[] two = scalar("02");
+    byte[] sum = new byte[Secp256k1.SCALAR_LENGTH];
+
+    // WHEN they are added THEN the sums are reduced, and a sum of zero is reported.
+    assertThat(Secp256k1.addModN(orderMinusOne, one, sum)).isFalse();
+    assertThat(sum).containsOnly(0);
+    assertThat(Secp256k1.addModN(orderMinusOne, two, sum)).isTrue();
+    assertThat(sum).isEqualTo(one);
+    assertThat(Secp256k1.addModN(orderMinusOne, orderMinusOne, sum)).isTrue();
+    assertThat(BaseEncoding.base16().encode(sum))
+        .isEqualTo("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD036413F");
+  }
+
+  @Test
+  public void isValidScalarExcludesZeroAndOrder() {
+    // GIVEN scalars at the bounds of the valid range WHEN they are checked THEN only those inside it are valid.
+    assertThat(Secp256k1.isValidScalar(scalar("00"))).isFalse();
+    assertThat(Secp256k1.isValidScalar(scalar("01"))).isTrue();
+    assertThat(Secp256k1.isValidScalar(scalar(ORDER_MINUS_ONE))).isTrue();
+    assertThat(Secp256k1.isValidScalar(scalar("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD0364141")))
+        .isFalse();
+  }
+
+  @Test
+  public void multiplyGeneratorRecoversSign() throws GeneralSecurityException {
+    // GIVEN a JDK which implements secp256k1.
+    if (!Secp256k1.isSupported()) {
+      return;
+    }
+
+    // WHEN the generator is multiplied by scalars whose products have y coordinates of either parity
+    // THEN the compressed products match the published public keys.
+    assertThat(compressedProduct("02"))
+        .isEqualTo("02C6047F9441ED7D6D3045406E95C07CD85C778E4B8CEF3CA7ABAC09B95C709EE5");
+    assertThat(compressedProduct("03"))
+        .isEqualTo("02F9308A019258C31049344F85F89D5229B531C845836F99B08601F113BCE036F9");
+    assertThat(compressedProduct("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD036413F"))
+        .isEqualTo("03C6047F9441ED7D6D3045406E95C07CD85C778E4B8CEF3CA7ABAC09B95C709EE5");
+  }
+
+  private static String compressedProduct(String scalar) throws GeneralSecurityException {
+    return BaseEncoding.base16().encode(Secp256k1.compress(Secp256k1.multiplyGenerator(scalar(scalar))));
+  }
+
+  private static byte[] scalar(String hex) {
+    byte[] bytes = BaseEncoding.base16().decode(hex);
+    byte[] scalar = new byte[Secp256k1.SCALAR_LENGTH];
+    System.arraycopy(bytes, 0, scalar, scalar.length - bytes.length, bytes.length);
+    return scalar;
+  }
+}
@@ -13,6 +13,12 @@ import org.xrpl.rpc.v1.Payment;
 import org.xrpl.rpc.v1.Transaction;
 import org.xrpl.rpc.v1.XRPDropsAmount;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class SignerTest {
   @Test
   public void testSign() throws Exception {
@@ -56,4 +62,39 @@ public class SignerTest {
     // THEN the result is the same as expected.
     assertArrayEquals(signedTransaction, expected);
   }
+
+  @Test
+  public void testSignConcurrently() throws Exception {
+    // GIVEN a wallet, a transaction and its signature when signed on a single thread.
+    Wallet wallet = new Wallet("snYP7oArxKepd3GPDcrjMsJYiJeJB");
+    AccountAddress senderAddress =
+        AccountAddress.newBuilder().setAddress("X7vjQVCddnQ7GCESYnYR3EdpzbcoAMbPw7s2xv8YQs94tv4").build();
+    Transaction transaction = Transaction.newBuilder()
+        .setAccount(Account.newBuilder().setValue(senderAddress))
+        .setFee(XRPDropsAmount.newBuilder().setDrops(10))
+        .setSequence(Sequence.newBuilder().setValue(1))
+        .setPayment(Payment.newBuilder()
+            .setDestination(Destination.newBuilder().setValue(senderAddress))
+            .setAmount(Amount.newBuilder().setValue(
+                CurrencyAmount.newBuilder().setXrpAmount(XRPDropsAmount.newBuilder().setDrops(1000))
+            )))
+        .build();
+    byte[] expected = Signer.signTransaction(transaction, wallet);
+
+    // WHEN the transaction is signed on several threads at once.
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<byte[]>> signatures = new ArrayList<>();
+    try {
+      for (int i = 0; i < 16; i++) {
+        signatures.add(executor.submit(() -> Signer.signTransaction(transaction, wallet)));
+      }
+
+      // THEN every signature succeeds and is the same as on a single thread.
+      for (Future<byte[]> signature : signatures) {
+        assertArrayEquals(expected, signature.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 }
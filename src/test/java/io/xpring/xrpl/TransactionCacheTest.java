@@ -0,0 +1,145 @@
+package io.xpring.xrpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Ticker;
+import com.google.protobuf.ByteString;
+import org.junit.Test;
+import org.xrpl.rpc.v1.GetTransactionResponse;
+
+import java.time.Duration;
+
+/**
+ * Unit tests for {@link TransactionCache}.
+ */
+public class TransactionCacheTest {
+  private static final ByteString TRANSACTION_HASH = ByteString.copyFrom(
+      Utils.hexStringToByteArray("DEADBEEFDEADBEEFDEADBEEFDEADBEEFDEADBEEFDEADBEEFDEADBEEFDEADBEEF")
+  );
+  private static final ByteString OTHER_TRANSACTION_HASH = ByteString.copyFrom(
+      Utils.hexStringToByteArray("CAFEBABECAFEBABECAFEBABECAFEBABECAFEBABECAFEBABECAFEBABECAFEBABE")
+  );
+  private static final GetTransactionResponse VALIDATED_RESPONSE = GetTransactionResponse.newBuilder()
+      .setHash(TRANSACTION_HASH)
+      .setLedgerIndex(100)
+      .setValidated(true)
+      .build();
+  private static final GetTransactionResponse UNVALIDATED_RESPONSE = GetTransactionResponse.newBuilder()
+      .setHash(TRANSACTION_HASH)
+      .setValidated(false)
+      .build();
+
+  /**
+   * A {@link Ticker} which only advances when told to.
+   */
+  private static class ManualTicker extends Ticker {
+    private long nanos = 0;
+
+    @Override
+    public long read() {
+      return nanos;
+    }
+
+    void advance(Duration duration) {
+      nanos += duration.toNanos();
+    }
+  }
+
+  @Test
+  public void getReturnsValidatedTransaction() {
+    // GIVEN a cache containing a validated transaction.
+    TransactionCache cache = new TransactionCache();
+    cache.put(TRANSACTION_HASH, VALIDATED_RESPONSE);
+
+    // WHEN the transaction is looked up.
+    GetTransactionResponse response = cache.getIfPresent(TRANSACTION_HASH);
+
+    // THEN an equal response is returned.
+    assertThat(response).isEqualTo(VALIDATED_RESPONSE);
+  }
+
+  @Test
+  public void validatedTransactionsDoNotExpire() {
+    // GIVEN a cache containing a validated transaction.
+    ManualTicker ticker = new ManualTicker();
+    TransactionCache cache = new TransactionCache(1024, 10, Duration.ofMillis(500), ticker);
+    cache.put(TRANSACTION_HASH, VALIDATED_RESPONSE);
+
+    // WHEN a long time elapses.
+    ticker.advance(Duration.ofDays(1));
+
+    // THEN the transaction is still served.
+    assertThat(cache.getIfPresent(TRANSACTION_HASH)).isEqualTo(VALIDATED_RESPONSE);
+  }
+
+  @Test
+  public void unvalidatedTransactionsExpire() {
+    // GIVEN a cache containing an unvalidated transaction.
+    ManualTicker ticker = new ManualTicker();
+    TransactionCache cache = new TransactionCache(1024, 10, Duration.ofMillis(500), ticker);
+    cache.put(TRANSACTION_HASH, UNVALIDATED_RESPONSE);
+    assertThat(cache.getIfPresent(TRANSACTION_HASH)).isEqualTo(UNVALIDATED_RESPONSE);
+
+    // WHEN more than the maximum age elapses.
+    ticker.advance(Duration.ofSeconds(1));
+
+    // THEN the transaction is no longer served.
+    assertThat(cache.getIfPresent(TRANSACTION_HASH)).isNull();
+  }
+
+  @Test
+  public void validatedTransactionReplacesUnvalidated() {
+    // GIVEN a cache containing an unvalidated transaction.
+    TransactionCache cache = new TransactionCache();
+    cache.put(TRANSACTION_HASH, UNVALIDATED_RESPONSE);
+
+    // WHEN the transaction is cached again once validated.
+    cache.put(TRANSACTION_HASH, VALIDATED_RESPONSE);
+
+    // THEN the validated transaction is served.
+    assertThat(cache.getIfPresent(TRANSACTION_HASH)).isEqualTo(VALIDATED_RESPONSE);
+  }
+
+  @Test
+  public void validatedTransactionsAreBoundedBySerializedSize() {
+    // GIVEN a cache which holds fewer serialized bytes than a single transaction.
+    int serializedSize = VALIDATED_RESPONSE.getSerializedSize();
+    TransactionCache cache = new TransactionCache(serializedSize - 1, 10, Duration.ofMillis(500));
+
+    // WHEN a validated transaction is cached.
+    cache.put(TRANSACTION_HASH, VALIDATED_RESPONSE);
+
+    // THEN it is not retained.
+    assertThat(cache.getIfPresent(TRANSACTION_HASH)).isNull();
+  }
+
+  @Test
+  public void validatedTransactionsAreKeyedByHash() {
+    // GIVEN a cache containing two validated transactions.
+    TransactionCache cache = new TransactionCache();
+    GetTransactionResponse otherResponse = VALIDATED_RESPONSE.toBuilder().setHash(OTHER_TRANSACTION_HASH).build();
+    cache.put(TRANSACTION_HASH, VALIDATED_RESPONSE);
+    cache.put(OTHER_TRANSACTION_HASH, otherResponse);
+
+    // WHEN each transaction is looked up.
+    GetTransactionResponse response = cache.getIfPresent(TRANSACTION_HASH);
+    GetTransactionResponse otherCachedResponse = cache.getIfPresent(OTHER_TRANSACTION_HASH);
+
+    // THEN each hash returns its own transaction.
+    assertThat(response).isEqualTo(VALIDATED_RESPONSE);
+    assertThat(otherCachedResponse).isEqualTo(otherResponse);
+  }
+
+  @Test
+  public void putIgnoresMalformedHashes() {
+    // GIVEN a cache.
+    TransactionCache cache = new TransactionCache();
+    ByteString malformedHash = ByteString.copyFrom(Utils.hexStringToByteArray("DEADBEEF"));
+
+    // WHEN a transaction is cached under a hash which is not 32 bytes long.
+    cache.put(malformedHash, VALIDATED_RESPONSE);
+
+    // THEN it is not served.
+    assertThat(cache.getIfPresent(malformedHash)).isNull();
+  }
+}
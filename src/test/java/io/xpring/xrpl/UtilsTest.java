@@ -181,6 +181,30 @@ public class UtilsTest {
     assertNull(classicAddress);
   }
 
+  @Test
+  public void testParseXAddress() throws XrpException {
+    // GIVEN an X-Address that encodes an address on a testnet and a tag.
+    String address = "TVsBZmcewpEHgajPi1jApLeYnHPJw82v9JNYf7dkGmWphmh";
+
+    // WHEN it is parsed.
+    XAddress parsedAddress = XAddress.of(address);
+
+    // THEN the decoded components are available without decoding again.
+    assertEquals(address, parsedAddress.value());
+    assertEquals("rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1", parsedAddress.classicAddress().address());
+    assertEquals(Optional.of(12345), parsedAddress.tag());
+    assertTrue(parsedAddress.isTest());
+
+    // AND encoding the classic address again gives an equal address.
+    assertEquals(parsedAddress, XAddress.from(parsedAddress.classicAddress()));
+  }
+
+  @Test
+  public void testParseXAddressWithClassicAddress() {
+    // GIVEN a classic address WHEN it is parsed as an X-Address THEN an exception is thrown.
+    assertThrows(XrpException.class, () -> XAddress.of("rU6K7V3Po4snVhBBaU29sesqs2qTQJWDw1"));
+  }
+
   @Test
   public void testIsValidXAddressWithValidXAddress() {
     assertTrue(Utils.isValidXAddress("XVfC9CTCJh6GN2x8bnrw3LtdbqiVCUvtU3HnooQDgBnUpQT"));
@@ -29,6 +29,19 @@ public class WalletTest {
     assertEquals(wallet.getAddress(), "T7zFmeZo6uLHP4Vd21TpXjrTBk487ZQPGVQsJ1mKWGCD5rq");
   }
 
+  @Test
+  public void testDerivedMaterialMatchesKeys() throws XrpException {
+    // GIVEN a wallet generated from a seed.
+    Wallet wallet = new Wallet("snYP7oArxKepd3GPDcrjMsJYiJeJB", true);
+
+    // WHEN the material used to build transactions is read.
+    ClassicAddress classicAddress = wallet.getClassicAddress();
+
+    // THEN it matches the address and public key of the wallet.
+    assertEquals(Utils.decodeXAddress(wallet.getAddress()), classicAddress);
+    assertEquals(wallet.getPublicKey().toLowerCase(), Utils.byteArrayToHex(wallet.getPublicKeyBytes().toByteArray()));
+  }
+
   @Test
   public void testGenerateWalletFromInvalidSeed() throws XrpException {
     expectedException.expect(XrpException.class);
@@ -20,6 +20,8 @@ public class XrpAccountSetProtoConversionTest {
     assertThat(accountSet.domain().get()).isEqualTo(accountSetProto.getDomain().getValue());
     assertThat(accountSet.emailHash()).isEqualTo(accountSetProto.getEmailHash().getValue().toByteArray());
     assertThat(accountSet.messageKey()).isEqualTo(accountSetProto.getMessageKey().getValue().toByteArray());
+    assertThat(accountSet.emailHashBytes()).isSameAs(accountSetProto.getEmailHash().getValue());
+    assertThat(accountSet.messageKeyBytes()).isSameAs(accountSetProto.getMessageKey().getValue());
     assertThat(accountSet.setFlag().get()).isEqualTo(accountSetProto.getSetFlag().getValue());
     assertThat(accountSet.tickSize().get()).isEqualTo(accountSetProto.getTickSize().getValue());
     assertThat(accountSet.transferRate().get()).isEqualTo(accountSetProto.getTransferRate().getValue());
@@ -0,0 +1,149 @@
+package io.xpring.xrpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import io.xpring.xrpl.model.SendXrpDetails;
+import io.xpring.xrpl.model.XrpBalances;
+import io.xpring.xrpl.model.XrpTransaction;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unit tests for the default methods of {@link XrpClientInterface}, which implementations written before those methods
+ * were added rely on.
+ */
+public class XrpClientInterfaceTest {
+  private static final String FIRST_ADDRESS = "XVfC9CTCJh6GN2x8bnrw3LtdbqiVCUvtU3HnooQDgBnUpQT";
+  private static final String SECOND_ADDRESS = "X7vjQVCddnQ7GCESYnYR3EdpzbcoAMbPw7s2xv8YQs94tv4";
+  private static final String FIRST_HASH = "4D6B4E0C0A0D9B6B4A2C1A0E0F1B2C3D4E5F60718293A4B5C6D7E8F901234567";
+  private static final String SECOND_HASH = "9A8B7C6D5E4F30211203F4E5D6C7B8A9908172635445362718090A1B2C3D4E5F";
+
+  @Test
+  public void testDefaultGetBalances() throws XrpException {
+    // GIVEN an XrpClientInterface which only implements getBalance, and fails for one address.
+    XrpClientInterface client = mock(XrpClientInterface.class, CALLS_REAL_METHODS);
+    doReturn(BigInteger.TEN).when(client).getBalance(FIRST_ADDRESS);
+    XrpException error = new XrpException(XrpExceptionType.UNKNOWN, "Account not found");
+    doThrow(error).when(client).getBalance(SECOND_ADDRESS);
+
+    // WHEN the balances of both addresses are retrieved.
+    XrpBalances balances = client.getBalances(Arrays.asList(FIRST_ADDRESS, SECOND_ADDRESS, FIRST_ADDRESS));
+
+    // THEN each address is reported once, as a balance or as an error.
+    assertThat(balances.balances()).containsOnlyKeys(FIRST_ADDRESS).containsEntry(FIRST_ADDRESS, BigInteger.TEN);
+    assertThat(balances.errors()).containsOnlyKeys(SECOND_ADDRESS).containsEntry(SECOND_ADDRESS, error);
+    assertThat(balances.ledgerIndex()).isEmpty();
+  }
+
+  @Test
+  public void testDefaultAccountExistsForXAddress() throws XrpException {
+    // GIVEN an XrpClientInterface which only implements accountExists for address strings.
+    XrpClientInterface client = mock(XrpClientInterface.class, CALLS_REAL_METHODS);
+    doReturn(true).when(client).accountExists(FIRST_ADDRESS);
+    doReturn(false).when(client).accountExists(SECOND_ADDRESS);
+
+    // WHEN the existence of each account is checked by XAddress THEN the string form is checked.
+    assertThat(client.accountExists(XAddress.of(FIRST_ADDRESS))).isTrue();
+    assertThat(client.accountExists(XAddress.of(SECOND_ADDRESS))).isFalse();
+  }
+
+  @Test
+  public void testDefaultGetTransactionStatuses() throws XrpException {
+    // GIVEN an XrpClientInterface which only implements getPaymentStatus, and fails for one hash.
+    XrpClientInterface client = mock(XrpClientInterface.class, CALLS_REAL_METHODS);
+    doReturn(TransactionStatus.SUCCEEDED).when(client).getPaymentStatus(FIRST_HASH);
+    XrpException error = new XrpException(XrpExceptionType.UNKNOWN, "Transaction not found");
+    doThrow(error).when(client).getPaymentStatus(SECOND_HASH);
+
+    // WHEN the statuses of both hashes are retrieved.
+    CollectingListener<TransactionStatus> listener = new CollectingListener<>();
+    client.getTransactionStatuses(Arrays.asList(FIRST_HASH, SECOND_HASH), listener);
+
+    // THEN each hash is reported, as a status or as an error.
+    assertThat(listener.results).containsOnly(entry(FIRST_HASH, TransactionStatus.SUCCEEDED));
+    assertThat(listener.errors).containsOnly(entry(SECOND_HASH, error));
+  }
+
+  @Test
+  public void testDefaultGetPayments() throws XrpException {
+    // GIVEN an XrpClientInterface which only implements getPayment, and fails for one hash.
+    XrpClientInterface client = mock(XrpClientInterface.class, CALLS_REAL_METHODS);
+    XrpTransaction transaction = mock(XrpTransaction.class);
+    doReturn(transaction).when(client).getPayment(FIRST_HASH);
+    XrpException error = new XrpException(XrpExceptionType.UNKNOWN, "Transaction not found");
+    doThrow(error).when(client).getPayment(SECOND_HASH);
+
+    // WHEN both transactions are retrieved.
+    CollectingListener<XrpTransaction> listener = new CollectingListener<>();
+    client.getPayments(Arrays.asList(FIRST_HASH, SECOND_HASH), listener);
+
+    // THEN each hash is reported, as a transaction or as an error.
+    assertThat(listener.results).containsOnly(entry(FIRST_HASH, transaction));
+    assertThat(listener.errors).containsOnly(entry(SECOND_HASH, error));
+  }
+
+  @Test
+  public void testDefaultSendPayments() throws XrpException {
+    // GIVEN an XrpClientInterface which only implements sendWithDetails, and fails for one payment.
+    XrpClientInterface client = mock(XrpClientInterface.class, CALLS_REAL_METHODS);
+    SendXrpDetails firstPayment = payment(FIRST_ADDRESS);
+    SendXrpDetails secondPayment = payment(SECOND_ADDRESS);
+    doReturn(FIRST_HASH).when(client).sendWithDetails(firstPayment);
+    XrpException error = new XrpException(XrpExceptionType.UNKNOWN, "Payment rejected");
+    doThrow(error).when(client).sendWithDetails(secondPayment);
+
+    // WHEN both payments are sent.
+    Map<Integer, String> submitted = new ConcurrentHashMap<>();
+    Map<Integer, Exception> errors = new ConcurrentHashMap<>();
+    client.sendPayments(Arrays.asList(firstPayment, secondPayment), new PaymentResultListener() {
+      @Override
+      public void onSubmitted(int index, String transactionHash) {
+        submitted.put(index, transactionHash);
+      }
+
+      @Override
+      public void onError(int index, Exception exception) {
+        errors.put(index, exception);
+      }
+    });
+
+    // THEN each payment is reported by its index, as a transaction hash or as an error.
+    assertThat(submitted).containsOnly(entry(0, FIRST_HASH));
+    assertThat(errors).containsOnly(entry(1, error));
+  }
+
+  private static SendXrpDetails payment(String destination) {
+    return SendXrpDetails.builder()
+        .amount(BigInteger.ONE)
+        .destination(destination)
+        .sender(mock(Wallet.class))
+        .build();
+  }
+
+  /**
+   * A {@link BulkResultListener} which collects every result by input.
+   */
+  private static class CollectingListener<T> implements BulkResultListener<T> {
+    private final Map<String, T> results = new ConcurrentHashMap<>();
+    private final Map<String, Exception> errors = new ConcurrentHashMap<>();
+
+    @Override
+    public void onSuccess(String input, T result) {
+      results.put(input, result);
+    }
+
+    @Override
+    public void onError(String input, Exception error) {
+      errors.put(input, error);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package io.xpring.xrpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.xpring.xrpl.model.SendXrpDetails;
+import io.xpring.xrpl.model.XrpDrops;
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+public class XrpDropsTest {
+  @Test
+  public void formatXrp() {
+    // GIVEN amounts with and without fractional XRP WHEN they are formatted THEN trailing zeroes are dropped.
+    assertThat(XrpDrops.of(2_000_000).toXrpString()).isEqualTo("2");
+    assertThat(XrpDrops.of(3_400_000).toXrpString()).isEqualTo("3.4");
+    assertThat(XrpDrops.of(1).toXrpString()).isEqualTo("0.000001");
+    assertThat(XrpDrops.of(-3_456_789).toXrpString()).isEqualTo("-3.456789");
+    assertThat(XrpDrops.of(XrpDrops.MAX_DROPS).toXrpString()).isEqualTo("100000000000");
+    assertThat(XrpDrops.ZERO.toXrpString()).isEqualTo("0");
+  }
+
+  @Test
+  public void appendXrpReusesBuilder() {
+    // GIVEN a builder.
+    StringBuilder builder = new StringBuilder();
+
+    // WHEN several amounts are appended to it.
+    XrpDrops.of(1_500_000).appendXrpTo(builder).append(',');
+    XrpDrops.of(-10).appendXrpTo(builder);
+
+    // THEN they are formatted one after the other.
+    assertThat(builder.toString()).isEqualTo("1.5,-0.00001");
+  }
+
+  @Test
+  public void parseRoundTrips() throws XrpException {
+    // GIVEN amounts across the whole range WHEN they are formatted and parsed again THEN they are unchanged.
+    long[] values = {0, 1, 999_999, 1_000_000, 123_456_789_012L, -42, XrpDrops.MAX_DROPS, -XrpDrops.MAX_DROPS};
+    for (long value : values) {
+      XrpDrops drops = XrpDrops.of(value);
+      assertThat(XrpDrops.parseXrp(drops.toXrpString())).isEqualTo(drops);
+      assertThat(XrpDrops.parseDrops(drops.toString())).isEqualTo(drops);
+    }
+  }
+
+  @Test
+  public void parseRejectsAmountsOutsideRange() {
+    // GIVEN amounts beyond the total supply of XRP, including ones which would overflow a long
+    // WHEN they are parsed THEN an exception is thrown.
+    assertThatThrownBy(() -> XrpDrops.parseXrp("100000000000.000001")).isInstanceOf(XrpException.class);
+    assertThatThrownBy(() -> XrpDrops.parseXrp("99999999999999999999")).isInstanceOf(XrpException.class);
+    assertThatThrownBy(() -> XrpDrops.parseDrops("100000000000000001")).isInstanceOf(XrpException.class);
+    assertThatThrownBy(() -> XrpDrops.parseDrops("-")).isInstanceOf(XrpException.class);
+    assertThatThrownBy(() -> XrpDrops.parseDrops("")).isInstanceOf(XrpException.class);
+  }
+
+  @Test
+  public void arithmeticIsRangeChecked() {
+    // GIVEN the largest amount.
+    XrpDrops max = XrpDrops.of(XrpDrops.MAX_DROPS);
+
+    // WHEN amounts are combined THEN results within range are exact, and others throw.
+    assertThat(max.minus(XrpDrops.of(1)).plus(XrpDrops.of(1))).isEqualTo(max);
+    assertThat(XrpDrops.of(7).times(3)).isEqualTo(XrpDrops.of(21));
+    assertThat(max.negate().signum()).isEqualTo(-1);
+    assertThatThrownBy(() -> max.plus(XrpDrops.of(1))).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> max.negate().minus(XrpDrops.of(1))).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> max.times(Long.MAX_VALUE)).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> XrpDrops.of(XrpDrops.MAX_DROPS + 1)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void sendXrpDetailsRejectsAmountOutsideRange() throws XrpException {
+    // GIVEN a sender and an amount which does not fit in a long.
+    Wallet sender = new Wallet("snYP7oArxKepd3GPDcrjMsJYiJeJB");
+
+    // WHEN send details are built THEN the amount is rejected rather than truncated.
+    assertThatThrownBy(() -> SendXrpDetails.builder()
+        .amount(BigInteger.ONE.shiftLeft(64))
+        .destination("X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4")
+        .sender(sender)
+        .build()
+    ).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void sendXrpDetailsKeepsDrops() throws XrpException {
+    // GIVEN an amount in drops and the same amount as a BigInteger.
+    Wallet sender = new Wallet("snYP7oArxKepd3GPDcrjMsJYiJeJB");
+    XrpDrops drops = XrpDrops.of(12_345);
+
+    // WHEN send details are built from each.
+    SendXrpDetails fromDrops = SendXrpDetails.builder()
+        .drops(drops)
+        .destination("X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4")
+        .sender(sender)
+        .build();
+    SendXrpDetails fromBigInteger = SendXrpDetails.builder()
+        .destination("X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4")
+        .sender(sender)
+        .amount(BigInteger.valueOf(12_345))
+        .build();
+
+    // THEN the drops are kept as given, and both describe the same payment.
+    assertThat(fromDrops.drops()).isSameAs(drops);
+    assertThat(fromDrops.amount()).isEqualTo(BigInteger.valueOf(12_345));
+    assertThat(fromBigInteger).isEqualTo(fromDrops);
+  }
+}
@@ -0,0 +1,533 @@
+package io.xpring.xrpl.fakes;
+
+import com.google.protobuf.ByteString;
+import io.grpc.Status;
+import org.xrpl.rpc.v1.AccountAddress;
+import org.xrpl.rpc.v1.AccountRoot;
+import org.xrpl.rpc.v1.Common.Account;
+import org.xrpl.rpc.v1.Common.Balance;
+import org.xrpl.rpc.v1.Common.Flags;
+import org.xrpl.rpc.v1.Common.Sequence;
+import org.xrpl.rpc.v1.CurrencyAmount;
+import org.xrpl.rpc.v1.Fee;
+import org.xrpl.rpc.v1.FeeLevels;
+import org.xrpl.rpc.v1.GetAccountInfoResponse;
+import org.xrpl.rpc.v1.GetAccountTransactionHistoryResponse;
+import org.xrpl.rpc.v1.GetFeeResponse;
+import org.xrpl.rpc.v1.GetTransactionResponse;
+import org.xrpl.rpc.v1.LedgerSpecifier;
+import org.xrpl.rpc.v1.Meta;
+import org.xrpl.rpc.v1.SubmitTransactionResponse;
+import org.xrpl.rpc.v1.Transaction;
+import org.xrpl.rpc.v1.TransactionResult;
+import org.xrpl.rpc.v1.XRPDropsAmount;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * An in-memory model of the XRP Ledger, for use by {@link SimulatedRippled}.
+ * <p>
+ * The ledger keeps account balances, sequences and flags. Submitted transactions are applied to an open ledger, whose
+ * state becomes the next validated ledger when {@link #closeLedger()} is called. As in rippled, the cost of getting
+ * into the open ledger escalates once it holds more than a target number of transactions, and transactions which pay
+ * less than that cost wait in a bounded queue for a later ledger.
+ * </p><p>
+ * Only XRP Payments and the Deposit Authorization flag of AccountSet are modelled. Any other transaction type is
+ * charged its fee and consumes a sequence number without further effect. Signatures are not verified.
+ * </p><p>
+ * This class is thread safe.
+ * </p>
+ */
+public class SimulatedLedger {
+  /**
+   * The cost of a reference transaction, in drops.
+   */
+  public static final long BASE_FEE = 10;
+
+  /**
+   * The minimum XRP an account must hold, in drops.
+   */
+  public static final long ACCOUNT_RESERVE = 20_000_000;
+
+  /**
+   * The multiple of the base fee at which open ledger fee escalation starts, matching rippled's default.
+   */
+  private static final long ESCALATION_MULTIPLIER = 500;
+
+  /**
+   * The number of validated ledgers to retain for historical queries.
+   */
+  private static final int LEDGER_HISTORY = 256;
+
+  /**
+   * The AccountSet flag which enables Deposit Authorization.
+   */
+  private static final int ASF_DEPOSIT_AUTH = 9;
+
+  /**
+   * The AccountRoot flag which is set when Deposit Authorization is enabled.
+   */
+  private static final int LSF_DEPOSIT_AUTH = 0x01000000;
+
+  private final int targetTransactionsPerLedger;
+  private final int maximumQueueSize;
+
+  private final NavigableMap<Integer, Map<String, AccountRoot>> validatedLedgers = new TreeMap<>();
+  private Map<String, AccountRoot> openLedger = new HashMap<>();
+  private final List<ByteString> openTransactions = new ArrayList<>();
+  private final PriorityQueue<QueuedTransaction> queue = new PriorityQueue<>(
+      Comparator.comparingLong((QueuedTransaction queued) -> queued.transaction.getFee().getDrops()).reversed()
+          .thenComparingLong(queued -> queued.arrival)
+  );
+  private final Map<ByteString, TransactionRecord> transactions = new HashMap<>();
+  private final Map<String, List<ByteString>> accountTransactions = new HashMap<>();
+  private long arrivals = 0;
+
+  /**
+   * Create a new ledger with no accounts.
+   *
+   * @param targetTransactionsPerLedger The number of transactions the open ledger holds before fees escalate.
+   * @param maximumQueueSize            The number of transactions which may wait for a later ledger.
+   */
+  public SimulatedLedger(int targetTransactionsPerLedger, int maximumQueueSize) {
+    this.targetTransactionsPerLedger = targetTransactionsPerLedger;
+    this.maximumQueueSize = maximumQueueSize;
+    this.validatedLedgers.put(1, Collections.emptyMap());
+  }
+
+  /**
+   * The index of the latest validated ledger.
+   *
+   * @return The ledger index.
+   */
+  public synchronized int getValidatedLedgerIndex() {
+    return this.validatedLedgers.lastKey();
+  }
+
+  /**
+   * The index of the open ledger, which submitted transactions are applied to.
+   *
+   * @return The ledger index.
+   */
+  public synchronized int getOpenLedgerIndex() {
+    return this.getValidatedLedgerIndex() + 1;
+  }
+
+  /**
+   * The number of transactions waiting for a later ledger.
+   *
+   * @return The queue size.
+   */
+  public synchronized int getQueueSize() {
+    return this.queue.size();
+  }
+
+  /**
+   * Credit an account with XRP, creating it if needed. The credit is visible in the latest validated ledger
+   * immediately, without a transaction.
+   *
+   * @param classicAddress The classic address of the account.
+   * @param drops          The number of drops to credit.
+   */
+  public synchronized void fund(String classicAddress, long drops) {
+    this.openLedger.put(classicAddress, credit(this.openLedger.get(classicAddress), classicAddress, drops));
+
+    int validatedLedgerIndex = this.getValidatedLedgerIndex();
+    Map<String, AccountRoot> validatedLedger = new HashMap<>(this.validatedLedgers.get(validatedLedgerIndex));
+    validatedLedger.put(classicAddress, credit(validatedLedger.get(classicAddress), classicAddress, drops));
+    this.validatedLedgers.put(validatedLedgerIndex, Collections.unmodifiableMap(validatedLedger));
+  }
+
+  /**
+   * Submit a signed transaction.
+   *
+   * @param signedTransaction The signed transaction, in binary format.
+   * @return A {@link SubmitTransactionResponse} containing the preliminary result of the transaction.
+   */
+  public synchronized SubmitTransactionResponse submit(byte[] signedTransaction) {
+    Transaction transaction;
+    try {
+      transaction = SimulatedTransactionDecoder.decode(signedTransaction);
+    } catch (IllegalArgumentException exception) {
+      return submitResponse(ByteString.EMPTY, "temMALFORMED");
+    }
+    ByteString hash = ByteString.copyFrom(SimulatedTransactionDecoder.hash(signedTransaction));
+
+    TransactionRecord existingRecord = this.transactions.get(hash);
+    if (existingRecord != null) {
+      return submitResponse(hash, "tefALREADY");
+    }
+
+    String result = this.preflight(transaction);
+    if (result != null) {
+      return submitResponse(hash, result);
+    }
+
+    if (transaction.getFee().getDrops() >= this.openLedgerFee()) {
+      result = this.applyToOpenLedger(hash, transaction);
+    } else if (this.queue.size() < this.maximumQueueSize) {
+      this.queue.add(new QueuedTransaction(hash, transaction, this.arrivals++));
+      this.transactions.put(hash, new TransactionRecord(transaction, "terQUEUED"));
+      result = "terQUEUED";
+    } else {
+      result = "telCAN_NOT_QUEUE_FULL";
+    }
+    return submitResponse(hash, result);
+  }
+
+  /**
+   * Close the open ledger. Its state becomes the latest validated ledger, and queued transactions are moved into the
+   * new open ledger in order of fee until it reaches its target size.
+   */
+  public synchronized void closeLedger() {
+    int closedLedgerIndex = this.getOpenLedgerIndex();
+    this.validatedLedgers.put(closedLedgerIndex, Collections.unmodifiableMap(new HashMap<>(this.openLedger)));
+    while (this.validatedLedgers.size() > LEDGER_HISTORY) {
+      this.validatedLedgers.pollFirstEntry();
+    }
+
+    for (ByteString hash : this.openTransactions) {
+      TransactionRecord record = this.transactions.get(hash);
+      record.ledgerIndex = closedLedgerIndex;
+      record.validated = true;
+      this.accountTransactions
+          .computeIfAbsent(record.transaction.getAccount().getValue().getAddress(), account -> new ArrayList<>())
+          .add(hash);
+      if (record.transaction.hasPayment()) {
+        String destination = record.transaction.getPayment().getDestination().getValue().getAddress();
+        this.accountTransactions.computeIfAbsent(destination, account -> new ArrayList<>()).add(hash);
+      }
+    }
+    this.openTransactions.clear();
+
+    // Promote queued transactions which can still make it into a ledger.
+    List<QueuedTransaction> retained = new ArrayList<>();
+    while (!this.queue.isEmpty()) {
+      QueuedTransaction queued = this.queue.poll();
+      String result = this.preflight(queued.transaction);
+      if (result != null) {
+        this.transactions.get(queued.hash).result = result;
+      } else if (this.openTransactions.size() < this.targetTransactionsPerLedger) {
+        this.applyToOpenLedger(queued.hash, queued.transaction);
+      } else {
+        retained.add(queued);
+      }
+    }
+    this.queue.addAll(retained);
+  }
+
+  /**
+   * Read an account.
+   *
+   * @param classicAddress  The classic address of the account.
+   * @param ledgerSpecifier The ledger to read the account at.
+   * @return A {@link GetAccountInfoResponse}.
+   * @throws io.grpc.StatusRuntimeException with a NOT_FOUND status if the ledger or the account do not exist.
+   */
+  public synchronized GetAccountInfoResponse getAccountInfo(String classicAddress, LedgerSpecifier ledgerSpecifier) {
+    int ledgerIndex;
+    Map<String, AccountRoot> ledger;
+    boolean validated;
+    if (ledgerSpecifier.getLedgerCase() == LedgerSpecifier.LedgerCase.SEQUENCE) {
+      ledgerIndex = ledgerSpecifier.getSequence();
+      ledger = this.ledgerAt(ledgerIndex);
+      validated = true;
+    } else if (ledgerSpecifier.getShortcut() == LedgerSpecifier.Shortcut.SHORTCUT_VALIDATED
+        || ledgerSpecifier.getShortcut() == LedgerSpecifier.Shortcut.SHORTCUT_CLOSED) {
+      ledgerIndex = this.getValidatedLedgerIndex();
+      ledger = this.ledgerAt(ledgerIndex);
+      validated = true;
+    } else {
+      ledgerIndex = this.getOpenLedgerIndex();
+      ledger = this.openLedger;
+      validated = false;
+    }
+
+    AccountRoot accountData = ledger.get(classicAddress);
+    if (accountData == null) {
+      throw Status.NOT_FOUND.withDescription("Account not found.").asRuntimeException();
+    }
+    return GetAccountInfoResponse.newBuilder()
+        .setAccountData(accountData)
+        .setLedgerIndex(ledgerIndex)
+        .setValidated(validated)
+        .build();
+  }
+
+  /**
+   * Report the current fee settings and open ledger cost.
+   *
+   * @return A {@link GetFeeResponse}.
+   */
+  public synchronized GetFeeResponse getFee() {
+    long openLedgerFee = this.openLedgerFee();
+    long baseLevel = 256;
+    Fee fee = Fee.newBuilder()
+        .setBaseFee(drops(BASE_FEE))
+        .setMedianFee(drops(BASE_FEE * ESCALATION_MULTIPLIER))
+        .setMinimumFee(drops(BASE_FEE))
+        .setOpenLedgerFee(drops(openLedgerFee))
+        .build();
+    FeeLevels levels = FeeLevels.newBuilder()
+        .setReferenceLevel(baseLevel)
+        .setMinimumLevel(baseLevel)
+        .setMedianLevel(baseLevel * ESCALATION_MULTIPLIER)
+        .setOpenLedgerLevel(baseLevel * openLedgerFee / BASE_FEE)
+        .build();
+    return GetFeeResponse.newBuilder()
+        .setCurrentLedgerSize(this.openTransactions.size())
+        .setCurrentQueueSize(this.queue.size())
+        .setExpectedLedgerSize(this.targetTransactionsPerLedger)
+        .setMaxQueueSize(this.maximumQueueSize)
+        .setLedgerCurrentIndex(this.getOpenLedgerIndex())
+        .setFee(fee)
+        .setLevels(levels)
+        .build();
+  }
+
+  /**
+   * Retrieve a transaction.
+   *
+   * @param hash The 32 byte hash of the transaction.
+   * @return A {@link GetTransactionResponse}.
+   * @throws io.grpc.StatusRuntimeException with a NOT_FOUND status if the transaction is not known.
+   */
+  public synchronized GetTransactionResponse getTransaction(ByteString hash) {
+    TransactionRecord record = this.transactions.get(hash);
+    if (record == null) {
+      throw Status.NOT_FOUND.withDescription("Transaction not found.").asRuntimeException();
+    }
+    return record.toResponse(hash);
+  }
+
+  /**
+   * Retrieve the validated transactions which affected an account, most recent first.
+   *
+   * @param classicAddress The classic address of the account.
+   * @param limit          The maximum number of transactions to return, or 0 for no limit.
+   * @return A {@link GetAccountTransactionHistoryResponse}.
+   */
+  public synchronized GetAccountTransactionHistoryResponse getAccountTransactionHistory(
+      String classicAddress,
+      int limit
+  ) {
+    GetAccountTransactionHistoryResponse.Builder response = GetAccountTransactionHistoryResponse.newBuilder()
+        .setAccount(AccountAddress.newBuilder().setAddress(classicAddress))
+        .setLedgerIndexMin(this.validatedLedgers.firstKey())
+        .setLedgerIndexMax(this.getValidatedLedgerIndex())
+        .setLimit(limit)
+        .setValidated(true);
+
+    List<ByteString> hashes = this.accountTransactions.getOrDefault(classicAddress, Collections.emptyList());
+    for (int i = hashes.size() - 1; i >= 0 && (limit == 0 || response.getTransactionsCount() < limit); i--) {
+      response.addTransactions(this.transactions.get(hashes.get(i)).toResponse(hashes.get(i)));
+    }
+    return response.build();
+  }
+
+  /**
+   * Check whether a transaction can be applied to the open ledger, ignoring its fee.
+   *
+   * @return A failure result, or null if the transaction can be applied.
+   */
+  private String preflight(Transaction transaction) {
+    AccountRoot account = this.openLedger.get(transaction.getAccount().getValue().getAddress());
+    if (account == null) {
+      return "terNO_ACCOUNT";
+    }
+    if (transaction.getFee().getDrops() < BASE_FEE) {
+      return "telINSUF_FEE_P";
+    }
+    if (transaction.hasLastLedgerSequence()
+        && transaction.getLastLedgerSequence().getValue() < this.getOpenLedgerIndex()) {
+      return "tefMAX_LEDGER";
+    }
+    int sequence = transaction.getSequence().getValue();
+    if (sequence < account.getSequence().getValue()) {
+      return "tefPAST_SEQ";
+    }
+    if (sequence > account.getSequence().getValue()) {
+      return "terPRE_SEQ";
+    }
+    return null;
+  }
+
+  /**
+   * Apply a transaction which has passed {@link #preflight(Transaction)} to the open ledger.
+   *
+   * @return The result of the transaction.
+   */
+  private String applyToOpenLedger(ByteString hash, Transaction transaction) {
+    String sourceAddress = transaction.getAccount().getValue().getAddress();
+    AccountRoot source = this.openLedger.get(sourceAddress);
+    long fee = transaction.getFee().getDrops();
+
+    // The fee is claimed and the sequence consumed whether or not the transaction succeeds.
+    long sourceBalance = balanceOf(source) - fee;
+    int sourceFlags = source.getFlags().getValue();
+    String result = "tesSUCCESS";
+
+    if (transaction.hasPayment()) {
+      String destinationAddress = transaction.getPayment().getDestination().getValue().getAddress();
+      AccountRoot destination = this.openLedger.get(destinationAddress);
+      long amount = transaction.getPayment().getAmount().getValue().getXrpAmount().getDrops();
+
+      if (!transaction.getPayment().getAmount().getValue().hasXrpAmount()) {
+        result = "temBAD_CURRENCY";
+      } else if (destinationAddress.equals(sourceAddress)) {
+        result = "temREDUNDANT";
+      } else if (sourceBalance - amount < ACCOUNT_RESERVE) {
+        result = "tecUNFUNDED_PAYMENT";
+      } else if (destination == null && amount < ACCOUNT_RESERVE) {
+        result = "tecNO_DST_INSUF_XRP";
+      } else if (destination != null && (destination.getFlags().getValue() & LSF_DEPOSIT_AUTH) != 0) {
+        result = "tecNO_PERMISSION";
+      } else {
+        sourceBalance -= amount;
+        this.openLedger.put(destinationAddress, credit(destination, destinationAddress, amount));
+      }
+    } else if (transaction.hasAccountSet()) {
+      if (transaction.getAccountSet().getSetFlag().getValue() == ASF_DEPOSIT_AUTH) {
+        sourceFlags |= LSF_DEPOSIT_AUTH;
+      }
+      if (transaction.getAccountSet().getClearFlag().getValue() == ASF_DEPOSIT_AUTH) {
+        sourceFlags &= ~LSF_DEPOSIT_AUTH;
+      }
+    }
+
+    this.openLedger.put(sourceAddress, source.toBuilder()
+        .setBalance(balance(sourceBalance))
+        .setSequence(Sequence.newBuilder().setValue(source.getSequence().getValue() + 1))
+        .setFlags(Flags.newBuilder().setValue(sourceFlags))
+        .build());
+
+    this.openTransactions.add(hash);
+    this.transactions.put(hash, new TransactionRecord(transaction, result));
+    return result;
+  }
+
+  /**
+   * The fee a transaction must pay to be applied to the open ledger now, in drops.
+   */
+  private long openLedgerFee() {
+    long size = this.openTransactions.size();
+    long target = this.targetTransactionsPerLedger;
+    if (size < target) {
+      return BASE_FEE;
+    }
+    long escalatedFee = (BASE_FEE * ESCALATION_MULTIPLIER * size * size + target * target - 1) / (target * target);
+    return Math.max(BASE_FEE, escalatedFee);
+  }
+
+  private Map<String, AccountRoot> ledgerAt(int ledgerIndex) {
+    Map<String, AccountRoot> ledger = this.validatedLedgers.get(ledgerIndex);
+    if (ledger == null) {
+      throw Status.NOT_FOUND.withDescription("Ledger not found.").asRuntimeException();
+    }
+    return ledger;
+  }
+
+  private static AccountRoot credit(AccountRoot account, String classicAddress, long drops) {
+    if (account == null) {
+      return AccountRoot.newBuilder()
+          .setAccount(Account.newBuilder().setValue(AccountAddress.newBuilder().setAddress(classicAddress)))
+          .setBalance(balance(drops))
+          .setSequence(Sequence.newBuilder().setValue(1))
+          .build();
+    }
+    return account.toBuilder().setBalance(balance(balanceOf(account) + drops)).build();
+  }
+
+  private static long balanceOf(AccountRoot account) {
+    return account.getBalance().getValue().getXrpAmount().getDrops();
+  }
+
+  private static Balance balance(long drops) {
+    return Balance.newBuilder().setValue(CurrencyAmount.newBuilder().setXrpAmount(drops(drops))).build();
+  }
+
+  private static XRPDropsAmount drops(long drops) {
+    return XRPDropsAmount.newBuilder().setDrops(drops).build();
+  }
+
+  private static SubmitTransactionResponse submitResponse(ByteString hash, String result) {
+    return SubmitTransactionResponse.newBuilder()
+        .setHash(hash)
+        .setEngineResult(transactionResult(result))
+        .setEngineResultMessage(result)
+        .build();
+  }
+
+  private static TransactionResult transactionResult(String result) {
+    TransactionResult.ResultType resultType;
+    switch (result.substring(0, 3)) {
+      case "tes":
+        resultType = TransactionResult.ResultType.RESULT_TYPE_TES;
+        break;
+      case "tec":
+        resultType = TransactionResult.ResultType.RESULT_TYPE_TEC;
+        break;
+      case "tef":
+        resultType = TransactionResult.ResultType.RESULT_TYPE_TEF;
+        break;
+      case "tel":
+        resultType = TransactionResult.ResultType.RESULT_TYPE_TEL;
+        break;
+      case "tem":
+        resultType = TransactionResult.ResultType.RESULT_TYPE_TEM;
+        break;
+      default:
+        resultType = TransactionResult.ResultType.RESULT_TYPE_TER;
+        break;
+    }
+    return TransactionResult.newBuilder().setResultType(resultType).setResult(result).build();
+  }
+
+  /**
+   * A transaction which is waiting for a later ledger.
+   */
+  private static final class QueuedTransaction {
+    private final ByteString hash;
+    private final Transaction transaction;
+    private final long arrival;
+
+    private QueuedTransaction(ByteString hash, Transaction transaction, long arrival) {
+      this.hash = hash;
+      this.transaction = transaction;
+      this.arrival = arrival;
+    }
+  }
+
+  /**
+   * A transaction this ledger knows about, and its outcome so far.
+   */
+  private static final class TransactionRecord {
+    private final Transaction transaction;
+    private String result;
+    private int ledgerIndex;
+    private boolean validated;
+
+    private TransactionRecord(Transaction transaction, String result) {
+      this.transaction = transaction;
+      this.result = result;
+    }
+
+    private GetTransactionResponse toResponse(ByteString hash) {
+      return GetTransactionResponse.newBuilder()
+          .setTransaction(this.transaction)
+          .setHash(hash)
+          .setLedgerIndex(this.ledgerIndex)
+          .setValidated(this.validated)
+          .setMeta(Meta.newBuilder().setTransactionResult(transactionResult(this.result)))
+          .build();
+    }
+  }
+}
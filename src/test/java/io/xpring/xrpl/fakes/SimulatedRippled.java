@@ -0,0 +1,240 @@
+package io.xpring.xrpl.fakes;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simulated rippled node, which serves the XRP Ledger gRPC API from an in-memory {@link SimulatedLedger}.
+ * <p>
+ * The node can run in-process, for unit tests, or on a local port, for tools like load generators which connect by
+ * URL. Ledgers close on a fixed interval, or only when {@link #closeLedger()} is called. Responses can be delayed and
+ * requests failed at random to exercise client timeouts and retries without a network.
+ * </p>
+ */
+public class SimulatedRippled implements AutoCloseable {
+  private final SimulatedLedger ledger;
+  private final ScheduledExecutorService scheduler;
+  private final Server server;
+  private final String inProcessName;
+
+  private SimulatedRippled(Builder builder, ServerBuilder<?> serverBuilder, String inProcessName) {
+    this.ledger = new SimulatedLedger(builder.targetTransactionsPerLedger, builder.maximumQueueSize);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "simulated-rippled");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.inProcessName = inProcessName;
+
+    SimulatedXrpLedgerService service = new SimulatedXrpLedgerService(
+        this.ledger,
+        this.scheduler,
+        builder.latency,
+        builder.jitter,
+        builder.faultRate,
+        builder.seed
+    );
+    try {
+      this.server = serverBuilder.addService(service).build().start();
+    } catch (IOException exception) {
+      this.scheduler.shutdownNow();
+      throw new IllegalStateException("Could not start simulated rippled", exception);
+    }
+
+    if (!builder.ledgerCloseInterval.isZero()) {
+      long intervalNanos = builder.ledgerCloseInterval.toNanos();
+      this.scheduler.scheduleAtFixedRate(this.ledger::closeLedger, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * The ledger this node serves, which tests can use to fund accounts and inspect state.
+   *
+   * @return The {@link SimulatedLedger}.
+   */
+  public SimulatedLedger ledger() {
+    return this.ledger;
+  }
+
+  /**
+   * Close the open ledger now, regardless of the ledger close interval.
+   */
+  public void closeLedger() {
+    this.ledger.closeLedger();
+  }
+
+  /**
+   * Create a new channel connected to this node. The caller is responsible for shutting the channel down.
+   *
+   * @return A {@link ManagedChannel}.
+   */
+  public ManagedChannel newChannel() {
+    if (this.inProcessName != null) {
+      return InProcessChannelBuilder.forName(this.inProcessName).directExecutor().build();
+    }
+    return ManagedChannelBuilder.forTarget(this.getTarget()).usePlaintext().build();
+  }
+
+  /**
+   * The URL clients should connect to, for a node started with {@link Builder#startOnPort(int)}.
+   *
+   * @return A URL of the form "localhost:port".
+   * @throws IllegalStateException If this node is running in-process.
+   */
+  public String getTarget() {
+    if (this.inProcessName != null) {
+      throw new IllegalStateException("An in-process node has no URL; use newChannel() instead.");
+    }
+    return "localhost:" + this.server.getPort();
+  }
+
+  /**
+   * Stop this node, failing any requests still in progress.
+   */
+  @Override
+  public void close() {
+    this.scheduler.shutdownNow();
+    this.server.shutdownNow();
+    try {
+      this.server.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Configures and starts a {@link SimulatedRippled}.
+   */
+  public static class Builder {
+    private Duration ledgerCloseInterval = Duration.ZERO;
+    private Duration latency = Duration.ZERO;
+    private Duration jitter = Duration.ZERO;
+    private double faultRate = 0;
+    private int targetTransactionsPerLedger = 32;
+    private int maximumQueueSize = 2000;
+    private long seed = 0;
+
+    private Builder() {
+    }
+
+    /**
+     * How often ledgers close. Defaults to {@link Duration#ZERO}, meaning ledgers only close when
+     * {@link SimulatedRippled#closeLedger()} is called.
+     *
+     * @param ledgerCloseInterval The time between ledger closes.
+     * @return This builder.
+     */
+    public Builder ledgerCloseInterval(Duration ledgerCloseInterval) {
+      this.ledgerCloseInterval = Objects.requireNonNull(ledgerCloseInterval);
+      return this;
+    }
+
+    /**
+     * The minimum time to wait before responding to each request. Defaults to {@link Duration#ZERO}.
+     *
+     * @param latency The latency.
+     * @return This builder.
+     */
+    public Builder latency(Duration latency) {
+      this.latency = Objects.requireNonNull(latency);
+      return this;
+    }
+
+    /**
+     * The maximum additional time, chosen uniformly at random, to wait before responding to each request. Defaults to
+     * {@link Duration#ZERO}.
+     *
+     * @param jitter The jitter.
+     * @return This builder.
+     */
+    public Builder jitter(Duration jitter) {
+      this.jitter = Objects.requireNonNull(jitter);
+      return this;
+    }
+
+    /**
+     * The probability that a request fails with an UNAVAILABLE status. Defaults to 0.
+     *
+     * @param faultRate A probability between 0 and 1.
+     * @return This builder.
+     */
+    public Builder faultRate(double faultRate) {
+      if (faultRate < 0 || faultRate > 1) {
+        throw new IllegalArgumentException("faultRate must be between 0 and 1");
+      }
+      this.faultRate = faultRate;
+      return this;
+    }
+
+    /**
+     * The number of transactions a ledger holds before the open ledger fee escalates. Defaults to 32.
+     *
+     * @param targetTransactionsPerLedger The target ledger size.
+     * @return This builder.
+     */
+    public Builder targetTransactionsPerLedger(int targetTransactionsPerLedger) {
+      if (targetTransactionsPerLedger < 1) {
+        throw new IllegalArgumentException("targetTransactionsPerLedger must be positive");
+      }
+      this.targetTransactionsPerLedger = targetTransactionsPerLedger;
+      return this;
+    }
+
+    /**
+     * The number of transactions which may wait for a later ledger. Defaults to 2000.
+     *
+     * @param maximumQueueSize The queue size.
+     * @return This builder.
+     */
+    public Builder maximumQueueSize(int maximumQueueSize) {
+      this.maximumQueueSize = maximumQueueSize;
+      return this;
+    }
+
+    /**
+     * The seed for random latency and faults. Defaults to 0.
+     *
+     * @param seed The seed.
+     * @return This builder.
+     */
+    public Builder seed(long seed) {
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Start a node which is reachable only from this process, through {@link SimulatedRippled#newChannel()}.
+     *
+     * @return The running {@link SimulatedRippled}.
+     */
+    public SimulatedRippled startInProcess() {
+      String name = InProcessServerBuilder.generateName();
+      return new SimulatedRippled(this, InProcessServerBuilder.forName(name).directExecutor(), name);
+    }
+
+    /**
+     * Start a node listening on a local port.
+     *
+     * @param port The port to listen on, or 0 to choose a free port.
+     * @return The running {@link SimulatedRippled}.
+     */
+    public SimulatedRippled startOnPort(int port) {
+      return new SimulatedRippled(this, ServerBuilder.forPort(port), null);
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package io.xpring.xrpl.fakes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.xpring.common.XrplNetwork;
+import io.xpring.xrpl.Signer;
+import io.xpring.xrpl.TransactionStatus;
+import io.xpring.xrpl.Utils;
+import io.xpring.xrpl.Wallet;
+import io.xpring.xrpl.XrpClient;
+import io.xpring.xrpl.XrpException;
+import org.junit.Test;
+import org.xrpl.rpc.v1.AccountAddress;
+import org.xrpl.rpc.v1.Common.Account;
+import org.xrpl.rpc.v1.Common.Amount;
+import org.xrpl.rpc.v1.Common.Destination;
+import org.xrpl.rpc.v1.Common.Sequence;
+import org.xrpl.rpc.v1.Common.SigningPublicKey;
+import org.xrpl.rpc.v1.CurrencyAmount;
+import org.xrpl.rpc.v1.GetFeeRequest;
+import org.xrpl.rpc.v1.LedgerSpecifier;
+import org.xrpl.rpc.v1.Payment;
+import org.xrpl.rpc.v1.SubmitTransactionResponse;
+import org.xrpl.rpc.v1.Transaction;
+import org.xrpl.rpc.v1.XRPDropsAmount;
+import org.xrpl.rpc.v1.XRPLedgerAPIServiceGrpc;
+
+import java.math.BigInteger;
+import java.time.Duration;
+
+public class SimulatedRippledTest {
+  /**
+   * A wallet to send payments from.
+   */
+  private static final String WALLET_SEED = "snYP7oArxKepd3GPDcrjMsJYiJeJB";
+
+  /**
+   * An address which does not exist until it receives a payment.
+   */
+  private static final String DESTINATION_ADDRESS = "X7cBcY4bdTTzk3LHmrKAK6GyrirkXfLHGFxzke5zTmYMfw4";
+
+  private static final long INITIAL_BALANCE = 100_000_000;
+  private static final long PAYMENT_AMOUNT = 25_000_000;
+
+  @Test
+  public void sendOnLocalPort() throws XrpException {
+    // GIVEN a simulated rippled on a local port which closes ledgers frequently, and a funded wallet.
+    Wallet wallet = new Wallet(WALLET_SEED);
+
+    // Load the signer up front, so that the first signature does not outlast the transaction's LastLedgerSequence.
+    signedPayment(wallet, 1);
+
+    try (SimulatedRippled rippled = SimulatedRippled.builder()
+        .ledgerCloseInterval(Duration.ofMillis(500))
+        .startOnPort(0)) {
+      rippled.ledger().fund(Utils.decodeXAddress(wallet.getAddress()).address(), INITIAL_BALANCE);
+      XrpClient xrpClient = new XrpClient(rippled.getTarget(), XrplNetwork.MAIN);
+
+      // WHEN XRP is sent to an account which does not exist yet.
+      String transactionHash = xrpClient.send(BigInteger.valueOf(PAYMENT_AMOUNT), DESTINATION_ADDRESS, wallet);
+
+      // THEN the payment succeeds, creating the destination and debiting the amount and fee from the source.
+      assertThat(xrpClient.getPaymentStatus(transactionHash)).isEqualTo(TransactionStatus.SUCCEEDED);
+      assertThat(xrpClient.getBalance(DESTINATION_ADDRESS)).isEqualTo(BigInteger.valueOf(PAYMENT_AMOUNT));
+      assertThat(xrpClient.getBalance(wallet.getAddress()))
+          .isEqualTo(BigInteger.valueOf(INITIAL_BALANCE - PAYMENT_AMOUNT - SimulatedLedger.BASE_FEE));
+    }
+  }
+
+  @Test
+  public void transactionsBeyondTargetAreQueued() throws XrpException {
+    // GIVEN a simulated rippled whose ledgers target a single transaction, and a funded wallet.
+    Wallet wallet = new Wallet(WALLET_SEED);
+    String sourceAddress = Utils.decodeXAddress(wallet.getAddress()).address();
+    try (SimulatedRippled rippled = SimulatedRippled.builder()
+        .targetTransactionsPerLedger(1)
+        .startInProcess()) {
+      SimulatedLedger ledger = rippled.ledger();
+      ledger.fund(sourceAddress, INITIAL_BALANCE);
+
+      // WHEN two transactions paying the base fee are submitted to the same open ledger.
+      SubmitTransactionResponse first = ledger.submit(signedPayment(wallet, 1));
+      SubmitTransactionResponse second = ledger.submit(signedPayment(wallet, 2));
+
+      // THEN the first is applied and the second is queued until the next ledger, where it is applied.
+      assertThat(first.getEngineResult().getResult()).isEqualTo("tesSUCCESS");
+      assertThat(second.getEngineResult().getResult()).isEqualTo("terQUEUED");
+      assertThat(ledger.getQueueSize()).isEqualTo(1);
+
+      rippled.closeLedger();
+      assertThat(ledger.getQueueSize()).isEqualTo(0);
+      assertThat(ledger.getTransaction(first.getHash()).getValidated()).isTrue();
+      assertThat(ledger.getTransaction(second.getHash()).getValidated()).isFalse();
+
+      rippled.closeLedger();
+      assertThat(ledger.getTransaction(second.getHash()).getValidated()).isTrue();
+      assertThat(ledger.getTransaction(second.getHash()).getMeta().getTransactionResult().getResult())
+          .isEqualTo("tesSUCCESS");
+      assertThat(ledger.getAccountInfo(sourceAddress, validatedLedger()).getAccountData().getSequence().getValue())
+          .isEqualTo(3);
+    }
+  }
+
+  @Test
+  public void submitWithPastSequence() throws XrpException {
+    // GIVEN a simulated rippled and a funded wallet which has already submitted a transaction.
+    Wallet wallet = new Wallet(WALLET_SEED);
+    try (SimulatedRippled rippled = SimulatedRippled.builder().startInProcess()) {
+      SimulatedLedger ledger = rippled.ledger();
+      ledger.fund(Utils.decodeXAddress(wallet.getAddress()).address(), INITIAL_BALANCE);
+      ledger.submit(signedPayment(wallet, 1));
+
+      // WHEN a different transaction with the same sequence is submitted.
+      SubmitTransactionResponse response = ledger.submit(signedPayment(wallet, 1, PAYMENT_AMOUNT + 1));
+
+      // THEN it is rejected.
+      assertThat(response.getEngineResult().getResult()).isEqualTo("tefPAST_SEQ");
+    }
+  }
+
+  @Test
+  public void requestsFailWithFaultRate() {
+    // GIVEN a simulated rippled which fails every request.
+    try (SimulatedRippled rippled = SimulatedRippled.builder().faultRate(1).startInProcess()) {
+      ManagedChannel channel = rippled.newChannel();
+      try {
+        XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceBlockingStub stub = XRPLedgerAPIServiceGrpc.newBlockingStub(channel);
+
+        // WHEN a request is made THEN it fails with an UNAVAILABLE status.
+        assertThatThrownBy(() -> stub.getFee(GetFeeRequest.getDefaultInstance()))
+            .isInstanceOf(StatusRuntimeException.class)
+            .extracting(exception -> ((StatusRuntimeException) exception).getStatus().getCode())
+            .isEqualTo(Status.Code.UNAVAILABLE);
+      } finally {
+        channel.shutdownNow();
+      }
+    }
+  }
+
+  private static byte[] signedPayment(Wallet wallet, int sequence) {
+    return signedPayment(wallet, sequence, PAYMENT_AMOUNT);
+  }
+
+  private static byte[] signedPayment(Wallet wallet, int sequence, long amount) {
+    AccountAddress source = AccountAddress.newBuilder()
+        .setAddress(Utils.decodeXAddress(wallet.getAddress()).address())
+        .build();
+    AccountAddress destination = AccountAddress.newBuilder()
+        .setAddress(Utils.decodeXAddress(DESTINATION_ADDRESS).address())
+        .build();
+    CurrencyAmount currencyAmount = CurrencyAmount.newBuilder()
+        .setXrpAmount(XRPDropsAmount.newBuilder().setDrops(amount))
+        .build();
+
+    Transaction transaction = Transaction.newBuilder()
+        .setAccount(Account.newBuilder().setValue(source))
+        .setFee(XRPDropsAmount.newBuilder().setDrops(SimulatedLedger.BASE_FEE))
+        .setSequence(Sequence.newBuilder().setValue(sequence))
+        .setSigningPublicKey(SigningPublicKey.newBuilder()
+            .setValue(ByteString.copyFrom(Utils.hexStringToByteArray(wallet.getPublicKey()))))
+        .setPayment(Payment.newBuilder()
+            .setAmount(Amount.newBuilder().setValue(currencyAmount))
+            .setDestination(Destination.newBuilder().setValue(destination)))
+        .build();
+    return Signer.signTransaction(transaction, wallet);
+  }
+
+  private static LedgerSpecifier validatedLedger() {
+    return LedgerSpecifier.newBuilder().setShortcut(LedgerSpecifier.Shortcut.SHORTCUT_VALIDATED).build();
+  }
+}
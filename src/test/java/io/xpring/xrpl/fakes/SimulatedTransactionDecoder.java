@@ -0,0 +1,336 @@
+package io.xpring.xrpl.fakes;
+
+import com.google.protobuf.ByteString;
+import org.xrpl.rpc.v1.AccountAddress;
+import org.xrpl.rpc.v1.AccountSet;
+import org.xrpl.rpc.v1.Common.Account;
+import org.xrpl.rpc.v1.Common.Amount;
+import org.xrpl.rpc.v1.Common.ClearFlag;
+import org.xrpl.rpc.v1.Common.Destination;
+import org.xrpl.rpc.v1.Common.DestinationTag;
+import org.xrpl.rpc.v1.Common.Flags;
+import org.xrpl.rpc.v1.Common.LastLedgerSequence;
+import org.xrpl.rpc.v1.Common.Sequence;
+import org.xrpl.rpc.v1.Common.SetFlag;
+import org.xrpl.rpc.v1.Common.SigningPublicKey;
+import org.xrpl.rpc.v1.Common.SourceTag;
+import org.xrpl.rpc.v1.Common.TransactionSignature;
+import org.xrpl.rpc.v1.CurrencyAmount;
+import org.xrpl.rpc.v1.Payment;
+import org.xrpl.rpc.v1.Transaction;
+import org.xrpl.rpc.v1.XRPDropsAmount;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Decodes signed transactions in the XRP Ledger's canonical binary format into {@link Transaction} protocol buffers.
+ * <p>
+ * Only the fields which {@link SimulatedLedger} acts on are decoded, which are the common fields, Payments of XRP and
+ * AccountSet flags. Every other field is skipped. Signatures are not verified.
+ * </p>
+ *
+ * @see <a href="https://xrpl.org/serialization.html">Binary Format</a>
+ */
+final class SimulatedTransactionDecoder {
+  static final int PAYMENT = 0;
+  static final int ACCOUNT_SET = 3;
+
+  private static final int UINT16 = 1;
+  private static final int UINT32 = 2;
+  private static final int UINT64 = 3;
+  private static final int HASH128 = 4;
+  private static final int HASH256 = 5;
+  private static final int AMOUNT = 6;
+  private static final int BLOB = 7;
+  private static final int ACCOUNT_ID = 8;
+  private static final int OBJECT = 14;
+  private static final int ARRAY = 15;
+  private static final int UINT8 = 16;
+  private static final int HASH160 = 17;
+  private static final int PATH_SET = 18;
+  private static final int VECTOR256 = 19;
+
+  /**
+   * The field code which marks the end of an object or an array.
+   */
+  private static final int END_MARKER = 1;
+
+  /**
+   * The prefix hashed with a signed transaction to produce its identifying hash.
+   */
+  private static final byte[] TRANSACTION_ID_PREFIX = {'T', 'X', 'N', 0};
+
+  private static final char[] ALPHABET = "rpshnaf39wBUDNEGHJKLM4PQRST7VWXYZ2bcdeCg65jkm8oFqi1tuvAxyz".toCharArray();
+
+  private SimulatedTransactionDecoder() {
+  }
+
+  /**
+   * Decode a signed transaction.
+   *
+   * @param signedTransaction The signed transaction, in binary format.
+   * @return The decoded {@link Transaction}.
+   * @throws IllegalArgumentException If the transaction is malformed.
+   */
+  static Transaction decode(byte[] signedTransaction) {
+    ByteBuffer buffer = ByteBuffer.wrap(signedTransaction);
+    Transaction.Builder transaction = Transaction.newBuilder();
+    Payment.Builder payment = Payment.newBuilder();
+    AccountSet.Builder accountSet = AccountSet.newBuilder();
+    int transactionType = -1;
+
+    try {
+      while (buffer.hasRemaining()) {
+        int[] fieldId = readFieldId(buffer);
+        int typeCode = fieldId[0];
+        int fieldCode = fieldId[1];
+
+        if (typeCode == UINT16 && fieldCode == 2) {
+          transactionType = buffer.getShort() & 0xFFFF;
+        } else if (typeCode == UINT32) {
+          int value = buffer.getInt();
+          switch (fieldCode) {
+            case 2:
+              transaction.setFlags(Flags.newBuilder().setValue(value));
+              break;
+            case 3:
+              transaction.setSourceTag(SourceTag.newBuilder().setValue(value));
+              break;
+            case 4:
+              transaction.setSequence(Sequence.newBuilder().setValue(value));
+              break;
+            case 14:
+              payment.setDestinationTag(DestinationTag.newBuilder().setValue(value));
+              break;
+            case 27:
+              // The signer encodes an unset LastLedgerSequence as 0, which places no limit on the transaction.
+              if (value != 0) {
+                transaction.setLastLedgerSequence(LastLedgerSequence.newBuilder().setValue(value));
+              }
+              break;
+            case 33:
+              accountSet.setSetFlag(SetFlag.newBuilder().setValue(value));
+              break;
+            case 34:
+              accountSet.setClearFlag(ClearFlag.newBuilder().setValue(value));
+              break;
+            default:
+              break;
+          }
+        } else if (typeCode == AMOUNT) {
+          long drops = readXrpAmount(buffer);
+          if (fieldCode == 1 && drops >= 0) {
+            CurrencyAmount amount = CurrencyAmount.newBuilder()
+                .setXrpAmount(XRPDropsAmount.newBuilder().setDrops(drops))
+                .build();
+            payment.setAmount(Amount.newBuilder().setValue(amount));
+          } else if (fieldCode == 8) {
+            transaction.setFee(XRPDropsAmount.newBuilder().setDrops(drops));
+          }
+        } else if (typeCode == BLOB) {
+          ByteString value = ByteString.copyFrom(readVariableLength(buffer));
+          if (fieldCode == 3) {
+            transaction.setSigningPublicKey(SigningPublicKey.newBuilder().setValue(value));
+          } else if (fieldCode == 4) {
+            transaction.setTransactionSignature(TransactionSignature.newBuilder().setValue(value));
+          }
+        } else if (typeCode == ACCOUNT_ID) {
+          AccountAddress address = AccountAddress.newBuilder()
+              .setAddress(encodeClassicAddress(readVariableLength(buffer)))
+              .build();
+          if (fieldCode == 1) {
+            transaction.setAccount(Account.newBuilder().setValue(address));
+          } else if (fieldCode == 3) {
+            payment.setDestination(Destination.newBuilder().setValue(address));
+          }
+        } else {
+          skipField(buffer, typeCode);
+        }
+      }
+    } catch (BufferUnderflowException exception) {
+      throw new IllegalArgumentException("Truncated transaction", exception);
+    }
+
+    if (transactionType == PAYMENT) {
+      transaction.setPayment(payment);
+    } else if (transactionType == ACCOUNT_SET) {
+      transaction.setAccountSet(accountSet);
+    } else if (transactionType < 0) {
+      throw new IllegalArgumentException("Missing TransactionType");
+    }
+    return transaction.build();
+  }
+
+  /**
+   * Compute the identifying hash of a signed transaction.
+   *
+   * @param signedTransaction The signed transaction, in binary format.
+   * @return The 32 byte hash of the transaction.
+   */
+  static byte[] hash(byte[] signedTransaction) {
+    MessageDigest digest = messageDigest("SHA-512");
+    digest.update(TRANSACTION_ID_PREFIX);
+    digest.update(signedTransaction);
+    return Arrays.copyOf(digest.digest(), 32);
+  }
+
+  /**
+   * Encode a 20 byte account ID as a classic address.
+   *
+   * @param accountId The account ID.
+   * @return The classic address.
+   */
+  static String encodeClassicAddress(byte[] accountId) {
+    byte[] payload = new byte[1 + accountId.length];
+    System.arraycopy(accountId, 0, payload, 1, accountId.length);
+
+    MessageDigest digest = messageDigest("SHA-256");
+    byte[] checksum = digest.digest(digest.digest(payload));
+
+    byte[] checked = Arrays.copyOf(payload, payload.length + 4);
+    System.arraycopy(checksum, 0, checked, payload.length, 4);
+
+    StringBuilder encoded = new StringBuilder();
+    BigInteger value = new BigInteger(1, checked);
+    BigInteger base = BigInteger.valueOf(ALPHABET.length);
+    while (value.signum() > 0) {
+      BigInteger[] quotientAndRemainder = value.divideAndRemainder(base);
+      encoded.append(ALPHABET[quotientAndRemainder[1].intValue()]);
+      value = quotientAndRemainder[0];
+    }
+    for (int i = 0; i < checked.length && checked[i] == 0; i++) {
+      encoded.append(ALPHABET[0]);
+    }
+    return encoded.reverse().toString();
+  }
+
+  private static int[] readFieldId(ByteBuffer buffer) {
+    int header = buffer.get() & 0xFF;
+    int typeCode = header >>> 4;
+    int fieldCode = header & 0x0F;
+    if (typeCode == 0) {
+      typeCode = buffer.get() & 0xFF;
+    }
+    if (fieldCode == 0) {
+      fieldCode = buffer.get() & 0xFF;
+    }
+    return new int[] {typeCode, fieldCode};
+  }
+
+  /**
+   * Read an amount, returning its drops if it is an amount of XRP or -1 if it is an issued currency amount.
+   */
+  private static long readXrpAmount(ByteBuffer buffer) {
+    long value = buffer.getLong();
+    if ((value & 0x8000000000000000L) != 0) {
+      // Issued currency amounts are followed by a 160 bit currency code and a 160 bit issuer.
+      skip(buffer, 40);
+      return -1;
+    }
+    return value & 0x3FFFFFFFFFFFFFFFL;
+  }
+
+  private static byte[] readVariableLength(ByteBuffer buffer) {
+    int first = buffer.get() & 0xFF;
+    int length;
+    if (first <= 192) {
+      length = first;
+    } else if (first <= 240) {
+      int second = buffer.get() & 0xFF;
+      length = 193 + (first - 193) * 256 + second;
+    } else if (first <= 254) {
+      int second = buffer.get() & 0xFF;
+      int third = buffer.get() & 0xFF;
+      length = 12481 + (first - 241) * 65536 + second * 256 + third;
+    } else {
+      throw new IllegalArgumentException("Invalid length prefix");
+    }
+    byte[] value = new byte[length];
+    buffer.get(value);
+    return value;
+  }
+
+  private static void skipField(ByteBuffer buffer, int typeCode) {
+    switch (typeCode) {
+      case UINT8:
+        skip(buffer, 1);
+        break;
+      case UINT16:
+        skip(buffer, 2);
+        break;
+      case UINT32:
+        skip(buffer, 4);
+        break;
+      case UINT64:
+        skip(buffer, 8);
+        break;
+      case HASH128:
+        skip(buffer, 16);
+        break;
+      case HASH160:
+        skip(buffer, 20);
+        break;
+      case HASH256:
+        skip(buffer, 32);
+        break;
+      case AMOUNT:
+        readXrpAmount(buffer);
+        break;
+      case BLOB:
+      case ACCOUNT_ID:
+      case VECTOR256:
+        readVariableLength(buffer);
+        break;
+      case OBJECT:
+      case ARRAY:
+        skipContainer(buffer, typeCode);
+        break;
+      case PATH_SET:
+        skipPathSet(buffer);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported field type " + typeCode);
+    }
+  }
+
+  private static void skipContainer(ByteBuffer buffer, int containerTypeCode) {
+    while (true) {
+      int[] fieldId = readFieldId(buffer);
+      if (fieldId[0] == containerTypeCode && fieldId[1] == END_MARKER) {
+        return;
+      }
+      skipField(buffer, fieldId[0]);
+    }
+  }
+
+  private static void skipPathSet(ByteBuffer buffer) {
+    while (true) {
+      int type = buffer.get() & 0xFF;
+      if (type == 0x00) {
+        return;
+      }
+      if (type == 0xFF) {
+        continue;
+      }
+      int fields = Integer.bitCount(type & 0x31);
+      skip(buffer, fields * 20);
+    }
+  }
+
+  private static void skip(ByteBuffer buffer, int length) {
+    buffer.position(buffer.position() + length);
+  }
+
+  private static MessageDigest messageDigest(String algorithm) {
+    try {
+      return MessageDigest.getInstance(algorithm);
+    } catch (NoSuchAlgorithmException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package io.xpring.xrpl.fakes;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import org.xrpl.rpc.v1.GetAccountInfoRequest;
+import org.xrpl.rpc.v1.GetAccountInfoResponse;
+import org.xrpl.rpc.v1.GetAccountTransactionHistoryRequest;
+import org.xrpl.rpc.v1.GetAccountTransactionHistoryResponse;
+import org.xrpl.rpc.v1.GetFeeRequest;
+import org.xrpl.rpc.v1.GetFeeResponse;
+import org.xrpl.rpc.v1.GetTransactionRequest;
+import org.xrpl.rpc.v1.GetTransactionResponse;
+import org.xrpl.rpc.v1.SubmitTransactionRequest;
+import org.xrpl.rpc.v1.SubmitTransactionResponse;
+import org.xrpl.rpc.v1.XRPLedgerAPIServiceGrpc.XRPLedgerAPIServiceImplBase;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Serves the XRP Ledger gRPC API from a {@link SimulatedLedger}, optionally delaying responses and failing requests to
+ * imitate a remote rippled node.
+ */
+class SimulatedXrpLedgerService extends XRPLedgerAPIServiceImplBase {
+  private final SimulatedLedger ledger;
+  private final ScheduledExecutorService scheduler;
+  private final Duration latency;
+  private final Duration jitter;
+  private final double faultRate;
+  private final Random random;
+
+  /**
+   * Create a new service.
+   *
+   * @param ledger    The {@link SimulatedLedger} to serve.
+   * @param scheduler A {@link ScheduledExecutorService} to deliver delayed responses on.
+   * @param latency   The minimum time to wait before responding.
+   * @param jitter    The maximum additional time, chosen uniformly at random, to wait before responding.
+   * @param faultRate The probability, between 0 and 1, that a request fails with an UNAVAILABLE status.
+   * @param seed      The seed for random latency and faults, so that runs can be reproduced.
+   */
+  SimulatedXrpLedgerService(
+      SimulatedLedger ledger,
+      ScheduledExecutorService scheduler,
+      Duration latency,
+      Duration jitter,
+      double faultRate,
+      long seed
+  ) {
+    this.ledger = ledger;
+    this.scheduler = scheduler;
+    this.latency = latency;
+    this.jitter = jitter;
+    this.faultRate = faultRate;
+    this.random = new Random(seed);
+  }
+
+  @Override
+  public void getAccountInfo(
+      GetAccountInfoRequest request,
+      StreamObserver<GetAccountInfoResponse> responseObserver
+  ) {
+    this.respond(
+        () -> this.ledger.getAccountInfo(request.getAccount().getAddress(), request.getLedger()),
+        responseObserver
+    );
+  }
+
+  @Override
+  public void getFee(GetFeeRequest request, StreamObserver<GetFeeResponse> responseObserver) {
+    this.respond(this.ledger::getFee, responseObserver);
+  }
+
+  @Override
+  public void submitTransaction(
+      SubmitTransactionRequest request,
+      StreamObserver<SubmitTransactionResponse> responseObserver
+  ) {
+    this.respond(() -> this.ledger.submit(request.getSignedTransaction().toByteArray()), responseObserver);
+  }
+
+  @Override
+  public void getTransaction(
+      GetTransactionRequest request,
+      StreamObserver<GetTransactionResponse> responseObserver
+  ) {
+    this.respond(() -> this.ledger.getTransaction(request.getHash()), responseObserver);
+  }
+
+  @Override
+  public void getAccountTransactionHistory(
+      GetAccountTransactionHistoryRequest request,
+      StreamObserver<GetAccountTransactionHistoryResponse> responseObserver
+  ) {
+    this.respond(
+        () -> this.ledger.getAccountTransactionHistory(request.getAccount().getAddress(), request.getLimit()),
+        responseObserver
+    );
+  }
+
+  /**
+   * Compute a response now, against the current state of the ledger, and deliver it after the simulated latency.
+   */
+  private <T> void respond(Supplier<T> handler, StreamObserver<T> responseObserver) {
+    long delayNanos;
+    boolean fault;
+    synchronized (this.random) {
+      delayNanos = this.latency.toNanos() + (long) (this.random.nextDouble() * this.jitter.toNanos());
+      fault = this.random.nextDouble() < this.faultRate;
+    }
+
+    Runnable delivery;
+    if (fault) {
+      delivery = () -> responseObserver.onError(
+          Status.UNAVAILABLE.withDescription("Simulated fault.").asRuntimeException()
+      );
+    } else {
+      try {
+        T response = handler.get();
+        delivery = () -> {
+          responseObserver.onNext(response);
+          responseObserver.onCompleted();
+        };
+      } catch (StatusRuntimeException exception) {
+        delivery = () -> responseObserver.onError(exception);
+      }
+    }
+
+    if (delayNanos == 0) {
+      delivery.run();
+    } else {
+      this.scheduler.schedule(delivery, delayNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+}